@@ -0,0 +1,339 @@
+package Model;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fluxo de eventos de uma partida hospedada, gravado em disco: é ele o estado oficial, e a
+ * {@link GameFacade} é uma projeção reconstruída a partir dele ({@link #abrir}).
+ * <p>
+ * Um diretório por partida:
+ * </p>
+ * <pre>
+ *   eventos.bin                 registros de {@value #TAM_REGISTRO} bytes (little-endian):
+ *                                 int tipo, int a, int b, int c, int d   ({@link EventoDeJogo#campos})
+ *                               {@link EventoDeJogo#RESTAURADO}: a = tamanho, seguido do snapshot em texto
+ *   snapshot-000000000000.sav   base (evento 0)
+ *   snapshot-000000010000.sav   a cada {@code intervalo} eventos: SNAPSHOT|evento|offset + linhas do save
+ * </pre>
+ * <p>
+ * O armazém mantém a própria {@link ProjetorDeEstado} alimentada pelo fluxo; os snapshots
+ * periódicos saem dela (não da façade), então batem com o fluxo por construção. Recuperar é
+ * carregar o snapshot mais recente e aplicar só a cauda a partir do offset dele. Ficam a base e
+ * os dois snapshots mais recentes; um registro cortado no fim (processo derrubado) é descartado.
+ * </p>
+ * <p>
+ * Gravação na thread de quem altera a partida (o motor, com o monitor da façade): o registro vai
+ * para um buffer e o buffer para o arquivo quando enche, a cada snapshot e em {@link #descarregar()}.
+ * Ativação na UI: {@code -Dbanco.eventos=diretorio} (retoma a partida se o diretório já tiver um fluxo).
+ * Medição: {@code java Model.ArmazemDeEventos <diretorio>}.
+ * </p>
+ */
+public final class ArmazemDeEventos implements AutoCloseable {
+
+    /** Propriedade de sistema com o diretório do fluxo (vazia = desligado). */
+    public static final String PROPRIEDADE = "banco.eventos";
+    /** Eventos entre snapshots: a recuperação aplica no máximo isso de eventos. */
+    public static final int INTERVALO_PADRAO = 10_000;
+
+    static final int TAM_REGISTRO = 20;
+    private static final String EVENTOS = "eventos.bin";
+    private static final String PREFIXO = "snapshot-", SUFIXO = ".sav";
+    private static final int TAM_BUFFER = 1 << 16;
+
+    /** Resultado de uma recuperação: estado, tamanho do fluxo e quanto dele foi aplicado. */
+    public record Recuperacao(GameStateSnapshot estado, long eventos, long snapshotEm, long eventosNaCauda, long nanos) {
+        public double eventosPorSegundo() { return nanos == 0 ? 0 : eventosNaCauda * 1e9 / nanos; }
+        @Override public String toString() {
+            return String.format("%d eventos: snapshot no evento %d + %d na cauda em %.1f ms (%.0f eventos/s)",
+                    eventos, snapshotEm, eventosNaCauda, nanos / 1e6, eventosPorSegundo());
+        }
+    }
+
+    private final Path dir;
+    private final int intervalo;
+    private final FileChannel canal;
+    private final ByteBuffer buf = ByteBuffer.allocate(TAM_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+    private final ProjetorDeEstado projetor;
+    private final int[] campos = new int[4];
+    private long eventos;
+    private long gravados; // bytes já no arquivo
+    private boolean fechado;
+
+    private ArmazemDeEventos(Path dir, int intervalo, FileChannel canal, ProjetorDeEstado projetor, long eventos, long gravados) {
+        this.dir = dir;
+        this.intervalo = Math.max(1, intervalo);
+        this.canal = canal;
+        this.projetor = projetor;
+        this.eventos = eventos;
+        this.gravados = gravados;
+    }
+
+    /** Começa um fluxo novo em {@code dir} (apaga o que houver) com {@code base} como evento 0. */
+    public static ArmazemDeEventos criar(Path dir, GameStateSnapshot base, int intervalo) throws IOException {
+        Files.createDirectories(dir);
+        for (Path p : snapshots(dir)) Files.delete(p);
+        FileChannel canal = FileChannel.open(dir.resolve(EVENTOS), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ArmazemDeEventos a = new ArmazemDeEventos(dir, intervalo, canal, new ProjetorDeEstado(base), 0, 0);
+        a.gravarSnapshot();
+        return a;
+    }
+
+    /** Se {@code dir} já tem um fluxo (base + arquivo de eventos). */
+    public static boolean existe(Path dir) throws IOException {
+        return Files.exists(dir.resolve(EVENTOS)) && !snapshots(dir).isEmpty();
+    }
+
+    /** Reabre um fluxo existente para continuar gravando: recupera o estado e descarta um registro cortado no fim. */
+    public static ArmazemDeEventos abrir(Path dir, int intervalo) throws IOException {
+        Leitura l = ler(dir, true);
+        FileChannel canal = FileChannel.open(dir.resolve(EVENTOS), StandardOpenOption.WRITE);
+        canal.truncate(l.fimValido);
+        canal.position(l.fimValido);
+        return new ArmazemDeEventos(dir, intervalo, canal, l.projetor, l.snapshotEm + l.cauda, l.fimValido);
+    }
+
+    /** Diretório da propriedade {@value #PROPRIEDADE}, ou {@code null}. */
+    public static Path diretorioConfigurado() {
+        String d = System.getProperty(PROPRIEDADE, "");
+        return d.isBlank() ? null : Path.of(d);
+    }
+
+    public Path getDiretorio() { return dir; }
+    public long getEventos() { return eventos; }
+
+    /** Estado no fim do fluxo (para montar a façade: {@link GameFacade#initFromEventos}). */
+    public GameStateSnapshot projecao() { return projetor.capturar(); }
+
+    // ---------- Gravação ----------
+
+    /** Anexa um evento tipado. */
+    public void anexar(EventoDeJogo e) {
+        if (e instanceof EventoDeJogo.EstadoRestaurado r) { registrarRestauracao(r.estado()); return; }
+        e.campos(campos);
+        registrar(e.tipo(), campos[0], campos[1], campos[2], campos[3]);
+    }
+
+    /** Caminho da façade: grava a forma compacta e aplica na projeção, sem alocar. */
+    void registrar(int tipo, int a, int b, int c, int d) {
+        if (fechado) return;
+        if (buf.remaining() < TAM_REGISTRO) descarregarBuffer();
+        buf.putInt(tipo).putInt(a).putInt(b).putInt(c).putInt(d);
+        projetor.aplicar(tipo, a, b, c, d);
+        contar();
+    }
+
+    /** Estado sobrescrito de uma vez (replay voltando no tempo). */
+    void registrarRestauracao(GameStateSnapshot snap) {
+        if (fechado) return;
+        byte[] texto = texto(snap);
+        if (buf.remaining() < TAM_REGISTRO + texto.length) descarregarBuffer();
+        buf.putInt(EventoDeJogo.RESTAURADO).putInt(texto.length).putInt(0).putInt(0).putInt(0);
+        if (buf.remaining() >= texto.length) buf.put(texto);
+        else { descarregarBuffer(); escrever(ByteBuffer.wrap(texto)); }
+        projetor.aplicar(new EventoDeJogo.EstadoRestaurado(snap));
+        contar();
+    }
+
+    private void contar() {
+        if (++eventos % intervalo == 0) {
+            try { gravarSnapshot(); }
+            catch (IOException e) { throw new UncheckedIOException(e); }
+        }
+    }
+
+    /** Manda o buffer para o arquivo. */
+    public void descarregar() {
+        if (!fechado) descarregarBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fechado) return;
+        descarregarBuffer();
+        canal.force(false);
+        canal.close();
+        fechado = true;
+    }
+
+    private void descarregarBuffer() {
+        buf.flip();
+        escrever(buf);
+        buf.clear();
+    }
+
+    private void escrever(ByteBuffer b) {
+        try {
+            while (b.hasRemaining()) gravados += canal.write(b);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Snapshot da projeção no evento atual; o fluxo até ali é forçado ao disco antes. */
+    private void gravarSnapshot() throws IOException {
+        descarregarBuffer();
+        canal.force(false);
+        Path tmp = dir.resolve(PREFIXO + "tmp");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(tmp, StandardCharsets.UTF_8))) {
+            out.println("SNAPSHOT|" + eventos + "|" + gravados);
+            GameStateIO.escrever(projetor.capturar(), out);
+        }
+        Files.move(tmp, dir.resolve(nomeSnapshot(eventos)), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        List<Path> todos = snapshots(dir);
+        for (int i = 1; i < todos.size() - 2; i++) Files.delete(todos.get(i)); // base + dois mais recentes
+    }
+
+    // ---------- Recuperação ----------
+
+    /**
+     * Estado no fim do fluxo de {@code dir}: do snapshot mais recente + cauda, ou (sem
+     * {@code usarSnapshots}) da base aplicando o fluxo inteiro.
+     */
+    public static Recuperacao recuperar(Path dir, boolean usarSnapshots) throws IOException {
+        long t0 = System.nanoTime();
+        Leitura l = ler(dir, usarSnapshots);
+        long nanos = System.nanoTime() - t0;
+        return new Recuperacao(l.projetor.capturar(), l.snapshotEm + l.cauda, l.snapshotEm, l.cauda, nanos);
+    }
+
+    /** Percorre o fluxo inteiro, da base ao fim, como eventos tipados. */
+    public static void percorrer(Path dir, Consumer<EventoDeJogo> destino) throws IOException {
+        List<Path> s = snapshots(dir);
+        if (s.isEmpty()) throw new IOException("Sem fluxo de eventos em " + dir);
+        percorrer(dir.resolve(EVENTOS), 0, new Leitor() {
+            @Override public void evento(int tipo, int a, int b, int c, int d) { destino.accept(EventoDeJogo.de(tipo, a, b, c, d)); }
+            @Override public void restaurado(GameStateSnapshot snap) { destino.accept(new EventoDeJogo.EstadoRestaurado(snap)); }
+        });
+    }
+
+    /** Projeção no fim do fluxo, de onde ela partiu e até onde o arquivo está íntegro. */
+    private static final class Leitura {
+        ProjetorDeEstado projetor;
+        long snapshotEm, cauda, fimValido;
+    }
+
+    private static Leitura ler(Path dir, boolean usarSnapshots) throws IOException {
+        List<Path> s = snapshots(dir);
+        if (s.isEmpty()) throw new IOException("Sem fluxo de eventos em " + dir);
+        Leitura l = null;
+        for (int i = usarSnapshots ? s.size() - 1 : 0; i >= 0 && l == null; i--) {
+            try { l = lerSnapshot(s.get(i)); }
+            catch (RuntimeException e) { /* snapshot ilegível: tenta o anterior */ }
+        }
+        if (l == null) throw new IOException("Nenhum snapshot legível em " + dir);
+        Leitura r = l;
+        long offset = r.fimValido;
+        r.fimValido = offset + percorrer(dir.resolve(EVENTOS), offset, new Leitor() {
+            @Override public void evento(int tipo, int a, int b, int c, int d) { r.projetor.aplicar(tipo, a, b, c, d); r.cauda++; }
+            @Override public void restaurado(GameStateSnapshot snap) { r.projetor.aplicar(new EventoDeJogo.EstadoRestaurado(snap)); r.cauda++; }
+        });
+        return r;
+    }
+
+    private static Leitura lerSnapshot(Path arquivo) throws IOException {
+        List<String> linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+        String[] cab = linhas.get(0).split("\\|");
+        if (!cab[0].equals("SNAPSHOT")) throw new IllegalStateException("cabeçalho inválido em " + arquivo);
+        Leitura l = new Leitura();
+        l.snapshotEm = Long.parseLong(cab[1]);
+        l.fimValido = Long.parseLong(cab[2]);
+        l.projetor = new ProjetorDeEstado(GameStateIO.ler(linhas.subList(1, linhas.size())));
+        return l;
+    }
+
+    /** Quem recebe os registros lidos. */
+    private interface Leitor {
+        void evento(int tipo, int a, int b, int c, int d);
+        void restaurado(GameStateSnapshot snap);
+    }
+
+    /** Lê os registros completos a partir de {@code offset}; devolve os bytes consumidos. */
+    private static long percorrer(Path arquivo, long offset, Leitor leitor) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        long consumidos = 0;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            canal.position(offset);
+            for (;;) {
+                int lidos = canal.read(b);
+                b.flip();
+                while (b.remaining() >= TAM_REGISTRO) {
+                    int base = b.position();
+                    int tipo = b.getInt(base);
+                    if (tipo == EventoDeJogo.RESTAURADO) {
+                        int tam = b.getInt(base + 4);
+                        if (TAM_REGISTRO + tam > b.capacity()) throw new IOException("registro grande demais no offset " + (offset + consumidos));
+                        if (b.remaining() < TAM_REGISTRO + tam) break; // resto do texto na próxima leitura
+                        byte[] texto = new byte[tam];
+                        b.get(base + TAM_REGISTRO, texto);
+                        b.position(base + TAM_REGISTRO + tam);
+                        leitor.restaurado(snapshot(texto));
+                        consumidos += TAM_REGISTRO + tam;
+                    } else {
+                        b.position(base + TAM_REGISTRO);
+                        leitor.evento(tipo, b.getInt(base + 4), b.getInt(base + 8), b.getInt(base + 12), b.getInt(base + 16));
+                        consumidos += TAM_REGISTRO;
+                    }
+                }
+                b.compact();
+                if (lidos < 0) break;
+            }
+        }
+        return consumidos;
+    }
+
+    // ---------- Auxiliares ----------
+
+    private static byte[] texto(GameStateSnapshot snap) {
+        StringWriter sw = new StringWriter();
+        try (PrintWriter out = new PrintWriter(sw)) { GameStateIO.escrever(snap, out); }
+        return sw.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static GameStateSnapshot snapshot(byte[] texto) {
+        return GameStateIO.ler(Arrays.asList(new String(texto, StandardCharsets.UTF_8).split("\\R")));
+    }
+
+    private static String nomeSnapshot(long evento) { return String.format("%s%012d%s", PREFIXO, evento, SUFIXO); }
+
+    /** Snapshots do diretório em ordem de evento (o primeiro é a base). */
+    private static List<Path> snapshots(Path dir) throws IOException {
+        List<Path> r = new ArrayList<>();
+        if (!Files.isDirectory(dir)) return r;
+        try (var s = Files.list(dir)) {
+            s.filter(p -> { String n = p.getFileName().toString(); return n.startsWith(PREFIXO) && n.endsWith(SUFIXO); })
+             .sorted()
+             .forEach(r::add);
+        }
+        return r;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("uso: java Model.ArmazemDeEventos <diretorio>");
+            System.exit(2);
+        }
+        Path dir = Path.of(args[0]);
+        Recuperacao inteira = recuperar(dir, false);
+        Recuperacao cauda = recuperar(dir, true);
+        System.out.println("Fluxo inteiro:    " + inteira);
+        System.out.println("Snapshot + cauda: " + cauda);
+        System.out.println(inteira.estado().mesmoEstadoDe(cauda.estado())
+                ? "Os dois caminhos chegam ao mesmo estado." : "ESTADOS DIFERENTES: fluxo ou snapshot corrompido.");
+    }
+}
@@ -6,14 +6,14 @@ package Model;
  * O banco mantém sua própria {@link ContaBancaria} e realiza transferências
  * para/de jogadores conforme as regras do jogo.
  * </p>
- * <strong>Atenção:</strong> o método {@link #abastece()} recria a conta. Se houver
- * código que guarde a referência retornada por {@link #getConta()}, essa referência
- * ficará desatualizada. Preferir (se existir) repor o saldo na mesma instância.
+ * A conta nunca é trocada: {@link #abastece()} e {@link #setSaldo(int)} repõem o saldo
+ * na mesma instância, então referências obtidas por {@link #getConta()} continuam válidas
+ * (inclusive para transferências feitas por outras threads).
  */
 class Banco {
 
     /** Conta interna do banco (saldo inicial de $200.000). */
-    protected ContaBancaria conta;
+    protected final ContaBancaria conta;
 
     /** Cria o banco com saldo inicial de $200.000. */
     public Banco() {
@@ -28,12 +28,9 @@ class Banco {
         return conta;
     }
 
-    /**
-     * Reabastece o banco para $200.000.
-     * <p>Implementação atual recria a conta (ver observação na classe).</p>
-     */
+    /** Reabastece o banco para $200.000 (na mesma conta). */
     public void abastece() {
-        this.conta = new ContaBancaria(200000);
+        conta.setSaldo(200000);
     }
 
     /**
@@ -43,7 +40,11 @@ class Banco {
      * @return {@code true} se transferiu; {@code false} caso contrário
      */
     public boolean receberPagamento(ContaBancaria origem, int valor) {
-        return origem.paga(this.conta, valor);
+        return receberPagamento(origem, valor, MotivoTransacao.OUTRO);
+    }
+
+    boolean receberPagamento(ContaBancaria origem, int valor, MotivoTransacao motivo) {
+        return origem.paga(this.conta, valor, motivo);
     }
 
     /**
@@ -53,8 +54,12 @@ class Banco {
      * @return {@code true} se transferiu; {@code false} se valor inválido/insuficiente
      */
     public boolean pagarPara(ContaBancaria destino, int valor) {
+        return pagarPara(destino, valor, MotivoTransacao.OUTRO);
+    }
+
+    boolean pagarPara(ContaBancaria destino, int valor, MotivoTransacao motivo) {
         if (valor <= 0) return false;
-        return this.conta.paga(destino, valor);
+        return this.conta.paga(destino, valor, motivo);
     }
 
     /**
@@ -67,6 +72,6 @@ class Banco {
 
     /** Ajusta o saldo (usado em carregamento de estado). */
     void setSaldo(int saldo) {
-        this.conta = new ContaBancaria(saldo);
+        conta.setSaldo(saldo);
     }
 }
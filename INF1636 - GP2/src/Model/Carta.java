@@ -44,6 +44,16 @@ final class Carta {
         this.codigo = codigo;
     }
 
+    /** Carta de saída livre da prisão com o código dado (fica com o jogador até ser usada). */
+    static Carta saidaLivre(int codigo) {
+        return new Carta(TipoCarta.SAIDA_LIVRE, 0, codigo);
+    }
+
+    /** Se é a carta de saída livre da prisão. */
+    boolean isSaidaLivre() {
+        return tipo == TipoCarta.SAIDA_LIVRE;
+    }
+
     @Override
     public String toString() {
         return "Carta{codigo=" + codigo + ", tipo=" + tipo + ", valor=" + valor + "}";
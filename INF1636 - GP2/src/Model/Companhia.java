@@ -28,11 +28,12 @@ class Companhia extends Propriedade {
 
     /**
      * Calcula o aluguel da companhia.
-     * @return aluguel = aluguelBase * multiplicadorAluguel
+     * @return aluguel = aluguelBase * multiplicadorAluguel (vezes o fator de companhia das regras)
      */
     @Override
     public int calculaAluguel() {
-        return aluguelBase * multiplicadorAluguel;
+        int aluguel = aluguelBase * multiplicadorAluguel;
+        return (regras.fatorCompanhia() == 1.0) ? aluguel : (int) Math.round(aluguel * regras.fatorCompanhia());
     }
 
     /** Retorna o multiplicador de aluguel. */
@@ -0,0 +1,82 @@
+package Model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ferramenta de consulta do arquivo gerado pelo {@link LivroRazao}.
+ * <p>
+ * Reconstrói o histórico de saldo de uma conta percorrendo os registros em ordem.
+ * Uso em linha de comando: {@code java Model.ConsultaLivroRazao <arquivo> <jogador|banco>}.
+ * </p>
+ */
+public final class ConsultaLivroRazao {
+    private ConsultaLivroRazao() {}
+
+    /** Um ponto do histórico: movimentação aplicada e saldo resultante. */
+    public record PontoSaldo(long seq, int tick, String motivo, int delta, int saldo, int contraparte) {}
+
+    /**
+     * Histórico de saldo da conta (índice do jogador, ou -1 para o banco).
+     * @param arquivo arquivo de descarga do livro-razão
+     * @param conta   conta a reconstruir
+     * @return pontos na ordem em que foram gravados
+     */
+    public static List<PontoSaldo> historico(Path arquivo, int conta) throws IOException {
+        List<PontoSaldo> out = new ArrayList<>();
+        ByteBuffer buf = ByteBuffer.allocate(LivroRazao.TAM_REGISTRO * 4096).order(ByteOrder.LITTLE_ENDIAN);
+        long seq = 0;
+        int saldo = 0;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            for (;;) {
+                int lidos = canal.read(buf);
+                buf.flip();
+                while (buf.remaining() >= LivroRazao.TAM_REGISTRO) {
+                    int base = buf.position();
+                    int tick  = buf.getInt(base + 8);
+                    int de    = buf.getInt(base + 12);
+                    int para  = buf.getInt(base + 16);
+                    int valor = buf.getInt(base + 20);
+                    int cod   = buf.getInt(base + 24);
+                    buf.position(base + LivroRazao.TAM_REGISTRO);
+
+                    int delta = 0, outra = LivroRazao.SEM_CONTA;
+                    if (para == conta) { delta += valor; outra = de; }
+                    if (de == conta)   { delta -= valor; outra = para; }
+                    if (de == conta || para == conta) {
+                        saldo += delta;
+                        out.add(new PontoSaldo(seq, tick, MotivoTransacao.deCodigo(cod).name(), delta, saldo, outra));
+                    }
+                    seq++;
+                }
+                buf.compact();
+                if (lidos < 0) break;
+            }
+        }
+        return out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("uso: ConsultaLivroRazao <arquivo> <indiceJogador|banco>");
+            System.exit(2);
+        }
+        int conta = "banco".equalsIgnoreCase(args[1]) ? LivroRazao.CONTA_BANCO : Integer.parseInt(args[1]);
+        for (PontoSaldo p : historico(Path.of(args[0]), conta)) {
+            System.out.printf("#%-8d tick %-6d %-10s %+7d  saldo %7d  (contraparte %s)%n",
+                    p.seq(), p.tick(), p.motivo(), p.delta(), p.saldo(), nomeConta(p.contraparte()));
+        }
+    }
+
+    private static String nomeConta(int c) {
+        if (c == LivroRazao.CONTA_BANCO) return "banco";
+        if (c == LivroRazao.SEM_CONTA) return "-";
+        return "jogador " + c;
+    }
+}
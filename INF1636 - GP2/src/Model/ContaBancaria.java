@@ -1,22 +1,48 @@
 package Model;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Conta bancária simples usada por banco e jogadores.
  * <p>Oferece depósito, saque (sem permitir saldo negativo) e transferência via {@link #paga}.</p>
+ * <p>
+ * Segura para várias threads sem travas: o saldo é um {@link AtomicInteger} e o saque usa
+ * compare-and-set, então nunca fica negativo nem perde atualizações. Numa transferência o
+ * dinheiro sai da origem antes de entrar no destino; com as contas em repouso, a soma dos
+ * saldos é sempre conservada.
+ * </p>
  */
 class ContaBancaria {
 
-    private int saldo;
+    private final AtomicInteger saldo;
 
     /** Cria conta com saldo inicial. */
     public ContaBancaria(int saldoInicial) {
-        this.saldo = saldoInicial;
+        this.saldo = new AtomicInteger(saldoInicial);
+    }
+
+    // Auditoria opcional (ver LivroRazao): null = conta não auditada
+    private LivroRazao livro;
+    private int idNoLivro = LivroRazao.SEM_CONTA;
+
+    /**
+     * Passa a registrar as movimentações desta conta no livro-razão.
+     * Grava o saldo atual como abertura para que o histórico possa ser reconstruído.
+     */
+    void vincularLivro(LivroRazao livro, int id) {
+        this.livro = livro;
+        this.idNoLivro = id;
+        int atual = saldo.get();
+        if (livro != null && atual != 0) livro.registrar(LivroRazao.SEM_CONTA, id, atual, MotivoTransacao.ABERTURA);
     }
 
     /** Deposita um valor positivo. Valores <= 0 são ignorados. */
-    public void depositar(int valor) {
+    public void depositar(int valor) { depositar(valor, MotivoTransacao.OUTRO); }
+
+    void depositar(int valor, MotivoTransacao motivo) {
         if (valor > 0) {
-            saldo += valor;
+            saldo.addAndGet(valor);
+            if (livro != null) livro.registrar(LivroRazao.SEM_CONTA, idNoLivro, valor, motivo);
         }
     }
 
@@ -24,37 +50,58 @@ class ContaBancaria {
      * Saca um valor se houver saldo suficiente.
      * @return {@code true} se sacou; {@code false} se valor inválido ou saldo insuficiente
      */
-    public boolean sacar(int valor) {
-        if (valor <= 0) return false;
-        if (saldo - valor < 0) {
-            return false; // saldo insuficiente
-        }
-        saldo -= valor;
+    public boolean sacar(int valor) { return sacar(valor, MotivoTransacao.OUTRO); }
+
+    boolean sacar(int valor, MotivoTransacao motivo) {
+        if (!retirar(valor)) return false;
+        if (livro != null) livro.registrar(idNoLivro, LivroRazao.SEM_CONTA, valor, motivo);
         return true;
     }
 
     /**
      * Transfere valor desta conta para {@code destino}.
+     * <p>O saque é atômico; se ele falhar nada é depositado.</p>
      * @return {@code true} se a operação foi concluída; {@code false} caso contrário
      */
-    public boolean paga(ContaBancaria destino, int valor) {
-        if (sacar(valor)) {
-            destino.depositar(valor);
-            return true;
-        }
-        return false;
+    public boolean paga(ContaBancaria destino, int valor) { return paga(destino, valor, MotivoTransacao.OUTRO); }
+
+    /** Transferência com motivo registrado no livro-razão (um único registro de/para). */
+    boolean paga(ContaBancaria destino, int valor, MotivoTransacao motivo) {
+        if (!retirar(valor)) return false;
+        destino.saldo.addAndGet(valor);
+        LivroRazao l = (livro != null) ? livro : destino.livro;
+        if (l != null) l.registrar(idNoLivro, destino.idNoLivro, valor, motivo);
+        return true;
     }
 
     /** Saldo atual. */
     public int getSaldo() {
-        return saldo;
+        return saldo.get();
     }
 
     /**
      * Define o saldo diretamente.
      * <p><strong>Atenção:</strong> considerar validar {@code saldo >= 0} ou restringir visibilidade.</p>
      */
-    public void setSaldo(int saldo) {
-        this.saldo = saldo; // TODO: validar não-negativo, se desejado
+    public void setSaldo(int saldo) { setSaldo(saldo, MotivoTransacao.AJUSTE); }
+
+    /** Define o saldo; no livro-razão fica registrada a diferença em relação ao saldo anterior. */
+    void setSaldo(int saldo, MotivoTransacao motivo) {
+        int anterior = this.saldo.getAndSet(saldo); // TODO: validar não-negativo, se desejado
+        if (livro == null || anterior == saldo) return;
+        if (saldo > anterior) livro.registrar(LivroRazao.SEM_CONTA, idNoLivro, saldo - anterior, motivo);
+        else                  livro.registrar(idNoLivro, LivroRazao.SEM_CONTA, anterior - saldo, motivo);
+    }
+
+    /** Saque atômico (CAS) sem registro. */
+    private boolean retirar(int valor) {
+        if (valor <= 0) return false;
+        for (;;) {
+            int atual = saldo.get();
+            if (atual - valor < 0) {
+                return false; // saldo insuficiente
+            }
+            if (saldo.compareAndSet(atual, atual - valor)) return true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package Model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Definição imutável de um tabuleiro: número de casas, casas especiais e propriedades.
+ * <p>
+ * Vem de um arquivo de dados lido uma única vez (o tabuleiro do enunciado está em
+ * {@value #RECURSO_PADRAO}) ou é gerada ({@link #sintetica}). Tudo fica em arrays indexados pela
+ * casa, então as consultas da partida são O(1) qualquer que seja o tamanho; cada partida cria as
+ * suas {@link Propriedade}s (mutáveis) a partir dela com {@link #criarPropriedades()}.
+ * </p>
+ * <p>
+ * Formato (UTF-8, uma entrada por linha, {@code #} comenta):
+ * </p>
+ * <pre>
+ * NOME=padrao
+ * CASAS=40
+ * PRISAO=10            prisão/visita
+ * VA_PARA_PRISAO=30    envia à prisão
+ * LUCROS=18            recebe 200
+ * IMPOSTO=24           paga 200
+ * SORTE=2,12,16        casas de Sorte/Revés
+ * T|nome|preço|valor da casa|aluguel base|casa      terreno
+ * C|nome|preço|multiplicador|aluguel base|casa      companhia
+ * </pre>
+ * A casa 0 é a saída. Casas especiais e de Sorte/Revés não podem ter propriedade.
+ */
+public final class DefinicaoTabuleiro {
+
+    /** Recurso com o tabuleiro do enunciado. */
+    public static final String RECURSO_PADRAO = "/tabuleiros/padrao.txt";
+
+    private static final byte LIVRE = 0, TERRENO = 1, COMPANHIA = 2;
+
+    private final String nome;
+    private final int casas, prisao, vaParaPrisao, lucros, imposto;
+    private final boolean[] sorte;
+    // propriedades por casa (tipo LIVRE = sem propriedade); valor = valor da casa ou multiplicador
+    private final byte[] tipo;
+    private final String[] nomes;
+    private final int[] preco, valor, aluguel;
+    private final int numPropriedades;
+
+    private DefinicaoTabuleiro(String nome, int casas, int prisao, int vaParaPrisao, int lucros, int imposto,
+                               boolean[] sorte, byte[] tipo, String[] nomes, int[] preco, int[] valor, int[] aluguel) {
+        this.nome = nome;
+        this.casas = casas;
+        this.prisao = prisao;
+        this.vaParaPrisao = vaParaPrisao;
+        this.lucros = lucros;
+        this.imposto = imposto;
+        this.sorte = sorte;
+        this.tipo = tipo;
+        this.nomes = nomes;
+        this.preco = preco;
+        this.valor = valor;
+        this.aluguel = aluguel;
+        int n = 0;
+        for (byte t : tipo) if (t != LIVRE) n++;
+        this.numPropriedades = n;
+    }
+
+    /** Lido na primeira vez que alguém pede o tabuleiro padrão. */
+    private static final class Padrao {
+        static final DefinicaoTabuleiro INSTANCIA = lerRecurso(RECURSO_PADRAO);
+    }
+
+    /** Tabuleiro do enunciado ({@value #RECURSO_PADRAO}), lido uma vez e compartilhado. */
+    public static DefinicaoTabuleiro padrao() { return Padrao.INSTANCIA; }
+
+    // ---------- Consultas ----------
+
+    public String getNome() { return nome; }
+    public int getCasas() { return casas; }
+    public int getNumPropriedades() { return numPropriedades; }
+    /** Casa da prisão/visita (onde o peão preso fica). */
+    public int getCelulaPrisao() { return prisao; }
+    /** Casa “vá para a prisão”. */
+    public int getCelulaVaParaPrisao() { return vaParaPrisao; }
+    public int getCelulaLucros() { return lucros; }
+    public int getCelulaImposto() { return imposto; }
+
+    /** Se {@code celula} é de Sorte/Revés (fora do tabuleiro = não). */
+    public boolean isSorte(int celula) { return celula >= 0 && celula < casas && sorte[celula]; }
+
+    /** Se há propriedade em {@code celula}. */
+    public boolean temPropriedade(int celula) { return celula >= 0 && celula < casas && tipo[celula] != LIVRE; }
+
+    /** Nome da propriedade em {@code celula} (ou null). */
+    public String getNomePropriedade(int celula) { return temPropriedade(celula) ? nomes[celula] : null; }
+
+    /** Propriedades novas (sem dono, sem construções), em ordem de casa. */
+    List<Propriedade> criarPropriedades() {
+        List<Propriedade> out = new ArrayList<>(numPropriedades);
+        for (int c = 0; c < casas; c++) {
+            if (tipo[c] == TERRENO) out.add(new Terreno(nomes[c], preco[c], valor[c], aluguel[c], c));
+            else if (tipo[c] == COMPANHIA) out.add(new Companhia(nomes[c], preco[c], valor[c], aluguel[c], c));
+        }
+        return out;
+    }
+
+    // ---------- Leitura ----------
+
+    /** Lê uma definição de arquivo. */
+    public static DefinicaoTabuleiro carregar(Path arquivo) throws IOException {
+        try (Reader in = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return ler(in, arquivo.toString());
+        }
+    }
+
+    private static DefinicaoTabuleiro lerRecurso(String recurso) {
+        InputStream in = DefinicaoTabuleiro.class.getResourceAsStream(recurso);
+        if (in == null) throw new IllegalStateException("Recurso do tabuleiro não encontrado: " + recurso);
+        try (Reader r = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return ler(r, recurso);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Interpreta uma definição; erro de formato ou de consistência gera {@link IllegalArgumentException}
+     * com {@code origem} e o número da linha.
+     */
+    public static DefinicaoTabuleiro ler(Reader entrada, String origem) throws IOException {
+        BufferedReader in = (entrada instanceof BufferedReader b) ? b : new BufferedReader(entrada);
+        String nome = origem;
+        int casas = -1, prisao = -1, vaParaPrisao = -1, lucros = -1, imposto = -1;
+        int[] sorte = new int[0];
+        List<String[]> props = new ArrayList<>();
+        List<Integer> linhasProps = new ArrayList<>();
+
+        String ln;
+        int linha = 0;
+        while ((ln = in.readLine()) != null) {
+            linha++;
+            ln = ln.strip();
+            if (ln.isEmpty() || ln.startsWith("#")) continue;
+            try {
+                if (ln.startsWith("T|") || ln.startsWith("C|")) {
+                    String[] campos = ln.split("\\|", -1);
+                    if (campos.length != 6) throw new IllegalArgumentException("propriedade com " + campos.length + " campos (esperado 6)");
+                    props.add(campos);
+                    linhasProps.add(linha);
+                    continue;
+                }
+                int igual = ln.indexOf('=');
+                if (igual < 0) throw new IllegalArgumentException("linha não reconhecida: " + ln);
+                String chave = ln.substring(0, igual), v = ln.substring(igual + 1).strip();
+                switch (chave) {
+                    case "NOME" -> nome = v;
+                    case "CASAS" -> casas = Integer.parseInt(v);
+                    case "PRISAO" -> prisao = Integer.parseInt(v);
+                    case "VA_PARA_PRISAO" -> vaParaPrisao = Integer.parseInt(v);
+                    case "LUCROS" -> lucros = Integer.parseInt(v);
+                    case "IMPOSTO" -> imposto = Integer.parseInt(v);
+                    case "SORTE" -> sorte = v.isEmpty() ? new int[0]
+                            : Arrays.stream(v.split(",")).mapToInt(s -> Integer.parseInt(s.strip())).toArray();
+                    default -> throw new IllegalArgumentException("chave desconhecida: " + chave);
+                }
+            } catch (IllegalArgumentException e) { // NumberFormatException inclusive
+                throw new IllegalArgumentException(origem + ":" + linha + ": " + e.getMessage(), e);
+            }
+        }
+        if (casas < 2) throw new IllegalArgumentException(origem + ": CASAS ausente ou menor que 2");
+
+        boolean[] especial = new boolean[casas];
+        especial[0] = true;
+        int[] especiais = { prisao, vaParaPrisao, lucros, imposto };
+        String[] chaves = { "PRISAO", "VA_PARA_PRISAO", "LUCROS", "IMPOSTO" };
+        for (int i = 0; i < especiais.length; i++) {
+            int c = especiais[i];
+            if (c < 1 || c >= casas) throw new IllegalArgumentException(origem + ": " + chaves[i] + " ausente ou fora de 1.." + (casas - 1));
+            if (especial[c]) throw new IllegalArgumentException(origem + ": casa " + c + " usada por mais de uma casa especial");
+            especial[c] = true;
+        }
+        boolean[] sorteArr = new boolean[casas];
+        for (int c : sorte) {
+            if (c < 1 || c >= casas || especial[c] || sorteArr[c])
+                throw new IllegalArgumentException(origem + ": casa de Sorte/Revés inválida: " + c);
+            sorteArr[c] = true;
+        }
+
+        byte[] tipo = new byte[casas];
+        String[] nomes = new String[casas];
+        int[] preco = new int[casas], valor = new int[casas], aluguel = new int[casas];
+        for (int i = 0; i < props.size(); i++) {
+            String[] f = props.get(i);
+            try {
+                int c = Integer.parseInt(f[5].strip());
+                if (c < 1 || c >= casas) throw new IllegalArgumentException("casa " + c + " fora de 1.." + (casas - 1));
+                if (especial[c] || sorteArr[c]) throw new IllegalArgumentException("casa " + c + " é especial ou de Sorte/Revés");
+                if (tipo[c] != LIVRE) throw new IllegalArgumentException("casa " + c + " já tem propriedade (" + nomes[c] + ")");
+                if (f[1].isBlank()) throw new IllegalArgumentException("propriedade sem nome");
+                int p = Integer.parseInt(f[2].strip()), v = Integer.parseInt(f[3].strip()), a = Integer.parseInt(f[4].strip());
+                if (p <= 0 || v < 0 || a < 0) throw new IllegalArgumentException("preço deve ser positivo e valores não negativos");
+                tipo[c] = f[0].equals("T") ? TERRENO : COMPANHIA;
+                nomes[c] = f[1].strip();
+                preco[c] = p;
+                valor[c] = v;
+                aluguel[c] = a;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(origem + ":" + linhasProps.get(i) + ": " + e.getMessage(), e);
+            }
+        }
+        return new DefinicaoTabuleiro(nome, casas, prisao, vaParaPrisao, lucros, imposto, sorteArr, tipo, nomes, preco, valor, aluguel);
+    }
+
+    /** Escreve a definição no formato de {@link #ler} (uma definição sintética vira arquivo de dados). */
+    public void escrever(PrintWriter out) {
+        out.println("NOME=" + nome);
+        out.println("CASAS=" + casas);
+        out.println("PRISAO=" + prisao);
+        out.println("VA_PARA_PRISAO=" + vaParaPrisao);
+        out.println("LUCROS=" + lucros);
+        out.println("IMPOSTO=" + imposto);
+        StringBuilder sb = new StringBuilder("SORTE=");
+        for (int c = 0; c < casas; c++) if (sorte[c]) sb.append(sb.length() > 6 ? "," : "").append(c);
+        out.println(sb);
+        for (int c = 0; c < casas; c++) {
+            if (tipo[c] == LIVRE) continue;
+            out.println((tipo[c] == TERRENO ? "T|" : "C|") + nomes[c] + "|" + preco[c] + "|" + valor[c] + "|" + aluguel[c] + "|" + c);
+        }
+    }
+
+    // ---------- Tabuleiros sintéticos ----------
+
+    /**
+     * Tabuleiro de {@code casas} casas (>= as do padrão) que repete o padrão em voltas: cada trecho
+     * tem as mesmas propriedades (nome com o número da volta) e casas de Sorte/Revés nas mesmas
+     * posições relativas; saída, prisão, lucros e imposto só existem uma vez, na primeira volta.
+     * Serve para testar o motor e a persistência com milhares de casas.
+     */
+    public static DefinicaoTabuleiro sintetica(int casas) {
+        DefinicaoTabuleiro m = padrao();
+        if (casas < m.casas) throw new IllegalArgumentException("Tabuleiro sintético precisa de ao menos " + m.casas + " casas");
+        boolean[] sorte = new boolean[casas];
+        byte[] tipo = new byte[casas];
+        String[] nomes = new String[casas];
+        int[] preco = new int[casas], valor = new int[casas], aluguel = new int[casas];
+        for (int c = m.casas; c < casas; c++) { // a primeira volta é o próprio padrão
+            int r = c % m.casas;
+            if (m.sorte[r]) { sorte[c] = true; continue; }
+            if (m.tipo[r] == LIVRE) continue;
+            tipo[c] = m.tipo[r];
+            nomes[c] = m.nomes[r] + " " + (c / m.casas + 1);
+            preco[c] = m.preco[r];
+            valor[c] = m.valor[r];
+            aluguel[c] = m.aluguel[r];
+        }
+        System.arraycopy(m.sorte, 0, sorte, 0, m.casas);
+        System.arraycopy(m.tipo, 0, tipo, 0, m.casas);
+        System.arraycopy(m.nomes, 0, nomes, 0, m.casas);
+        System.arraycopy(m.preco, 0, preco, 0, m.casas);
+        System.arraycopy(m.valor, 0, valor, 0, m.casas);
+        System.arraycopy(m.aluguel, 0, aluguel, 0, m.casas);
+        return new DefinicaoTabuleiro("sintetico-" + casas, casas, m.prisao, m.vaParaPrisao, m.lucros, m.imposto,
+                sorte, tipo, nomes, preco, valor, aluguel);
+    }
+
+    @Override
+    public String toString() { return "DefinicaoTabuleiro[" + nome + ", " + casas + " casas, " + numPropriedades + " propriedades]"; }
+}
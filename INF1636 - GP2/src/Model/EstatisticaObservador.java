@@ -0,0 +1,31 @@
+package Model;
+
+/**
+ * Números de um observador registrado na {@link GameFacade} (ver {@link GameFacade#getEstatisticasObservadores()}).
+ *
+ * @param observador      classe do observador
+ * @param chamadas        callbacks entregues
+ * @param nanosTotal      tempo total dentro do observador, medido em quem chamou (no modo isolado, só o enfileiramento)
+ * @param nanosMax        maior chamada
+ * @param callbackMaisLento nome do callback da maior chamada
+ * @param lentas          chamadas acima do orçamento
+ * @param isolado         se já foi movido para fila própria
+ * @param enfileirados    eventos entregues com atraso pela fila própria
+ * @param descartados     eventos perdidos com a fila cheia
+ * @param falhas          callbacks entregues pela fila própria que lançaram exceção
+ * @param pendentes       eventos na fila agora
+ * @param esperaMaxNanos  maior espera na fila até o callback começar
+ */
+public record EstatisticaObservador(String observador, long chamadas, long nanosTotal, long nanosMax,
+                                    String callbackMaisLento, long lentas, boolean isolado,
+                                    long enfileirados, long descartados, long falhas, int pendentes, long esperaMaxNanos) {
+
+    public boolean isLento() { return lentas > 0; }
+
+    @Override public String toString() {
+        return String.format("%s: %d chamadas, max %.2f ms (%s), %d lentas%s", observador, chamadas,
+                nanosMax / 1e6, callbackMaisLento, lentas,
+                isolado ? String.format(", isolado (%d na fila, %d atrasados, %d descartados, %d falhas, espera max %.1f ms)",
+                        pendentes, enfileirados, descartados, falhas, esperaMaxNanos / 1e6) : "");
+    }
+}
@@ -0,0 +1,155 @@
+package Model;
+
+/**
+ * Fato imutável da partida: o resultado por trás de cada callback do {@link GameObserver}, mais
+ * as decisões de compra/construção. A sequência completa destes eventos, a partir de um
+ * {@link GameStateSnapshot} base, é o estado da partida ({@link ArmazemDeEventos}, {@link ProjetorDeEstado}).
+ * <p>
+ * Os eventos que mudam estado trazem o valor <b>absoluto</b> resultante (saldo novo, posição nova,
+ * número de casas), não a diferença: aplicar é só atribuir. Os informativos (dados, aluguel,
+ * casa especial, decisões) não mudam nada na projeção; o efeito deles chega pelos de estado.
+ * </p>
+ * <p>
+ * No disco e no caminho quente cada evento é um {@link #tipo()} e até quatro inteiros
+ * ({@link #campos(int[])}); os records são a forma tipada para quem lê o fluxo.
+ * </p>
+ */
+public sealed interface EventoDeJogo {
+
+    int DADOS = 1, MOVIDO = 2, SALDO = 3, PRISAO = 4, COMPRA = 5, CONSTRUCAO = 6, FALENCIA = 7,
+        ALUGUEL = 8, CARTA = 9, CASA_ESPECIAL = 10, LIBERACAO = 11, VEZ = 12, FIM = 13,
+        DECISAO_COMPRA = 14, DECISAO_CONSTRUCAO = 15, RESTAURADO = 16;
+
+    /** Código do evento (uma das constantes acima). */
+    int tipo();
+
+    /** Copia os campos inteiros do evento para {@code destino[0..3]} (não usados ficam 0). */
+    void campos(int[] destino);
+
+    // ---------- Eventos ----------
+
+    /** Dados lançados ({@code onDice}). */
+    record DadosLancados(int d1, int d2) implements EventoDeJogo {
+        public int tipo() { return DADOS; }
+        public void campos(int[] c) { preencher(c, d1, d2, 0, 0); }
+    }
+
+    /** Peão andou pelos dados ({@code onMoved}). */
+    record Movido(int jogador, int de, int para) implements EventoDeJogo {
+        public int tipo() { return MOVIDO; }
+        public void campos(int[] c) { preencher(c, jogador, de, para, 0); }
+    }
+
+    /** Saldo novo do jogador e do banco ({@code onBalanceChanged}). */
+    record SaldoAlterado(int jogador, int saldo, int saldoBanco) implements EventoDeJogo {
+        public int tipo() { return SALDO; }
+        public void campos(int[] c) { preencher(c, jogador, saldo, saldoBanco, 0); }
+    }
+
+    /** Entrou/saiu da prisão ({@code onJailStatus}); ir preso também muda a posição. */
+    record PrisaoAlterada(int jogador, boolean preso, int posicao) implements EventoDeJogo {
+        public int tipo() { return PRISAO; }
+        public void campos(int[] c) { preencher(c, jogador, preso ? 1 : 0, posicao, 0); }
+    }
+
+    /** Propriedade comprada ({@code onPropertyBought}). */
+    record PropriedadeComprada(int jogador, int celula) implements EventoDeJogo {
+        public int tipo() { return COMPRA; }
+        public void campos(int[] c) { preencher(c, jogador, celula, 0, 0); }
+    }
+
+    /** Construção no terreno: casas e hotel depois dela ({@code onHouseBuilt}). */
+    record Construcao(int jogador, int celula, int casas, boolean hotel) implements EventoDeJogo {
+        public int tipo() { return CONSTRUCAO; }
+        public void campos(int[] c) { preencher(c, jogador, celula, casas, hotel ? 1 : 0); }
+    }
+
+    /** Falência: saldo zerado e propriedades de volta ao banco ({@code onBankruptcy}). */
+    record Falencia(int jogador) implements EventoDeJogo {
+        public int tipo() { return FALENCIA; }
+        public void campos(int[] c) { preencher(c, jogador, 0, 0, 0); }
+    }
+
+    /** Aluguel pago ({@code onRentPaid}). */
+    record AluguelPago(int pagador, int dono, int celula, int valor) implements EventoDeJogo {
+        public int tipo() { return ALUGUEL; }
+        public void campos(int[] c) { preencher(c, pagador, dono, celula, valor); }
+    }
+
+    /** Carta do topo do baralho puxada ({@code onChanceCard}); a de saída livre fica com o jogador. */
+    record CartaPuxada(int jogador, int celula, int codigo) implements EventoDeJogo {
+        public int tipo() { return CARTA; }
+        public void campos(int[] c) { preencher(c, jogador, celula, codigo, 0); }
+    }
+
+    /** Lucros/dividendos ou imposto ({@code onSpecialCell}). */
+    record CasaEspecial(int jogador, int celula, int valor) implements EventoDeJogo {
+        public int tipo() { return CASA_ESPECIAL; }
+        public void campos(int[] c) { preencher(c, jogador, celula, valor, 0); }
+    }
+
+    /** Carta de saída livre usada e devolvida ao fim do baralho ({@code onReleaseCardUsed}). */
+    record CartaLiberacaoUsada(int jogador) implements EventoDeJogo {
+        public int tipo() { return LIBERACAO; }
+        public void campos(int[] c) { preencher(c, jogador, 0, 0, 0); }
+    }
+
+    /** Vez passada: posição na ordem e jogador da vez ({@code onTurnChanged}). */
+    record VezPassada(int ponteiro, int jogador) implements EventoDeJogo {
+        public int tipo() { return VEZ; }
+        public void campos(int[] c) { preencher(c, ponteiro, jogador, 0, 0); }
+    }
+
+    /** Partida encerrada ({@code onGameEnded}); o ponteiro é o da vez no encerramento. */
+    record PartidaEncerrada(int vencedor, int ponteiro) implements EventoDeJogo {
+        public int tipo() { return FIM; }
+        public void campos(int[] c) { preencher(c, vencedor, ponteiro, 0, 0); }
+    }
+
+    /** Resposta à oferta de compra. */
+    record DecisaoCompra(int jogador, int celula, boolean comprou) implements EventoDeJogo {
+        public int tipo() { return DECISAO_COMPRA; }
+        public void campos(int[] c) { preencher(c, jogador, celula, comprou ? 1 : 0, 0); }
+    }
+
+    /** Resposta à oferta de construção ({@link #NADA}, {@link #CASA} ou {@link #HOTEL}). */
+    record DecisaoConstrucao(int jogador, int celula, int escolha) implements EventoDeJogo {
+        public static final int NADA = 0, CASA = 1, HOTEL = 2;
+        public int tipo() { return DECISAO_CONSTRUCAO; }
+        public void campos(int[] c) { preencher(c, jogador, celula, escolha, 0); }
+    }
+
+    /** Estado inteiro sobrescrito (replay voltando no tempo): a projeção recomeça dele. */
+    record EstadoRestaurado(GameStateSnapshot estado) implements EventoDeJogo {
+        public int tipo() { return RESTAURADO; }
+        public void campos(int[] c) { preencher(c, 0, 0, 0, 0); }
+    }
+
+    // ---------- Forma compacta ----------
+
+    /** Evento tipado a partir da forma compacta ({@link #RESTAURADO} não tem forma compacta). */
+    static EventoDeJogo de(int tipo, int a, int b, int c, int d) {
+        return switch (tipo) {
+            case DADOS -> new DadosLancados(a, b);
+            case MOVIDO -> new Movido(a, b, c);
+            case SALDO -> new SaldoAlterado(a, b, c);
+            case PRISAO -> new PrisaoAlterada(a, b != 0, c);
+            case COMPRA -> new PropriedadeComprada(a, b);
+            case CONSTRUCAO -> new Construcao(a, b, c, d != 0);
+            case FALENCIA -> new Falencia(a);
+            case ALUGUEL -> new AluguelPago(a, b, c, d);
+            case CARTA -> new CartaPuxada(a, b, c);
+            case CASA_ESPECIAL -> new CasaEspecial(a, b, c);
+            case LIBERACAO -> new CartaLiberacaoUsada(a);
+            case VEZ -> new VezPassada(a, b);
+            case FIM -> new PartidaEncerrada(a, b);
+            case DECISAO_COMPRA -> new DecisaoCompra(a, b, c != 0);
+            case DECISAO_CONSTRUCAO -> new DecisaoConstrucao(a, b, c);
+            default -> throw new IllegalArgumentException("Tipo de evento desconhecido: " + tipo);
+        };
+    }
+
+    private static void preencher(int[] c, int a, int b, int x, int d) {
+        c[0] = a; c[1] = b; c[2] = x; c[3] = d;
+    }
+}
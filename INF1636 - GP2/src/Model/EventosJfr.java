@@ -0,0 +1,140 @@
+package Model;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Eventos do Java Flight Recorder emitidos pelo jogo: ações da {@link GameFacade} e gravação/leitura
+ * de partidas ({@link GameStateIO}). Nomes {@code banco.*}; perfil em {@code /jfr/banco.jfc}.
+ * <p>
+ * Sem gravação ativa cada emissão custa a checagem de {@link EventType#isEnabled()}, feita antes
+ * de criar o objeto do evento: o turno não aloca nem antes de o JIT compilar. Os eventos de jogo são emitidos mesmo com os observadores suspensos
+ * (avanço rápido), então a gravação mostra tudo o que o motor fez.
+ * </p>
+ */
+final class EventosJfr {
+    private EventosJfr() {}
+
+    private static final String CATEGORIA = "Banco Imobiliário";
+
+    // ---------- Ações de jogo ----------
+
+    @Name("banco.Compra") @Label("Compra de propriedade") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class Compra extends Event {
+        @Label("Jogador") int jogador;
+        @Label("Casa") int celula;
+        @Label("Valor") int valor;
+    }
+
+    @Name("banco.Construcao") @Label("Construção") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class Construcao extends Event {
+        @Label("Jogador") int jogador;
+        @Label("Casa") int celula;
+        @Label("Casas após a obra") int casas;
+        @Label("Hotel") boolean hotel;
+        @Label("Valor") int valor;
+    }
+
+    @Name("banco.Aluguel") @Label("Aluguel pago") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class Aluguel extends Event {
+        @Label("Pagador") int jogador;
+        @Label("Dono") int dono;
+        @Label("Casa") int celula;
+        @Label("Valor") int valor;
+    }
+
+    @Name("banco.SorteReves") @Label("Carta de Sorte/Revés") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class SorteReves extends Event {
+        @Label("Jogador") int jogador;
+        @Label("Casa") int celula;
+        @Label("Carta") int carta;
+        @Label("Tipo") String tipo;
+        @Label("Valor") int valor;
+    }
+
+    @Name("banco.Falencia") @Label("Falência") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class Falencia extends Event {
+        @Label("Jogador") int jogador;
+        @Label("Saldo") int saldo;
+    }
+
+    @Name("banco.TrocaDeVez") @Label("Troca de vez") @Category({CATEGORIA, "Jogo"}) @StackTrace(false)
+    static final class TrocaDeVez extends Event {
+        @Label("Jogador da vez") int jogador;
+        @Label("Casa") int celula;
+        @Label("Saldo") int saldo;
+    }
+
+    // ---------- Persistência ----------
+
+    @Name("banco.Salvamento") @Label("Salvar partida") @Category({CATEGORIA, "Persistência"})
+    @Description("Gravação do arquivo texto da partida")
+    static final class Salvamento extends Event {
+        @Label("Arquivo") String arquivo;
+        @Label("Bytes") @DataAmount long bytes;
+    }
+
+    @Name("banco.Carregamento") @Label("Carregar partida") @Category({CATEGORIA, "Persistência"})
+    @Description("Leitura e interpretação do arquivo texto da partida")
+    static final class Carregamento extends Event {
+        @Label("Arquivo") String arquivo;
+        @Label("Bytes") @DataAmount long bytes;
+    }
+
+    // ---------- Emissão ----------
+
+    private static final EventType COMPRA = EventType.getEventType(Compra.class);
+    private static final EventType CONSTRUCAO = EventType.getEventType(Construcao.class);
+    private static final EventType ALUGUEL = EventType.getEventType(Aluguel.class);
+    private static final EventType SORTE_REVES = EventType.getEventType(SorteReves.class);
+    private static final EventType FALENCIA = EventType.getEventType(Falencia.class);
+    private static final EventType TROCA_DE_VEZ = EventType.getEventType(TrocaDeVez.class);
+
+    static void compra(int jogador, int celula, int valor) {
+        if (!COMPRA.isEnabled()) return;
+        Compra e = new Compra();
+        e.jogador = jogador; e.celula = celula; e.valor = valor;
+        e.commit();
+    }
+
+    static void construcao(int jogador, int celula, int casas, boolean hotel, int valor) {
+        if (!CONSTRUCAO.isEnabled()) return;
+        Construcao e = new Construcao();
+        e.jogador = jogador; e.celula = celula; e.casas = casas; e.hotel = hotel; e.valor = valor;
+        e.commit();
+    }
+
+    static void aluguel(int pagador, int dono, int celula, int valor) {
+        if (!ALUGUEL.isEnabled()) return;
+        Aluguel e = new Aluguel();
+        e.jogador = pagador; e.dono = dono; e.celula = celula; e.valor = valor;
+        e.commit();
+    }
+
+    static void sorteReves(int jogador, int celula, Carta c) {
+        if (!SORTE_REVES.isEnabled()) return;
+        SorteReves e = new SorteReves();
+        e.jogador = jogador; e.celula = celula; e.carta = c.codigo; e.tipo = c.tipo.name(); e.valor = c.valor;
+        e.commit();
+    }
+
+    static void falencia(int jogador, int saldo) {
+        if (!FALENCIA.isEnabled()) return;
+        Falencia e = new Falencia();
+        e.jogador = jogador; e.saldo = saldo;
+        e.commit();
+    }
+
+    static void trocaDeVez(int jogador, int celula, int saldo) {
+        if (!TROCA_DE_VEZ.isEnabled()) return;
+        TrocaDeVez e = new TrocaDeVez();
+        e.jogador = jogador; e.celula = celula; e.saldo = saldo;
+        e.commit();
+    }
+}
@@ -2,8 +2,10 @@ package Model;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 /** Façade + Singleton: ponto único de contato da UI com o Model. */
 public final class GameFacade implements GameSubject {
@@ -12,7 +14,15 @@ public final class GameFacade implements GameSubject {
     private static GameFacade INSTANCIA;
 
     public static GameFacade init(List<String> nomes, List<Integer> ordemSorteada) {
-        if (INSTANCIA == null) INSTANCIA = new GameFacade(nomes, ordemSorteada);
+        return init(nomes, ordemSorteada, new Random().nextLong());
+    }
+    /** Como {@link #init(List, List)}, com a semente de dados e baralho fixada (partida reproduzível). */
+    public static GameFacade init(List<String> nomes, List<Integer> ordemSorteada, long semente) {
+        return init(nomes, ordemSorteada, semente, DefinicaoTabuleiro.padrao());
+    }
+    /** Como {@link #init(List, List, long)}, no tabuleiro descrito por {@code definicao}. */
+    public static GameFacade init(List<String> nomes, List<Integer> ordemSorteada, long semente, DefinicaoTabuleiro definicao) {
+        if (INSTANCIA == null) INSTANCIA = new GameFacade(nomes, ordemSorteada, semente, definicao);
         return INSTANCIA;
     }
     public static GameFacade get() {
@@ -26,16 +36,37 @@ public final class GameFacade implements GameSubject {
     private final Banco banco;
     private final Tabuleiro tabuleiro;
     private final MotorDeJogo motor;
+    private final long semente;
+    private final GeradorAleatorio rng; // dados + embaralhamento; estado vai nos checkpoints do replay
     private final List<Jogador> jogadores = new ArrayList<>();
-    private final List<GameObserver> observadores = new ArrayList<>();
+    private final List<GameObserver> observadores = new ArrayList<>(); // envelopes ObservadorMonitorado
+    private GameObserver[] entrega = new GameObserver[0]; // observadores + coletores, percorrido na notificação
+    private final List<GameObserver> coletores = new ArrayList<>(); // sem envelope e sem suspensão
+    private final PublicadorDeEstado publicador = new PublicadorDeEstado();
+    private boolean publicacaoImutavel = false;
+    private LivroRazao livro; // null = auditoria desligada
+    private ArmazemDeEventos eventos; // null = fluxo de eventos desligado
+    private List<GameObserver> suspensos; // != null: observadores fora do ar (avanço rápido)
+    private boolean partidaEncerrada;
+
+    /** Orçamento padrão de um callback de observador (um quadro a 60 Hz). */
+    public static final long ORCAMENTO_OBSERVADOR_PADRAO_NS = 16_000_000L;
+    private final ObservadorMonitorado.Politica politicaObservadores =
+            new ObservadorMonitorado.Politica(ORCAMENTO_OBSERVADOR_PADRAO_NS, false, 256);
 
     private final List<Integer> ordem;
     private int ponteiroDaVez = 0;
 
-    // Estado anterior (para diffs)
-    private List<Integer> saldoAnterior;
-    private List<Boolean> presoAnterior;
-    private List<Boolean> falidoAnterior;
+    // Jogadores ativos por posição na ordem (bit = posição do ponteiro) + contagem de vivos.
+    // Falência detectada no diff limpa o bit; se escapar do diff, a rotação limpa ao passar por ela.
+    private final BitSet ativos = new BitSet();
+    private int vivos;
+    private int[] posicaoNaOrdem; // jogador -> posição na ordem
+
+    // Estado anterior (para diffs); primitivos para o diff não encaixotar a cada turno
+    private int[] saldoAnterior;
+    private boolean[] presoAnterior;
+    private boolean[] falidoAnterior;
 
     /** Paleta fixa de cores de pino (alinhada ao save). */
     private static final List<Color> PIN_PALETTE = List.of(
@@ -43,10 +74,12 @@ public final class GameFacade implements GameSubject {
     );
 
     // Construtor privado
-    private GameFacade(List<String> nomes, List<Integer> ordemSorteada) {
+    private GameFacade(List<String> nomes, List<Integer> ordemSorteada, long semente, DefinicaoTabuleiro definicao) {
+        this.semente = semente;
+        this.rng = new GeradorAleatorio(semente);
         this.banco = new Banco();
-        this.tabuleiro = new Tabuleiro();
-        cadastrarPropriedadesPadrao();
+        this.tabuleiro = new Tabuleiro(rng, definicao);
+        tabuleiro.cadastrarPropriedades();
 
         for (String nome : nomes) {
             Jogador j = new Jogador(nome);
@@ -61,42 +94,130 @@ public final class GameFacade implements GameSubject {
             for (int i = 0; i < jogadores.size(); i++) this.ordem.add(i);
         }
 
-        this.motor = new MotorDeJogo(banco, tabuleiro);
-
-        int n = jogadores.size();
-        saldoAnterior  = new ArrayList<>(Collections.nCopies(n, 0));
-        presoAnterior  = new ArrayList<>(Collections.nCopies(n, false));
-        falidoAnterior = new ArrayList<>(Collections.nCopies(n, false));
-        for (int i = 0; i < n; i++) {
-            saldoAnterior.set(i, jogadores.get(i).getConta().getSaldo());
-            presoAnterior.set(i, jogadores.get(i).estaPreso());
-            falidoAnterior.set(i, jogadores.get(i).isFalido());
-        }
+        this.motor = new MotorDeJogo(banco, tabuleiro, rng);
+        recalcularDiffs();
     }
 
     // ---------- Observer (Subject) ----------
+    /** Registra {@code o} dentro de um envelope que cronometra cada callback (ver {@link #configurarObservadores}). */
     @Override
     public void addObserver(GameObserver o) {
-        if (o != null && !observadores.contains(o)) observadores.add(o);
+        List<GameObserver> alvo = (suspensos != null) ? suspensos : observadores;
+        if (o != null && envelopeDe(alvo, o) == null) alvo.add(new ObservadorMonitorado(o, politicaObservadores));
+        atualizarEntrega();
     }
 
     @Override
     public void removeObserver(GameObserver o) {
-        observadores.remove(o);
+        for (List<GameObserver> lista : (suspensos != null) ? List.of(observadores, suspensos) : List.of(observadores)) {
+            ObservadorMonitorado m = envelopeDe(lista, o);
+            if (m != null) { lista.remove(m); m.encerrar(); }
+        }
+        atualizarEntrega();
+    }
+
+    /**
+     * Coletor de dados (ex.: exportação para análise): recebe os mesmos callbacks dos observadores,
+     * chamado direto (sem envelope/cronômetro) e <b>também</b> durante o avanço rápido. Tem de ser
+     * barato e não tocar a UI; roda na thread de quem altera a partida, com o monitor.
+     */
+    public void addColetor(GameObserver c) {
+        if (c != null && !coletores.contains(c)) coletores.add(c);
+        atualizarEntrega();
+    }
+
+    public void removeColetor(GameObserver c) {
+        coletores.remove(c);
+        atualizarEntrega();
+    }
+
+    /** Refaz o array percorrido na notificação (iterar array não aloca iterador). */
+    private void atualizarEntrega() {
+        GameObserver[] e = observadores.toArray(new GameObserver[observadores.size() + coletores.size()]);
+        for (int i = 0; i < coletores.size(); i++) e[observadores.size() + i] = coletores.get(i);
+        entrega = e;
+    }
+
+    private static ObservadorMonitorado envelopeDe(List<GameObserver> lista, GameObserver o) {
+        for (GameObserver x : lista) {
+            ObservadorMonitorado m = (ObservadorMonitorado) x;
+            if (m.alvo == o) return m;
+        }
+        return null;
+    }
+
+    /**
+     * Política dos observadores: chamada acima de {@code orcamentoNanos} marca o observador como lento;
+     * com {@code isolarLentos}, ele passa a receber os eventos por uma fila própria de
+     * {@code capacidadeFila} posições (cheia = descarta), sem travar quem notifica.
+     */
+    public void configurarObservadores(long orcamentoNanos, boolean isolarLentos, int capacidadeFila) {
+        politicaObservadores.orcamentoNanos = orcamentoNanos;
+        politicaObservadores.isolar = isolarLentos;
+        politicaObservadores.capacidadeFila = capacidadeFila;
+    }
+
+    /** Tempo, lentidão e fila de cada observador registrado. */
+    public List<EstatisticaObservador> getEstatisticasObservadores() {
+        List<EstatisticaObservador> r = new ArrayList<>();
+        for (GameObserver x : (suspensos != null) ? suspensos : observadores)
+            r.add(((ObservadorMonitorado) x).estatistica());
+        return r;
+    }
+
+    /**
+     * Suspende a entrega de eventos (ex.: avanço rápido de turnos): os laços de notificação
+     * passam a não ter ninguém para chamar. Idempotente.
+     */
+    public void suspenderObservadores() {
+        if (suspensos != null) return;
+        suspensos = new ArrayList<>(observadores);
+        observadores.clear();
+        atualizarEntrega();
+    }
+
+    /**
+     * Volta a entregar eventos. O que mudou durante a suspensão não é notificado (a base dos diffs
+     * é refeita); quem observa deve reler o estado inteiro.
+     */
+    public void retomarObservadores() {
+        if (suspensos == null) return;
+        observadores.addAll(suspensos);
+        suspensos = null;
+        atualizarEntrega();
+        recalcularDiffs();
+    }
+
+    public boolean isObservadoresSuspensos() { return suspensos != null; }
+
+    // ---------- Publicação imutável (leitores concorrentes) ----------
+    /**
+     * Liga/desliga a publicação de uma {@link GameStateVersion} a cada ação concluída.
+     * Ao ligar, publica imediatamente a versão corrente.
+     */
+    public void setPublicacaoImutavel(boolean ativo) {
+        this.publicacaoImutavel = ativo;
+        publicarEstado();
     }
 
+    /** Última versão publicada (ou {@code null} se o modo nunca foi ligado). Seguro para qualquer thread. */
+    public GameStateVersion getEstadoPublicado() { return publicador.atual(); }
+
     // ---------- Consultas ----------
     public int  getIndiceJogadorDaVez()                { ajustarPonteiroParaJogadorAtivo(); return ordem.get(ponteiroDaVez); }
     public int  getPosicao(int indiceJogador)          { return jogadores.get(indiceJogador).getPosicao(); }
     public int  getSaldo(int indiceJogador)            { return jogadores.get(indiceJogador).getConta().getSaldo(); }
     public boolean jogadorEstaPreso(int indiceJogador) { return jogadores.get(indiceJogador).estaPreso(); }
     public String getNomeJogador(int indiceJogador)    { return jogadores.get(indiceJogador).getNome(); }
+    public boolean isFalido(int indiceJogador)         { return jogadores.get(indiceJogador).isFalido(); }
+    /** Se a apuração final já aconteceu (fim automático ou manual). */
+    public boolean isPartidaEncerrada()                { return partidaEncerrada; }
 
     public List<String> getPropriedadesDoJogador(int indiceJogador) {
         List<String> out = new ArrayList<>();
         if (indiceJogador < 0 || indiceJogador >= jogadores.size()) return out;
         Jogador dono = jogadores.get(indiceJogador);
-        for (int pos = 0; pos < 40; pos++) {
+        for (int pos = 0; pos < tabuleiro.getCasas(); pos++) {
             Propriedade p = tabuleiro.getPropriedadeNaPosicao(pos);
             if (p != null && p.getProprietario() == dono) out.add(p.getNome());
         }
@@ -107,7 +228,7 @@ public final class GameFacade implements GameSubject {
         List<Integer> out = new ArrayList<>();
         if (indiceJogador < 0 || indiceJogador >= jogadores.size()) return out;
         Jogador dono = jogadores.get(indiceJogador);
-        for (int pos = 0; pos < 40; pos++) {
+        for (int pos = 0; pos < tabuleiro.getCasas(); pos++) {
             Propriedade p = tabuleiro.getPropriedadeNaPosicao(pos);
             if (p != null && p.getProprietario() == dono) out.add(pos);
         }
@@ -115,7 +236,7 @@ public final class GameFacade implements GameSubject {
     }
 
     public Integer getIndiceDonoDaPosicao(int celula) {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         if (p == null) return null;
         Jogador dono = p.getProprietario();
         if (dono == null) return null;
@@ -123,21 +244,21 @@ public final class GameFacade implements GameSubject {
         return null;
     }
 
-    public boolean posicaoTemPropriedade(int celula)            { return tabuleiro.getPropriedadeNaPosicao(norm40(celula)) != null; }
+    public boolean posicaoTemPropriedade(int celula)            { return tabuleiro.getPropriedadeNaPosicao(norm(celula)) != null; }
     public boolean propriedadeDisponivel(int celula)            {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         return p != null && p.estaDisponivel();
     }
     public String getNomePropriedade(int celula)                {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         return (p != null ? p.getNome() : null);
     }
     public int getPrecoPropriedade(int celula)                  {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         return (p != null ? p.getPreco() : 0);
     }
     public boolean jogadorEhDonoDaPosicao(int indiceJogador, int celula) {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         if (p == null) return false;
         return p.getProprietario() == jogadores.get(indiceJogador);
     }
@@ -179,14 +300,14 @@ public int getValorCasaAqui(int indiceJogador) {
 
     /** NOVO: expomos a quantidade de casas em uma célula (0 se não for Terreno). */
     public int getNumeroCasasNaPosicao(int celula) {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         if (p instanceof Terreno t) return t.getNumCasas();
         return 0;
     }
 
     /** NOVO: 0 ou 1 hotel na posição (apenas Terreno). */
     public int getNumeroHoteisNaPosicao(int celula) {
-        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm40(celula));
+        Propriedade p = tabuleiro.getPropriedadeNaPosicao(norm(celula));
         if (p instanceof Terreno t) return t.temHotel() ? 1 : 0;
         return 0;
     }
@@ -201,31 +322,45 @@ public int getValorCasaAqui(int indiceJogador) {
         return false;
     }
     /** Consulta se a célula é de Sorte/Revés (regra do domínio). */
-    public boolean isChanceCell(int celula) { return tabuleiro.isChanceCell(norm40(celula)); }
-    /** Posição da casa de prisão/visita (casa 10). */
-    public int getPosicaoPrisao() { return Tabuleiro.getPosicaoVisitaPrisao(); }
+    public boolean isChanceCell(int celula) { return tabuleiro.isChanceCell(norm(celula)); }
+    /** Posição da casa de prisão/visita (casa 10 no tabuleiro padrão). */
+    public int getPosicaoPrisao() { return tabuleiro.getCelulaPrisao(); }
+
+    /** Total de casas do tabuleiro da partida (40 no padrão). */
+    public int getNumCasas() { return tabuleiro.getCasas(); }
+
+    /** Definição do tabuleiro da partida. */
+    public DefinicaoTabuleiro getDefinicaoTabuleiro() { return tabuleiro.getDefinicao(); }
 
     // ---------- Ações atômicas para o Controller orquestrar ----------
     /** Sorteia dois dados (1..6) e retorna lista [d1,d2]. */
     public List<Integer> sortearDados() { return motor.lancarDados(); }
 
+    /** Sorteia um dado (1..6); chamado duas vezes por turno, não aloca a lista. */
+    public int sortearDado() { return motor.lancarDado(); }
+
     /** Notifica rolagem aos observadores. */
     public void notificarRolagem(int d1, int d2) {
-        for (GameObserver o : observadores) o.onDice(d1, d2);
+        evento(EventoDeJogo.DADOS, d1, d2, 0, 0);
+        for (GameObserver o : entrega) o.onDice(d1, d2);
     }
 
     /** Tenta liberar da prisão caso seja dupla; retorna true se liberou. */
     public boolean tentarLiberarComDupla(int indiceJogador, int d1, int d2) {
-        return motor.soltarSeDupla(jogadores.get(indiceJogador), List.of(d1, d2));
+        boolean liberado = motor.soltarSeDupla(jogadores.get(indiceJogador), d1, d2);
+        publicarEstado();
+        return liberado;
     }
 
     /** Move o jogador pelos dados e notifica movimento. */
     public void moverJogadorComDados(int indiceJogador, int d1, int d2) {
         Jogador j = jogadores.get(indiceJogador);
         int origem = j.getPosicao();
-        motor.moverJogador(j, List.of(d1, d2));
+        motor.moverJogador(j, d1 + d2);
         int destino = j.getPosicao();
-        for (GameObserver o : observadores) o.onMoved(indiceJogador, origem, destino);
+        publicarEstado();
+        evento(EventoDeJogo.MOVIDO, indiceJogador, origem, destino, 0);
+        for (GameObserver o : entrega) o.onMoved(indiceJogador, origem, destino);
     }
 
     /** Aplica casas especiais fixas (lucros/dividendos e IR) e notifica. */
@@ -233,15 +368,19 @@ public int getValorCasaAqui(int indiceJogador) {
         Jogador j = jogadores.get(indiceJogador);
         int celula = j.getPosicao();
         if (tabuleiro.isCasaLucrosDividendos(celula)) {
-            banco.getConta().paga(j.getConta(), 200);
-            for (GameObserver o : observadores) o.onSpecialCell(indiceJogador, celula, 200, "Lucros ou dividendos: +200");
+            banco.getConta().paga(j.getConta(), 200, MotivoTransacao.LUCROS);
+            publicarEstado();
+            evento(EventoDeJogo.CASA_ESPECIAL, indiceJogador, celula, 200, 0);
+            for (GameObserver o : entrega) o.onSpecialCell(indiceJogador, celula, 200, "Lucros ou dividendos: +200");
         } else if (tabuleiro.isCasaImpostoRenda(celula)) {
-            boolean pagou = j.getConta().paga(banco.getConta(), 200); // TEMP: valor elevado para testes de falência
+            boolean pagou = j.getConta().paga(banco.getConta(), 200, MotivoTransacao.IMPOSTO); // TEMP: valor elevado para testes de falência
             if (!pagou) {
                 j.setFalido(true);
                 motor.verificarFalencia(j);
             }
-            for (GameObserver o : observadores) o.onSpecialCell(indiceJogador, celula, -200, "Imposto de renda: -200 (teste)");
+            publicarEstado();
+            evento(EventoDeJogo.CASA_ESPECIAL, indiceJogador, celula, -200, 0);
+            for (GameObserver o : entrega) o.onSpecialCell(indiceJogador, celula, -200, "Imposto de renda: -200 (teste)");
         }
     }
 
@@ -255,10 +394,13 @@ public int getValorCasaAqui(int indiceJogador) {
         int saldoAntes = pagador.getConta().getSaldo();
         motor.pagarAluguel(pagador, prop);
         int valorPago = Math.max(0, saldoAntes - pagador.getConta().getSaldo());
+        publicarEstado();
         if (valorPago > 0) {
             int indiceDono = indexOf(dono);
+            EventosJfr.aluguel(indicePagador, indiceDono, pagador.getPosicao(), valorPago);
             if (indiceDono >= 0) {
-                for (GameObserver o : observadores) o.onRentPaid(indicePagador, indiceDono, pagador.getPosicao(), valorPago);
+                evento(EventoDeJogo.ALUGUEL, indicePagador, indiceDono, pagador.getPosicao(), valorPago);
+                for (GameObserver o : entrega) o.onRentPaid(indicePagador, indiceDono, pagador.getPosicao(), valorPago);
             }
         }
         return valorPago;
@@ -270,7 +412,10 @@ public int getValorCasaAqui(int indiceJogador) {
         int celula = j.getPosicao();
         if (!tabuleiro.isChanceCell(celula)) return null;
         Carta c = motor.puxarSorteReves(j);
-        for (GameObserver o : observadores) {
+        EventosJfr.sorteReves(indiceJogador, celula, c);
+        publicarEstado();
+        evento(EventoDeJogo.CARTA, indiceJogador, celula, c.codigo, 0);
+        for (GameObserver o : entrega) {
             o.onChanceCard(indiceJogador, celula, c.codigo, c.tipo.name(), c.valor);
         }
         return c;
@@ -281,7 +426,10 @@ public int getValorCasaAqui(int indiceJogador) {
         Jogador j = jogadores.get(indiceJogador);
         if (!j.estaPreso() || j.getCartasLiberacao() <= 0) return;
         boolean usou = motor.usarCartaLiberacao(j);
-        if (usou) for (GameObserver o : observadores) o.onReleaseCardUsed(indiceJogador);
+        publicarEstado();
+        if (!usou) return;
+        evento(EventoDeJogo.LIBERACAO, indiceJogador, 0, 0, 0);
+        for (GameObserver o : entrega) o.onReleaseCardUsed(indiceJogador);
     }
 
     /** Notifica diffs de estado (saldo/preso/falido). */
@@ -298,11 +446,136 @@ public int getValorCasaAqui(int indiceJogador) {
         return GameStateIO.carregar(arquivo);
     }
     public static GameFacade initFromSnapshot(GameStateSnapshot snap) {
-        return carregarDeSnapshot(snap);
+        return carregarDeSnapshot(snap, DefinicaoTabuleiro.padrao());
+    }
+    /** Como {@link #initFromSnapshot(GameStateSnapshot)}, no tabuleiro {@code definicao} (o do save). */
+    public static GameFacade initFromSnapshot(GameStateSnapshot snap, DefinicaoTabuleiro definicao) {
+        return carregarDeSnapshot(snap, definicao);
+    }
+
+    // ---------- Regras de dinheiro ----------
+    /** Troca as regras de aluguel, preço de construção e bônus da saída (valem a partir da próxima ação). */
+    public void setRegras(RegrasEconomicas regras) {
+        tabuleiro.setRegras(regras);
+        motor.setRegras(regras);
+    }
+
+    public RegrasEconomicas getRegras() { return motor.getRegras(); }
+
+    /**
+     * Partida avulsa a partir de {@code snap}, <b>fora</b> do singleton: não substitui a partida da UI
+     * e não é vista por {@link #get()}. Serve para simulações em segundo plano (várias em paralelo,
+     * cada uma na sua thread); os dados e o baralho seguem de {@code semente}.
+     */
+    public static GameFacade avulsa(GameStateSnapshot snap, long semente) {
+        return avulsa(snap, semente, DefinicaoTabuleiro.padrao());
+    }
+
+    /** Como {@link #avulsa(GameStateSnapshot, long)}, no tabuleiro {@code definicao}. */
+    public static GameFacade avulsa(GameStateSnapshot snap, long semente, DefinicaoTabuleiro definicao) {
+        List<String> nomes = snap.players().stream().map(GameStateSnapshot.PlayerData::nome).toList();
+        GameFacade gf = new GameFacade(nomes, snap.ordem(), semente, definicao);
+        gf.aplicarSnapshot(snap);
+        return gf;
+    }
+
+    // ---------- Reprodutibilidade (gravação/replay) ----------
+    /** Semente com que a partida foi criada: com os mesmos nomes/ordem, {@link #init(List, List, long)} refaz o mesmo baralho e os mesmos dados. */
+    public long getSemente() { return semente; }
+
+    /** Estado atual do gerador de dados/baralho (vai nos checkpoints junto do snapshot). */
+    public long getEstadoAleatorio() { return rng.getEstado(); }
+
+    /** Foto do estado completo, a mesma do save ({@code cores} só define o índice do pino). */
+    public GameStateSnapshot capturarSnapshot(List<Color> coresJogadores) { return snapshot(coresJogadores); }
+
+    /**
+     * Volta esta partida para {@code snap} e o gerador para {@code estadoAleatorio}, mantendo os
+     * observadores registrados. Nada é notificado (a base dos diffs é refeita): quem observa
+     * deve reler o estado inteiro, como depois de {@link #retomarObservadores()}.
+     */
+    public void restaurar(GameStateSnapshot snap, long estadoAleatorio) {
+        if (snap.players().size() != jogadores.size())
+            throw new IllegalArgumentException("Checkpoint com " + snap.players().size() + " jogadores; partida tem " + jogadores.size());
+        aplicarSnapshot(snap);
+        rng.setEstado(estadoAleatorio);
+        if (eventos != null) eventos.registrarRestauracao(snapshot(null));
+    }
+
+    // ---------- Fluxo de eventos (partida hospedada) ----------
+    /**
+     * Passa a registrar o resultado de cada ação como {@link EventoDeJogo} em {@code armazem}.
+     * O fluxo precisa terminar no estado atual desta partida (criado dela ou recuperado para ela).
+     */
+    public void ativarEventos(ArmazemDeEventos armazem) {
+        if (!armazem.projecao().mesmoEstadoDe(snapshot(null)))
+            throw new IllegalArgumentException("O fluxo de eventos em " + armazem.getDiretorio() + " não termina no estado desta partida.");
+        eventos = armazem;
+    }
+
+    /** Partida reconstruída do fluxo ({@link #initFromSnapshot} da projeção), que segue gravando nele. */
+    public static GameFacade initFromEventos(ArmazemDeEventos armazem) {
+        return initFromEventos(armazem, DefinicaoTabuleiro.padrao());
+    }
+
+    /** Como {@link #initFromEventos(ArmazemDeEventos)}, no tabuleiro {@code definicao}. */
+    public static GameFacade initFromEventos(ArmazemDeEventos armazem, DefinicaoTabuleiro definicao) {
+        GameFacade gf = carregarDeSnapshot(armazem.projecao(), definicao);
+        gf.ativarEventos(armazem);
+        return gf;
+    }
+
+    /** Descarrega e fecha o fluxo de eventos (nada mais é registrado). */
+    public void encerrarEventos() throws java.io.IOException {
+        if (eventos == null) return;
+        eventos.close();
+        eventos = null;
+    }
+
+    /** Registra a resposta à oferta de compra (a compra em si vem de {@link #comprarPropriedadeAtual}). */
+    public void registrarDecisaoCompra(int indiceJogador, int celula, boolean comprou) {
+        evento(EventoDeJogo.DECISAO_COMPRA, indiceJogador, celula, comprou ? 1 : 0, 0);
+    }
+
+    /** Registra a resposta à oferta de construção ({@link EventoDeJogo.DecisaoConstrucao#NADA}, {@code CASA} ou {@code HOTEL}). */
+    public void registrarDecisaoConstrucao(int indiceJogador, int celula, int escolha) {
+        evento(EventoDeJogo.DECISAO_CONSTRUCAO, indiceJogador, celula, escolha, 0);
+    }
+
+    private void evento(int tipo, int a, int b, int c, int d) {
+        if (eventos != null) eventos.registrar(tipo, a, b, c, d);
+    }
+
+    // ---------- Livro-razão (auditoria de saldos) ----------
+    /**
+     * Passa a registrar toda movimentação de saldo (banco e jogadores) num anel fora do heap,
+     * descarregado de forma assíncrona em {@code arquivo}. O tick gravado é o turno.
+     */
+    public void ativarLivroRazao(java.io.File arquivo) throws java.io.IOException {
+        if (livro != null) return;
+        livro = new LivroRazao(LivroRazao.CAPACIDADE_PADRAO, arquivo.toPath());
+        banco.getConta().vincularLivro(livro, LivroRazao.CONTA_BANCO);
+        for (int i = 0; i < jogadores.size(); i++) jogadores.get(i).getConta().vincularLivro(livro, i);
+    }
+
+    /** Histórico de saldo reconstruído a partir do livro-razão (vazio se a auditoria estiver desligada). */
+    public List<ConsultaLivroRazao.PontoSaldo> historicoDeSaldo(int indiceJogador) throws java.io.IOException {
+        if (livro == null) return List.of();
+        livro.descarregar();
+        return ConsultaLivroRazao.historico(livro.getArquivo(), indiceJogador);
+    }
+
+    /** Descarrega e fecha o livro-razão (as contas deixam de ser auditadas). */
+    public void encerrarLivroRazao() throws java.io.IOException {
+        if (livro == null) return;
+        banco.getConta().vincularLivro(null, LivroRazao.SEM_CONTA);
+        for (Jogador j : jogadores) j.getConta().vincularLivro(null, LivroRazao.SEM_CONTA);
+        livro.close();
+        livro = null;
     }
 
     public void comprarPropriedade(int indiceJogador, int posicao) {
-        int celula = norm40(posicao);
+        int celula = norm(posicao);
         Jogador j = jogadores.get(indiceJogador);
         Propriedade antes = tabuleiro.getPropriedadeNaPosicao(celula);
         Jogador donoAntes = (antes != null ? antes.getProprietario() : null);
@@ -312,6 +585,7 @@ public int getValorCasaAqui(int indiceJogador) {
         Propriedade depois = tabuleiro.getPropriedadeNaPosicao(celula);
         Jogador donoDepois = (depois != null ? depois.getProprietario() : null);
         if (depois != null && donoDepois == j && donoDepois != donoAntes) {
+            EventosJfr.compra(indiceJogador, celula, depois.getPreco());
             notificarPropriedadeComprada(indiceJogador, celula);
         }
         detectarENotificarEstadoGlobal();
@@ -339,8 +613,10 @@ public int getValorCasaAqui(int indiceJogador) {
             temHotelDepois = t.temHotel();
         }
 
-        if (p instanceof Terreno && (casasDepois > casasAntes || (!tinhaHotelAntes && temHotelDepois))) {
-            notificarCasaConstruida(indiceJogador, celula, casasDepois);
+        if (p instanceof Terreno t && (casasDepois > casasAntes || (!tinhaHotelAntes && temHotelDepois))) {
+            EventosJfr.construcao(indiceJogador, celula, casasDepois, temHotelDepois,
+                    temHotelDepois && !tinhaHotelAntes ? t.getValorHotel() : t.getValorCasa());
+            notificarCasaConstruida(indiceJogador, celula, casasDepois, temHotelDepois);
         }
         detectarENotificarEstadoGlobal();
     }
@@ -359,19 +635,25 @@ public int getValorCasaAqui(int indiceJogador) {
         boolean temHotelDepois = p instanceof Terreno t && t.temHotel();
         int casasDepois = p instanceof Terreno t ? t.getNumCasas() : -1;
 
-        if (p instanceof Terreno && (temHotelDepois && !tinhaHotelAntes || casasDepois > casasAntes)) {
-            notificarCasaConstruida(indiceJogador, celula, casasDepois);
+        if (p instanceof Terreno t && (temHotelDepois && !tinhaHotelAntes || casasDepois > casasAntes)) {
+            EventosJfr.construcao(indiceJogador, celula, casasDepois, temHotelDepois,
+                    temHotelDepois && !tinhaHotelAntes ? t.getValorHotel() : t.getValorCasa());
+            notificarCasaConstruida(indiceJogador, celula, casasDepois, temHotelDepois);
         }
         detectarENotificarEstadoGlobal();
     }
 
     public void puxarSorteReves(int indiceJogador) {
         // Mantido para compatibilidade (ex.: testes ou botões manuais)
-        motor.puxarSorteReves(jogadores.get(indiceJogador));
+        Jogador j = jogadores.get(indiceJogador);
+        int celula = j.getPosicao();
+        Carta c = motor.puxarSorteReves(j);
+        evento(EventoDeJogo.CARTA, indiceJogador, celula, c.codigo, 0);
         detectarENotificarEstadoGlobal();
     }
     public boolean usarCartaLiberacao(int indiceJogador) {
         boolean ok = motor.usarCartaLiberacao(jogadores.get(indiceJogador));
+        if (ok) evento(EventoDeJogo.LIBERACAO, indiceJogador, 0, 0, 0);
         detectarENotificarEstadoGlobal();
         return ok;
     }
@@ -401,29 +683,65 @@ public int getValorCasaAqui(int indiceJogador) {
 
     /** Ajusta ponteiro para um jogador não falido, se necessário. */
     private void ajustarPonteiroParaJogadorAtivo() {
-        int tentativas = jogadores.size();
-        while (tentativas-- > 0 && jogadores.get(ordem.get(ponteiroDaVez)).isFalido()) {
-            ponteiroDaVez = (ponteiroDaVez + 1) % ordem.size();
+        if (jogadores.get(ordem.get(ponteiroDaVez)).isFalido()) {
+            int p = proximoAtivo(ponteiroDaVez);
+            if (p >= 0) ponteiroDaVez = p;
         }
     }
 
     private void avancarVezENotificar() {
         // avança até encontrar um não falido ou concluir que acabou
-        int vivos = 0;
-        for (Jogador j : jogadores) if (!j.isFalido()) vivos++;
         if (vivos <= 1) { notificarFimPartida(); return; }
 
-        int tentativas = jogadores.size();
-        do {
-            ponteiroDaVez = (ponteiroDaVez + 1) % ordem.size();
-            tentativas--;
-        } while (tentativas > 0 && jogadores.get(ordem.get(ponteiroDaVez)).isFalido());
+        int p = proximoAtivo((ponteiroDaVez + 1) % ordem.size());
+        if (vivos <= 1) { notificarFimPartida(); return; } // falências descobertas na rotação
+        ponteiroDaVez = p;
+        if (livro != null) livro.avancarTick();
 
         int atual = getIndiceJogadorDaVez();
-        for (GameObserver o : observadores) o.onTurnChanged(atual);
+        EventosJfr.trocaDeVez(atual, jogadores.get(atual).getPosicao(), jogadores.get(atual).getConta().getSaldo());
+        publicarEstado();
+        evento(EventoDeJogo.VEZ, ponteiroDaVez, atual, 0, 0);
+        for (GameObserver o : entrega) o.onTurnChanged(atual);
+    }
+
+    /**
+     * Primeira posição ativa a partir de {@code de} (dando a volta), ou -1 se não houver.
+     * Bits de jogadores que faliram fora do diff são limpos aqui.
+     */
+    private int proximoAtivo(int de) {
+        int p = ativos.nextSetBit(de);
+        for (;;) {
+            if (p < 0) {
+                p = ativos.nextSetBit(0);
+                if (p < 0) return -1;
+            }
+            if (!jogadores.get(ordem.get(p)).isFalido()) return p;
+            ativos.clear(p);
+            vivos--;
+            p = ativos.nextSetBit(p + 1);
+        }
+    }
+
+    /** Tira o jogador do conjunto de ativos (idempotente). */
+    private void marcarFalido(int indiceJogador) {
+        int pos = posicaoNaOrdem[indiceJogador];
+        if (ativos.get(pos)) { ativos.clear(pos); vivos--; }
+    }
+
+    /** Recalcula bitset de ativos e contagem de vivos a partir dos jogadores. */
+    private void reconstruirAtivos() {
+        posicaoNaOrdem = new int[jogadores.size()];
+        ativos.clear();
+        vivos = 0;
+        for (int pos = 0; pos < ordem.size(); pos++) {
+            int idx = ordem.get(pos);
+            posicaoNaOrdem[idx] = pos;
+            if (!jogadores.get(idx).isFalido()) { ativos.set(pos); vivos++; }
+        }
     }
 
-    private static int norm40(int v) { return ((v % 40) + 40) % 40; }
+    private int norm(int v) { return Math.floorMod(v, tabuleiro.getCasas()); }
 
     // ---------- Suporte a salvar/carregar ----------
     GameStateSnapshot snapshot(List<Color> coresJogadores) {
@@ -439,7 +757,7 @@ public int getValorCasaAqui(int indiceJogador) {
             ));
         }
         List<GameStateSnapshot.PropertyData> props = new ArrayList<>();
-        for (int pos = 0; pos < 40; pos++) {
+        for (int pos = 0; pos < tabuleiro.getCasas(); pos++) {
             Propriedade p = tabuleiro.getPropriedadeNaPosicao(pos);
             if (p == null) continue;
             int owner = -1;
@@ -449,46 +767,59 @@ public int getValorCasaAqui(int indiceJogador) {
             props.add(new GameStateSnapshot.PropertyData(pos, owner, casas, hotel));
         }
         List<Carta> deck = new ArrayList<>(tabuleiro.baralhoSorteReves);
-        return new GameStateSnapshot(banco.getSaldo(), new ArrayList<>(ordem), ponteiroDaVez, players, props, deck);
+        return new GameStateSnapshot(banco.getSaldo(), new ArrayList<>(ordem), ponteiroDaVez, players, props, deck,
+                tabuleiro.getCasas());
     }
 
-    static GameFacade carregarDeSnapshot(GameStateSnapshot snap) {
+    static GameFacade carregarDeSnapshot(GameStateSnapshot snap, DefinicaoTabuleiro definicao) {
         List<String> nomes = snap.players().stream().map(GameStateSnapshot.PlayerData::nome).toList();
-        GameFacade gf = new GameFacade(nomes, snap.ordem());
+        GameFacade gf = new GameFacade(nomes, snap.ordem(), new Random().nextLong(), definicao);
         INSTANCIA = gf;
+        gf.aplicarSnapshot(snap);
+        return gf;
+    }
 
-        gf.banco.setSaldo(snap.bancoSaldo());
-        gf.ponteiroDaVez = ((snap.ponteiro() % gf.ordem.size()) + gf.ordem.size()) % gf.ordem.size();
+    /** Sobrescreve todo o estado de jogo com {@code snap} (serve tanto para partida nova quanto para voltar no tempo). */
+    private void aplicarSnapshot(GameStateSnapshot snap) {
+        if (snap.casas() != tabuleiro.getCasas())
+            throw new IllegalArgumentException("Estado de um tabuleiro de " + snap.casas() + " casas; a partida tem " + tabuleiro.getCasas());
+        banco.setSaldo(snap.bancoSaldo());
+        if (snap.ordem().size() == ordem.size()) { ordem.clear(); ordem.addAll(snap.ordem()); }
+        ponteiroDaVez = ((snap.ponteiro() % ordem.size()) + ordem.size()) % ordem.size();
 
-        for (int i = 0; i < gf.jogadores.size(); i++) {
+        for (int i = 0; i < jogadores.size(); i++) {
             GameStateSnapshot.PlayerData p = snap.players().get(i);
-            Jogador j = gf.jogadores.get(i);
+            Jogador j = jogadores.get(i);
             j.setSaldo(p.saldo());
             j.setPosicao(p.posicao());
             j.setPreso(p.preso());
             j.setFalido(p.falido());
             j.setCartasLiberacao(p.cartasLiberacao());
-            if (p.falido()) gf.tabuleiro.removerJogador(j);
         }
+        tabuleiro.redefinirJogadoresAtivos(jogadores);
 
+        for (Propriedade p : tabuleiro.getPropriedades()) {
+            p.setProprietario(null);
+            if (p instanceof Terreno t) t.resetConstrucoes();
+        }
         for (GameStateSnapshot.PropertyData pd : snap.propriedades()) {
-            Propriedade p = gf.tabuleiro.getPropriedadeNaPosicao(pd.posicao());
+            Propriedade p = tabuleiro.getPropriedadeNaPosicao(pd.posicao());
             if (p == null) continue;
-            if (pd.ownerIndex() >= 0 && pd.ownerIndex() < gf.jogadores.size()) {
-                p.setProprietario(gf.jogadores.get(pd.ownerIndex()));
+            if (pd.ownerIndex() >= 0 && pd.ownerIndex() < jogadores.size()) {
+                p.setProprietario(jogadores.get(pd.ownerIndex()));
             }
             if (p instanceof Terreno t) {
-                t.resetConstrucoes();
                 for (int i = 0; i < pd.casas(); i++) t.adicionaCasa();
                 if (pd.hotel() == 1) t.adicionaHotel();
             }
         }
 
-        gf.tabuleiro.baralhoSorteReves.clear();
-        gf.tabuleiro.baralhoSorteReves.addAll(snap.deck());
+        tabuleiro.baralhoSorteReves.clear();
+        tabuleiro.baralhoSorteReves.addAll(snap.deck());
 
-        gf.recalcularDiffs();
-        return gf;
+        partidaEncerrada = false;
+        recalcularDiffs();
+        publicarEstado();
     }
 
     /* package */ List<Jogador> getJogadores() { return jogadores; }
@@ -499,89 +830,66 @@ public int getValorCasaAqui(int indiceJogador) {
     /* package */ void setPonteiro(int p) { this.ponteiroDaVez = ((p % ordem.size()) + ordem.size()) % ordem.size(); }
     /* package */ List<GameObserver> getObservadores() { return observadores; }
     /* package */ void recalcularDiffs() {
+        reconstruirAtivos();
         int n = jogadores.size();
-        saldoAnterior  = new ArrayList<>(Collections.nCopies(n, 0));
-        presoAnterior  = new ArrayList<>(Collections.nCopies(n, false));
-        falidoAnterior = new ArrayList<>(Collections.nCopies(n, false));
+        saldoAnterior  = new int[n];
+        presoAnterior  = new boolean[n];
+        falidoAnterior = new boolean[n];
         for (int i = 0; i < n; i++) {
-            saldoAnterior.set(i, jogadores.get(i).getConta().getSaldo());
-            presoAnterior.set(i, jogadores.get(i).estaPreso());
-            falidoAnterior.set(i, jogadores.get(i).isFalido());
+            saldoAnterior[i]  = jogadores.get(i).getConta().getSaldo();
+            presoAnterior[i]  = jogadores.get(i).estaPreso();
+            falidoAnterior[i] = jogadores.get(i).isFalido();
         }
     }
 
-    // ---------- Cadastro das propriedades ----------
-    private void cadastrarPropriedadesPadrao() {
-
-        tabuleiro.addPropriedade(new Terreno("Leblon",                     100, 50, 10,  1));
-        tabuleiro.addPropriedade(new Terreno("Av. Presidente Vargas",       60, 30,  6,  3));
-        tabuleiro.addPropriedade(new Terreno("Av. Nossa Sra. De Copacabana",60, 30,  6,  4));
-        tabuleiro.addPropriedade(new Companhia("Companhia Ferroviária",    200, 1, 25,   5));
-        tabuleiro.addPropriedade(new Terreno("Av. Brigadeiro Faria Lima",  240,120, 24,  6));
-        tabuleiro.addPropriedade(new Companhia("Companhia de Viação",      200, 1, 28,   7));
-        tabuleiro.addPropriedade(new Terreno("Av. Rebouças",               220,110, 22,  8));
-        tabuleiro.addPropriedade(new Terreno("Av. 9 de Julho",             220,110, 22,  9));
-        tabuleiro.addPropriedade(new Terreno("Av. Europa",                 200,100, 20, 11));
-        tabuleiro.addPropriedade(new Terreno("Rua Augusta",                180, 90, 18, 13));
-        tabuleiro.addPropriedade(new Terreno("Av. Pacaembú",               180, 90, 18, 14));
-        tabuleiro.addPropriedade(new Companhia("Companhia de Táxi",        150, 1, 22,  15));
-        tabuleiro.addPropriedade(new Terreno("Interlagos",                 350,175, 35, 17));
-        tabuleiro.addPropriedade(new Terreno("Morumbi",                    400,200, 40, 19));
-        tabuleiro.addPropriedade(new Terreno("Flamengo",                   120, 60, 12, 21));
-        tabuleiro.addPropriedade(new Terreno("Botafogo",                   100, 50, 10, 23));
-        tabuleiro.addPropriedade(new Companhia("Companhia de Navegação",   150, 1, 25,  25));
-        tabuleiro.addPropriedade(new Terreno("Av. Brasil",                 160, 80, 16, 26));
-        tabuleiro.addPropriedade(new Terreno("Av. Paulista",               140, 70, 14, 28));
-        tabuleiro.addPropriedade(new Terreno("Jardim Europa",              140, 70, 14, 29));
-        tabuleiro.addPropriedade(new Terreno("Copacabana",                 260,130, 26, 31));
-        tabuleiro.addPropriedade(new Companhia("Companhia de Aviação",     200, 1, 28,  32));
-        tabuleiro.addPropriedade(new Terreno("Av. Vieira Souto",           320,160, 32, 33));
-        tabuleiro.addPropriedade(new Terreno("Av. Atlântica",              300,150, 30, 34));
-        tabuleiro.addPropriedade(new Companhia("Companhia de Táxi Aéreo",  200, 1, 30,  35));
-        tabuleiro.addPropriedade(new Terreno("Ipanema",                    300,150, 30, 36));
-        tabuleiro.addPropriedade(new Terreno("Jardim Paulista",            280,140, 28, 38));
-        tabuleiro.addPropriedade(new Terreno("Brooklin",                   260,130, 26, 39));
-    }
-
-
     // ==================== Notificação agregada (diff) ====================
     private void detectarENotificarEstadoGlobal() {
+        publicarEstado(); // publica antes de notificar: observadores já leem a versão nova
         for (int i = 0; i < jogadores.size(); i++) {
             Jogador j = jogadores.get(i);
 
             int saldoAtual = j.getConta().getSaldo();
-            if (!saldoAnterior.get(i).equals(saldoAtual)) {
-                for (GameObserver o : observadores) o.onBalanceChanged(i, saldoAtual);
-                saldoAnterior.set(i, saldoAtual);
+            if (saldoAnterior[i] != saldoAtual) {
+                evento(EventoDeJogo.SALDO, i, saldoAtual, banco.getSaldo(), 0);
+                for (GameObserver o : entrega) o.onBalanceChanged(i, saldoAtual);
+                saldoAnterior[i] = saldoAtual;
             }
 
             boolean presoAtual = j.estaPreso();
-            if (!presoAnterior.get(i).equals(presoAtual)) {
-                for (GameObserver o : observadores) o.onJailStatus(i, presoAtual);
-                presoAnterior.set(i, presoAtual);
+            if (presoAnterior[i] != presoAtual) {
+                evento(EventoDeJogo.PRISAO, i, presoAtual ? 1 : 0, j.getPosicao(), 0);
+                for (GameObserver o : entrega) o.onJailStatus(i, presoAtual);
+                presoAnterior[i] = presoAtual;
             }
 
             boolean falidoAtual = j.isFalido();
-            if (falidoAtual && !falidoAnterior.get(i)) {
-                for (GameObserver o : observadores) o.onBankruptcy(i);
-                falidoAnterior.set(i, true);
+            if (falidoAtual && !falidoAnterior[i]) {
+                marcarFalido(i);
+                EventosJfr.falencia(i, saldoAtual);
+                evento(EventoDeJogo.FALENCIA, i, 0, 0, 0);
+                for (GameObserver o : entrega) o.onBankruptcy(i);
+                falidoAnterior[i] = true;
             }
         }
     }
 
+    /** Publica nova versão imutável do estado, se o modo estiver ligado. */
+    private void publicarEstado() {
+        if (!publicacaoImutavel) return;
+        publicador.publicar(jogadores, tabuleiro.getPropriedades(), tabuleiro.getPropriedadesAlteradas(), banco, getIndiceJogadorDaVez());
+    }
+
     private void notificarPropriedadeComprada(int indiceJogador, int celula) {
-        for (GameObserver o : observadores) o.onPropertyBought(indiceJogador, celula);
+        evento(EventoDeJogo.COMPRA, indiceJogador, celula, 0, 0);
+        for (GameObserver o : entrega) o.onPropertyBought(indiceJogador, celula);
     }
-    private void notificarCasaConstruida(int indiceJogador, int celula, int numeroCasas) {
-        for (GameObserver o : observadores) o.onHouseBuilt(indiceJogador, celula, numeroCasas);
+    private void notificarCasaConstruida(int indiceJogador, int celula, int numeroCasas, boolean hotel) {
+        evento(EventoDeJogo.CONSTRUCAO, indiceJogador, celula, numeroCasas, hotel ? 1 : 0);
+        for (GameObserver o : entrega) o.onHouseBuilt(indiceJogador, celula, numeroCasas);
     }
 
     /** Se restar apenas um jogador não falido, encerra a partida automaticamente. */
     private void verificarFimPorUnicoRestante() {
-        int vivo = -1, vivos = 0;
-        for (int i = 0; i < jogadores.size(); i++) {
-            if (!jogadores.get(i).isFalido()) { vivos++; vivo = i; }
-        }
         if (vivos == 1) {
             notificarFimPartida();
         }
@@ -589,6 +897,7 @@ public int getValorCasaAqui(int indiceJogador) {
 
     /** Calcula capital de cada jogador e notifica observadores com o vencedor. */
     private void notificarFimPartida() {
+        partidaEncerrada = true;
         int n = jogadores.size();
         List<Integer> capitais = new ArrayList<>(Collections.nCopies(n, 0));
         int winner = -1;
@@ -602,7 +911,8 @@ public int getValorCasaAqui(int indiceJogador) {
                 winner = i;
             }
         }
-        for (GameObserver o : observadores) o.onGameEnded(winner, capitais);
+        evento(EventoDeJogo.FIM, winner, ponteiroDaVez, 0, 0);
+        for (GameObserver o : entrega) o.onGameEnded(winner, capitais);
     }
 
     /** Capital = saldo + valor das propriedades + construções. */
@@ -610,7 +920,7 @@ public int getValorCasaAqui(int indiceJogador) {
         Jogador j = jogadores.get(indiceJogador);
         if (j.isFalido()) return 0;
         int total = j.getConta().getSaldo();
-        for (int pos = 0; pos < 40; pos++) {
+        for (int pos = 0; pos < tabuleiro.getCasas(); pos++) {
             Propriedade p = tabuleiro.getPropriedadeNaPosicao(pos);
             if (p != null && p.getProprietario() == j) {
                 total += p.getPreco();
@@ -29,33 +29,69 @@ final class GameStateIO {
     }
 
     static void salvar(GameStateSnapshot snapshot, File arquivo) throws IOException {
+        EventosJfr.Salvamento evento = new EventosJfr.Salvamento();
+        evento.begin();
+        escrever(snapshot, arquivo);
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.arquivo = arquivo.getPath();
+            evento.bytes = arquivo.length();
+            evento.commit();
+        }
+    }
+
+    private static void escrever(GameStateSnapshot snapshot, File arquivo) throws IOException {
         try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(arquivo), StandardCharsets.US_ASCII))) {
-            out.println("BANCO=" + snapshot.bancoSaldo());
-            out.println("ORDEM=" + joinIntList(snapshot.ordem()));
-            out.println("PONTEIRO=" + snapshot.ponteiro());
-            out.println("PLAYERS=" + snapshot.players().size());
-            for (GameStateSnapshot.PlayerData p : snapshot.players()) {
-                out.println("PLAYER|" + esc(p.nome()) + "|" + p.saldo() + "|" + p.posicao() + "|" +
-                        (p.preso() ? 1 : 0) + "|" + (p.falido() ? 1 : 0) + "|" + p.cartasLiberacao() + "|" +
-                        p.corIndex());
-            }
-            out.println("PROPS");
-            for (GameStateSnapshot.PropertyData p : snapshot.propriedades()) {
-                out.println("PROP|" + p.posicao() + "|" + p.ownerIndex() + "|" + p.casas() + "|" + p.hotel());
-            }
-            out.println("DECK");
-            for (Carta c : snapshot.deck()) {
-                out.println("CARD|" + c.tipo.name() + "|" + c.valor + "|" + c.codigo);
-            }
+            escrever(snapshot, out);
+        }
+    }
+
+    /** Linhas do snapshot no formato do save (também usado nos checkpoints do replay). */
+    static void escrever(GameStateSnapshot snapshot, PrintWriter out) {
+        out.println("BANCO=" + snapshot.bancoSaldo());
+        out.println("ORDEM=" + joinIntList(snapshot.ordem()));
+        out.println("PONTEIRO=" + snapshot.ponteiro());
+        if (snapshot.casas() != Tabuleiro.getNumCasas()) out.println("CASAS=" + snapshot.casas()); // save do padrão não muda
+        out.println("PLAYERS=" + snapshot.players().size());
+        for (GameStateSnapshot.PlayerData p : snapshot.players()) {
+            out.println("PLAYER|" + esc(p.nome()) + "|" + p.saldo() + "|" + p.posicao() + "|" +
+                    (p.preso() ? 1 : 0) + "|" + (p.falido() ? 1 : 0) + "|" + p.cartasLiberacao() + "|" +
+                    p.corIndex());
+        }
+        out.println("PROPS");
+        for (GameStateSnapshot.PropertyData p : snapshot.propriedades()) {
+            out.println("PROP|" + p.posicao() + "|" + p.ownerIndex() + "|" + p.casas() + "|" + p.hotel());
+        }
+        out.println("DECK");
+        for (Carta c : snapshot.deck()) {
+            out.println("CARD|" + c.tipo.name() + "|" + c.valor + "|" + c.codigo);
         }
     }
 
     static GameStateSnapshot carregar(File arquivo) throws IOException {
-        List<String> linhas = Files.readAllLines(arquivo.toPath(), StandardCharsets.US_ASCII);
+        EventosJfr.Carregamento evento = new EventosJfr.Carregamento();
+        evento.begin();
+        GameStateSnapshot snap = ler(arquivo);
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.arquivo = arquivo.getPath();
+            evento.bytes = arquivo.length();
+            evento.commit();
+        }
+        return snap;
+    }
+
+    private static GameStateSnapshot ler(File arquivo) throws IOException {
+        return ler(Files.readAllLines(arquivo.toPath(), StandardCharsets.US_ASCII));
+    }
+
+    /** Interpreta as linhas de um snapshot (arquivo de save inteiro ou bloco de checkpoint). */
+    static GameStateSnapshot ler(List<String> linhas) {
         Iterator<String> it = linhas.iterator();
         int bancoSaldo = 0;
         List<Integer> ordem = null;
         int ponteiro = 0;
+        int casas = Tabuleiro.getNumCasas();
         int nPlayers = 0;
         List<GameStateSnapshot.PlayerData> players = new ArrayList<>();
         List<GameStateSnapshot.PropertyData> props = new ArrayList<>();
@@ -67,6 +103,7 @@ final class GameStateIO {
             if (ln.startsWith("BANCO=")) { bancoSaldo = Integer.parseInt(ln.substring(6)); continue; }
             if (ln.startsWith("ORDEM=")) { ordem = parseIntList(ln.substring(6)); continue; }
             if (ln.startsWith("PONTEIRO=")) { ponteiro = Integer.parseInt(ln.substring(9)); continue; }
+            if (ln.startsWith("CASAS=")) { casas = Integer.parseInt(ln.substring(6)); continue; }
             if (ln.startsWith("PLAYERS=")) { nPlayers = Integer.parseInt(ln.substring(8)); continue; }
             if (ln.equals("PROPS")) { break; }
             if (ln.startsWith("PLAYER|")) {
@@ -113,7 +150,7 @@ final class GameStateIO {
         if (ordem.isEmpty()) {
             for (int i = 0; i < nPlayers; i++) ordem.add(i);
         }
-        return new GameStateSnapshot(bancoSaldo, ordem, ponteiro, players, props, deck);
+        return new GameStateSnapshot(bancoSaldo, ordem, ponteiro, players, props, deck, casas);
     }
 
     private static String joinIntList(List<Integer> arr) {
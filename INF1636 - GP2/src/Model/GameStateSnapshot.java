@@ -2,16 +2,40 @@ package Model;
 
 import java.util.List;
 
-/** Snapshot imutável do estado completo do jogo para salvar/carregar. */
+/**
+ * Snapshot imutável do estado completo do jogo para salvar/carregar.
+ * {@code casas} é o tamanho do tabuleiro da partida (40 no tabuleiro padrão).
+ */
 public record GameStateSnapshot(
         int bancoSaldo,
         List<Integer> ordem,
         int ponteiro,
         List<PlayerData> players,
         List<PropertyData> propriedades,
-        List<Carta> deck
+        List<Carta> deck,
+        int casas
 ) {
+    /** Snapshot de uma partida no tabuleiro padrão. */
+    public GameStateSnapshot(int bancoSaldo, List<Integer> ordem, int ponteiro, List<PlayerData> players,
+                             List<PropertyData> propriedades, List<Carta> deck) {
+        this(bancoSaldo, ordem, ponteiro, players, propriedades, deck, Tabuleiro.getNumCasas());
+    }
+
     public record PlayerData(String nome, int corIndex, int saldo, int posicao,
                              boolean preso, boolean falido, int cartasLiberacao) {}
     public record PropertyData(int posicao, int ownerIndex, int casas, int hotel) {}
+
+    /** Mesmo estado de jogo que {@code outro} (cores de pino ignoradas; cartas comparadas pelo código). */
+    public boolean mesmoEstadoDe(GameStateSnapshot outro) {
+        if (bancoSaldo != outro.bancoSaldo || ponteiro != outro.ponteiro || casas != outro.casas || !ordem.equals(outro.ordem)) return false;
+        if (!propriedades.equals(outro.propriedades) || players.size() != outro.players.size()) return false;
+        for (int i = 0; i < players.size(); i++) {
+            PlayerData p = players.get(i), q = outro.players.get(i);
+            if (p.saldo() != q.saldo() || p.posicao() != q.posicao() || p.preso() != q.preso()
+                    || p.falido() != q.falido() || p.cartasLiberacao() != q.cartasLiberacao()) return false;
+        }
+        if (deck.size() != outro.deck.size()) return false;
+        for (int i = 0; i < deck.size(); i++) if (deck.get(i).codigo != outro.deck.get(i).codigo) return false;
+        return true;
+    }
 }
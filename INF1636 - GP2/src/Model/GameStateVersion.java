@@ -0,0 +1,24 @@
+package Model;
+
+import java.util.List;
+
+/**
+ * Versão imutável do estado do jogo, publicada a cada ação concluída quando o modo
+ * de publicação está ligado ({@link GameFacade#setPublicacaoImutavel(boolean)}).
+ * <p>
+ * Leitores de outras threads (UI, autosave, métricas, bots) obtêm sempre uma visão
+ * consistente via {@link GameFacade#getEstadoPublicado()}, sem travas. Versões
+ * consecutivas compartilham as listas e registros que não mudaram.
+ * </p>
+ */
+public record GameStateVersion(
+        long versao,
+        int bancoSaldo,
+        int jogadorDaVez,
+        List<PlayerState> players,
+        List<PropertyState> propriedades
+) {
+    public record PlayerState(String nome, int saldo, int posicao, boolean preso,
+                              boolean falido, int cartasLiberacao) {}
+    public record PropertyState(int posicao, int ownerIndex, int casas, boolean hotel) {}
+}
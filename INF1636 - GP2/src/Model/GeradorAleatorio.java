@@ -0,0 +1,39 @@
+package Model;
+
+import java.util.Random;
+
+/**
+ * Gerador único da partida: embaralha o baralho de Sorte/Revés e sorteia os dados.
+ * <p>
+ * Mesmo algoritmo do {@link Random} (congruencial de 48 bits, mesma sequência de
+ * {@code new Random(semente)}), mas com o estado exposto: o replay grava o estado nos checkpoints
+ * e, ao restaurar um, os dados seguintes saem iguais aos da partida original.
+ * Só a thread do motor sorteia (com o monitor da {@link GameFacade}), então não há sincronização.
+ * </p>
+ */
+final class GeradorAleatorio extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLICADOR = 0x5DEECE66DL;
+    private static final long INCREMENTO = 0xBL;
+    private static final long MASCARA = (1L << 48) - 1;
+
+    private long estado; // atribuído pelo setSeed chamado no construtor de Random
+
+    GeradorAleatorio(long semente) { super(semente); }
+
+    @Override
+    public synchronized void setSeed(long semente) {
+        super.setSeed(semente);
+        estado = (semente ^ MULTIPLICADOR) & MASCARA;
+    }
+
+    @Override
+    protected int next(int bits) {
+        estado = (estado * MULTIPLICADOR + INCREMENTO) & MASCARA;
+        return (int) (estado >>> (48 - bits));
+    }
+
+    long getEstado() { return estado; }
+
+    void setEstado(long estado) { this.estado = estado & MASCARA; }
+}
@@ -0,0 +1,94 @@
+package Model;
+
+import java.awt.Color;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice lateral de uma gravação de partida ({@code partida.rep.idx}): checkpoints periódicos
+ * (snapshot + estado do gerador de dados) para o replay pular para perto de qualquer turno e
+ * reproduzir só o resto.
+ * <p>
+ * Texto ASCII; cada checkpoint é um cabeçalho seguido das linhas do save ({@link GameStateIO}):
+ * </p>
+ * <pre>
+ *   CHECKPOINT|turno|estadoAleatorio
+ *   BANCO=... (snapshot no formato do save)
+ *   FIM
+ * </pre>
+ * <p>
+ * Na leitura só os cabeçalhos são interpretados; o snapshot de um checkpoint é montado quando
+ * ele é pedido. Um checkpoint cortado no fim do arquivo (jogo derrubado no meio da escrita) é ignorado.
+ * </p>
+ */
+public final class IndiceDeCheckpoints {
+
+    /** Estado da partida logo depois de {@code turno} turnos jogados. */
+    public record Checkpoint(int turno, long estadoAleatorio, GameStateSnapshot snapshot) {}
+
+    private final List<String> linhas;
+    private final TreeMap<Integer, int[]> porTurno = new TreeMap<>(); // turno -> {linha do cabeçalho, linha do FIM}
+
+    private IndiceDeCheckpoints(List<String> linhas) {
+        this.linhas = linhas;
+        int inicio = -1;
+        for (int i = 0; i < linhas.size(); i++) {
+            String ln = linhas.get(i);
+            if (ln.startsWith("CHECKPOINT|")) inicio = i;
+            else if (ln.equals("FIM") && inicio >= 0) {
+                porTurno.put(Integer.parseInt(linhas.get(inicio).split("\\|")[1]), new int[]{ inicio, i });
+                inicio = -1;
+            }
+        }
+    }
+
+    /** Lê o índice inteiro (os snapshots ficam como texto até serem pedidos). */
+    public static IndiceDeCheckpoints ler(Path arquivo) throws IOException {
+        return new IndiceDeCheckpoints(Files.readAllLines(arquivo, StandardCharsets.US_ASCII));
+    }
+
+    /** Checkpoint mais recente com turno {@code <= turno}, ou {@code null} se não houver. */
+    public Checkpoint anteriorOuIgual(int turno) {
+        Map.Entry<Integer, int[]> e = porTurno.floorEntry(turno);
+        if (e == null) return null;
+        String[] cab = linhas.get(e.getValue()[0]).split("\\|");
+        GameStateSnapshot snap = GameStateIO.ler(linhas.subList(e.getValue()[0] + 1, e.getValue()[1]));
+        return new Checkpoint(e.getKey(), Long.parseLong(cab[2]), snap);
+    }
+
+    public int getQuantidade() { return porTurno.size(); }
+
+    /** Turno do último checkpoint completo (-1 se vazio). */
+    public int getUltimoTurno() { return porTurno.isEmpty() ? -1 : porTurno.lastKey(); }
+
+    // ---------- Escrita ----------
+
+    /** Acrescenta checkpoints ao fim do índice (thread do motor, com o monitor da façade). */
+    public static final class Escritor implements Closeable {
+        private final PrintWriter out;
+
+        public Escritor(Path arquivo) throws IOException {
+            BufferedWriter w = Files.newBufferedWriter(arquivo, StandardCharsets.US_ASCII);
+            this.out = new PrintWriter(w);
+        }
+
+        /** Grava o estado atual de {@code gf} como o checkpoint do fim de {@code turno}. */
+        public void gravar(int turno, GameFacade gf, List<Color> cores) {
+            out.println("CHECKPOINT|" + turno + "|" + gf.getEstadoAleatorio());
+            GameStateIO.escrever(gf.capturarSnapshot(cores), out);
+            out.println("FIM");
+        }
+
+        public void flush() { out.flush(); }
+
+        @Override public void close() { out.close(); }
+    }
+}
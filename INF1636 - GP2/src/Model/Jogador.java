@@ -2,13 +2,13 @@ package Model;
 
 /**
  * Representa um jogador: nome, conta, posição, status de prisão/falência e cartas de liberação.
- * <p>Regra: ao passar pela saída recebe $200 do banco (tratado em {@link #move}).</p>
+ * <p>Regra: ao passar pela saída recebe $200 do banco, ou o bônus das regras da partida (tratado em {@link #move}).</p>
  */
 class Jogador {
 
     private String nome;
-    private ContaBancaria conta;
-    private int posicao;              // 0..39 (o chamador deve normalizar, se necessário)
+    private final ContaBancaria conta;
+    private int posicao;              // 0..casas-1 (o chamador deve normalizar, se necessário)
     private boolean preso;
     private boolean falido;
     private int cartasLiberacao;
@@ -32,10 +32,20 @@ class Jogador {
      * @param banco banco compartilhado do jogo
      */
     public void move(int casas, Banco banco) {
+        move(casas, banco, RegrasEconomicas.PADRAO.bonusSaida());
+    }
+
+    /** Como {@link #move(int, Banco)}, recebendo {@code bonusSaida} ao passar pela saída. */
+    public void move(int casas, Banco banco, int bonusSaida) {
+        move(casas, Tabuleiro.getNumCasas(), banco, bonusSaida);
+    }
+
+    /** Como {@link #move(int, Banco, int)} num tabuleiro de {@code numCasas} casas. */
+    public void move(int casas, int numCasas, Banco banco, int bonusSaida) {
         int novaPosicao = posicao + casas;
-        if (novaPosicao >= Tabuleiro.getNumCasas()) {
-            novaPosicao %= Tabuleiro.getNumCasas();
-            banco.pagarPara(conta, 200);
+        if (novaPosicao >= numCasas) {
+            novaPosicao %= numCasas;
+            if (bonusSaida > 0) banco.pagarPara(conta, bonusSaida, MotivoTransacao.SALARIO);
         }
         this.posicao = novaPosicao;
     }
@@ -43,9 +53,12 @@ class Jogador {
     // --------- PRISÃO ---------
 
     /** Coloca o jogador na prisão e move para a casa de prisão/visita. */
-    public void prende() {
+    public void prende() { prende(Tabuleiro.getPosicaoVisitaPrisao()); }
+
+    /** Como {@link #prende()}, com a prisão na casa {@code celulaPrisao}. */
+    public void prende(int celulaPrisao) {
         this.preso = true;
-        this.posicao = Tabuleiro.getPosicaoVisitaPrisao();
+        this.posicao = celulaPrisao;
     }
 
     /** Libera o jogador da prisão (não move). */
@@ -66,7 +79,7 @@ class Jogador {
     public String getNome() { return nome; }
 
     // --------- Suporte a carregamento ---------
-    void setSaldo(int saldo) { this.conta = new ContaBancaria(saldo); }
+    void setSaldo(int saldo) { this.conta.setSaldo(saldo); }
     void setPreso(boolean preso) { this.preso = preso; }
     void setCartasLiberacao(int qtd) { this.cartasLiberacao = Math.max(0, qtd); }
 
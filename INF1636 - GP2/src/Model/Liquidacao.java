@@ -0,0 +1,54 @@
+package Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Liquidação em lote de cobranças com várias partes (ex.: carta RECEBER_DE_CADA).
+ * <p>
+ * Em vez de uma transferência e uma verificação de falência por adversário, faz todas as
+ * transferências numa única passada pelos jogadores ativos (cada uma atômica, com um registro
+ * de/para no livro-razão) e resolve todas as falências resultantes numa varredura só: uma
+ * passada pelas propriedades e uma pela lista de ativos, independentemente de quantos faliram.
+ * </p>
+ * <p>Não é thread-safe: usada pela thread do jogo, como o {@link MotorDeJogo}.</p>
+ */
+final class Liquidacao {
+
+    private final Tabuleiro tabuleiro;
+    private final List<Jogador> falidos = new ArrayList<>(); // reaproveitada entre chamadas
+
+    Liquidacao(Tabuleiro tabuleiro) {
+        this.tabuleiro = tabuleiro;
+    }
+
+    /**
+     * Cada jogador ativo (exceto o credor) paga {@code valor} ao credor; quem não tem saldo fali.
+     * @return número de jogadores que faliram
+     */
+    int receberDeCada(Jogador credor, int valor, MotivoTransacao motivo) {
+        falidos.clear();
+        for (Jogador outro : tabuleiro.getJogadoresAtivos()) {
+            if (outro == credor) continue;
+            if (!outro.getConta().paga(credor.getConta(), valor, motivo)) falidos.add(outro);
+        }
+        return liquidarFalencias(falidos);
+    }
+
+    /**
+     * Declara falência de todos os jogadores informados de uma só vez:
+     * saldo zerado, propriedades liberadas e saída do tabuleiro.
+     * @return quantidade de jogadores liquidados
+     */
+    int liquidarFalencias(List<Jogador> jogadores) {
+        if (jogadores.isEmpty()) return 0;
+        for (int i = 0; i < jogadores.size(); i++) {
+            Jogador j = jogadores.get(i);
+            j.setFalido(true);
+            j.getConta().setSaldo(0, MotivoTransacao.FALENCIA); // capital zerado para ranking
+        }
+        tabuleiro.limparPropriedadesDeFalidos();
+        tabuleiro.removerFalidos();
+        return jogadores.size();
+    }
+}
@@ -0,0 +1,177 @@
+package Model;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Livro-razão das movimentações de saldo, gravado num anel pré-alocado fora do heap.
+ * <p>
+ * Cada chamada a {@link ContaBancaria#paga}, {@code depositar}, {@code sacar} ou {@code setSaldo}
+ * de uma conta vinculada vira um registro de largura fixa ({@value #TAM_REGISTRO} bytes):
+ * </p>
+ * <pre>
+ *   0  long  carimbo (seq + 1; marca o registro como completo)
+ *   8  int   tick    (turno corrente)
+ *  12  int   de      (índice do jogador, {@link #CONTA_BANCO} ou {@link #SEM_CONTA})
+ *  16  int   para
+ *  20  int   valor
+ *  24  int   motivo  ({@link MotivoTransacao#codigo})
+ *  28  int   (reservado)
+ * </pre>
+ * <p>
+ * Gravar é só reservar uma posição com um incremento atômico e escrever no buffer direto
+ * (sem alocação, sem trava). Uma thread de descarga copia os registros completos para o
+ * arquivo assim que metade do anel enche; só se o anel lotar antes disso o escritor espera.
+ * Com {@code arquivo == null} os registros descarregados são descartados (útil para medir custo).
+ * </p>
+ */
+final class LivroRazao implements AutoCloseable {
+
+    static final int TAM_REGISTRO = 32;
+    static final int CONTA_BANCO = -1;
+    static final int SEM_CONTA = -2;
+    static final int CAPACIDADE_PADRAO = 1 << 16; // 64K registros = 2 MiB
+
+    private static final VarHandle CARIMBO =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer anel;
+    private final int capacidade;
+    private final long mascara;
+    private final long metade;
+    private final FileChannel canal;
+    private final Path arquivo;
+    private final Thread descarregador;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private volatile long drenado;
+    private volatile boolean fechado;
+    private volatile int tick;
+
+    /**
+     * @param capacidade número de registros no anel (potência de 2)
+     * @param arquivo    destino da descarga (truncado) ou {@code null} para descartar
+     */
+    LivroRazao(int capacidade, Path arquivo) throws IOException {
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1)
+            throw new IllegalArgumentException("capacidade deve ser potência de 2: " + capacidade);
+        this.capacidade = capacidade;
+        this.mascara = capacidade - 1;
+        this.metade = capacidade / 2;
+        this.anel = ByteBuffer.allocateDirect(capacidade * TAM_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+        this.arquivo = arquivo;
+        this.canal = (arquivo == null) ? null : FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.descarregador = new Thread(this::lacoDeDescarga, "livro-razao-descarga");
+        this.descarregador.setDaemon(true);
+        this.descarregador.start();
+    }
+
+    /** Arquivo de descarga (ou {@code null}). */
+    Path getArquivo() { return arquivo; }
+
+    /** Tick gravado nos próximos registros. */
+    void setTick(int tick) { this.tick = tick; }
+    void avancarTick() { this.tick++; }
+
+    /** Total de registros gravados até agora. */
+    long getTotalRegistros() { return cursor.get(); }
+
+    /** Grava uma movimentação. Caminho quente: sem alocação e sem trava. */
+    void registrar(int de, int para, int valor, MotivoTransacao motivo) {
+        long seq = cursor.getAndIncrement();
+        if (seq - drenado >= capacidade) esperarEspaco(seq);
+
+        int base = (int) ((seq & mascara) * TAM_REGISTRO);
+        anel.putInt(base + 8, tick);
+        anel.putInt(base + 12, de);
+        anel.putInt(base + 16, para);
+        anel.putInt(base + 20, valor);
+        anel.putInt(base + 24, motivo.codigo);
+        CARIMBO.setRelease(anel, base, seq + 1);
+
+        if ((seq & (metade - 1)) == metade - 1) LockSupport.unpark(descarregador);
+    }
+
+    /** Garante que tudo o que já foi gravado chegou ao arquivo. */
+    void descarregar() throws IOException {
+        long alvo = cursor.get();
+        while (drenado < alvo) {
+            if (!descarregador.isAlive()) throw new IOException("descarga do livro-razão interrompida");
+            LockSupport.unpark(descarregador);
+            LockSupport.parkNanos(100_000);
+        }
+        if (canal != null) canal.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        descarregar();
+        fechado = true;
+        LockSupport.unpark(descarregador);
+        try {
+            descarregador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (canal != null) canal.close();
+    }
+
+    // ---------- Descarga assíncrona ----------
+
+    private void esperarEspaco(long seq) {
+        while (seq - drenado >= capacidade) {
+            LockSupport.unpark(descarregador);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void lacoDeDescarga() {
+        try {
+            while (!fechado) {
+                LockSupport.parkNanos(this, 50_000_000L);
+                drenar();
+            }
+            drenar();
+        } catch (IOException e) {
+            fechado = true; // descarregar() detecta a thread morta
+        }
+    }
+
+    /** Copia para o arquivo o maior prefixo contíguo de registros completos. */
+    private void drenar() throws IOException {
+        long de = drenado;
+        long ate = de;
+        long limite = cursor.get();
+        while (ate < limite && (long) CARIMBO.getAcquire(anel, (int) ((ate & mascara) * TAM_REGISTRO)) == ate + 1) {
+            ate++;
+        }
+        if (ate == de) return;
+        if (canal != null) {
+            int ini = (int) (de & mascara);
+            int fim = (int) (ate & mascara);
+            if (ini < fim) {
+                escreverTrecho(ini, fim);
+            } else { // dá a volta no anel (ou anel inteiro)
+                escreverTrecho(ini, capacidade);
+                escreverTrecho(0, fim);
+            }
+        }
+        drenado = ate;
+    }
+
+    private void escreverTrecho(int deRegistro, int ateRegistro) throws IOException {
+        if (ateRegistro <= deRegistro) return;
+        ByteBuffer trecho = anel.duplicate();
+        trecho.limit(ateRegistro * TAM_REGISTRO).position(deRegistro * TAM_REGISTRO);
+        while (trecho.hasRemaining()) canal.write(trecho);
+    }
+}
@@ -0,0 +1,72 @@
+package Model;
+
+/**
+ * Frequência de cada casa do tabuleiro: quantas vezes um peão parou nela e quanto aluguel ela rendeu.
+ * <p>
+ * Registrado como coletor ({@link GameFacade#addColetor}) conta a partida em curso, inclusive o
+ * avanço rápido; nas simulações, um mapa por partida simulada, somados no fim ({@link #somar}).
+ * Não é thread-safe: os callbacks chegam com o monitor da partida e a leitura deve ser feita com ele
+ * (ex.: num callback entregue pelo {@code EdtObserver}).
+ * </p>
+ */
+public final class MapaDeCalor implements GameObserver {
+
+    /** O que o mapa mede em cada casa. */
+    public enum Medida { VISITAS, ALUGUEL }
+
+    /** Casas do tabuleiro padrão. */
+    public static final int CASAS = 40;
+
+    private final long[] visitas;
+    private final long[] aluguel;
+    private long turnos;
+
+    /** Mapa do tabuleiro padrão. */
+    public MapaDeCalor() { this(CASAS); }
+
+    /** Mapa de um tabuleiro de {@code casas} casas ({@link GameFacade#getNumCasas()}). */
+    public MapaDeCalor(int casas) {
+        visitas = new long[casas];
+        aluguel = new long[casas];
+    }
+
+    @Override
+    public void onMoved(int playerIndex, int fromCell, int toCell) {
+        visitas[Math.floorMod(toCell, visitas.length)]++;
+    }
+
+    @Override
+    public void onRentPaid(int payerIndex, int ownerIndex, int cell, int amount) {
+        aluguel[Math.floorMod(cell, aluguel.length)] += amount;
+    }
+
+    @Override
+    public void onTurnChanged(int currentPlayerIndex) { turnos++; }
+
+    /** Cópia dos valores por casa (índice = casa). */
+    public long[] valores(Medida m) {
+        return (m == Medida.VISITAS ? visitas : aluguel).clone();
+    }
+
+    /** Trocas de vez contadas. */
+    public long getTurnos() { return turnos; }
+
+    /** Acumula {@code outro} neste mapa (junção das simulações). */
+    public MapaDeCalor somar(MapaDeCalor outro) {
+        if (outro.visitas.length != visitas.length)
+            throw new IllegalArgumentException("Mapas de tabuleiros diferentes (" + visitas.length + " e " + outro.visitas.length + " casas)");
+        for (int i = 0; i < visitas.length; i++) {
+            visitas[i] += outro.visitas[i];
+            aluguel[i] += outro.aluguel[i];
+        }
+        turnos += outro.turnos;
+        return this;
+    }
+
+    /** Zera as contagens (ex.: partida carregada). */
+    public void limpar() {
+        java.util.Arrays.fill(visitas, 0);
+        java.util.Arrays.fill(aluguel, 0);
+        turnos = 0;
+    }
+}
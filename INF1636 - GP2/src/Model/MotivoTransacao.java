@@ -0,0 +1,29 @@
+package Model;
+
+/**
+ * Motivo de uma movimentação de saldo, gravado como código no {@link LivroRazao}.
+ * <p>Os códigos são fixos (fazem parte do formato do arquivo); não reordenar.</p>
+ */
+enum MotivoTransacao {
+    OUTRO(0),
+    ABERTURA(1),    // saldo existente quando a conta passa a ser auditada
+    SALARIO(2),     // passar pela saída
+    ALUGUEL(3),
+    COMPRA(4),
+    CONSTRUCAO(5),
+    CARTA(6),       // Sorte/Revés
+    IMPOSTO(7),
+    LUCROS(8),
+    FALENCIA(9),    // saldo zerado na falência
+    AJUSTE(10);     // saldo definido diretamente (ex.: carregar partida)
+
+    final int codigo;
+
+    MotivoTransacao(int codigo) { this.codigo = codigo; }
+
+    /** Motivo a partir do código gravado (desconhecido vira {@link #OUTRO}). */
+    static MotivoTransacao deCodigo(int codigo) {
+        for (MotivoTransacao m : values()) if (m.codigo == codigo) return m;
+        return OUTRO;
+    }
+}
@@ -13,13 +13,22 @@ public class MotorDeJogo {
 
     private final Banco banco;
     private final Tabuleiro tabuleiro;
-    private final Random rng = new Random(); // reuso
+    private final Random rng; // reuso; o da partida quando vem da façade (dados reproduzíveis)
+    private final Liquidacao liquidacao;
+    private RegrasEconomicas regras = RegrasEconomicas.PADRAO; // bônus da saída (aluguel/preços ficam nas propriedades)
 
-    public MotorDeJogo(Banco banco, Tabuleiro tabuleiro) {
+    public MotorDeJogo(Banco banco, Tabuleiro tabuleiro) { this(banco, tabuleiro, new Random()); }
+
+    public MotorDeJogo(Banco banco, Tabuleiro tabuleiro, Random rng) {
+        this.rng = rng;
         this.banco = banco;
         this.tabuleiro = tabuleiro;
+        this.liquidacao = new Liquidacao(tabuleiro);
     }
 
+    public RegrasEconomicas getRegras() { return regras; }
+    public void setRegras(RegrasEconomicas regras) { this.regras = regras; }
+
     /** LanAa dois dados de 6 faces. */
     public List<Integer> lancarDados() {
         List<Integer> dados = new ArrayList<>(2);
@@ -28,6 +37,9 @@ public class MotorDeJogo {
         return dados;
     }
 
+    /** Lança um dado de 6 faces (sem alocar; o turno sem interface usa este). */
+    public int lancarDado() { return rng.nextInt(6) + 1; }
+
     /** Verifica dupla (mesmo valor nos 2 dados). */
     private static boolean ehDupla(List<Integer> dados) {
         return dados != null && dados.size() >= 2
@@ -46,8 +58,14 @@ public class MotorDeJogo {
 
         int somaDados = 0;
         for (Integer d : dados) if (d != null) somaDados += d;
+        moverJogador(jogador, somaDados);
+    }
+
+    /** Mesmo que {@link #moverJogador(Jogador, List)} com os dois dados já somados. */
+    public void moverJogador(Jogador jogador, int somaDados) {
+        if (jogador == null || jogador.estaPreso()) return;
 
-        jogador.move(somaDados, banco);
+        jogador.move(somaDados, tabuleiro.getCasas(), banco, regras.bonusSaida());
         verificarPrisao(jogador);
         if (jogador.estaPreso()) return;
 
@@ -59,7 +77,7 @@ public class MotorDeJogo {
     /** Compra propriedade sem dono. */
     public void comprarPropriedade(Jogador jogador, Propriedade propriedade) {
         if (propriedade.estaDisponivel()) {
-            boolean pagou = jogador.getConta().paga(banco.getConta(), propriedade.getPreco());
+            boolean pagou = jogador.getConta().paga(banco.getConta(), propriedade.getPreco(), MotivoTransacao.COMPRA);
             if (pagou) propriedade.setProprietario(jogador);
             else verificarFalencia(jogador);
         }
@@ -73,7 +91,7 @@ public class MotorDeJogo {
         if (propriedade instanceof Terreno terreno) {
             if (terreno.getProprietario() != jogador || !terreno.podeConstruirCasa()) return;
 
-            boolean pagou = jogador.getConta().paga(banco.getConta(), terreno.getValorCasa());
+            boolean pagou = jogador.getConta().paga(banco.getConta(), terreno.getValorCasa(), MotivoTransacao.CONSTRUCAO);
             if (pagou) {
                 terreno.adicionaCasa();
             } else {
@@ -90,7 +108,7 @@ public class MotorDeJogo {
         if (propriedade instanceof Terreno terreno) {
             if (terreno.getProprietario() != jogador || !terreno.podeConstruirHotel()) return;
 
-            boolean pagou = jogador.getConta().paga(banco.getConta(), terreno.getValorHotel());
+            boolean pagou = jogador.getConta().paga(banco.getConta(), terreno.getValorHotel(), MotivoTransacao.CONSTRUCAO);
             if (pagou) {
                 terreno.adicionaHotel();
             } else {
@@ -117,7 +135,7 @@ public class MotorDeJogo {
             valorAPagar = propriedade.calculaAluguel();
         }
 
-        boolean pagou = jogador.getConta().paga(dono.getConta(), valorAPagar);
+        boolean pagou = jogador.getConta().paga(dono.getConta(), valorAPagar, MotivoTransacao.ALUGUEL);
         if (!pagou) {
             // sinalizamos falA�ncia sem forAar saldo negativo
             jogador.setFalido(true);
@@ -128,7 +146,7 @@ public class MotorDeJogo {
     /** Checa casa "va para a prisao". */
     public void verificarPrisao(Jogador jogador) {
         if (jogador == null) return;
-        if (tabuleiro.isCasaPrisao(jogador.getPosicao())) jogador.prende();
+        if (tabuleiro.isCasaPrisao(jogador.getPosicao())) jogador.prende(tabuleiro.getCelulaPrisao());
     }
 
     /** Se estiver preso, sai com dupla. */
@@ -138,25 +156,26 @@ public class MotorDeJogo {
         return false;
     }
 
+    /** Mesmo que {@link #soltarSeDupla(Jogador, List)} com os dados soltos. */
+    public boolean soltarSeDupla(Jogador jogador, int d1, int d2) {
+        if (jogador == null || !jogador.estaPreso()) return false;
+        if (d1 == d2) { jogador.solta(); return true; }
+        return false;
+    }
+
     /** Puxa carta, aplica o efeito e retorna a carta sorteada. */
     public Carta puxarSorteReves(Jogador j) {
         Carta c = tabuleiro.comprarCartaSorteReves();
         switch (c.tipo) {
-            case VAI_PARA_PRISAO -> j.prende();
+            case VAI_PARA_PRISAO -> j.prende(tabuleiro.getCelulaPrisao());
             case SAIDA_LIVRE     -> j.adicionarCartaLiberacao();
             case PAGAR           -> {
-                boolean pagou = j.getConta().paga(banco.getConta(), c.valor);
+                boolean pagou = j.getConta().paga(banco.getConta(), c.valor, MotivoTransacao.CARTA);
                 if (!pagou) j.setFalido(true);
                 verificarFalencia(j);
             }
-            case RECEBER         -> banco.getConta().paga(j.getConta(), c.valor);
-            case RECEBER_DE_CADA -> {
-                for (Jogador outro : new ArrayList<>(tabuleiro.getJogadoresAtivos())) {
-                    if (outro == j) continue;
-                    boolean ok = outro.getConta().paga(j.getConta(), c.valor);
-                    if (!ok) { outro.setFalido(true); verificarFalencia(outro); }
-                }
-            }
+            case RECEBER         -> banco.getConta().paga(j.getConta(), c.valor, MotivoTransacao.CARTA);
+            case RECEBER_DE_CADA -> liquidacao.receberDeCada(j, c.valor, MotivoTransacao.CARTA);
         }
         return c;
     }
@@ -178,7 +197,7 @@ public class MotorDeJogo {
     public boolean verificarFalencia(Jogador jogador) {
         if (jogador.getConta().getSaldo() < 0 || jogador.isFalido()) {
             jogador.setFalido(true);
-            jogador.getConta().setSaldo(0); // capital zerado para ranking
+            jogador.getConta().setSaldo(0, MotivoTransacao.FALENCIA); // capital zerado para ranking
             tabuleiro.limparPropriedadesDe(jogador);
             tabuleiro.removerJogador(jogador);
             return true;
@@ -0,0 +1,199 @@
+package Model;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envelope que a {@link GameFacade} põe em volta de cada observador registrado: cronometra cada
+ * callback e, se a chamada passar do orçamento, marca o observador como lento.
+ * <p>
+ * Com a política {@code isolar} ligada, o observador que estourar o orçamento passa a receber os
+ * eventos por uma fila limitada, esvaziada por uma thread só dele: quem notifica (o motor) só paga
+ * o enfileiramento. Fila cheia = evento descartado (contado); exceção no callback da fila = falha
+ * (contada, a fila segue). A ordem dos eventos é mantida. Nada é impresso: quem quiser saber
+ * consulta {@link GameFacade#getEstatisticasObservadores()}.
+ * Callbacks entregues pela fila rodam fora do monitor da façade; o observador que ler o jogo
+ * deve sincronizar na façade, como o {@code EdtObserver} faz.
+ * </p>
+ */
+final class ObservadorMonitorado implements GameObserver {
+
+    /** Política compartilhada por todos os envelopes de uma façade. */
+    static final class Politica {
+        volatile long orcamentoNanos;
+        volatile boolean isolar;
+        volatile int capacidadeFila;
+
+        Politica(long orcamentoNanos, boolean isolar, int capacidadeFila) {
+            this.orcamentoNanos = orcamentoNanos;
+            this.isolar = isolar;
+            this.capacidadeFila = capacidadeFila;
+        }
+    }
+
+    private record Evento(String nome, Runnable acao, long enfileiradoEm) {}
+
+    final GameObserver alvo;
+    private final Politica politica;
+
+    private final AtomicLong chamadas = new AtomicLong(), nanosTotal = new AtomicLong(), lentas = new AtomicLong();
+    private final AtomicLong enfileirados = new AtomicLong(), descartados = new AtomicLong(), falhas = new AtomicLong();
+    private volatile long nanosMax, esperaMaxNanos;
+    private volatile String callbackMaisLento = "-";
+
+    private volatile BlockingQueue<Evento> fila; // != null: isolado
+    private volatile Thread entregador;
+
+    ObservadorMonitorado(GameObserver alvo, Politica politica) {
+        this.alvo = alvo;
+        this.politica = politica;
+    }
+
+    EstatisticaObservador estatistica() {
+        BlockingQueue<Evento> f = fila;
+        return new EstatisticaObservador(alvo.getClass().getName(), chamadas.get(), nanosTotal.get(), nanosMax,
+                callbackMaisLento, lentas.get(), f != null, enfileirados.get(), descartados.get(),
+                falhas.get(), f != null ? f.size() : 0, esperaMaxNanos);
+    }
+
+    /** Para a thread da fila própria (observador removido). */
+    void encerrar() {
+        Thread t = entregador;
+        if (t != null) t.interrupt();
+    }
+
+    // ---------- Entrega ----------
+    // Cada callback chama o alvo direto; só o modo isolado cria o Runnable (a entrega síncrona não aloca).
+
+    private boolean isolado() { return fila != null; }
+
+    private void enfileirar(String nome, Runnable acao, long t0) {
+        if (fila.offer(new Evento(nome, acao, t0))) enfileirados.incrementAndGet();
+        else descartados.incrementAndGet();
+    }
+
+    private void registrar(String nome, long dt) {
+        chamadas.incrementAndGet();
+        nanosTotal.addAndGet(dt);
+        if (dt > nanosMax) { nanosMax = dt; callbackMaisLento = nome; }
+        if (dt <= politica.orcamentoNanos) return;
+        lentas.incrementAndGet();
+        if (politica.isolar && fila == null) isolar();
+    }
+
+    private synchronized void isolar() {
+        if (fila != null) return;
+        BlockingQueue<Evento> f = new ArrayBlockingQueue<>(Math.max(1, politica.capacidadeFila));
+        Thread t = new Thread(() -> drenar(f), "observador-isolado-" + alvo.getClass().getSimpleName());
+        t.setDaemon(true);
+        entregador = t;
+        t.start();
+        fila = f;
+    }
+
+    private void drenar(BlockingQueue<Evento> f) {
+        try {
+            for (;;) {
+                Evento e = f.take();
+                long espera = System.nanoTime() - e.enfileiradoEm();
+                if (espera > esperaMaxNanos) esperaMaxNanos = espera;
+                try {
+                    e.acao().run();
+                } catch (RuntimeException ex) { // não derruba a thread da fila
+                    falhas.incrementAndGet();
+                }
+            }
+        } catch (InterruptedException fim) {
+            // removido
+        }
+    }
+
+    // ---------- Callbacks ----------
+
+    @Override public void onDice(int d1, int d2) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onDice(d1, d2); else enfileirar("onDice", () -> alvo.onDice(d1, d2), t0);
+        registrar("onDice", System.nanoTime() - t0);
+    }
+
+    @Override public void onMoved(int j, int de, int para) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onMoved(j, de, para); else enfileirar("onMoved", () -> alvo.onMoved(j, de, para), t0);
+        registrar("onMoved", System.nanoTime() - t0);
+    }
+
+    @Override public void onTurnChanged(int atual) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onTurnChanged(atual); else enfileirar("onTurnChanged", () -> alvo.onTurnChanged(atual), t0);
+        registrar("onTurnChanged", System.nanoTime() - t0);
+    }
+
+    @Override public void onBalanceChanged(int j, int saldo) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onBalanceChanged(j, saldo);
+        else enfileirar("onBalanceChanged", () -> alvo.onBalanceChanged(j, saldo), t0);
+        registrar("onBalanceChanged", System.nanoTime() - t0);
+    }
+
+    @Override public void onPropertyBought(int j, int celula) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onPropertyBought(j, celula);
+        else enfileirar("onPropertyBought", () -> alvo.onPropertyBought(j, celula), t0);
+        registrar("onPropertyBought", System.nanoTime() - t0);
+    }
+
+    @Override public void onHouseBuilt(int j, int celula, int casas) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onHouseBuilt(j, celula, casas);
+        else enfileirar("onHouseBuilt", () -> alvo.onHouseBuilt(j, celula, casas), t0);
+        registrar("onHouseBuilt", System.nanoTime() - t0);
+    }
+
+    @Override public void onJailStatus(int j, boolean preso) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onJailStatus(j, preso); else enfileirar("onJailStatus", () -> alvo.onJailStatus(j, preso), t0);
+        registrar("onJailStatus", System.nanoTime() - t0);
+    }
+
+    @Override public void onBankruptcy(int j) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onBankruptcy(j); else enfileirar("onBankruptcy", () -> alvo.onBankruptcy(j), t0);
+        registrar("onBankruptcy", System.nanoTime() - t0);
+    }
+
+    @Override public void onRentPaid(int pagador, int dono, int celula, int valor) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onRentPaid(pagador, dono, celula, valor);
+        else enfileirar("onRentPaid", () -> alvo.onRentPaid(pagador, dono, celula, valor), t0);
+        registrar("onRentPaid", System.nanoTime() - t0);
+    }
+
+    @Override public void onChanceCard(int j, int celula, int numero, String tipo, int valor) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onChanceCard(j, celula, numero, tipo, valor);
+        else enfileirar("onChanceCard", () -> alvo.onChanceCard(j, celula, numero, tipo, valor), t0);
+        registrar("onChanceCard", System.nanoTime() - t0);
+    }
+
+    @Override public void onSpecialCell(int j, int celula, int valor, String descricao) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onSpecialCell(j, celula, valor, descricao);
+        else enfileirar("onSpecialCell", () -> alvo.onSpecialCell(j, celula, valor, descricao), t0);
+        registrar("onSpecialCell", System.nanoTime() - t0);
+    }
+
+    @Override public void onReleaseCardUsed(int j) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onReleaseCardUsed(j); else enfileirar("onReleaseCardUsed", () -> alvo.onReleaseCardUsed(j), t0);
+        registrar("onReleaseCardUsed", System.nanoTime() - t0);
+    }
+
+    @Override public void onGameEnded(int vencedor, List<Integer> capitais) {
+        long t0 = System.nanoTime();
+        if (!isolado()) alvo.onGameEnded(vencedor, capitais);
+        else { List<Integer> copia = List.copyOf(capitais); enfileirar("onGameEnded", () -> alvo.onGameEnded(vencedor, copia), t0); } // entregue depois
+        registrar("onGameEnded", System.nanoTime() - t0);
+    }
+}
@@ -0,0 +1,206 @@
+package Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Projeção do estado da partida a partir de um fluxo de {@link EventoDeJogo}: começa de um
+ * {@link GameStateSnapshot} e aplica os eventos em ordem.
+ * <p>
+ * Feita para reconstruir rápido: estado em arrays primitivos, baralho num anel de códigos, cada
+ * evento aplicado em O(1) (falência percorre as casas do tabuleiro) e sem alocar nada; o snapshot só é
+ * montado quando pedido ({@link #capturar()}). Não é thread-safe.
+ * </p>
+ * <p>
+ * A projeção confere o que dá para conferir (jogador/célula válidos, carta puxada = topo do
+ * baralho); um fluxo que não bate com ela gera {@link IllegalStateException} com o número do evento.
+ * </p>
+ */
+public final class ProjetorDeEstado {
+
+    private static final int CODIGO_SAIDA_LIVRE = 9;
+
+    // nomes/pinos vêm da base e não mudam com eventos
+    private String[] nomes;
+    private int[] corIndex;
+    private List<Integer> ordem;
+
+    private int bancoSaldo;
+    private int ponteiro;
+    private int[] saldo, posicao, cartasLiberacao;
+    private boolean[] preso, falido;
+
+    // por casa do tabuleiro (tamanho vem da base)
+    private boolean[] temPropriedade;
+    private int[] dono;
+    private int[] casas;
+    private boolean[] hotel;
+
+    // baralho: anel de códigos (topo = inicio); cartas por código para montar o snapshot
+    private final int[] baralho = new int[64];
+    private int inicio, tamanho;
+    private final Carta[] cartaPorCodigo = new Carta[64];
+
+    private long aplicados;
+    private final int[] campos = new int[4];
+
+    public ProjetorDeEstado(GameStateSnapshot base) {
+        restaurar(base);
+        aplicados = 0;
+    }
+
+    /** Eventos aplicados desde a base. */
+    public long getEventosAplicados() { return aplicados; }
+
+    // ---------- Aplicação ----------
+
+    /** Aplica um evento tipado. */
+    public void aplicar(EventoDeJogo e) {
+        if (e instanceof EventoDeJogo.EstadoRestaurado r) {
+            restaurar(r.estado());
+            aplicados++;
+            return;
+        }
+        e.campos(campos);
+        aplicar(e.tipo(), campos[0], campos[1], campos[2], campos[3]);
+    }
+
+    /** Aplica um evento na forma compacta (caminho da reconstrução; não aloca). */
+    void aplicar(int tipo, int a, int b, int c, int d) {
+        switch (tipo) {
+            case EventoDeJogo.MOVIDO -> posicao[jogador(a)] = celula(c);
+            case EventoDeJogo.SALDO -> { saldo[jogador(a)] = b; bancoSaldo = c; }
+            case EventoDeJogo.PRISAO -> { preso[jogador(a)] = b != 0; posicao[a] = celula(c); }
+            case EventoDeJogo.COMPRA -> dono[propriedade(b)] = jogador(a);
+            case EventoDeJogo.CONSTRUCAO -> { casas[propriedade(b)] = c; hotel[b] = d != 0; }
+            case EventoDeJogo.FALENCIA -> {
+                falido[jogador(a)] = true;
+                saldo[a] = 0;
+                for (int i = 0; i < dono.length; i++) if (dono[i] == a) dono[i] = -1;
+            }
+            case EventoDeJogo.CARTA -> puxar(jogador(a), c);
+            case EventoDeJogo.LIBERACAO -> {
+                if (cartasLiberacao[jogador(a)] <= 0) inconsistente("jogador " + a + " sem carta de saída livre");
+                cartasLiberacao[a]--;
+                devolver(CODIGO_SAIDA_LIVRE);
+            }
+            case EventoDeJogo.VEZ -> ponteiro = posicaoNaOrdem(a);
+            case EventoDeJogo.FIM -> ponteiro = posicaoNaOrdem(b);
+            case EventoDeJogo.DADOS, EventoDeJogo.ALUGUEL, EventoDeJogo.CASA_ESPECIAL,
+                 EventoDeJogo.DECISAO_COMPRA, EventoDeJogo.DECISAO_CONSTRUCAO -> { } // informativos
+            default -> inconsistente("tipo de evento desconhecido " + tipo);
+        }
+        aplicados++;
+    }
+
+    private void puxar(int j, int codigo) {
+        if (tamanho == 0 || baralho[inicio] != codigo)
+            inconsistente("carta " + codigo + " puxada, topo do baralho é " + (tamanho == 0 ? "nenhuma" : baralho[inicio]));
+        inicio = (inicio + 1) & (baralho.length - 1);
+        tamanho--;
+        if (cartaPorCodigo[codigo].isSaidaLivre()) cartasLiberacao[j]++;
+        else devolver(codigo);
+    }
+
+    private void devolver(int codigo) {
+        if (tamanho == baralho.length) inconsistente("baralho com mais de " + baralho.length + " cartas");
+        if (cartaPorCodigo[codigo] == null) cartaPorCodigo[codigo] = Carta.saidaLivre(codigo);
+        baralho[(inicio + tamanho) & (baralho.length - 1)] = codigo;
+        tamanho++;
+    }
+
+    /** Volta ao estado de {@code snap} (base ou {@link EventoDeJogo.EstadoRestaurado}); pinos da base ficam. */
+    void restaurar(GameStateSnapshot snap) {
+        int n = snap.players().size();
+        if (nomes == null) {
+            nomes = new String[n];
+            corIndex = new int[n];
+            for (int i = 0; i < n; i++) {
+                nomes[i] = snap.players().get(i).nome();
+                corIndex[i] = snap.players().get(i).corIndex();
+            }
+            saldo = new int[n]; posicao = new int[n]; cartasLiberacao = new int[n];
+            preso = new boolean[n]; falido = new boolean[n];
+            temPropriedade = new boolean[snap.casas()];
+            dono = new int[snap.casas()];
+            casas = new int[snap.casas()];
+            hotel = new boolean[snap.casas()];
+        } else if (n != nomes.length) {
+            inconsistente("estado restaurado com " + n + " jogadores; a partida tem " + nomes.length);
+        } else if (snap.casas() != dono.length) {
+            inconsistente("estado restaurado com " + snap.casas() + " casas; o tabuleiro tem " + dono.length);
+        }
+        ordem = List.copyOf(snap.ordem());
+        bancoSaldo = snap.bancoSaldo();
+        ponteiro = snap.ponteiro();
+        for (int i = 0; i < n; i++) {
+            GameStateSnapshot.PlayerData p = snap.players().get(i);
+            saldo[i] = p.saldo();
+            posicao[i] = p.posicao();
+            preso[i] = p.preso();
+            falido[i] = p.falido();
+            cartasLiberacao[i] = p.cartasLiberacao();
+        }
+        Arrays.fill(temPropriedade, false);
+        Arrays.fill(dono, -1);
+        Arrays.fill(casas, 0);
+        Arrays.fill(hotel, false);
+        for (GameStateSnapshot.PropertyData pd : snap.propriedades()) {
+            temPropriedade[pd.posicao()] = true;
+            dono[pd.posicao()] = pd.ownerIndex();
+            casas[pd.posicao()] = pd.casas();
+            hotel[pd.posicao()] = pd.hotel() == 1;
+        }
+        inicio = 0;
+        tamanho = 0;
+        for (Carta c : snap.deck()) {
+            cartaPorCodigo[c.codigo] = c;
+            baralho[tamanho++] = c.codigo;
+        }
+    }
+
+    // ---------- Saída ----------
+
+    /** Snapshot do estado projetado (mesmo formato do save). */
+    public GameStateSnapshot capturar() {
+        List<GameStateSnapshot.PlayerData> players = new ArrayList<>(nomes.length);
+        for (int i = 0; i < nomes.length; i++) {
+            players.add(new GameStateSnapshot.PlayerData(nomes[i], corIndex[i], saldo[i], posicao[i],
+                    preso[i], falido[i], cartasLiberacao[i]));
+        }
+        List<GameStateSnapshot.PropertyData> props = new ArrayList<>();
+        for (int pos = 0; pos < dono.length; pos++) {
+            if (temPropriedade[pos]) props.add(new GameStateSnapshot.PropertyData(pos, dono[pos], casas[pos], hotel[pos] ? 1 : 0));
+        }
+        List<Carta> deck = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) deck.add(cartaPorCodigo[baralho[(inicio + i) & (baralho.length - 1)]]);
+        return new GameStateSnapshot(bancoSaldo, new ArrayList<>(ordem), ponteiro, players, props, deck, dono.length);
+    }
+
+    // ---------- Conferência ----------
+
+    private int jogador(int j) {
+        if (j < 0 || j >= saldo.length) inconsistente("jogador " + j + " inexistente");
+        return j;
+    }
+
+    private int celula(int c) {
+        if (c < 0 || c >= dono.length) inconsistente("célula " + c + " fora do tabuleiro");
+        return c;
+    }
+
+    private int propriedade(int c) {
+        if (!temPropriedade[celula(c)]) inconsistente("célula " + c + " não é propriedade");
+        return c;
+    }
+
+    private int posicaoNaOrdem(int p) {
+        if (p < 0 || p >= ordem.size()) inconsistente("posição na ordem " + p + " inválida");
+        return p;
+    }
+
+    private void inconsistente(String motivo) {
+        throw new IllegalStateException("Fluxo de eventos inconsistente no evento #" + (aplicados + 1) + ": " + motivo);
+    }
+}
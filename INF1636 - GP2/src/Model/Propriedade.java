@@ -10,7 +10,10 @@ class Propriedade {
     protected Jogador proprietario;
     protected int preco;
     protected int aluguelBase;
-    protected int posicao; // 0..39
+    protected int posicao; // 0..casas-1
+    protected RegrasEconomicas regras = RegrasEconomicas.PADRAO; // definidas pelo tabuleiro
+    private Tabuleiro tabuleiro; // avisado a cada mudança (dono, construções)
+    int indice = -1;             // posição na lista de propriedades do tabuleiro
 
     public Propriedade(String nome, int preco, int aluguelBase, int posicao) {
         this.nome = nome;
@@ -23,12 +26,21 @@ class Propriedade {
     // --------- GETTERS E SETTERS ---------
     public String getNome() { return nome; }
     public Jogador getProprietario() { return proprietario; }
-    public void setProprietario(Jogador proprietario) { this.proprietario = proprietario; }
+    public void setProprietario(Jogador proprietario) {
+        if (this.proprietario == proprietario) return;
+        this.proprietario = proprietario;
+        mudou();
+    }
     public int getPreco() { return preco; }
     public int getAluguelBase() { return aluguelBase; }
     public boolean estaDisponivel() { return proprietario == null; }
     public int getPosicao() { return posicao; }
-    public void setPosicao(int posicao) { this.posicao = posicao; } // cuidado: posição costuma ser fixa
+    public void setPosicao(int posicao) { this.posicao = posicao; mudou(); } // cuidado: posição costuma ser fixa
+    void setRegras(RegrasEconomicas regras) { this.regras = regras; }
+    void setTabuleiro(Tabuleiro tabuleiro, int indice) { this.tabuleiro = tabuleiro; this.indice = indice; }
+
+    /** Avisa o tabuleiro de que o estado publicável desta propriedade mudou. */
+    protected void mudou() { if (tabuleiro != null) tabuleiro.propriedadeMudou(this); }
 
     /** Aluguel padrão (substituído por subclasses quando necessário). */
     public int calculaAluguel() { return aluguelBase; }
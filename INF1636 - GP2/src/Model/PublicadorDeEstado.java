@@ -0,0 +1,137 @@
+package Model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Publica versões imutáveis do estado ({@link GameStateVersion}) por uma referência volátil.
+ * <p>
+ * Só a thread do jogo escreve; qualquer thread pode ler {@link #atual()} sem travas.
+ * Cada nova versão reaproveita os registros de jogadores/propriedades que não mudaram
+ * e, se nada mudou numa lista, a própria lista da versão anterior.
+ * </p>
+ * <p>
+ * As propriedades ficam numa lista em blocos de {@value #BLOCO} e só as marcadas pelo tabuleiro
+ * como alteradas são relidas: a versão nova copia o índice de blocos e os blocos tocados, então
+ * publicar num tabuleiro de milhares de casas custa O(casas / {@value #BLOCO}) e não O(casas).
+ * </p>
+ */
+final class PublicadorDeEstado {
+
+    private volatile GameStateVersion atual;
+    private long proximaVersao = 1;
+
+    /** Última versão publicada (ou {@code null} se nada foi publicado ainda). */
+    GameStateVersion atual() { return atual; }
+
+    /** Monta e publica uma nova versão, se algo mudou desde a anterior. */
+    static final int BLOCO = 64;
+    private static final int DESLOCAMENTO = 6; // log2(BLOCO)
+
+    /**
+     * Monta e publica uma nova versão, se algo mudou desde a anterior.
+     * @param alteradas índices (em {@code propriedades}) mudados desde a publicação anterior; é limpo aqui
+     */
+    void publicar(List<Jogador> jogadores, List<Propriedade> propriedades, BitSet alteradas,
+                  Banco banco, int jogadorDaVez) {
+        GameStateVersion anterior = atual;
+        List<GameStateVersion.PlayerState> players =
+                compartilharJogadores(anterior != null ? anterior.players() : null, jogadores);
+        List<GameStateVersion.PropertyState> props =
+                compartilharPropriedades(anterior != null ? anterior.propriedades() : null, propriedades, alteradas, jogadores);
+        int bancoSaldo = banco.getSaldo();
+
+        if (anterior != null && players == anterior.players() && props == anterior.propriedades()
+                && bancoSaldo == anterior.bancoSaldo() && jogadorDaVez == anterior.jogadorDaVez()) {
+            return; // nada novo a publicar
+        }
+        atual = new GameStateVersion(proximaVersao++, bancoSaldo, jogadorDaVez, players, props);
+    }
+
+    private static List<GameStateVersion.PlayerState> compartilharJogadores(
+            List<GameStateVersion.PlayerState> anteriores, List<Jogador> jogadores) {
+        int n = jogadores.size();
+        boolean reaproveitavel = anteriores != null && anteriores.size() == n;
+        GameStateVersion.PlayerState[] novos = null;
+        for (int i = 0; i < n; i++) {
+            Jogador j = jogadores.get(i);
+            GameStateVersion.PlayerState ant = reaproveitavel ? anteriores.get(i) : null;
+            if (ant != null && mesmoJogador(ant, j)) {
+                if (novos != null) novos[i] = ant;
+                continue;
+            }
+            if (novos == null) {
+                novos = new GameStateVersion.PlayerState[n];
+                for (int k = 0; k < i; k++) novos[k] = anteriores.get(k);
+            }
+            novos[i] = new GameStateVersion.PlayerState(j.getNome(), j.getConta().getSaldo(), j.getPosicao(),
+                    j.estaPreso(), j.isFalido(), j.getCartasLiberacao());
+        }
+        if (novos == null) return reaproveitavel ? anteriores : List.of();
+        return Collections.unmodifiableList(Arrays.asList(novos));
+    }
+
+    private static List<GameStateVersion.PropertyState> compartilharPropriedades(
+            List<GameStateVersion.PropertyState> anteriores, List<Propriedade> propriedades, BitSet alteradas,
+            List<Jogador> jogadores) {
+        int n = propriedades.size();
+        if (!(anteriores instanceof ListaEmBlocos ant) || ant.size() != n) { // primeira versão: monta tudo
+            alteradas.clear();
+            GameStateVersion.PropertyState[][] blocos = new GameStateVersion.PropertyState[(n + BLOCO - 1) >>> DESLOCAMENTO][];
+            for (int b = 0; b < blocos.length; b++) blocos[b] = new GameStateVersion.PropertyState[Math.min(BLOCO, n - (b << DESLOCAMENTO))];
+            for (int i = 0; i < n; i++) blocos[i >>> DESLOCAMENTO][i & (BLOCO - 1)] = estadoDe(propriedades.get(i), jogadores);
+            return new ListaEmBlocos(blocos, n);
+        }
+        GameStateVersion.PropertyState[][] blocos = null;
+        for (int i = alteradas.nextSetBit(0); i >= 0 && i < n; i = alteradas.nextSetBit(i + 1)) {
+            GameStateVersion.PropertyState novo = estadoDe(propriedades.get(i), jogadores);
+            if (novo.equals(ant.get(i))) continue; // mudou e voltou: mantém o registro antigo
+            int b = i >>> DESLOCAMENTO;
+            if (blocos == null) blocos = ant.blocos.clone();
+            if (blocos[b] == ant.blocos[b]) blocos[b] = blocos[b].clone();
+            blocos[b][i & (BLOCO - 1)] = novo;
+        }
+        alteradas.clear();
+        return (blocos == null) ? anteriores : new ListaEmBlocos(blocos, n);
+    }
+
+    private static GameStateVersion.PropertyState estadoDe(Propriedade p, List<Jogador> jogadores) {
+        int dono = (p.getProprietario() != null) ? jogadores.indexOf(p.getProprietario()) : -1;
+        int casas = (p instanceof Terreno t) ? t.getNumCasas() : 0;
+        boolean hotel = (p instanceof Terreno t) && t.temHotel();
+        return new GameStateVersion.PropertyState(p.getPosicao(), dono, casas, hotel);
+    }
+
+    /** Lista imutável em blocos; versões consecutivas compartilham os blocos que não mudaram. */
+    private static final class ListaEmBlocos extends AbstractList<GameStateVersion.PropertyState> implements RandomAccess {
+        private final GameStateVersion.PropertyState[][] blocos;
+        private final int tamanho;
+
+        ListaEmBlocos(GameStateVersion.PropertyState[][] blocos, int tamanho) {
+            this.blocos = blocos;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public GameStateVersion.PropertyState get(int i) {
+            Objects.checkIndex(i, tamanho);
+            return blocos[i >>> DESLOCAMENTO][i & (BLOCO - 1)];
+        }
+
+        @Override
+        public int size() { return tamanho; }
+    }
+
+    private static boolean mesmoJogador(GameStateVersion.PlayerState s, Jogador j) {
+        return s.saldo() == j.getConta().getSaldo()
+                && s.posicao() == j.getPosicao()
+                && s.preso() == j.estaPreso()
+                && s.falido() == j.isFalido()
+                && s.cartasLiberacao() == j.getCartasLiberacao();
+    }
+}
@@ -0,0 +1,57 @@
+package Model;
+
+/**
+ * Parâmetros das regras de dinheiro da partida (antes fixos no código):
+ * <ul>
+ *   <li>aluguel do terreno: {@code aluguelBase} do preço, mais {@code aluguelPorCasa} do preço por casa,
+ *       mais {@code aluguelHotel} do preço com hotel (padrão 10%, 15%, 30%)</li>
+ *   <li>aluguel da companhia: {@code aluguelBase * multiplicador * fatorCompanhia} (padrão fator 1)</li>
+ *   <li>{@code bonusSaida}: quanto o banco paga a quem passa pela saída (padrão 200)</li>
+ *   <li>casa custa {@code precoCasa} do preço do terreno, hotel {@code precoHotel} (padrão 50%, 100%)</li>
+ * </ul>
+ * Imutável; a partida usa {@link #PADRAO} até {@link GameFacade#setRegras}. Não vai no save.
+ */
+public record RegrasEconomicas(double aluguelBase, double aluguelPorCasa, double aluguelHotel,
+                               double fatorCompanhia, int bonusSaida, double precoCasa, double precoHotel) {
+
+    /** Regras do enunciado. */
+    public static final RegrasEconomicas PADRAO = new RegrasEconomicas(0.10, 0.15, 0.30, 1.0, 200, 0.50, 1.00);
+
+    public RegrasEconomicas {
+        if (aluguelBase < 0 || aluguelPorCasa < 0 || aluguelHotel < 0 || fatorCompanhia < 0
+                || bonusSaida < 0 || precoCasa < 0 || precoHotel < 0)
+            throw new IllegalArgumentException("Parâmetros de regra não podem ser negativos");
+    }
+
+    /** Nomes dos parâmetros, na ordem dos componentes (para grades de varredura e CSV). */
+    public static final String[] PARAMETROS = {
+            "aluguelBase", "aluguelPorCasa", "aluguelHotel", "fatorCompanhia", "bonusSaida", "precoCasa", "precoHotel" };
+
+    /** Valor do parâmetro {@code i} (ordem de {@link #PARAMETROS}). */
+    public double parametro(int i) {
+        return switch (i) {
+            case 0 -> aluguelBase;
+            case 1 -> aluguelPorCasa;
+            case 2 -> aluguelHotel;
+            case 3 -> fatorCompanhia;
+            case 4 -> bonusSaida;
+            case 5 -> precoCasa;
+            case 6 -> precoHotel;
+            default -> throw new IndexOutOfBoundsException("parâmetro " + i);
+        };
+    }
+
+    /** Cópia com o parâmetro {@code nome} trocado ({@code bonusSaida} é arredondado). */
+    public RegrasEconomicas com(String nome, double v) {
+        return switch (nome) {
+            case "aluguelBase"    -> new RegrasEconomicas(v, aluguelPorCasa, aluguelHotel, fatorCompanhia, bonusSaida, precoCasa, precoHotel);
+            case "aluguelPorCasa" -> new RegrasEconomicas(aluguelBase, v, aluguelHotel, fatorCompanhia, bonusSaida, precoCasa, precoHotel);
+            case "aluguelHotel"   -> new RegrasEconomicas(aluguelBase, aluguelPorCasa, v, fatorCompanhia, bonusSaida, precoCasa, precoHotel);
+            case "fatorCompanhia" -> new RegrasEconomicas(aluguelBase, aluguelPorCasa, aluguelHotel, v, bonusSaida, precoCasa, precoHotel);
+            case "bonusSaida"     -> new RegrasEconomicas(aluguelBase, aluguelPorCasa, aluguelHotel, fatorCompanhia, (int) Math.round(v), precoCasa, precoHotel);
+            case "precoCasa"      -> new RegrasEconomicas(aluguelBase, aluguelPorCasa, aluguelHotel, fatorCompanhia, bonusSaida, v, precoHotel);
+            case "precoHotel"     -> new RegrasEconomicas(aluguelBase, aluguelPorCasa, aluguelHotel, fatorCompanhia, bonusSaida, precoCasa, v);
+            default -> throw new IllegalArgumentException("Parâmetro desconhecido: " + nome);
+        };
+    }
+}
@@ -5,6 +5,7 @@ import java.util.*;
 /**
  * Tabuleiro do jogo.
  * <p>Mantém: propriedades, jogadores ativos e baralho de Sorte/Revés.</p>
+ * <p>Tamanho e casas especiais vêm da {@link DefinicaoTabuleiro} (padrão: a do enunciado):</p>
  * <ul>
  *   <li>Casa 10 = prisão/visita (onde o peão fica preso).</li>
  *   <li>Casa 30 = “vá para a prisão” (gatilho que envia à casa 10).</li>
@@ -13,61 +14,115 @@ import java.util.*;
  */
 class Tabuleiro {
 
-    private static final int NUM_CASAS = 40;
-    private static final int POSICAO_VAI_PRA_PRISAO = 30; // gatilho
-    private static final int POSICAO_PRISAO = 10;         // prisão/visita
-    private static final Set<Integer> CHANCE_CELLS = Set.of(2, 12, 16, 22, 27, 37);
-    private static final int POSICAO_LUCROS_DIVIDENDOS = 18;
-    private static final int POSICAO_IMPOSTO_RENDA = 24;
+    private final DefinicaoTabuleiro definicao;
+    private final int numCasas;
     protected List<Propriedade> propriedades;
-    protected List<Jogador> jogadoresAtivos;
+    private final Propriedade[] porPosicao; // índice de propriedades (consulta por turno)
+    protected Set<Jogador> jogadoresAtivos; // ordem de entrada; contains/remove O(1)
     protected final Queue<Carta> baralhoSorteReves;
+    private final Random rng; // embaralhamento (o da partida, se vier da façade)
+    private RegrasEconomicas regras = RegrasEconomicas.PADRAO;
+    private final BitSet alteradas = new BitSet(); // índices em propriedades mudados desde a última publicação
 
-    public Tabuleiro() {
+    public Tabuleiro() { this(new Random()); }
+
+    /** Tabuleiro cujo baralho é embaralhado por {@code rng} (semente fixa = mesma ordem de cartas). */
+    public Tabuleiro(Random rng) { this(rng, DefinicaoTabuleiro.padrao()); }
+
+    /** Tabuleiro com o tamanho e as casas especiais de {@code definicao}, ainda sem propriedades. */
+    public Tabuleiro(Random rng, DefinicaoTabuleiro definicao) {
+        this.rng = rng;
+        this.definicao = definicao;
+        this.numCasas = definicao.getCasas();
+        this.porPosicao = new Propriedade[numCasas];
         this.propriedades = new ArrayList<>();
-        this.jogadoresAtivos = new ArrayList<>();
-        this.baralhoSorteReves = new LinkedList<>();
+        this.jogadoresAtivos = new LinkedHashSet<>();
+        this.baralhoSorteReves = new ArrayDeque<>(); // poll/offer circular sem nó por carta
         inicializarBaralhoSorteRevesDefault(); // baralho real (chance1..chance30) embaralhado
     }
 
-    /** Total de casas (0..39). */
-    public static int getNumCasas() { return NUM_CASAS; }
+    /** Total de casas do tabuleiro padrão (0..39). */
+    public static int getNumCasas() { return DefinicaoTabuleiro.padrao().getCasas(); }
+
+    /** Posição da casa “vá para a prisão” do tabuleiro padrão (30). */
+    public static int getPosicaoPrisao() { return DefinicaoTabuleiro.padrao().getCelulaVaParaPrisao(); }
+
+    /** Posição da casa prisão/visita do tabuleiro padrão (10). */
+    public static int getPosicaoVisitaPrisao() { return DefinicaoTabuleiro.padrao().getCelulaPrisao(); }
 
-    /** Posição da casa “vá para a prisão” (30). */
-    public static int getPosicaoPrisao() { return POSICAO_VAI_PRA_PRISAO; }
+    public DefinicaoTabuleiro getDefinicao() { return definicao; }
 
-    /** Posição da casa prisão/visita (10). */
-    public static int getPosicaoVisitaPrisao() { return POSICAO_PRISAO; }
+    /** Total de casas deste tabuleiro. */
+    public int getCasas() { return numCasas; }
 
-    /** Se a posição é a casa “vá para a prisão” (30). */
-    public boolean isCasaPrisao(int posicao) { return posicao == POSICAO_VAI_PRA_PRISAO; }
+    /** Casa prisão/visita deste tabuleiro. */
+    public int getCelulaPrisao() { return definicao.getCelulaPrisao(); }
+
+    /** Se a posição é a casa “vá para a prisão”. */
+    public boolean isCasaPrisao(int posicao) { return posicao == definicao.getCelulaVaParaPrisao(); }
 
     /** Se a posição é uma casa de Sorte/Revés. */
-    public boolean isChanceCell(int posicao) { return CHANCE_CELLS.contains(posicao); }
+    public boolean isChanceCell(int posicao) { return definicao.isSorte(posicao); }
 
-        /** Se a posição é a casa de lucros/dividendos (18). */
-    public boolean isCasaLucrosDividendos(int posicao) { return posicao == POSICAO_LUCROS_DIVIDENDOS; }
+    /** Se a posição é a casa de lucros/dividendos. */
+    public boolean isCasaLucrosDividendos(int posicao) { return posicao == definicao.getCelulaLucros(); }
 
-    /** Se a posição é a casa de imposto de renda (24). */
-    public boolean isCasaImpostoRenda(int posicao) { return posicao == POSICAO_IMPOSTO_RENDA; }
+    /** Se a posição é a casa de imposto de renda. */
+    public boolean isCasaImpostoRenda(int posicao) { return posicao == definicao.getCelulaImposto(); }
 
     // ---------- Propriedades ----------
-    public void addPropriedade(Propriedade p) { propriedades.add(p); }
+    public void addPropriedade(Propriedade p) {
+        p.setRegras(regras);
+        p.setTabuleiro(this, propriedades.size());
+        propriedades.add(p);
+        alteradas.set(p.indice);
+        int pos = p.getPosicao();
+        if (pos >= 0 && pos < numCasas && porPosicao[pos] == null) porPosicao[pos] = p; // primeira vence, como na busca linear
+    }
     public List<Propriedade> getPropriedades() { return propriedades; }
+
+    /** Índices (em {@link #getPropriedades()}) de propriedades cujo dono/construções mudaram; quem publica limpa. */
+    BitSet getPropriedadesAlteradas() { return alteradas; }
+    void propriedadeMudou(Propriedade p) { alteradas.set(p.indice); }
+
+    /** Cadastra as propriedades da definição (partida nova; os testes montam as suas à mão). */
+    public void cadastrarPropriedades() {
+        for (Propriedade p : definicao.criarPropriedades()) addPropriedade(p);
+    }
+
+    /** Regras de aluguel/preço aplicadas a todas as propriedades (atuais e futuras). */
+    public void setRegras(RegrasEconomicas regras) {
+        this.regras = regras;
+        for (Propriedade p : propriedades) p.setRegras(regras);
+    }
+    public RegrasEconomicas getRegras() { return regras; }
     public void limparPropriedadesDe(Jogador jogador) {
         for (Propriedade p : propriedades) if (p.getProprietario() == jogador) p.setProprietario(null);
     }
+    /** Libera, numa única passada, as propriedades de todos os jogadores falidos. */
+    public void limparPropriedadesDeFalidos() {
+        for (Propriedade p : propriedades) {
+            Jogador dono = p.getProprietario();
+            if (dono != null && dono.isFalido()) p.setProprietario(null);
+        }
+    }
 
     // ---------- Jogadores ----------
     public void addJogador(Jogador jogador) { jogadoresAtivos.add(jogador); }
     public void removerJogador(Jogador jogador) { jogadoresAtivos.remove(jogador); }
-    public List<Jogador> getJogadoresAtivos() { return jogadoresAtivos; }
+    /** Remove de uma vez todos os falidos da lista de ativos. */
+    public void removerFalidos() { jogadoresAtivos.removeIf(Jogador::isFalido); }
+    public Set<Jogador> getJogadoresAtivos() { return jogadoresAtivos; }
+    /** Refaz os ativos a partir de {@code todos} (na ordem dada), sem os falidos. Usado ao restaurar um checkpoint. */
+    public void redefinirJogadoresAtivos(List<Jogador> todos) {
+        jogadoresAtivos.clear();
+        for (Jogador j : todos) if (!j.isFalido()) jogadoresAtivos.add(j);
+    }
     public boolean estaNoJogo(Jogador jogador) { return jogadoresAtivos.contains(jogador); }
 
     /** Propriedade na posição informada (ou null). */
     public Propriedade getPropriedadeNaPosicao(int posicao) {
-        for (Propriedade p : propriedades) if (p.getPosicao() == posicao) return p;
-        return null;
+        return (posicao >= 0 && posicao < numCasas) ? porPosicao[posicao] : null;
     }
 
     // ---------- Cartas ----------
@@ -132,7 +187,7 @@ class Tabuleiro {
         cartas.add(new Carta(TipoCarta.VAI_PARA_PRISAO,  0, 23));
 
         // Embaralha a lista inteira e cria a fila nessa ordem
-        Collections.shuffle(cartas);
+        Collections.shuffle(cartas, rng);
         for (Carta c : cartas) {
             baralhoSorteReves.offer(c);
         }
@@ -31,12 +31,14 @@ class Terreno extends Propriedade {
     public void adicionaCasa() {
         if (!podeConstruirCasa()) return;
         numCasas++;
+        mudou();
     }
 
     /** Marca construAA�o de hotel (mantAcm quantidade de casas). */
     public void adicionaHotel() {
         if (!podeConstruirHotel()) return;
         temHotel = true;
+        mudou();
     }
 
     public int getNumCasas()   { return numCasas; }
@@ -48,16 +50,21 @@ class Terreno extends Propriedade {
     public int calculaAluguel() {
         double preco = this.preco;
 
-        double Vb = preco * 0.10; // 10%
-        double Vc = preco * 0.15; // 15% por casa
-        double Vh = temHotel ? preco * 0.30 : 0; // 30% se tiver hotel
+        double Vb = preco * regras.aluguelBase();    // 10% no padrão
+        double Vc = preco * regras.aluguelPorCasa(); // 15% por casa
+        double Vh = temHotel ? preco * regras.aluguelHotel() : 0; // 30% se tiver hotel
 
         return (int)(Vb + Vc * numCasas + Vh);
     }
 
     // --------- GETTERS ---------
-    public int getValorCasa() { return (int)(preco * 0.50); } // casa custa 50% do preAo
-    public int getValorHotel() { return preco; } // hotel custa 100% do preAo
-    void resetConstrucoes() { this.numCasas = 0; this.temHotel = false; }
+    public int getValorCasa() { return (int)(preco * regras.precoCasa()); } // casa custa 50% do preAo
+    public int getValorHotel() { return (int)(preco * regras.precoHotel()); } // hotel custa 100% do preAo
+    void resetConstrucoes() {
+        if (numCasas == 0 && !temHotel) return;
+        this.numCasas = 0;
+        this.temHotel = false;
+        mudou();
+    }
 }
 
@@ -0,0 +1,200 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do fluxo de eventos ({@link ArmazemDeEventos}, {@link ProjetorDeEstado}).
+ *
+ * 1. A projeção do fluxo acompanha a partida turno a turno (compras, construções, cartas, prisão,
+ *    falências, restauração) e a releitura tipada chega ao mesmo estado
+ * 2. Partida retomada do fluxo (snapshot + cauda) segue igual a uma que nunca parou
+ * 3. Registro cortado no fim do arquivo é descartado na recuperação
+ * 4. Reconstrução de um fluxo de 1M eventos: inteira e a partir do último snapshot
+ */
+public class TestArmazemDeEventos {
+
+    private static final List<String> NOMES = List.of("A", "B", "C", "D");
+    private static final List<Integer> ORDEM = List.of(0, 1, 2, 3);
+
+    private Path dir;
+    private GameFacade gf;
+    private ArmazemDeEventos armazem;
+
+    @Before
+    public void setUp() throws Exception {
+        GameFacade.resetForTests();
+        dir = Files.createTempDirectory("eventos");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (armazem != null) armazem.close();
+        GameFacade.resetForTests();
+        try (var s = Files.list(dir)) { for (Path p : s.toList()) Files.delete(p); }
+        Files.delete(dir);
+    }
+
+    private void novaPartida(long semente, int intervalo) throws Exception {
+        GameFacade.resetForTests();
+        gf = GameFacade.init(NOMES, ORDEM, semente);
+        armazem = ArmazemDeEventos.criar(dir, gf.capturarSnapshot(null), intervalo);
+        gf.ativarEventos(armazem);
+    }
+
+    /** Mesma sequência do {@code TurnPipeline}, com as decisões registradas (compra o que der, constrói casa). */
+    private void turno(int d1, int d2) {
+        int idx = gf.getIndiceJogadorDaVez();
+        gf.notificarRolagem(d1, d2);
+        if (gf.jogadorEstaPreso(idx)) {
+            boolean liberado = gf.tentarLiberarComDupla(idx, d1, d2);
+            gf.notificarEstado();
+            if (!liberado) { gf.avancarTurnoENotificar(); return; }
+        }
+        gf.moverJogadorComDados(idx, d1, d2);
+        int celula = gf.getPosicao(idx);
+        if (gf.posicaoTemPropriedade(celula) && gf.propriedadeDisponivel(celula)
+                && gf.getSaldo(idx) >= gf.getPrecoPropriedade(celula)) {
+            gf.registrarDecisaoCompra(idx, celula, true);
+            gf.comprarPropriedadeAtual(idx);
+        } else if (gf.posicaoTemPropriedade(celula) && gf.jogadorEhDonoDaPosicao(idx, celula) && gf.podeConstruirCasaAqui(idx)) {
+            gf.registrarDecisaoConstrucao(idx, celula, EventoDeJogo.DecisaoConstrucao.CASA);
+            gf.construirCasaNoLocal(idx);
+        }
+        gf.aplicarCasasEspeciais(idx);
+        gf.cobrarAluguelSeNecessario(idx);
+        gf.resolverChanceSeNecessario(idx);
+        gf.notificarEstado();
+        gf.usarCartaLiberacaoAutomatica(idx);
+        gf.notificarEstado();
+        gf.avancarTurnoENotificar();
+    }
+
+    /** Joga {@code n} turnos; partida encerrada volta ao início (evento de restauração) e segue. */
+    private void jogar(int n, Random dados, GameStateSnapshot inicio) {
+        for (int i = 0; i < n; i++) {
+            if (gf.isPartidaEncerrada()) gf.restaurar(inicio, gf.getEstadoAleatorio());
+            turno(1 + dados.nextInt(6), 1 + dados.nextInt(6));
+        }
+    }
+
+    @Test
+    public void testProjecaoAcompanhaPartida() throws Exception {
+        novaPartida(7L, 500);
+        GameStateSnapshot inicio = gf.capturarSnapshot(null);
+        // volta no tempo para um início com três jogadores quase sem dinheiro: falências e fim de partida
+        List<GameStateSnapshot.PlayerData> pobres = new ArrayList<>();
+        for (GameStateSnapshot.PlayerData p : inicio.players())
+            pobres.add(p.nome().equals("A") ? p : new GameStateSnapshot.PlayerData(p.nome(), p.corIndex(), 150,
+                    p.posicao(), p.preso(), p.falido(), p.cartasLiberacao()));
+        GameStateSnapshot quaseFalidos = new GameStateSnapshot(inicio.bancoSaldo(), inicio.ordem(), inicio.ponteiro(),
+                pobres, inicio.propriedades(), inicio.deck());
+
+        Random dados = new Random(3);
+        boolean faliu = false, encerrou = false;
+        for (int t = 0; t < 4_000; t++) {
+            if (t == 1_000) gf.restaurar(quaseFalidos, gf.getEstadoAleatorio());
+            jogar(1, dados, inicio);
+            assertTrue("turno " + t, armazem.projecao().mesmoEstadoDe(gf.capturarSnapshot(null)));
+            for (int i = 0; i < NOMES.size(); i++) faliu |= gf.isFalido(i);
+            encerrou |= gf.isPartidaEncerrada();
+        }
+        assertTrue("alguém faliu", faliu);
+        assertTrue("partida encerrada (e recomeçada)", encerrou);
+        long total = armazem.getEventos();
+        armazem.close();
+
+        ArmazemDeEventos.Recuperacao r = ArmazemDeEventos.recuperar(dir, true);
+        assertEquals(total, r.eventos());
+        assertTrue(r.eventosNaCauda() < 500);
+        assertTrue(r.estado().mesmoEstadoDe(gf.capturarSnapshot(null)));
+
+        // releitura tipada desde a base
+        ProjetorDeEstado p = new ProjetorDeEstado(ArmazemDeEventos.recuperar(dir, false).estado());
+        ProjetorDeEstado doInicio = new ProjetorDeEstado(inicio);
+        long[] n = new long[1];
+        ArmazemDeEventos.percorrer(dir, e -> { doInicio.aplicar(e); n[0]++; });
+        assertEquals(total, n[0]);
+        assertTrue(doInicio.capturar().mesmoEstadoDe(p.capturar()));
+    }
+
+    @Test
+    public void testPartidaRetomadaSegueIgual() throws Exception {
+        // referência: 600 turnos sem parar
+        novaPartida(11L, 250);
+        GameStateSnapshot inicio = gf.capturarSnapshot(null);
+        jogar(600, new Random(5), inicio);
+        GameStateSnapshot esperado = gf.capturarSnapshot(null);
+        armazem.close();
+        armazem = null;
+
+        // 330 turnos, "queda", retomada do fluxo e mais 270 com os mesmos dados
+        novaPartida(11L, 250);
+        Random dados = new Random(5);
+        jogar(330, dados, inicio);
+        armazem.close();
+        GameFacade.resetForTests();
+
+        armazem = ArmazemDeEventos.abrir(dir, 250);
+        gf = GameFacade.initFromEventos(armazem);
+        jogar(270, dados, inicio);
+        assertTrue(esperado.mesmoEstadoDe(gf.capturarSnapshot(null)));
+        assertTrue(armazem.projecao().mesmoEstadoDe(esperado));
+    }
+
+    @Test
+    public void testRegistroCortadoEhDescartado() throws Exception {
+        novaPartida(13L, 1_000);
+        jogar(200, new Random(9), gf.capturarSnapshot(null));
+        GameStateSnapshot esperado = gf.capturarSnapshot(null);
+        long total = armazem.getEventos();
+        armazem.close();
+        armazem = null;
+        Files.write(dir.resolve("eventos.bin"), new byte[]{ EventoDeJogo.SALDO, 0, 0, 0, 1, 0, 0 }, StandardOpenOption.APPEND);
+
+        ArmazemDeEventos.Recuperacao r = ArmazemDeEventos.recuperar(dir, true);
+        assertEquals(total, r.eventos());
+        assertTrue(r.estado().mesmoEstadoDe(esperado));
+
+        armazem = ArmazemDeEventos.abrir(dir, 1_000); // corta o lixo e continua do fim
+        assertEquals(total, armazem.getEventos());
+        GameFacade.resetForTests();
+        gf = GameFacade.initFromEventos(armazem);
+        jogar(10, new Random(1), esperado);
+        armazem.close();
+        assertTrue(ArmazemDeEventos.recuperar(dir, false).estado().mesmoEstadoDe(gf.capturarSnapshot(null)));
+    }
+
+    @Test
+    public void testReconstrucaoDeUmMilhaoDeEventos() throws Exception {
+        novaPartida(17L, ArmazemDeEventos.INTERVALO_PADRAO);
+        GameStateSnapshot inicio = gf.capturarSnapshot(null);
+        Random dados = new Random(21);
+        while (armazem.getEventos() < 1_000_000) jogar(1_000, dados, inicio);
+        GameStateSnapshot esperado = gf.capturarSnapshot(null);
+        long total = armazem.getEventos();
+        armazem.close();
+
+        ArmazemDeEventos.recuperar(dir, false); // aquecimento
+        ArmazemDeEventos.Recuperacao inteira = ArmazemDeEventos.recuperar(dir, false);
+        ArmazemDeEventos.Recuperacao cauda = ArmazemDeEventos.recuperar(dir, true);
+
+        assertEquals(total, inteira.eventos());
+        assertEquals(total, inteira.eventosNaCauda());
+        assertEquals(total, cauda.eventos());
+        assertTrue("snapshot + cauda: " + cauda, cauda.eventosNaCauda() < ArmazemDeEventos.INTERVALO_PADRAO);
+        assertTrue(inteira.estado().mesmoEstadoDe(esperado));
+        assertTrue(cauda.estado().mesmoEstadoDe(esperado));
+        assertTrue("reconstrução lenta: " + inteira + " | snapshot + cauda: " + cauda, inteira.eventosPorSegundo() > 1_000_000);
+    }
+}
@@ -0,0 +1,118 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Testes de concorrência de {@link ContaBancaria} e {@link Banco}.
+ *
+ * 1. Saques concorrentes nunca deixam saldo negativo nem perdem atualizações
+ * 2. Benchmark de contenção: 64 threads transferindo entre poucas contas (dinheiro conservado)
+ * 3. Banco mantém a mesma conta ao reabastecer/carregar saldo
+ */
+public class TestContaBancariaConcorrente {
+
+    private static final int THREADS = 64;
+
+    /**
+     * 1 Conta com 1000 e 64 threads sacando 1 até não conseguir mais:
+     * exatamente 1000 saques têm sucesso e o saldo termina em zero.
+     */
+    @Test
+    public void testSaquesConcorrentesNaoFicamNegativos() throws Exception {
+        ContaBancaria conta = new ContaBancaria(1000);
+        AtomicInteger sucessos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> ts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread th = new Thread(() -> {
+                await(largada);
+                for (int i = 0; i < 100; i++) if (conta.sacar(1)) sucessos.incrementAndGet();
+            });
+            th.start();
+            ts.add(th);
+        }
+        largada.countDown();
+        for (Thread th : ts) th.join();
+
+        assertEquals(1000, sucessos.get());
+        assertEquals(0, conta.getSaldo());
+    }
+
+    /**
+     * 2 Contenção: 64 threads fazem transferências aleatórias entre o banco e 6 jogadores.
+     * Ao final a soma de todos os saldos é a inicial e nenhum saldo ficou negativo.
+     * A vazão medida é impressa para acompanhamento.
+     */
+    @Test
+    public void testBenchmarkContencaoConservaDinheiro() throws Exception {
+        final int transferenciasPorThread = 200_000;
+        Banco banco = new Banco();
+        List<ContaBancaria> contas = new ArrayList<>();
+        contas.add(banco.getConta());
+        for (int i = 0; i < 6; i++) contas.add(new Jogador("J" + i).getConta());
+        long totalInicial = soma(contas);
+
+        AtomicLong concluidas = new AtomicLong();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> ts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread th = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                long ok = 0;
+                await(largada);
+                for (int i = 0; i < transferenciasPorThread; i++) {
+                    ContaBancaria de = contas.get(rnd.nextInt(contas.size()));
+                    ContaBancaria para = contas.get(rnd.nextInt(contas.size()));
+                    if (de.paga(para, 1 + rnd.nextInt(300))) ok++;
+                }
+                concluidas.addAndGet(ok);
+            });
+            th.start();
+            ts.add(th);
+        }
+        long t0 = System.nanoTime();
+        largada.countDown();
+        for (Thread th : ts) th.join();
+        long nanos = System.nanoTime() - t0;
+
+        long tentativas = (long) THREADS * transferenciasPorThread;
+        String medida = String.format("%d threads, %d transferências (%d concluídas) em %d ms = %.1f M ops/s",
+                THREADS, tentativas, concluidas.get(), nanos / 1_000_000, tentativas * 1000.0 / nanos);
+        assertEquals(medida, totalInicial, soma(contas));
+        for (ContaBancaria c : contas) assertTrue(medida, c.getSaldo() >= 0);
+        assertTrue(medida, concluidas.get() > 0);
+    }
+
+    /** 3 Reabastecer/carregar saldo não troca a conta do banco (referências continuam válidas). */
+    @Test
+    public void testBancoMantemIdentidadeDaConta() {
+        Banco banco = new Banco();
+        ContaBancaria conta = banco.getConta();
+        conta.sacar(5000);
+        banco.abastece();
+        assertSame(conta, banco.getConta());
+        assertEquals(200000, conta.getSaldo());
+        banco.setSaldo(1234);
+        assertSame(conta, banco.getConta());
+        assertEquals(1234, conta.getSaldo());
+    }
+
+    private static long soma(List<ContaBancaria> contas) {
+        long s = 0;
+        for (ContaBancaria c : contas) s += c.getSaldo();
+        return s;
+    }
+
+    private static void await(CountDownLatch l) {
+        try { l.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+}
@@ -0,0 +1,215 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do tabuleiro definido por dados ({@link DefinicaoTabuleiro}).
+ *
+ * 1. O arquivo padrão é lido uma vez e descreve o tabuleiro do enunciado; escrever e reler dá a mesma definição
+ * 2. Definição inconsistente é recusada com a linha do erro
+ * 3. Tabuleiro sintético de 40 mil casas: save, fluxo de eventos e recuperação chegam ao mesmo estado
+ * 4. O custo de um turno não cresce com o tamanho do tabuleiro (40 x 40 mil casas, publicação imutável ligada)
+ */
+public class TestDefinicaoTabuleiro {
+
+    private static final List<String> NOMES = List.of("A", "B", "C", "D");
+    private static final List<Integer> ORDEM = List.of(0, 1, 2, 3);
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws Exception {
+        GameFacade.resetForTests();
+        dir = Files.createTempDirectory("tabuleiro");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        GameFacade.resetForTests();
+        try (var s = Files.list(dir)) { for (Path p : s.toList()) Files.delete(p); }
+        Files.delete(dir);
+    }
+
+    /** Mesma sequência do {@code TurnPipeline} com um bot que compra o que der e constrói casa. */
+    private static void turno(GameFacade gf) {
+        int idx = gf.getIndiceJogadorDaVez();
+        int d1 = gf.sortearDado(), d2 = gf.sortearDado();
+        gf.notificarRolagem(d1, d2);
+        if (gf.jogadorEstaPreso(idx)) {
+            boolean liberado = gf.tentarLiberarComDupla(idx, d1, d2);
+            gf.notificarEstado();
+            if (!liberado) { gf.avancarTurnoENotificar(); return; }
+        }
+        gf.moverJogadorComDados(idx, d1, d2);
+        int celula = gf.getPosicao(idx);
+        if (gf.posicaoTemPropriedade(celula) && gf.propriedadeDisponivel(celula)
+                && gf.getSaldo(idx) >= gf.getPrecoPropriedade(celula)) {
+            gf.registrarDecisaoCompra(idx, celula, true);
+            gf.comprarPropriedadeAtual(idx);
+        } else if (gf.posicaoTemPropriedade(celula) && gf.jogadorEhDonoDaPosicao(idx, celula) && gf.podeConstruirCasaAqui(idx)) {
+            gf.registrarDecisaoConstrucao(idx, celula, EventoDeJogo.DecisaoConstrucao.CASA);
+            gf.construirCasaNoLocal(idx);
+        }
+        gf.aplicarCasasEspeciais(idx);
+        gf.cobrarAluguelSeNecessario(idx);
+        gf.resolverChanceSeNecessario(idx);
+        gf.notificarEstado();
+        gf.usarCartaLiberacaoAutomatica(idx);
+        gf.notificarEstado();
+        gf.avancarTurnoENotificar();
+    }
+
+    private static int jogar(GameFacade gf, int turnos) {
+        int t = 0;
+        for (; t < turnos && !gf.isPartidaEncerrada(); t++) turno(gf);
+        return t;
+    }
+
+    @Test
+    public void testPadraoVemDoArquivo() throws Exception {
+        DefinicaoTabuleiro p = DefinicaoTabuleiro.padrao();
+        assertSame(p, DefinicaoTabuleiro.padrao());
+        assertEquals(40, p.getCasas());
+        assertEquals(28, p.getNumPropriedades());
+        assertEquals(10, p.getCelulaPrisao());
+        assertEquals(30, p.getCelulaVaParaPrisao());
+        assertEquals("Leblon", p.getNomePropriedade(1));
+        assertEquals("Companhia Ferroviária", p.getNomePropriedade(5));
+        assertEquals("Brooklin", p.getNomePropriedade(39));
+        for (int c : new int[] { 2, 12, 16, 22, 27, 37 }) assertTrue(p.isSorte(c));
+        assertFalse(p.temPropriedade(0));
+        assertFalse(p.temPropriedade(40));
+
+        GameFacade gf = GameFacade.init(NOMES, ORDEM, 1L);
+        assertEquals(40, gf.getNumCasas());
+        assertEquals(100, gf.getPrecoPropriedade(1));
+        assertEquals(100, gf.getPrecoPropriedade(41)); // célula normalizada, como antes
+        StringWriter save = new StringWriter();
+        GameStateIO.escrever(gf.capturarSnapshot(null), new PrintWriter(save));
+        assertFalse(save.toString().contains("CASAS=")); // save do padrão no formato de sempre
+
+        StringWriter texto = new StringWriter();
+        p.escrever(new PrintWriter(texto));
+        DefinicaoTabuleiro relida = DefinicaoTabuleiro.ler(new StringReader(texto.toString()), "memória");
+        StringWriter denovo = new StringWriter();
+        relida.escrever(new PrintWriter(denovo));
+        assertEquals(texto.toString(), denovo.toString());
+    }
+
+    @Test
+    public void testDefinicaoInvalida() {
+        String cabecalho = "CASAS=12\nPRISAO=3\nVA_PARA_PRISAO=9\nLUCROS=5\nIMPOSTO=7\nSORTE=2,11\n";
+        String[][] casos = {
+                { "T|A|100|50|10|2\n", ":7:" },             // casa de Sorte/Revés
+                { "T|A|100|50|10|12\n", ":7:" },            // fora do tabuleiro
+                { "T|A|100|50|10|1\nC|B|200|1|25|1\n", ":8:" }, // casa repetida
+                { "T|A|0|50|10|1\n", ":7:" },               // preço zero
+                { "T|A|100|50|1\n", ":7:" },                // campo faltando
+                { "X=1\n", ":7:" },                         // chave desconhecida
+        };
+        for (String[] caso : casos) {
+            try {
+                DefinicaoTabuleiro.ler(new StringReader(cabecalho + caso[0]), "def");
+                fail("aceitou " + caso[0]);
+            } catch (IllegalArgumentException esperado) {
+                assertTrue(esperado.getMessage(), esperado.getMessage().startsWith("def" + caso[1]));
+            } catch (java.io.IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+        try { DefinicaoTabuleiro.ler(new StringReader("CASAS=12\nPRISAO=3\n"), "def"); fail("casas especiais faltando"); }
+        catch (IllegalArgumentException | java.io.IOException esperado) { }
+        try { DefinicaoTabuleiro.sintetica(39); fail("menor que o padrão"); }
+        catch (IllegalArgumentException esperado) { }
+    }
+
+    @Test
+    public void testSinteticoSalvaEProjeta() throws Exception {
+        DefinicaoTabuleiro def = DefinicaoTabuleiro.sintetica(40_000);
+        assertEquals(28_000, def.getNumPropriedades());
+        assertEquals("Leblon 2", def.getNomePropriedade(41));
+        assertTrue(def.isSorte(39_962)); // 39 962 = 2 (mod 40)
+        assertFalse(def.temPropriedade(40 + 10));
+
+        GameFacade gf = GameFacade.init(NOMES, ORDEM, 11L, def);
+        gf.restaurar(ricos(gf.capturarSnapshot(null)), gf.getEstadoAleatorio()); // sem salário, a partida acabaria cedo
+        assertEquals(3_000, jogar(gf, 3_000));
+        ArmazemDeEventos armazem = ArmazemDeEventos.criar(dir.resolve("eventos"), gf.capturarSnapshot(null), 256);
+        gf.ativarEventos(armazem);
+        assertEquals(2_000, jogar(gf, 2_000));
+        assertTrue(armazem.getEventos() > 2_000);
+        GameStateSnapshot fim = gf.capturarSnapshot(null);
+        assertEquals(40_000, fim.casas());
+        assertTrue(fim.players().stream().anyMatch(p -> p.posicao() >= 40));
+        assertTrue(fim.propriedades().stream().anyMatch(p -> p.posicao() >= 40 && p.ownerIndex() >= 0));
+        assertTrue(armazem.projecao().mesmoEstadoDe(fim));
+        gf.encerrarEventos();
+        assertTrue(ArmazemDeEventos.recuperar(dir.resolve("eventos"), true).estado().mesmoEstadoDe(fim));
+
+        File save = dir.resolve("save.txt").toFile();
+        gf.salvarParaArquivo(save, null);
+        GameStateSnapshot lido = GameFacade.carregarSnapshot(save);
+        assertEquals(40_000, lido.casas());
+        assertTrue(lido.mesmoEstadoDe(fim));
+        GameFacade.resetForTests();
+        assertTrue(GameFacade.initFromSnapshot(lido, def).capturarSnapshot(null).mesmoEstadoDe(fim));
+        GameFacade.resetForTests();
+        try { GameFacade.initFromSnapshot(lido); fail("save de 40 mil casas aberto no tabuleiro padrão"); }
+        catch (IllegalArgumentException esperado) { }
+        try (var s = Files.list(dir.resolve("eventos"))) { for (Path p : s.toList()) Files.delete(p); }
+        Files.delete(dir.resolve("eventos"));
+    }
+
+    /** Mesmo estado com todos os jogadores ricos (ninguém vai à falência: mede só turnos, não o fim da partida). */
+    private static GameStateSnapshot ricos(GameStateSnapshot s) {
+        List<GameStateSnapshot.PlayerData> ps = s.players().stream().map(p -> new GameStateSnapshot.PlayerData(
+                p.nome(), p.corIndex(), 10_000_000, p.posicao(), p.preso(), p.falido(), p.cartasLiberacao())).toList();
+        return new GameStateSnapshot(s.bancoSaldo(), s.ordem(), s.ponteiro(), ps, s.propriedades(), s.deck(), s.casas());
+    }
+
+    /** Partida com jogadores ricos e publicação imutável ligada, pronta para ser restaurada a cada rodada. */
+    private static GameFacade partidaDeMedicao(DefinicaoTabuleiro def) {
+        GameFacade.resetForTests();
+        GameFacade gf = GameFacade.init(NOMES, ORDEM, 21L, def);
+        gf.restaurar(ricos(gf.capturarSnapshot(null)), gf.getEstadoAleatorio());
+        gf.setPublicacaoImutavel(true);
+        return gf;
+    }
+
+    /** Uma rodada de 4 000 turnos a partir de {@code base}, em ns por turno. */
+    private static double nanosPorTurno(GameFacade gf, GameStateSnapshot base, long semente) {
+        gf.restaurar(base, semente);
+        long t0 = System.nanoTime();
+        int turnos = jogar(gf, 4_000);
+        return (double) (System.nanoTime() - t0) / turnos;
+    }
+
+    @Test
+    public void testTurnoNaoCresceComOTabuleiro() {
+        GameFacade pequena = partidaDeMedicao(DefinicaoTabuleiro.padrao());
+        GameFacade grande = partidaDeMedicao(DefinicaoTabuleiro.sintetica(40_000));
+        GameStateSnapshot basePequena = pequena.capturarSnapshot(null), baseGrande = grande.capturarSnapshot(null);
+        // rodadas intercaladas (o que atrapalhar uma atrapalha a outra); vale a melhor de cada, depois do aquecimento
+        double melhorPequena = Double.MAX_VALUE, melhorGrande = Double.MAX_VALUE;
+        for (int rodada = 0; rodada < 12; rodada++) {
+            double p = nanosPorTurno(pequena, basePequena, rodada), g = nanosPorTurno(grande, baseGrande, rodada);
+            if (rodada < 2) continue;
+            melhorPequena = Math.min(melhorPequena, p);
+            melhorGrande = Math.min(melhorGrande, g);
+        }
+        assertTrue(String.format("%.0f ns/turno com 40 casas, %.0f com 40 mil", melhorPequena, melhorGrande),
+                melhorGrande < 5 * melhorPequena);
+    }
+}
@@ -0,0 +1,136 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Testes da liquidação em lote ({@link Liquidacao}).
+ *
+ * 1. Carta RECEBER_DE_CADA: quem paga, quem fali e o que o credor recebe (cada pagamento de/para no livro-razão)
+ * 2. Modo estresse: centenas de jogadores, metade falindo numa única carta
+ */
+public class TestLiquidacao {
+
+    /**
+     * 1 Três adversários, um sem saldo: o credor recebe de dois,
+     * o falido perde as propriedades, fica com saldo 0 e sai dos ativos. No livro-razão, o credor
+     * tem um registro por pagador, com o pagador como contraparte.
+     */
+    @Test
+    public void testReceberDeCadaComFalencia() throws Exception {
+        Banco banco = new Banco();
+        Tabuleiro tab = new Tabuleiro();
+        MotorDeJogo motor = new MotorDeJogo(banco, tab);
+        Jogador credor = new Jogador("A"), b = new Jogador("B"), c = new Jogador("C"), d = new Jogador("D");
+        for (Jogador j : List.of(credor, b, c, d)) tab.addJogador(j);
+        c.getConta().setSaldo(30);
+        Path arq = Files.createTempFile("razao", ".bin");
+        LivroRazao livro = new LivroRazao(64, arq);
+        List<Jogador> todos = List.of(credor, b, c, d);
+        for (int i = 0; i < todos.size(); i++) todos.get(i).getConta().vincularLivro(livro, i);
+        Propriedade p = new Propriedade("Cia", 200, 50, 5);
+        p.setProprietario(c);
+        tab.addPropriedade(p);
+
+        tab.inicializarBaralhoSorteRevesDefault();
+        colocarNoTopo(tab, 11); // RECEBER_DE_CADA 50
+        motor.puxarSorteReves(credor);
+        livro.close();
+
+        assertEquals(4000 + 100, credor.getConta().getSaldo());
+        assertEquals(4000 - 50, b.getConta().getSaldo());
+        assertEquals(4000 - 50, d.getConta().getSaldo());
+        assertTrue(c.isFalido());
+        assertEquals(0, c.getConta().getSaldo());
+        assertNull(p.getProprietario());
+        assertEquals(List.of(credor, b, d), new ArrayList<>(tab.getJogadoresAtivos()));
+
+        try {
+            List<ConsultaLivroRazao.PontoSaldo> h = ConsultaLivroRazao.historico(arq, 0);
+            List<Integer> pagadores = h.stream().filter(ponto -> ponto.motivo().equals("CARTA"))
+                    .map(ConsultaLivroRazao.PontoSaldo::contraparte).toList();
+            assertEquals(List.of(1, 3), pagadores);
+            assertEquals(credor.getConta().getSaldo(), h.get(h.size() - 1).saldo());
+        } finally {
+            Files.deleteIfExists(arq);
+        }
+    }
+
+    /**
+     * 2 500 jogadores com 1 propriedade cada; os de índice ímpar não têm saldo para pagar.
+     * Uma única carta liquida 250 falências; o resultado é o mesmo da versão um-a-um
+     * (transferência + verificação de falência por adversário), que é medida para comparação.
+     */
+    @Test
+    public void testEstresseCentenasDeJogadores() {
+        final int n = 500, valor = 50;
+        long emLote = 0, umAUm = 0;
+        for (int rodada = 0; rodada < 20; rodada++) {
+            Cenario lote = new Cenario(n);
+            long t0 = System.nanoTime();
+            int falidos = new Liquidacao(lote.tab).receberDeCada(lote.jogadores.get(0), valor, MotivoTransacao.CARTA);
+            emLote += System.nanoTime() - t0;
+            assertEquals(n / 2, falidos);
+
+            Cenario ref = new Cenario(n);
+            t0 = System.nanoTime();
+            receberDeCadaUmAUm(ref, ref.jogadores.get(0), valor);
+            umAUm += System.nanoTime() - t0;
+
+            assertEquals(ref.tab.getJogadoresAtivos().size(), lote.tab.getJogadoresAtivos().size());
+            for (int i = 0; i < n; i++) {
+                Jogador a = lote.jogadores.get(i), r = ref.jogadores.get(i);
+                assertEquals(r.getConta().getSaldo(), a.getConta().getSaldo());
+                assertEquals(r.isFalido(), a.isFalido());
+                Jogador donoA = lote.tab.getPropriedades().get(i).getProprietario();
+                Jogador donoR = ref.tab.getPropriedades().get(i).getProprietario();
+                assertEquals(donoR == null, donoA == null);
+            }
+        }
+        // folga larga: só pega uma regressão grosseira do caminho em lote
+        assertTrue(String.format("%d jogadores: em lote %.1f us/carta, um-a-um %.1f us/carta",
+                n, emLote / 20_000.0, umAUm / 20_000.0), emLote < 10 * umAUm);
+    }
+
+    // ---------- Auxiliares ----------
+
+    /** Deixa só a carta {@code codigo} do baralho padrão no baralho. */
+    private static void colocarNoTopo(Tabuleiro tab, int codigo) {
+        Carta c = tab.baralhoSorteReves.stream().filter(x -> x.codigo == codigo).findFirst().orElseThrow();
+        tab.baralhoSorteReves.clear();
+        tab.baralhoSorteReves.offer(c);
+    }
+
+    /** Caminho antigo: cópia da lista, transferência e falência individual por adversário. */
+    private static void receberDeCadaUmAUm(Cenario s, Jogador credor, int valor) {
+        MotorDeJogo motor = new MotorDeJogo(s.banco, s.tab);
+        for (Jogador outro : new ArrayList<>(s.tab.getJogadoresAtivos())) {
+            if (outro == credor) continue;
+            if (!outro.getConta().paga(credor.getConta(), valor)) { outro.setFalido(true); motor.verificarFalencia(outro); }
+        }
+    }
+
+    private static final class Cenario {
+        final Banco banco = new Banco();
+        final Tabuleiro tab = new Tabuleiro();
+        final List<Jogador> jogadores = new ArrayList<>();
+
+        Cenario(int n) {
+            for (int i = 0; i < n; i++) {
+                Jogador j = new Jogador("J" + i);
+                if ((i & 1) == 1) j.getConta().setSaldo(10);
+                jogadores.add(j);
+                tab.addJogador(j);
+                Propriedade p = new Propriedade("P" + i, 100, 10, i % Tabuleiro.getNumCasas());
+                p.setProprietario(j);
+                tab.addPropriedade(p);
+            }
+        }
+    }
+}
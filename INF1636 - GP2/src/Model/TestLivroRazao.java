@@ -0,0 +1,130 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Testes do livro-razão fora do heap ({@link LivroRazao}) e da consulta ({@link ConsultaLivroRazao}).
+ *
+ * 1. Anel pequeno dando várias voltas: histórico reconstruído bate com os saldos reais
+ * 2. Integração com o GameFacade: salário, compra e lucros aparecem com o motivo certo
+ * 3. Custo por transferência com o livro ligado
+ */
+public class TestLivroRazao {
+
+    /**
+     * 1 Anel de 64 registros e 10.000 movimentações aleatórias (obriga descargas com o anel cheio).
+     * O saldo final reconstruído de cada conta é o saldo real.
+     */
+    @Test
+    public void testHistoricoReconstruidoComAnelDandoVoltas() throws Exception {
+        Path arq = Files.createTempFile("razao", ".bin");
+        try (LivroRazao livro = new LivroRazao(64, arq)) {
+            Banco banco = new Banco();
+            ContaBancaria[] contas = { new ContaBancaria(4000), new ContaBancaria(4000), new ContaBancaria(4000) };
+            banco.getConta().vincularLivro(livro, LivroRazao.CONTA_BANCO);
+            for (int i = 0; i < contas.length; i++) contas[i].vincularLivro(livro, i);
+
+            Random rnd = new Random(42);
+            for (int k = 0; k < 10_000; k++) {
+                livro.setTick(k / 10);
+                ContaBancaria a = contas[rnd.nextInt(3)];
+                switch (rnd.nextInt(4)) {
+                    case 0 -> a.paga(contas[rnd.nextInt(3)], 1 + rnd.nextInt(500), MotivoTransacao.ALUGUEL);
+                    case 1 -> banco.pagarPara(a, 1 + rnd.nextInt(300), MotivoTransacao.SALARIO);
+                    case 2 -> banco.receberPagamento(a, 1 + rnd.nextInt(300), MotivoTransacao.IMPOSTO);
+                    default -> { if (rnd.nextInt(50) == 0) a.setSaldo(0, MotivoTransacao.FALENCIA); }
+                }
+            }
+            livro.descarregar();
+            assertEquals(livro.getTotalRegistros() * LivroRazao.TAM_REGISTRO, Files.size(arq));
+
+            for (int i = 0; i < contas.length; i++) {
+                List<ConsultaLivroRazao.PontoSaldo> h = ConsultaLivroRazao.historico(arq, i);
+                assertFalse(h.isEmpty());
+                assertEquals("ABERTURA", h.get(0).motivo());
+                assertEquals(contas[i].getSaldo(), h.get(h.size() - 1).saldo());
+                for (ConsultaLivroRazao.PontoSaldo p : h) assertTrue(p.saldo() >= 0);
+            }
+            List<ConsultaLivroRazao.PontoSaldo> hb = ConsultaLivroRazao.historico(arq, LivroRazao.CONTA_BANCO);
+            assertEquals(banco.getSaldo(), hb.get(hb.size() - 1).saldo());
+        } finally {
+            Files.deleteIfExists(arq);
+        }
+    }
+
+    /**
+     * 2 Pela façade: passar pela saída (SALARIO), comprar (COMPRA) e cair em lucros (LUCROS)
+     * aparecem no histórico, com o tick do turno, e o saldo final confere.
+     */
+    @Test
+    public void testIntegracaoComGameFacade() throws Exception {
+        File arq = File.createTempFile("razao", ".bin");
+        GameFacade.resetForTests();
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C"), null);
+        try {
+            gf.ativarLivroRazao(arq);
+            gf.moverJogadorComDados(0, 6, 5);        // casa 11: Av. Europa
+            gf.comprarPropriedadeAtual(0);
+            gf.avancarTurnoENotificar();
+            gf.getJogadores().get(0).setPosicao(36);
+            gf.moverJogadorComDados(0, 1, 3);        // passa pela saída -> casa 0
+            gf.getJogadores().get(0).setPosicao(16);
+            gf.moverJogadorComDados(0, 1, 1);        // casa 18: lucros/dividendos
+            gf.aplicarCasasEspeciais(0);
+
+            List<ConsultaLivroRazao.PontoSaldo> h = gf.historicoDeSaldo(0);
+            List<String> motivos = h.stream().map(ConsultaLivroRazao.PontoSaldo::motivo).toList();
+            assertEquals(List.of("ABERTURA", "COMPRA", "SALARIO", "LUCROS"), motivos);
+            assertEquals(0, h.get(1).tick());
+            assertEquals(1, h.get(2).tick());
+            assertEquals(-200, h.get(1).delta());
+            assertEquals(gf.getSaldo(0), h.get(h.size() - 1).saldo());
+        } finally {
+            gf.encerrarLivroRazao();
+            GameFacade.resetForTests();
+            arq.delete();
+        }
+    }
+
+    /**
+     * 3 Custo: transferências com e sem livro (modo descarte, sem disco).
+     * O custo medido vai na mensagem; o limite aqui é folgado para não falhar em máquina lenta.
+     */
+    @Test
+    public void testCustoPorTransferencia() throws Exception {
+        final int n = 5_000_000;
+        long semLivro = medir(null, n);
+        long comLivro;
+        try (LivroRazao livro = new LivroRazao(LivroRazao.CAPACIDADE_PADRAO, null)) {
+            medir(livro, n); // aquecimento
+            comLivro = medir(livro, n);
+        }
+        double extra = (comLivro - semLivro) / (double) n;
+        assertTrue(String.format("custo adicional alto demais: %.1f ns/transferência sem livro, %.1f com livro (+%.1f ns)",
+                semLivro / (double) n, comLivro / (double) n, extra), extra < 200);
+    }
+
+    private static long medir(LivroRazao livro, int n) {
+        ContaBancaria a = new ContaBancaria(1_000_000), b = new ContaBancaria(1_000_000);
+        if (livro != null) { a.vincularLivro(livro, 0); b.vincularLivro(livro, 1); }
+        vaiEVolta(a, b, n); // aquecimento
+        long t0 = System.nanoTime();
+        vaiEVolta(a, b, n);
+        return System.nanoTime() - t0;
+    }
+
+    private static void vaiEVolta(ContaBancaria a, ContaBancaria b, int n) {
+        for (int i = 0; i < n; i++) {
+            if ((i & 1) == 0) a.paga(b, 3, MotivoTransacao.ALUGUEL);
+            else              b.paga(a, 3, MotivoTransacao.ALUGUEL);
+        }
+    }
+}
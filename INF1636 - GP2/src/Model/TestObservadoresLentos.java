@@ -0,0 +1,157 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do monitoramento de observadores da {@link GameFacade}.
+ *
+ * 1. Cada callback é cronometrado; observador acima do orçamento é marcado como lento (sem isolar)
+ * 2. Com isolamento, o lento vai para fila própria: o jogo não trava, os demais recebem tudo em dia
+ *    e atrasos/descartes da fila cheia são contados
+ * 3. Exceção de observador isolado é contada como falha e a fila continua entregando
+ */
+public class TestObservadoresLentos {
+
+    private GameFacade gf;
+
+    @Before
+    public void setUp() {
+        GameFacade.resetForTests();
+        gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2));
+    }
+
+    @After
+    public void tearDown() { GameFacade.resetForTests(); }
+
+    /** Observador que dorme em cada troca de vez (como um diálogo modal aberto no callback). */
+    private static final class Lento implements GameObserver {
+        final AtomicInteger trocas = new AtomicInteger();
+        final long ms;
+        Lento(long ms) { this.ms = ms; }
+        @Override public void onTurnChanged(int atual) {
+            try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            trocas.incrementAndGet();
+        }
+    }
+
+    private static final class Rapido implements GameObserver {
+        final AtomicInteger trocas = new AtomicInteger();
+        @Override public void onTurnChanged(int atual) { trocas.incrementAndGet(); }
+    }
+
+    private void jogar(int turnos) {
+        for (int i = 0; i < turnos; i++) {
+            List<Integer> d = gf.sortearDados();
+            int idx = gf.getIndiceJogadorDaVez();
+            gf.notificarRolagem(d.get(0), d.get(1));
+            gf.moverJogadorComDados(idx, d.get(0), d.get(1));
+            gf.notificarEstado();
+            gf.avancarTurnoENotificar();
+        }
+    }
+
+    private EstatisticaObservador estatisticaDe(Class<?> c) {
+        for (EstatisticaObservador e : gf.getEstatisticasObservadores())
+            if (e.observador().equals(c.getName())) return e;
+        throw new AssertionError("sem estatística para " + c);
+    }
+
+    /** 1 Orçamento 5 ms, lento dorme 10 ms: todas as trocas são lentas, mas continuam síncronas. */
+    @Test
+    public void testMarcaLentoSemIsolar() {
+        gf.configurarObservadores(5_000_000, false, 16);
+        Lento lento = new Lento(10);
+        Rapido rapido = new Rapido();
+        gf.addObserver(lento);
+        gf.addObserver(rapido);
+        gf.addObserver(lento); // repetido: ignorado
+
+        jogar(10);
+
+        EstatisticaObservador l = estatisticaDe(Lento.class), r = estatisticaDe(Rapido.class);
+        assertEquals(2, gf.getEstatisticasObservadores().size());
+        assertEquals(10, lento.trocas.get());
+        assertTrue(l.isLento());
+        assertEquals(10, l.lentas());
+        assertEquals("onTurnChanged", l.callbackMaisLento());
+        assertTrue(l.nanosMax() >= 10_000_000);
+        assertFalse(l.isolado());
+        assertFalse(r.isLento());
+        assertTrue(l + " | " + r, r.chamadas() >= 20); // dados + movimentos + trocas
+
+        gf.removeObserver(lento);
+        assertEquals(1, gf.getEstatisticasObservadores().size());
+    }
+
+    /**
+     * 2 Lento dorme 50 ms por troca, fila de 4: depois da primeira chamada o jogo segue sem esperar;
+     * o rápido recebe as 40 trocas na hora e o lento recebe parte dos eventos com atraso e perde o resto.
+     */
+    @Test
+    public void testIsolaLentoEmFilaLimitada() throws Exception {
+        gf.configurarObservadores(5_000_000, true, 4);
+        Lento lento = new Lento(50);
+        Rapido rapido = new Rapido();
+        gf.addObserver(lento);
+        gf.addObserver(rapido);
+
+        long t0 = System.nanoTime();
+        jogar(40);
+        long ms = (System.nanoTime() - t0) / 1_000_000;
+
+        assertEquals(40, rapido.trocas.get());
+        assertTrue("jogo travou " + ms + " ms", ms < 40 * 50 / 4);
+        EstatisticaObservador l = estatisticaDe(Lento.class);
+        assertTrue(l.isolado());
+        assertTrue(l.enfileirados() > 0);
+        assertTrue(l.descartados() > 0);
+        assertTrue(l.nanosMax() >= 50_000_000); // a chamada que estourou o orçamento
+
+        long limite = System.currentTimeMillis() + 2000;
+        while (estatisticaDe(Lento.class).pendentes() > 0 && System.currentTimeMillis() < limite) Thread.sleep(10);
+        Thread.sleep(60); // último callback em curso
+        EstatisticaObservador fim = estatisticaDe(Lento.class);
+        assertEquals(0, fim.pendentes());
+        assertTrue(lento.trocas.get() > 1);
+        assertTrue(lento.trocas.get() < 40); // parte das trocas foi descartada
+        assertTrue(fim.toString(), fim.esperaMaxNanos() >= 50_000_000);
+        gf.removeObserver(lento);
+    }
+
+    /** Lento na primeira troca (é isolado) e lança exceção nas seguintes, já entregues pela fila. */
+    private static final class Falho implements GameObserver {
+        final AtomicInteger trocas = new AtomicInteger();
+        @Override public void onTurnChanged(int atual) {
+            if (trocas.incrementAndGet() == 1) {
+                try { Thread.sleep(10); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                return;
+            }
+            throw new IllegalStateException("falha na troca " + trocas.get());
+        }
+    }
+
+    /** 3 Cinco trocas: a primeira isola, as quatro seguintes falham na fila e são contadas. */
+    @Test
+    public void testFalhaDoIsoladoContada() throws Exception {
+        gf.configurarObservadores(5_000_000, true, 16);
+        Falho falho = new Falho();
+        gf.addObserver(falho);
+
+        jogar(5);
+        long limite = System.currentTimeMillis() + 2000;
+        while (estatisticaDe(Falho.class).falhas() < 4 && System.currentTimeMillis() < limite) Thread.sleep(10);
+
+        EstatisticaObservador e = estatisticaDe(Falho.class);
+        assertTrue(e.toString(), e.isolado());
+        assertEquals(e.toString(), 4, e.falhas());
+        assertEquals(5, falho.trocas.get());
+        gf.removeObserver(falho);
+    }
+}
@@ -0,0 +1,101 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Orçamento de alocação do turno sem interface ({@link GameFacade} + {@link MotorDeJogo}).
+ * Mede os bytes alocados pela thread do teste ({@code ThreadMXBean.getThreadAllocatedBytes})
+ * depois do aquecimento do JIT; passar do orçamento = alguém voltou a alocar por turno.
+ *
+ * 1. Sem observadores: turno completo (dados, prisão, movimento, casas especiais, aluguel, Sorte/Revés, diff, troca de vez)
+ * 2. Com um observador registrado: o envelope e o laço de notificação também não alocam
+ */
+public class TestOrcamentoAlocacao {
+
+    /** Bytes por turno aceitos em regime (medido: ~0,2 B, ruído da contabilidade da própria JVM). */
+    private static final double ORCAMENTO_BYTES_POR_TURNO = 1.0;
+    private static final int TURNOS_AQUECIMENTO = 150_000;
+    private static final int TURNOS_MEDIDOS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean MX =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private GameFacade gf;
+
+    @After
+    public void tearDown() { GameFacade.resetForTests(); }
+
+    private void novaPartida(GameObserver observador) {
+        GameFacade.resetForTests();
+        gf = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3));
+        if (observador != null) gf.addObserver(observador);
+    }
+
+    /** Mesma sequência do {@code TurnPipeline}, comprando o que der. */
+    private void turno() {
+        int d1 = gf.sortearDado(), d2 = gf.sortearDado();
+        int idx = gf.getIndiceJogadorDaVez();
+        gf.notificarRolagem(d1, d2);
+        if (gf.jogadorEstaPreso(idx)) {
+            boolean liberado = gf.tentarLiberarComDupla(idx, d1, d2);
+            gf.notificarEstado();
+            if (!liberado) { gf.avancarTurnoENotificar(); return; }
+        }
+        gf.moverJogadorComDados(idx, d1, d2);
+        int celula = gf.getPosicao(idx);
+        if (gf.posicaoTemPropriedade(celula) && gf.propriedadeDisponivel(celula)
+                && gf.getSaldo(idx) >= gf.getPrecoPropriedade(celula)) gf.comprarPropriedadeAtual(idx);
+        gf.aplicarCasasEspeciais(idx);
+        gf.cobrarAluguelSeNecessario(idx);
+        gf.resolverChanceSeNecessario(idx);
+        gf.notificarEstado();
+        gf.usarCartaLiberacaoAutomatica(idx);
+        gf.notificarEstado();
+        gf.avancarTurnoENotificar();
+    }
+
+    /** Aquece e devolve os bytes por turno de uma janela medida (partida encerrada = recomeça fora da janela). */
+    private double bytesPorTurno(GameObserver observador) {
+        novaPartida(observador);
+        for (int i = 0; i < TURNOS_AQUECIMENTO; i++) {
+            if (gf.isPartidaEncerrada()) novaPartida(observador);
+            turno();
+        }
+        if (gf.isPartidaEncerrada()) novaPartida(observador);
+
+        long tid = Thread.currentThread().getId();
+        long b0 = MX.getThreadAllocatedBytes(tid);
+        int n = 0;
+        for (; n < TURNOS_MEDIDOS && !gf.isPartidaEncerrada(); n++) turno();
+        long bytes = MX.getThreadAllocatedBytes(tid) - b0;
+
+        assertTrue("janela curta demais: " + n + " turnos", n >= 1_000);
+        return bytes / (double) n;
+    }
+
+    @Test
+    public void testTurnoSemObservadoresNaoAloca() {
+        assertTrue(MX.isThreadAllocatedMemorySupported());
+        double b = bytesPorTurno(null);
+        assertTrue(String.format("%.2f B/turno > orçamento de %.1f", b, ORCAMENTO_BYTES_POR_TURNO),
+                b <= ORCAMENTO_BYTES_POR_TURNO);
+    }
+
+    @Test
+    public void testTurnoComObservadorNaoAloca() {
+        double b = bytesPorTurno(new GameObserver() {
+            int soma;
+            @Override public void onDice(int d1, int d2) { soma += d1 + d2; }
+            @Override public void onBalanceChanged(int j, int saldo) { soma += saldo; }
+            @Override public void onTurnChanged(int atual) { soma += atual; }
+        });
+        assertTrue(String.format("%.2f B/turno > orçamento de %.1f", b, ORCAMENTO_BYTES_POR_TURNO),
+                b <= ORCAMENTO_BYTES_POR_TURNO);
+    }
+}
@@ -0,0 +1,101 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes da rotação de turnos com o conjunto de jogadores ativos do {@link GameFacade}.
+ *
+ * 1. Ordem sorteada pula falidos e encerra a partida com um único restante
+ * 2. Estresse sintético: 10.000 jogadores falindo até sobrar um, comparado com varredura simples
+ */
+public class TestOrdemDeTurnos {
+
+    @Before
+    public void setUp() { GameFacade.resetForTests(); }
+
+    @After
+    public void tearDown() { GameFacade.resetForTests(); }
+
+    /** 1 Com ordem [2, 0, 3, 1], falir o 3 faz a vez ir de 0 direto para 1; com um só vivo, a partida acaba. */
+    @Test
+    public void testPulaFalidosEEncerra() {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C", "D"), List.of(2, 0, 3, 1));
+        int[] fim = { 0 };
+        gf.addObserver(new GameObserver() {
+            @Override public void onGameEnded(int winner, List<Integer> capitais) { fim[0]++; }
+        });
+        assertEquals(2, gf.getIndiceJogadorDaVez());
+        gf.avancarTurnoENotificar();
+        assertEquals(0, gf.getIndiceJogadorDaVez());
+
+        gf.getJogadores().get(3).setFalido(true);
+        gf.verificarFalencia(3);
+        gf.avancarTurnoENotificar();
+        assertEquals(1, gf.getIndiceJogadorDaVez());
+
+        gf.getJogadores().get(2).setFalido(true); // falência fora do diff: a rotação descobre
+        gf.avancarTurnoENotificar();
+        assertEquals(0, gf.getIndiceJogadorDaVez());
+        assertEquals(0, fim[0]);
+
+        gf.getJogadores().get(1).setFalido(true);
+        gf.verificarFalencia(1);
+        assertEquals(1, fim[0]);
+    }
+
+    /**
+     * 2 10.000 jogadores em ordem embaralhada. A cada turno o jogador da vez pode falir (pela façade).
+     * Cada avanço é conferido contra uma varredura da ordem; no fim, exatamente um jogador resta
+     * e a partida acaba uma vez, no mesmo momento em que acabaria contando os vivos.
+     */
+    @Test
+    public void testEstresseDezMilJogadores() {
+        final int n = 10_000;
+        List<String> nomes = new ArrayList<>(n);
+        List<Integer> ordem = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) { nomes.add("J" + i); ordem.add(i); }
+        Random rnd = new Random(7);
+        Collections.shuffle(ordem, rnd);
+
+        GameFacade gf = GameFacade.init(nomes, ordem);
+        int[] fim = { 0 };
+        gf.addObserver(new GameObserver() {
+            @Override public void onGameEnded(int winner, List<Integer> capitais) { fim[0]++; }
+        });
+        List<Jogador> js = gf.getJogadores();
+
+        int ponteiro = 0, restantes = n, turnos = 0;
+        long nsAvanco = 0;
+        while (fim[0] == 0) {
+            int atual = ordem.get(ponteiro);
+            assertEquals(atual, gf.getIndiceJogadorDaVez());
+
+            if (restantes > 1 && rnd.nextInt(3) == 0) {
+                js.get(atual).setFalido(true);
+                restantes--;
+                gf.verificarFalencia(atual);
+                assertEquals(restantes == 1 ? 1 : 0, fim[0]);
+            }
+            if (fim[0] != 0) break;
+
+            long t0 = System.nanoTime();
+            gf.avancarTurnoENotificar();
+            nsAvanco += System.nanoTime() - t0;
+            turnos++;
+
+            do { ponteiro = (ponteiro + 1) % n; } while (js.get(ordem.get(ponteiro)).isFalido());
+        }
+        String medida = String.format("%d jogadores: %d turnos, %.2f us/avanço", n, turnos, nsAvanco / 1000.0 / turnos);
+        assertEquals(medida, 1, fim[0]);
+        assertEquals(medida, 1, restantes);
+    }
+}
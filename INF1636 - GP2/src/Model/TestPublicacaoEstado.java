@@ -0,0 +1,163 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do modo de publicação imutável ({@link GameStateVersion}).
+ *
+ * 1. Compartilhamento estrutural entre versões consecutivas
+ * 2. Teste de estresse: uma thread escrevendo turnos e várias lendo sem travas
+ */
+public class TestPublicacaoEstado {
+
+    private static final List<String> NOMES = List.of("A", "B", "C", "D");
+    private static final int TOTAL_INICIAL = 200000 + NOMES.size() * 4000;
+
+    @Before
+    public void setUp() {
+        GameFacade.resetForTests();
+    }
+
+    /**
+     * 1 Versões consecutivas reaproveitam o que não mudou:
+     * após mover só um jogador, os registros dos demais e a lista de propriedades são os mesmos objetos.
+     */
+    @Test
+    public void testCompartilhamentoEstrutural() {
+        GameFacade gf = GameFacade.init(NOMES, null);
+        gf.setPublicacaoImutavel(true);
+        GameStateVersion v1 = gf.getEstadoPublicado();
+        assertNotNull(v1);
+
+        gf.moverJogadorComDados(0, 1, 2); // casa 3, sem efeitos colaterais
+        GameStateVersion v2 = gf.getEstadoPublicado();
+
+        assertTrue(v2.versao() > v1.versao());
+        assertEquals(3, v2.players().get(0).posicao());
+        assertNotSame(v1.players().get(0), v2.players().get(0));
+        for (int i = 1; i < NOMES.size(); i++) assertSame(v1.players().get(i), v2.players().get(i));
+        assertSame(v1.propriedades(), v2.propriedades());
+        assertEquals(0, v1.players().get(0).posicao()); // versão antiga intacta
+    }
+
+    /**
+     * 2 Estresse: leitores nunca veem versão "rasgada".
+     * Invariantes checadas em cada leitura:
+     * versão nunca regride; dinheiro total nunca aumenta (transferências só o movem e a
+     * falência só o destrói); jogador falido tem saldo 0 e não possui propriedades.
+     */
+    @Test
+    public void testLeitoresConcorrentesVeemVersoesConsistentes() throws Exception {
+        final int leitores = 4;
+        final int turnos = 200_000;
+        AtomicReference<GameFacade> jogo = new AtomicReference<>();
+        AtomicBoolean fim = new AtomicBoolean(false);
+        AtomicReference<String> erro = new AtomicReference<>();
+        AtomicLong leituras = new AtomicLong();
+        CountDownLatch prontos = new CountDownLatch(leitores);
+
+        Thread[] ts = new Thread[leitores];
+        for (int r = 0; r < leitores; r++) {
+            ts[r] = new Thread(() -> {
+                prontos.countDown();
+                GameFacade visto = null;
+                long ultimaVersao = 0;
+                int ultimoTotal = Integer.MAX_VALUE;
+                while (!fim.get() && erro.get() == null) {
+                    GameFacade gf = jogo.get();
+                    if (gf == null) continue;
+                    GameStateVersion v = gf.getEstadoPublicado();
+                    if (v == null) continue;
+                    if (gf != visto) { visto = gf; ultimaVersao = 0; ultimoTotal = Integer.MAX_VALUE; }
+                    String falha = verificar(v, ultimaVersao, ultimoTotal);
+                    if (falha != null) { erro.compareAndSet(null, falha); break; }
+                    ultimaVersao = v.versao();
+                    ultimoTotal = total(v);
+                    leituras.incrementAndGet();
+                }
+            }, "leitor-" + r);
+            ts[r].start();
+        }
+        prontos.await();
+
+        AtomicBoolean acabou = new AtomicBoolean(false);
+        for (int t = 0; t < turnos && erro.get() == null; t++) {
+            GameFacade gf = jogo.get();
+            if (gf == null || acabou.get()) {
+                GameFacade.resetForTests();
+                gf = GameFacade.init(NOMES, null);
+                acabou.set(false);
+                gf.addObserver(new GameObserver() {
+                    @Override public void onGameEnded(int w, List<Integer> c) { acabou.set(true); }
+                });
+                gf.setPublicacaoImutavel(true);
+                jogo.set(gf);
+            }
+            jogarTurno(gf);
+        }
+        fim.set(true);
+        for (Thread t : ts) t.join();
+
+        assertNull(erro.get(), erro.get());
+        assertTrue(leituras.get() > 0);
+    }
+
+    /** Sequência de um turno como o Controller faz, comprando/construindo sempre que possível. */
+    private static void jogarTurno(GameFacade gf) {
+        List<Integer> dados = gf.sortearDados();
+        int d1 = dados.get(0), d2 = dados.get(1);
+        int idx = gf.getIndiceJogadorDaVez();
+        gf.notificarRolagem(d1, d2);
+        if (gf.jogadorEstaPreso(idx)) {
+            boolean liberado = gf.tentarLiberarComDupla(idx, d1, d2);
+            gf.notificarEstado();
+            if (!liberado) { gf.avancarTurnoENotificar(); return; }
+        }
+        gf.moverJogadorComDados(idx, d1, d2);
+        int cel = gf.getPosicao(idx);
+        if (gf.propriedadeDisponivel(cel) && gf.getSaldo(idx) >= gf.getPrecoPropriedade(cel)) {
+            gf.comprarPropriedadeAtual(idx);
+        } else if (gf.podeConstruirCasaAqui(idx)) {
+            gf.construirCasaNoLocal(idx);
+        }
+        gf.aplicarCasasEspeciais(idx);
+        gf.cobrarAluguelSeNecessario(idx);
+        gf.resolverChanceSeNecessario(idx);
+        gf.notificarEstado();
+        gf.usarCartaLiberacaoAutomatica(idx);
+        gf.notificarEstado();
+        gf.avancarTurnoENotificar();
+    }
+
+    private static String verificar(GameStateVersion v, long ultimaVersao, int ultimoTotal) {
+        if (v.versao() < ultimaVersao) return "versão regrediu: " + v.versao() + " < " + ultimaVersao;
+        if (v.players().size() != NOMES.size()) return "número de jogadores mudou";
+        int total = total(v);
+        if (total > TOTAL_INICIAL) return "dinheiro criado: " + total;
+        if (total > ultimoTotal) return "dinheiro total aumentou entre versões: " + ultimoTotal + " -> " + total;
+        for (int i = 0; i < v.players().size(); i++) {
+            GameStateVersion.PlayerState p = v.players().get(i);
+            if (!p.falido()) continue;
+            if (p.saldo() != 0) return "falido com saldo " + p.saldo() + " na versão " + v.versao();
+            for (GameStateVersion.PropertyState ps : v.propriedades()) {
+                if (ps.ownerIndex() == i) return "falido ainda dono da casa " + ps.posicao();
+            }
+        }
+        return null;
+    }
+
+    private static int total(GameStateVersion v) {
+        int soma = v.bancoSaldo();
+        for (GameStateVersion.PlayerState p : v.players()) soma += p.saldo();
+        return soma;
+    }
+}
@@ -0,0 +1,87 @@
+package Model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes das regras de dinheiro parametrizadas ({@link RegrasEconomicas}).
+ *
+ * 1. Com as regras padrão os valores são os do enunciado
+ * 2. Regras trocadas no tabuleiro/motor mudam aluguel, preço de construção e bônus da saída,
+ *    inclusive de propriedades cadastradas antes da troca
+ * 3. Parâmetro negativo ou desconhecido é recusado
+ */
+public class TestRegrasEconomicas {
+
+    private Banco banco;
+    private Tabuleiro tabuleiro;
+    private MotorDeJogo motor;
+    private Jogador j;
+    private Terreno terreno;
+    private Companhia companhia;
+
+    @Before
+    public void setUp() {
+        banco = new Banco();
+        tabuleiro = new Tabuleiro();
+        motor = new MotorDeJogo(banco, tabuleiro);
+        j = new Jogador("A");
+        tabuleiro.addJogador(j);
+        terreno = new Terreno("Leblon", 100, 50, 10, 1);
+        companhia = new Companhia("Companhia Ferroviária", 200, 1, 25, 5);
+        tabuleiro.addPropriedade(terreno);
+        tabuleiro.addPropriedade(companhia);
+        terreno.adicionaCasa();
+        terreno.adicionaCasa();
+    }
+
+    private int saldoAposPassarPelaSaida() {
+        j.setPosicao(39);
+        int antes = j.getConta().getSaldo();
+        motor.moverJogador(j, 2);
+        return j.getConta().getSaldo() - antes;
+    }
+
+    @Test
+    public void testPadraoEhORegraDoEnunciado() {
+        assertEquals(10 + 2 * 15, terreno.calculaAluguel());
+        terreno.adicionaHotel();
+        assertEquals(10 + 2 * 15 + 30, terreno.calculaAluguel());
+        assertEquals(50, terreno.getValorCasa());
+        assertEquals(100, terreno.getValorHotel());
+        assertEquals(25, companhia.calculaAluguel());
+        assertEquals(200, saldoAposPassarPelaSaida());
+    }
+
+    @Test
+    public void testRegrasTrocadasValemParaTudo() {
+        RegrasEconomicas r = RegrasEconomicas.PADRAO.com("aluguelBase", 0.20).com("aluguelPorCasa", 0.25)
+                .com("fatorCompanhia", 2.0).com("bonusSaida", 50).com("precoCasa", 0.40).com("precoHotel", 1.5);
+        tabuleiro.setRegras(r);
+        motor.setRegras(r);
+
+        assertEquals(20 + 2 * 25, terreno.calculaAluguel());
+        assertEquals(40, terreno.getValorCasa());
+        assertEquals(150, terreno.getValorHotel());
+        assertEquals(50, companhia.calculaAluguel());
+        assertEquals(50, saldoAposPassarPelaSaida());
+
+        Terreno novo = new Terreno("Botafogo", 100, 50, 10, 23);
+        tabuleiro.addPropriedade(novo);
+        novo.adicionaCasa();
+        assertEquals(20 + 25, novo.calculaAluguel());
+
+        motor.setRegras(r.com("bonusSaida", 0));
+        assertEquals(0, saldoAposPassarPelaSaida());
+    }
+
+    @Test
+    public void testParametroInvalido() {
+        try { RegrasEconomicas.PADRAO.com("aluguelBase", -0.1); fail("negativo aceito"); }
+        catch (IllegalArgumentException esperado) { }
+        try { RegrasEconomicas.PADRAO.com("juros", 1); fail("parâmetro desconhecido aceito"); }
+        catch (IllegalArgumentException esperado) { }
+    }
+}
@@ -0,0 +1,57 @@
+package controller;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Políticas fixas de decisão (bots) para avanço rápido, demos e testes.
+ * Respondem na hora (futuros já completos), sem UI.
+ */
+public final class Bots {
+    private Bots() {}
+
+    private static final CompletableFuture<Boolean> SIM = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> NAO = CompletableFuture.completedFuture(false);
+    private static final CompletableFuture<Decisor.Construcao> CASA = CompletableFuture.completedFuture(Decisor.Construcao.CASA);
+    private static final CompletableFuture<Decisor.Construcao> HOTEL = CompletableFuture.completedFuture(Decisor.Construcao.HOTEL);
+    private static final CompletableFuture<Decisor.Construcao> NADA = CompletableFuture.completedFuture(Decisor.Construcao.NADA);
+
+    /** Compra tudo o que puder e constrói sempre (casa antes de hotel). */
+    public static Decisor sempreCompra() {
+        return new Decisor() {
+            @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) { return SIM; }
+            @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                     boolean podeHotel, int vh) {
+                return podeCasa ? CASA : HOTEL;
+            }
+        };
+    }
+
+    /** Nunca compra nem constrói (só anda, paga e recebe). */
+    public static Decisor nuncaCompra() {
+        return new Decisor() {
+            @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) { return NAO; }
+            @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                     boolean podeHotel, int vh) {
+                return NADA;
+            }
+        };
+    }
+
+    /**
+     * Compra/constrói com probabilidade {@code p}.
+     * @param rng gerador (semente fixa = decisões reproduzíveis)
+     */
+    public static Decisor aleatorio(Random rng, double p) {
+        return new Decisor() {
+            @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) {
+                return rng.nextDouble() < p ? SIM : NAO;
+            }
+            @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                     boolean podeHotel, int vh) {
+                if (rng.nextDouble() >= p) return NADA;
+                return podeCasa ? CASA : HOTEL;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package controller;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Quem responde às decisões pedidas no meio de um turno (compra e construção).
+ * <p>
+ * O {@link TurnPipeline} pergunta na thread do motor e espera o futuro sem segurar o estado do
+ * jogo; a resposta pode vir de qualquer thread (diálogo na EDT, bot, replay).
+ * </p>
+ */
+public interface Decisor {
+
+    /** O que construir na propriedade atual. */
+    enum Construcao { NADA, CASA, HOTEL }
+
+    /** Comprar a propriedade livre em que o jogador caiu? (só perguntado se houver saldo) */
+    CompletableFuture<Boolean> comprar(int jogador, int celula, String nome, int preco);
+
+    /**
+     * O que construir na propriedade do próprio jogador. Só é perguntado se ao menos uma opção
+     * for possível e paga; as flags dizem quais.
+     */
+    CompletableFuture<Construcao> construir(int jogador, int celula,
+                                            boolean podeCasa, int valorCasa,
+                                            boolean podeHotel, int valorHotel);
+}
@@ -0,0 +1,112 @@
+package controller;
+
+import Model.GameObserver;
+import infra.EdtWatchdog;
+
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adaptador que entrega os callbacks do jogo na EDT, na ordem em que foram emitidos.
+ * <p>
+ * Os eventos emitidos na thread do motor entram numa fila; um único {@code invokeLater} esvazia
+ * a fila inteira (uma rajada de eventos custa uma ida à EDT). Cada callback roda segurando
+ * {@code trava} (o mesmo monitor que o {@link TurnPipeline} segura em cada passo), então as
+ * leituras que o observador faz na façade nunca veem um passo pela metade. Por isso o callback
+ * não pode abrir diálogo modal: o motor ficaria parado enquanto o diálogo estivesse aberto; o
+ * observador lê o que precisa e abre o diálogo depois ({@code invokeLater}), já sem a trava.
+ * O {@code onGameEnded} traz tudo no próprio evento e é entregue sem a trava.
+ * </p>
+ * <p>
+ * Cada entrega marca o nome do callback no {@link EdtWatchdog}, para que um travamento da EDT
+ * (ex.: cadeia de diálogos) seja registrado junto com o evento de jogo que o causou.
+ * </p>
+ */
+public final class EdtObserver implements GameObserver {
+
+    private final GameObserver alvo;
+    private final Object trava;
+    /** Callback pendente com o nome usado pelo vigia da EDT. */
+    private record Evento(String nome, Runnable acao, boolean comTrava) {}
+
+    private final ConcurrentLinkedQueue<Evento> fila = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean agendado = new AtomicBoolean();
+    private boolean drenando; // só na EDT
+
+    public EdtObserver(GameObserver alvo, Object trava) {
+        this.alvo = alvo;
+        this.trava = trava;
+    }
+
+    /**
+     * Entrega na EDT tudo o que estiver na fila (ex.: antes de fechar a janela).
+     * Chamadas aninhadas (diálogo modal dentro de um callback) não furam a ordem.
+     */
+    public void drenar() {
+        if (!SwingUtilities.isEventDispatchThread()) throw new IllegalStateException("drenar() fora da EDT");
+        agendado.set(false);
+        if (drenando) return;
+        drenando = true;
+        try {
+            Evento e;
+            while ((e = fila.poll()) != null) {
+                EdtWatchdog.marcarEvento(e.nome());
+                if (!e.comTrava()) { e.acao().run(); continue; }
+                synchronized (trava) { e.acao().run(); }
+            }
+        } finally {
+            drenando = false;
+            EdtWatchdog.limparEvento();
+        }
+    }
+
+    /** Eventos ainda não entregues. */
+    public int getPendentes() { return fila.size(); }
+
+    private void postar(String nome, Runnable r) { postar(nome, r, true); }
+
+    private void postar(String nome, Runnable r, boolean comTrava) {
+        fila.add(new Evento(nome, r, comTrava));
+        if (SwingUtilities.isEventDispatchThread()) { drenar(); return; } // emitido na EDT: mantém síncrono
+        if (agendado.compareAndSet(false, true)) SwingUtilities.invokeLater(this::drenar);
+    }
+
+    // ----------------- Callbacks repassados -----------------
+
+    @Override public void onDice(int d1, int d2) { postar("onDice", () -> alvo.onDice(d1, d2)); }
+
+    @Override public void onMoved(int j, int de, int para) { postar("onMoved", () -> alvo.onMoved(j, de, para)); }
+
+    @Override public void onTurnChanged(int atual) { postar("onTurnChanged", () -> alvo.onTurnChanged(atual)); }
+
+    @Override public void onBalanceChanged(int j, int saldo) { postar("onBalanceChanged", () -> alvo.onBalanceChanged(j, saldo)); }
+
+    @Override public void onPropertyBought(int j, int celula) { postar("onPropertyBought", () -> alvo.onPropertyBought(j, celula)); }
+
+    @Override public void onHouseBuilt(int j, int celula, int casas) { postar("onHouseBuilt", () -> alvo.onHouseBuilt(j, celula, casas)); }
+
+    @Override public void onJailStatus(int j, boolean preso) { postar("onJailStatus", () -> alvo.onJailStatus(j, preso)); }
+
+    @Override public void onBankruptcy(int j) { postar("onBankruptcy", () -> alvo.onBankruptcy(j)); }
+
+    @Override public void onRentPaid(int pagador, int dono, int celula, int valor) {
+        postar("onRentPaid", () -> alvo.onRentPaid(pagador, dono, celula, valor));
+    }
+
+    @Override public void onChanceCard(int j, int celula, int numero, String tipo, int valor) {
+        postar("onChanceCard", () -> alvo.onChanceCard(j, celula, numero, tipo, valor));
+    }
+
+    @Override public void onSpecialCell(int j, int celula, int valor, String descricao) {
+        postar("onSpecialCell", () -> alvo.onSpecialCell(j, celula, valor, descricao));
+    }
+
+    @Override public void onReleaseCardUsed(int j) { postar("onReleaseCardUsed", () -> alvo.onReleaseCardUsed(j)); }
+
+    @Override public void onGameEnded(int vencedor, List<Integer> capitais) {
+        List<Integer> copia = List.copyOf(capitais);
+        postar("onGameEnded", () -> alvo.onGameEnded(vencedor, copia), false); // placar modal: só dados do evento
+    }
+}
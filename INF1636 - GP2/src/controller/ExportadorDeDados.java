@@ -0,0 +1,208 @@
+package controller;
+
+import Model.GameFacade;
+import Model.GameObserver;
+import Model.GameStateSnapshot;
+import infra.EscritorColunar;
+import infra.LeitorColunar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporta partidas para análise, em tabelas colunares ({@link EscritorColunar}) dentro de um diretório:
+ * <pre>
+ *   estado/     partida, turno, jogador, posicao, saldo     (uma linha por jogador ao fim de cada turno)
+ *   alugueis/   partida, turno, pagador, dono, celula, valor
+ *   cartas/     partida, turno, jogador, celula, codigo
+ *   falencias/  partida, turno, jogador
+ * </pre>
+ * <p>
+ * Alimentado pelos callbacks do {@link GameObserver}, registrado como coletor
+ * ({@link GameFacade#addColetor}): recebe tudo também no avanço rápido, na thread do motor e com o
+ * monitor da partida, então lê posições/saldos direto da fachada. Memória fixa (um bloco por coluna);
+ * o turno é o número de trocas de vez desde {@link #iniciarPartida}.
+ * </p>
+ * <p>
+ * Ativação na UI: {@code -Dbanco.exportacao=dir}. Sem UI: {@link #main} simula várias partidas com
+ * bots e imprime os agregados ({@link #aluguelPorCelula}, {@link #turnosDeFalencia}).
+ * </p>
+ */
+public final class ExportadorDeDados implements GameObserver, Closeable {
+
+    /** Propriedade de sistema com o diretório da exportação (vazia = não exporta). */
+    public static final String PROPRIEDADE = "banco.exportacao";
+
+    public static final String ESTADO = "estado", ALUGUEIS = "alugueis", CARTAS = "cartas", FALENCIAS = "falencias";
+    private static final int CASAS = 40; // tabuleiro padrão
+
+    private final EscritorColunar estado, alugueis, cartas, falencias;
+    private GameFacade game;
+    private int partida = -1, turno;
+    private boolean fechado;
+
+    /** Cria (ou recria) as tabelas em {@code dir}. */
+    public ExportadorDeDados(Path dir) throws IOException {
+        estado = new EscritorColunar(dir.resolve(ESTADO), "partida", "turno", "jogador", "posicao", "saldo");
+        alugueis = new EscritorColunar(dir.resolve(ALUGUEIS), "partida", "turno", "pagador", "dono", "celula", "valor");
+        cartas = new EscritorColunar(dir.resolve(CARTAS), "partida", "turno", "jogador", "celula", "codigo");
+        falencias = new EscritorColunar(dir.resolve(FALENCIAS), "partida", "turno", "jogador");
+    }
+
+    /** Liga a exportação na partida da UI se {@code -Dbanco.exportacao=dir} estiver ligado. */
+    public static ExportadorDeDados iniciarSeHabilitado(GameFacade game) {
+        String dir = System.getProperty(PROPRIEDADE, "");
+        if (dir.isBlank()) return null;
+        try {
+            ExportadorDeDados e = new ExportadorDeDados(Path.of(dir));
+            e.iniciarPartida(game);
+            return e;
+        } catch (IOException e) {
+            System.err.println("Exportação desligada: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Passa a coletar {@code game} como uma nova partida (turno 0), largando a anterior.
+     * Chamar com a partida parada (fora do motor ou dentro de um passo dele).
+     */
+    public void iniciarPartida(GameFacade game) {
+        synchronized (game) {
+            if (this.game != null) this.game.removeColetor(this);
+            this.game = game;
+            partida++;
+            turno = 0;
+            game.addColetor(this);
+        }
+    }
+
+    /** Para de coletar e grava os blocos parciais. Idempotente. */
+    @Override
+    public void close() throws IOException {
+        if (fechado) return;
+        fechado = true;
+        if (game != null) synchronized (game) { game.removeColetor(this); }
+        IOException erro = null;
+        for (EscritorColunar t : new EscritorColunar[]{ estado, alugueis, cartas, falencias }) {
+            try { t.close(); } catch (IOException e) { if (erro == null) erro = e; }
+        }
+        if (erro != null) throw erro;
+    }
+
+    public int getPartidas() { return partida + 1; }
+    public long getLinhasDeEstado() { return estado.getLinhas(); }
+
+    // ---------- Callbacks (thread do motor, com o monitor) ----------
+
+    @Override
+    public void onTurnChanged(int currentPlayerIndex) {
+        fecharTurno();
+    }
+
+    @Override
+    public void onGameEnded(int winnerIndex, List<Integer> capitaisPorJogador) {
+        fecharTurno(); // estado final
+    }
+
+    @Override
+    public void onRentPaid(int payerIndex, int ownerIndex, int cell, int amount) {
+        alugueis.valor(partida).valor(turno).valor(payerIndex).valor(ownerIndex).valor(cell).valor(amount);
+    }
+
+    @Override
+    public void onChanceCard(int playerIndex, int cell, int cardNumber, String tipo, int valor) {
+        cartas.valor(partida).valor(turno).valor(playerIndex).valor(cell).valor(cardNumber);
+    }
+
+    @Override
+    public void onBankruptcy(int playerIndex) {
+        falencias.valor(partida).valor(turno).valor(playerIndex);
+    }
+
+    private void fecharTurno() {
+        int n = game.getNumeroJogadores();
+        for (int j = 0; j < n; j++) {
+            estado.valor(partida).valor(turno).valor(j).valor(game.getPosicao(j)).valor(game.getSaldo(j));
+        }
+        turno++;
+    }
+
+    // ---------- Agregados ----------
+
+    /** Total de aluguel pago por célula do tabuleiro padrão (índice = célula). */
+    public static long[] aluguelPorCelula(Path dir) throws IOException {
+        return aluguelPorCelula(dir, CASAS);
+    }
+
+    /** Como {@link #aluguelPorCelula(Path)} num tabuleiro de {@code casas} casas. */
+    public static long[] aluguelPorCelula(Path dir, int casas) throws IOException {
+        return LeitorColunar.abrir(dir.resolve(ALUGUEIS)).somaPorChave("celula", "valor", casas);
+    }
+
+    /** Distribuição dos turnos de falência em {@code faixas} faixas de {@code largura} turnos (a última acumula o resto). */
+    public static long[] turnosDeFalencia(Path dir, int largura, int faixas) throws IOException {
+        return LeitorColunar.abrir(dir.resolve(FALENCIAS)).histograma("turno", largura, faixas);
+    }
+
+    // ---------- Simulação ----------
+
+    /** Estado de {@code snap} com todos os jogadores começando com {@code saldo} (partidas mais curtas). */
+    static GameStateSnapshot comSaldoInicial(GameStateSnapshot snap, int saldo) {
+        List<GameStateSnapshot.PlayerData> ps = new ArrayList<>();
+        for (GameStateSnapshot.PlayerData p : snap.players()) {
+            ps.add(new GameStateSnapshot.PlayerData(p.nome(), p.corIndex(), saldo, p.posicao(), p.preso(), p.falido(),
+                    p.cartasLiberacao()));
+        }
+        return new GameStateSnapshot(snap.bancoSaldo(), snap.ordem(), snap.ponteiro(), ps, snap.propriedades(), snap.deck(),
+                snap.casas());
+    }
+
+    /**
+     * Simula partidas com bots aleatórios (semente = número da partida) e exporta para {@code dir}.
+     * Uso: {@code java controller.ExportadorDeDados <dir> [partidas=20] [maxTurnos=5000] [saldoInicial=4000]}.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("uso: java controller.ExportadorDeDados <dir> [partidas] [maxTurnos] [saldoInicial]");
+            System.exit(2);
+        }
+        Path dir = Path.of(args[0]);
+        int partidas = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int maxTurnos = args.length > 2 ? Integer.parseInt(args[2]) : 5_000;
+        int saldo = args.length > 3 ? Integer.parseInt(args[3]) : 4_000;
+
+        long t0 = System.nanoTime();
+        try (ExportadorDeDados exp = new ExportadorDeDados(dir)) {
+            for (int p = 0; p < partidas; p++) {
+                GameFacade.resetForTests();
+                GameFacade g = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3), p);
+                g.restaurar(comSaldoInicial(g.capturarSnapshot(null), saldo), g.getEstadoAleatorio());
+                exp.iniciarPartida(g);
+                TurnPipeline pipeline = new TurnPipeline(g, Bots.nuncaCompra());
+                try {
+                    TurnPipeline.Avanco r = pipeline.avancarRapido(maxTurnos, null, Bots.aleatorio(new Random(p), 0.7))
+                            .get(10, TimeUnit.MINUTES);
+                    System.out.println("Partida " + p + ": " + r);
+                } finally {
+                    pipeline.shutdown();
+                }
+            }
+            System.out.println(exp.getLinhasDeEstado() + " linhas de estado em " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+        }
+
+        long t1 = System.nanoTime();
+        long[] aluguel = aluguelPorCelula(dir);
+        long[] falencia = turnosDeFalencia(dir, 100, 20);
+        System.out.println("Agregados em " + (System.nanoTime() - t1) / 1_000_000 + " ms");
+        System.out.println("Aluguel por célula:");
+        for (int c = 0; c < aluguel.length; c++) if (aluguel[c] > 0) System.out.printf("  %2d  R$ %,d%n", c, aluguel[c]);
+        System.out.println("Falências por turno (faixas de 100):");
+        for (int i = 0; i < falencia.length; i++) if (falencia[i] > 0) System.out.printf("  %5d+  %d%n", i * 100, falencia[i]);
+    }
+}
@@ -0,0 +1,98 @@
+package controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gravação de uma partida: semente + o que não sai dela (dados forçados e decisões), turno a turno.
+ * <p>
+ * Arquivo texto ASCII ({@code partida.rep}), escrito pelo {@link GravadorDePartida}:
+ * </p>
+ * <pre>
+ *   GRAVACAO=1
+ *   SEMENTE=-4962768465676381896     (só em partida nova; sem ela o replay começa do checkpoint 0)
+ *   JOGADORES=Ana|Beto|Caio
+ *   ORDEM=2,0,1
+ *   CORES=0,1,2                      (índice do pino, para a UI do replay)
+ *   TURNOS
+ *   S|C1                             (dados sorteados pelo motor; comprou)
+ *   F|3|3|KC                         (dados forçados 3+3; construiu casa)
+ *   S                                (sem decisões)
+ *   FIM                              (partida encerrada pelo botão/janela)
+ * </pre>
+ * <p>
+ * Decisões: {@code C1}/{@code C0} comprar sim/não; {@code KN}/{@code KC}/{@code KH} construir
+ * nada/casa/hotel. Os checkpoints ficam no índice lateral {@code partida.rep.idx}
+ * ({@link Model.IndiceDeCheckpoints}); uma gravação cortada (jogo derrubado) vale até o último turno completo.
+ * </p>
+ */
+public final class Gravacao {
+
+    /** Um turno: dados forçados ({@code sorteados == false}) ou sorteados pelo motor, e as decisões na ordem. */
+    public record Turno(boolean sorteados, int d1, int d2, String decisoes) {}
+
+    private Long semente;
+    private List<String> nomes = List.of();
+    private List<Integer> ordem = List.of();
+    private List<Integer> cores = List.of();
+    private final List<Turno> turnos = new ArrayList<>();
+    private boolean encerrada;
+
+    private Gravacao() {}
+
+    /** Arquivo de checkpoints que acompanha {@code gravacao}. */
+    public static Path indiceDe(Path gravacao) {
+        return gravacao.resolveSibling(gravacao.getFileName() + ".idx");
+    }
+
+    public static Gravacao ler(Path arquivo) throws IOException {
+        Gravacao g = new Gravacao();
+        boolean nosTurnos = false;
+        for (String ln : Files.readAllLines(arquivo, StandardCharsets.US_ASCII)) {
+            ln = ln.trim();
+            if (ln.isEmpty()) continue;
+            if (nosTurnos) {
+                if (ln.equals("FIM")) { g.encerrada = true; break; }
+                g.turnos.add(turno(ln));
+                continue;
+            }
+            if (ln.startsWith("SEMENTE=")) g.semente = Long.parseLong(ln.substring(8));
+            else if (ln.startsWith("JOGADORES=")) g.nomes = List.of(ln.substring(10).split("\\|"));
+            else if (ln.startsWith("ORDEM=")) g.ordem = inteiros(ln.substring(6));
+            else if (ln.startsWith("CORES=")) g.cores = inteiros(ln.substring(6));
+            else if (ln.equals("TURNOS")) nosTurnos = true;
+        }
+        return g;
+    }
+
+    private static Turno turno(String ln) {
+        String[] t = ln.split("\\|");
+        StringBuilder decisoes = new StringBuilder();
+        boolean sorteados = t[0].equals("S");
+        for (int i = sorteados ? 1 : 3; i < t.length; i++) decisoes.append(t[i]);
+        if (sorteados) return new Turno(true, 0, 0, decisoes.toString());
+        return new Turno(false, Integer.parseInt(t[1]), Integer.parseInt(t[2]), decisoes.toString());
+    }
+
+    private static List<Integer> inteiros(String csv) {
+        List<Integer> out = new ArrayList<>();
+        for (String s : csv.split(",")) if (!s.isBlank()) out.add(Integer.parseInt(s.trim()));
+        return out;
+    }
+
+    // ---------- Consulta ----------
+
+    /** Semente da partida, ou {@code null} se a gravação começou de um save/partida em andamento. */
+    public Long getSemente() { return semente; }
+    public List<String> getNomes() { return nomes; }
+    public List<Integer> getOrdem() { return ordem; }
+    /** Índice do pino (0..5) por jogador; vazio se não gravado. */
+    public List<Integer> getCores() { return cores; }
+    public List<Turno> getTurnos() { return turnos; }
+    /** Se a partida foi encerrada explicitamente (o replay termina chamando o encerramento). */
+    public boolean isEncerrada() { return encerrada; }
+}
@@ -0,0 +1,154 @@
+package controller;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.IndiceDeCheckpoints;
+
+import java.awt.Color;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava a partida em andamento no formato de {@link Gravacao}, com checkpoints a cada
+ * {@code intervalo} turnos no índice lateral ({@link Gravacao#indiceDe}).
+ * <p>
+ * Ligado no {@link TurnPipeline} ({@link TurnPipeline#setGravador}); tudo roda na thread do motor.
+ * Turnos da UI são descarregados em disco na hora (a gravação sobrevive a um travamento);
+ * no avanço rápido o descarregamento fica para os checkpoints.
+ * </p>
+ * <p>Ativação na UI: {@code -Dbanco.gravacao=partida.rep}.</p>
+ */
+public final class GravadorDePartida implements Closeable {
+
+    /** Propriedade de sistema com o arquivo da gravação (vazia = não grava). */
+    public static final String PROPRIEDADE = "banco.gravacao";
+    /** Turnos entre checkpoints: busca = restaurar um checkpoint + no máximo isso de turnos. */
+    public static final int INTERVALO_PADRAO = 200;
+
+    private final Path arquivo;
+    private final GameFacade game;
+    private final List<Color> cores;
+    private final int intervalo;
+    private final PrintWriter out;
+    private final IndiceDeCheckpoints.Escritor indice;
+    private final StringBuilder linha = new StringBuilder();
+    private int turnos, ultimoCheckpoint;
+    private boolean fechado;
+
+    /**
+     * Começa a gravar a partida a partir do estado atual (checkpoint 0).
+     * @param partidaNova se a partida ainda está como {@code GameFacade.init} a criou: aí a semente basta para refazê-la
+     * @param cores       cores dos pinos (para o replay na UI); {@code null} = cinza
+     */
+    public GravadorDePartida(Path arquivo, GameFacade game, List<Color> cores, boolean partidaNova, int intervalo)
+            throws IOException {
+        this.arquivo = arquivo;
+        this.game = game;
+        this.cores = cores;
+        this.intervalo = Math.max(1, intervalo);
+        BufferedWriter w = Files.newBufferedWriter(arquivo, StandardCharsets.US_ASCII);
+        this.out = new PrintWriter(w);
+        this.indice = new IndiceDeCheckpoints.Escritor(Gravacao.indiceDe(arquivo));
+        synchronized (game) {
+            escreverCabecalho(out, game, cores, partidaNova);
+            indice.gravar(0, game, cores);
+        }
+        out.flush();
+        indice.flush();
+    }
+
+    /** Gravador ligado pela propriedade {@value #PROPRIEDADE}, ou {@code null}. */
+    public static GravadorDePartida iniciarSeHabilitado(GameFacade game, List<Color> cores, boolean partidaNova) {
+        String arquivo = System.getProperty(PROPRIEDADE, "");
+        if (arquivo.isBlank()) return null;
+        try {
+            return new GravadorDePartida(Path.of(arquivo), game, cores, partidaNova, INTERVALO_PADRAO);
+        } catch (IOException e) {
+            System.err.println("Gravação desligada: " + e);
+            return null;
+        }
+    }
+
+    /** Arquivo da gravação. */
+    public Path getArquivo() { return arquivo; }
+
+    public int getTurnos() { return turnos; }
+
+    // ---------- Chamados pelo TurnPipeline (thread do motor) ----------
+
+    void inicioTurno(int d1, int d2, boolean sorteados) {
+        linha.setLength(0);
+        if (sorteados) linha.append('S');
+        else linha.append("F|").append(d1).append('|').append(d2);
+    }
+
+    void compra(boolean sim) { linha.append(sim ? "|C1" : "|C0"); }
+
+    void construcao(Decisor.Construcao escolha) {
+        linha.append(switch (escolha) { case CASA -> "|KC"; case HOTEL -> "|KH"; case NADA -> "|KN"; });
+    }
+
+    /** Com o monitor da façade: fecha a linha do turno e, no intervalo, grava um checkpoint. */
+    void fimTurno(boolean avancoRapido) {
+        if (fechado) return;
+        out.println(linha);
+        turnos++;
+        if (turnos % intervalo == 0) checkpoint();
+        else if (!avancoRapido) out.flush();
+    }
+
+    void encerrada() {
+        if (fechado) return;
+        out.println("FIM");
+        out.flush();
+    }
+
+    private void checkpoint() {
+        out.flush();
+        indice.gravar(turnos, game, cores);
+        indice.flush();
+        ultimoCheckpoint = turnos;
+    }
+
+    /** Grava o checkpoint final (o replay confere o estado com ele) e fecha os arquivos. */
+    @Override
+    public void close() {
+        synchronized (game) {
+            if (fechado) return;
+            if (ultimoCheckpoint != turnos) checkpoint();
+            fechado = true;
+            out.close();
+            indice.close();
+        }
+    }
+
+    /** Cabeçalho da gravação (ver {@link Gravacao}). */
+    private static void escreverCabecalho(PrintWriter out, GameFacade game, List<Color> cores, boolean partidaNova) {
+        GameStateSnapshot snap = game.capturarSnapshot(cores);
+        List<String> nomes = new ArrayList<>();
+        List<Integer> pinos = new ArrayList<>();
+        for (GameStateSnapshot.PlayerData p : snap.players()) {
+            nomes.add(p.nome().replace("|", "/"));
+            pinos.add(p.corIndex());
+        }
+        out.println("GRAVACAO=1");
+        if (partidaNova) out.println("SEMENTE=" + game.getSemente());
+        out.println("JOGADORES=" + String.join("|", nomes));
+        out.println("ORDEM=" + csv(snap.ordem()));
+        out.println("CORES=" + csv(pinos));
+        out.println("TURNOS");
+    }
+
+    private static String csv(List<Integer> v) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < v.size(); i++) { if (i > 0) sb.append(','); sb.append(v.get(i)); }
+        return sb.toString();
+    }
+}
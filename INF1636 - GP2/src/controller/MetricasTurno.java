@@ -0,0 +1,200 @@
+package controller;
+
+import Model.GameObserver;
+import infra.Histograma;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latência de cada fase do turno ({@link TurnPipeline}) e contagem de callbacks do jogo,
+ * publicadas por JMX (jconsole/VisualVM → {@value #NOME_JMX}).
+ * <p>
+ * Cada fase tem um {@link Histograma} sem trava. O motor marca as fronteiras das fases com
+ * {@link #inicio}/{@link #fase}: uma leitura de relógio por fase (~0,7 µs por turno cronometrado).
+ * Num turno jogado pela UI isso é bem menos de 1%, então todos são medidos; no avanço rápido o
+ * turno inteiro leva poucos µs e só 1 a cada {@link #getAmostragemAvancoRapido()} é cronometrado
+ * (os outros pagam um incremento). Os callbacks são contados por {@link #observador()}.
+ * </p>
+ */
+public final class MetricasTurno implements MetricasTurnoMBean {
+
+    public static final String NOME_JMX = "banco:type=MetricasTurno";
+
+    /** Fases do turno, na ordem em que o motor as executa. */
+    public enum Fase {
+        ROLAGEM, PRISAO, MOVIMENTO, CASAS_ESPECIAIS, ALUGUEL, SORTE_REVES, CARTA_LIBERACAO, DIFF_ESTADO, TROCA_DE_VEZ
+    }
+
+    /** Callbacks do {@link GameObserver}, na ordem da interface. */
+    public enum Callback {
+        onDice, onMoved, onTurnChanged, onBalanceChanged, onPropertyBought, onHouseBuilt, onJailStatus,
+        onBankruptcy, onRentPaid, onChanceCard, onSpecialCell, onReleaseCardUsed, onGameEnded
+    }
+
+    private static final Fase[] FASES = Fase.values();
+    private static final Callback[] CALLBACKS = Callback.values();
+
+    private static MetricasTurno padrao;
+
+    private final Histograma[] fases = new Histograma[FASES.length];
+    private final AtomicLongArray callbacks = new AtomicLongArray(CALLBACKS.length);
+    private long turnos; // escrito só pela thread do motor (sem instrução atômica no caminho quente)
+    private volatile int mascara, mascaraRapida;
+
+    /**
+     * @param amostragem mede 1 a cada N turnos normais (arredondado para potência de 2)
+     * @param amostragemAvancoRapido idem, para turnos do avanço rápido
+     */
+    public MetricasTurno(int amostragem, int amostragemAvancoRapido) {
+        for (int i = 0; i < fases.length; i++) fases[i] = new Histograma();
+        setAmostragem(amostragem);
+        setAmostragemAvancoRapido(amostragemAvancoRapido);
+    }
+
+    /** Instância da aplicação, registrada no servidor JMX da plataforma na primeira chamada. */
+    public static synchronized MetricasTurno padrao() {
+        if (padrao == null) {
+            padrao = new MetricasTurno(1, 256);
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(padrao, new ObjectName(NOME_JMX));
+            } catch (InstanceAlreadyExistsException e) {
+                // outro carregador já registrou; segue só com as métricas locais
+            } catch (JMException e) {
+                System.err.println("Métricas do turno sem JMX: " + e.getMessage());
+            }
+        }
+        return padrao;
+    }
+
+    // ---------- Marcação (thread do motor) ----------
+
+    /** Início de um turno: relógio atual se este turno for amostrado, senão 0. */
+    public long inicio(boolean avancoRapido) {
+        long n = ++turnos;
+        return (n & (avancoRapido ? mascaraRapida : mascara)) == 0 ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Fecha a fase iniciada em {@code t0} (0 = turno não amostrado, nada a fazer).
+     * @return início da próxima fase
+     */
+    public long fase(Fase f, long t0) {
+        if (t0 == 0) return 0;
+        long t = System.nanoTime();
+        fases[f.ordinal()].registrar(t - t0);
+        return t;
+    }
+
+    /** Reinicia a contagem a partir de agora (ex.: depois de esperar uma decisão). */
+    public long retomar(long t0) {
+        return t0 == 0 ? 0 : System.nanoTime();
+    }
+
+    public Histograma getHistograma(Fase f) { return fases[f.ordinal()]; }
+
+    public long getContagem(Callback c) { return callbacks.get(c.ordinal()); }
+
+    /** Observador que só conta os callbacks (registrar direto na façade, roda no motor). */
+    public GameObserver observador() {
+        return new GameObserver() {
+            private void conta(Callback c) { callbacks.incrementAndGet(c.ordinal()); }
+            @Override public void onDice(int d1, int d2) { conta(Callback.onDice); }
+            @Override public void onMoved(int j, int de, int para) { conta(Callback.onMoved); }
+            @Override public void onTurnChanged(int atual) { conta(Callback.onTurnChanged); }
+            @Override public void onBalanceChanged(int j, int saldo) { conta(Callback.onBalanceChanged); }
+            @Override public void onPropertyBought(int j, int celula) { conta(Callback.onPropertyBought); }
+            @Override public void onHouseBuilt(int j, int celula, int casas) { conta(Callback.onHouseBuilt); }
+            @Override public void onJailStatus(int j, boolean preso) { conta(Callback.onJailStatus); }
+            @Override public void onBankruptcy(int j) { conta(Callback.onBankruptcy); }
+            @Override public void onRentPaid(int p, int d, int celula, int valor) { conta(Callback.onRentPaid); }
+            @Override public void onChanceCard(int j, int celula, int n, String tipo, int valor) { conta(Callback.onChanceCard); }
+            @Override public void onSpecialCell(int j, int celula, int valor, String desc) { conta(Callback.onSpecialCell); }
+            @Override public void onReleaseCardUsed(int j) { conta(Callback.onReleaseCardUsed); }
+            @Override public void onGameEnded(int vencedor, List<Integer> capitais) { conta(Callback.onGameEnded); }
+        };
+    }
+
+    // ---------- MBean ----------
+
+    @Override public String[] getFases() {
+        String[] r = new String[FASES.length];
+        for (int i = 0; i < r.length; i++) r[i] = FASES[i].name();
+        return r;
+    }
+
+    @Override public long[] getContagens() {
+        long[] r = new long[FASES.length];
+        for (int i = 0; i < r.length; i++) r[i] = fases[i].getContagem();
+        return r;
+    }
+
+    @Override public long[] getP50Nanos() { return percentis(50); }
+
+    @Override public long[] getP99Nanos() { return percentis(99); }
+
+    @Override public long[] getMaxNanos() {
+        long[] r = new long[FASES.length];
+        for (int i = 0; i < r.length; i++) r[i] = fases[i].getMaximo();
+        return r;
+    }
+
+    private long[] percentis(double p) {
+        long[] r = new long[FASES.length];
+        for (int i = 0; i < r.length; i++) r[i] = fases[i].percentil(p);
+        return r;
+    }
+
+    @Override public String[] getCallbacks() {
+        String[] r = new String[CALLBACKS.length];
+        for (int i = 0; i < r.length; i++) r[i] = CALLBACKS[i].name();
+        return r;
+    }
+
+    @Override public long[] getContagensCallbacks() {
+        long[] r = new long[CALLBACKS.length];
+        for (int i = 0; i < r.length; i++) r[i] = callbacks.get(i);
+        return r;
+    }
+
+    @Override public long getTurnos() { return turnos; }
+
+    @Override public int getAmostragem() { return mascara + 1; }
+
+    @Override public void setAmostragem(int n) { mascara = mascara(n); }
+
+    @Override public int getAmostragemAvancoRapido() { return mascaraRapida + 1; }
+
+    @Override public void setAmostragemAvancoRapido(int n) { mascaraRapida = mascara(n); }
+
+    private static int mascara(int n) {
+        return Integer.highestOneBit(Math.max(1, Math.min(n, 1 << 20))) - 1;
+    }
+
+    @Override public String getResumo() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("turnos=%d (cronometrado 1 a cada %d; avanço rápido 1 a cada %d)%n",
+                getTurnos(), getAmostragem(), getAmostragemAvancoRapido()));
+        sb.append(String.format("%-16s %8s %9s %9s %9s%n", "fase", "n", "p50 ns", "p99 ns", "max ns"));
+        for (Fase f : FASES) {
+            Histograma h = fases[f.ordinal()];
+            sb.append(String.format("%-16s %8d %9d %9d %9d%n", f, h.getContagem(), h.percentil(50),
+                    h.percentil(99), h.getMaximo()));
+        }
+        for (Callback c : CALLBACKS) {
+            long n = callbacks.get(c.ordinal());
+            if (n > 0) sb.append(String.format("%-18s %d%n", c, n));
+        }
+        return sb.toString();
+    }
+
+    @Override public void zerar() {
+        for (Histograma h : fases) h.zerar();
+        for (int i = 0; i < CALLBACKS.length; i++) callbacks.set(i, 0);
+        turnos = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package controller;
+
+/**
+ * Interface JMX das {@link MetricasTurno} (objeto {@value MetricasTurno#NOME_JMX}).
+ * Os vetores de fase são alinhados com {@link #getFases()}; os de callback, com {@link #getCallbacks()}.
+ * Tempos em nanossegundos.
+ */
+public interface MetricasTurnoMBean {
+
+    String[] getFases();
+    long[] getContagens();
+    long[] getP50Nanos();
+    long[] getP99Nanos();
+    long[] getMaxNanos();
+
+    String[] getCallbacks();
+    long[] getContagensCallbacks();
+
+    long getTurnos();
+
+    /** Mede 1 a cada N turnos (potência de 2; 1 = todos). */
+    int getAmostragem();
+    void setAmostragem(int n);
+
+    /** Mesma coisa para os turnos do avanço rápido. */
+    int getAmostragemAvancoRapido();
+    void setAmostragemAvancoRapido(int n);
+
+    /** Tabela legível com fases e callbacks. */
+    String getResumo();
+
+    void zerar();
+}
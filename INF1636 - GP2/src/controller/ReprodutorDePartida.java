@@ -0,0 +1,161 @@
+package controller;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.IndiceDeCheckpoints;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Replay de uma {@link Gravacao}: refaz a partida (pela semente ou pelo checkpoint 0), responde
+ * às decisões com o que foi gravado e sabe pular para qualquer turno usando o índice de
+ * checkpoints. Os turnos em si são jogados pelo {@link TurnPipeline#reproduzir}, o mesmo
+ * caminho da partida ao vivo.
+ * <p>
+ * Sem UI: {@code java -cp bin controller.ReprodutorDePartida partida.rep} reproduz tudo, mostra
+ * o estado final e o confere com o último checkpoint gravado. Na UI: {@code view.MainFrame --replay partida.rep}.
+ * </p>
+ */
+public final class ReprodutorDePartida {
+
+    private final Gravacao gravacao;
+    private final IndiceDeCheckpoints indice; // null = só a semente (busca para trás volta ao início)
+    // início da partida, guardado ao criá-la (volta ao turno 0 sem índice)
+    private GameStateSnapshot inicial;
+    private long estadoInicial;
+    private volatile int turnoAtual; // escrito só pela thread do motor
+
+    public ReprodutorDePartida(Gravacao gravacao, IndiceDeCheckpoints indice) {
+        this.gravacao = gravacao;
+        this.indice = indice;
+    }
+
+    /** Lê a gravação e, se existir, o índice ao lado. */
+    public static ReprodutorDePartida abrir(Path arquivo) throws IOException {
+        Path idx = Gravacao.indiceDe(arquivo);
+        return new ReprodutorDePartida(Gravacao.ler(arquivo), Files.exists(idx) ? IndiceDeCheckpoints.ler(idx) : null);
+    }
+
+    public Gravacao getGravacao() { return gravacao; }
+    public IndiceDeCheckpoints getIndice() { return indice; }
+    public int getTotalTurnos() { return gravacao.getTurnos().size(); }
+    /** Turnos já reproduzidos (o estado da partida é o do fim deste turno). */
+    public int getTurnoAtual() { return turnoAtual; }
+    public boolean isNoFim() { return turnoAtual >= getTotalTurnos(); }
+
+    /**
+     * Cria a partida no turno 0: pela semente, se a gravação tiver uma, senão pelo checkpoint 0.
+     * Como {@code GameFacade.init}, espera não haver partida ativa.
+     */
+    public GameFacade criarPartida() {
+        GameFacade gf;
+        IndiceDeCheckpoints.Checkpoint zero = (indice != null) ? indice.anteriorOuIgual(0) : null;
+        if (gravacao.getSemente() != null) {
+            long semente = gravacao.getSemente();
+            gf = GameFacade.init(gravacao.getNomes(), gravacao.getOrdem(), semente);
+            if (gf.getSemente() != semente) throw new IllegalStateException("Já existe uma partida ativa.");
+        } else if (zero != null) {
+            gf = GameFacade.initFromSnapshot(zero.snapshot());
+            gf.restaurar(zero.snapshot(), zero.estadoAleatorio());
+        } else {
+            throw new IllegalStateException("Gravação sem semente e sem índice de checkpoints: não há como começar.");
+        }
+        synchronized (gf) {
+            inicial = gf.capturarSnapshot(null);
+            estadoInicial = gf.getEstadoAleatorio();
+        }
+        turnoAtual = 0;
+        return gf;
+    }
+
+    // ---------- Usados pelo TurnPipeline (thread do motor) ----------
+
+    /**
+     * Com o monitor: deixa a partida no ponto de onde reproduzir até {@code alvo} sai mais barato.
+     * Segue do turno atual se ele estiver antes do alvo e não houver checkpoint mais perto;
+     * senão restaura o checkpoint mais recente {@code <= alvo} (ou o início).
+     */
+    void posicionar(GameFacade game, int alvo) {
+        IndiceDeCheckpoints.Checkpoint cp = (indice != null) ? indice.anteriorOuIgual(alvo) : null;
+        int base = (cp != null) ? cp.turno() : 0;
+        if (alvo >= turnoAtual && base <= turnoAtual) return;
+        if (cp != null) game.restaurar(cp.snapshot(), cp.estadoAleatorio());
+        else game.restaurar(inicial, estadoInicial);
+        turnoAtual = base;
+    }
+
+    Gravacao.Turno proximoTurno() { return gravacao.getTurnos().get(turnoAtual); }
+
+    void turnoJogado() { turnoAtual++; }
+
+    /** Responde às perguntas do turno com as decisões gravadas; pergunta diferente = replay divergiu. */
+    Decisor decisor(Gravacao.Turno t) {
+        return new Decisor() {
+            int proxima;
+
+            private char decisao(char tipo) {
+                String d = t.decisoes();
+                if (proxima + 2 > d.length() || d.charAt(proxima) != tipo)
+                    throw new IllegalStateException("Replay divergiu no turno " + (turnoAtual + 1)
+                            + ": pergunta '" + tipo + "', gravado \"" + d + "\"");
+                char v = d.charAt(proxima + 1);
+                proxima += 2;
+                return v;
+            }
+
+            @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) {
+                return CompletableFuture.completedFuture(decisao('C') == '1');
+            }
+
+            @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                     boolean podeHotel, int vh) {
+                char v = decisao('K');
+                return CompletableFuture.completedFuture(v == 'C' ? Construcao.CASA : v == 'H' ? Construcao.HOTEL : Construcao.NADA);
+            }
+        };
+    }
+
+    // ---------- Conferência ----------
+
+    /** Se o estado de {@code game} é o do checkpoint gravado no turno atual ({@code null} = não há checkpoint nele). */
+    public Boolean confereComCheckpoint(GameFacade game) {
+        IndiceDeCheckpoints.Checkpoint cp = (indice != null) ? indice.anteriorOuIgual(turnoAtual) : null;
+        if (cp == null || cp.turno() != turnoAtual) return null;
+        synchronized (game) {
+            return cp.snapshot().mesmoEstadoDe(game.capturarSnapshot(null))
+                    && cp.estadoAleatorio() == game.getEstadoAleatorio();
+        }
+    }
+
+    // ---------- Sem UI ----------
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("uso: java controller.ReprodutorDePartida <partida.rep>");
+            System.exit(2);
+        }
+        ReprodutorDePartida r = abrir(Path.of(args[0]));
+        GameFacade game = r.criarPartida();
+        TurnPipeline pipeline = new TurnPipeline(game, Bots.nuncaCompra()); // decisões vêm da gravação
+        try {
+            long t0 = System.nanoTime();
+            int turnos = pipeline.reproduzir(r, r.getTotalTurnos(), true).join();
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            System.out.printf("%d turnos reproduzidos em %d ms%n", turnos, ms);
+            synchronized (game) {
+                for (int i = 0; i < game.getNumeroJogadores(); i++)
+                    System.out.printf("  %-12s R$ %6d  casa %2d%s%n", game.getNomeJogador(i), game.getSaldo(i),
+                            game.getPosicao(i), game.isFalido(i) ? "  (falido)" : "");
+            }
+            Boolean confere = r.confereComCheckpoint(game);
+            System.out.println(confere == null ? "Sem checkpoint no último turno para conferir."
+                    : confere ? "Estado final confere com o gravado." : "ESTADO FINAL DIFERENTE DO GRAVADO.");
+            if (Boolean.FALSE.equals(confere)) System.exit(1);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+}
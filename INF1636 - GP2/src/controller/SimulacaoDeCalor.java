@@ -0,0 +1,80 @@
+package controller;
+
+import Model.DefinicaoTabuleiro;
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.MapaDeCalor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mapa de calor por simulação: a partir do estado atual, joga várias continuações da partida em
+ * paralelo (bots aleatórios, dados de cada uma a partir da sua semente) e soma os mapas.
+ * <p>
+ * Cada continuação é uma partida avulsa ({@link GameFacade#avulsa}) com o seu {@link TurnPipeline}
+ * em avanço rápido; as continuações são repartidas em {@code paralelas} trilhas que rodam ao mesmo
+ * tempo, uma continuação depois da outra em cada trilha. A partida de origem só é lida (snapshot com
+ * o monitor) e segue jogável durante a simulação.
+ * </p>
+ * <p>Mesma semente e mesmo estado de origem = mesmo resultado, qualquer que seja o paralelismo.</p>
+ */
+public final class SimulacaoDeCalor {
+    private SimulacaoDeCalor() {}
+
+    /** Continuações por simulação na UI. */
+    public static final int PARTIDAS_PADRAO = 2 * Runtime.getRuntime().availableProcessors();
+    /** Turnos jogados em cada continuação. */
+    public static final int TURNOS_PADRAO = 200;
+    /** Probabilidade de o bot comprar/construir. */
+    private static final double P_DECISAO = 0.5;
+
+    /** Simula com uma trilha por núcleo. */
+    public static CompletableFuture<MapaDeCalor> simular(GameFacade origem, int partidas, int turnos, long semente) {
+        return simular(origem, partidas, turnos, semente, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Joga {@code partidas} continuações de {@code turnos} turnos a partir do estado atual de {@code origem}.
+     * O futuro traz a soma dos mapas; a continuação {@code k} usa a semente {@code semente + k}.
+     */
+    public static CompletableFuture<MapaDeCalor> simular(GameFacade origem, int partidas, int turnos, long semente,
+                                                         int paralelas) {
+        GameStateSnapshot base;
+        synchronized (origem) { base = origem.capturarSnapshot(null); }
+        DefinicaoTabuleiro definicao = origem.getDefinicaoTabuleiro();
+        int trilhas = Math.max(1, Math.min(paralelas, partidas));
+
+        List<CompletableFuture<MapaDeCalor>> futuros = new ArrayList<>(trilhas);
+        for (int t = 0; t < trilhas; t++) {
+            CompletableFuture<MapaDeCalor> f = CompletableFuture.completedFuture(new MapaDeCalor(base.casas()));
+            for (int k = t; k < partidas; k += trilhas) {
+                long s = semente + k;
+                f = f.thenComposeAsync(soma -> continuar(base, definicao, turnos, s).thenApply(soma::somar));
+            }
+            futuros.add(f);
+        }
+        return CompletableFuture.allOf(futuros.toArray(new CompletableFuture<?>[0])).thenApply(x -> {
+            MapaDeCalor total = new MapaDeCalor(base.casas());
+            for (CompletableFuture<MapaDeCalor> f : futuros) total.somar(f.join()); // soma é comutativa: ordem não importa
+            return total;
+        });
+    }
+
+    /** Uma continuação: partida avulsa em avanço rápido com o mapa como coletor. */
+    private static CompletableFuture<MapaDeCalor> continuar(GameStateSnapshot base, DefinicaoTabuleiro definicao,
+                                                           int turnos, long semente) {
+        GameFacade gf = GameFacade.avulsa(base, semente, definicao);
+        MapaDeCalor mapa = new MapaDeCalor(base.casas());
+        gf.addColetor(mapa);
+        TurnPipeline pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        return pipeline.avancarRapido(turnos, null, Bots.aleatorio(new Random(semente), P_DECISAO))
+                .handle((r, erro) -> {
+                    pipeline.shutdown();
+                    if (erro != null) throw new IllegalStateException("Simulação " + semente + " falhou", erro);
+                    return mapa;
+                });
+    }
+}
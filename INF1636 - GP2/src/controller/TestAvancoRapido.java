@@ -0,0 +1,101 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameObserver;
+
+/**
+ * Testes do avanço rápido ({@link TurnPipeline#avancarRapido}) com {@link Bots}.
+ *
+ * 1. Observadores não recebem nada durante o avanço nem depois, ao notificar o estado já relido
+ * 2. Condição de parada é avaliada após cada turno
+ * 3. Vazão: turnos por segundo com bots que nunca compram (partida não acaba)
+ */
+public class TestAvancoRapido {
+
+    private TurnPipeline pipeline;
+
+    @Before
+    public void setUp() { GameFacade.resetForTests(); }
+
+    @After
+    public void tearDown() {
+        if (pipeline != null) pipeline.shutdown();
+        GameFacade.resetForTests();
+    }
+
+    /** Conta todos os eventos recebidos. */
+    private static final class Contador implements GameObserver {
+        final AtomicInteger eventos = new AtomicInteger();
+        @Override public void onDice(int d1, int d2) { eventos.incrementAndGet(); }
+        @Override public void onMoved(int j, int de, int para) { eventos.incrementAndGet(); }
+        @Override public void onTurnChanged(int atual) { eventos.incrementAndGet(); }
+        @Override public void onBalanceChanged(int j, int saldo) { eventos.incrementAndGet(); }
+        @Override public void onPropertyBought(int j, int celula) { eventos.incrementAndGet(); }
+        @Override public void onHouseBuilt(int j, int celula, int casas) { eventos.incrementAndGet(); }
+        @Override public void onBankruptcy(int j) { eventos.incrementAndGet(); }
+        @Override public void onGameEnded(int vencedor, List<Integer> capitais) { eventos.incrementAndGet(); }
+    }
+
+    /** 1 500 turnos sem eventos; ao retomar, os diffs já partem do estado final (nada a notificar). */
+    @Test
+    public void testObservadoresSuspensos() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2));
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        Contador c = new Contador();
+        gf.addObserver(c);
+
+        TurnPipeline.Avanco r = pipeline.avancarRapido(500, null, Bots.aleatorio(new Random(7), 0.5))
+                .get(30, TimeUnit.SECONDS);
+
+        assertTrue(r.turnos() > 0);
+        assertEquals(0, c.eventos.get());
+        assertFalse(gf.isObservadoresSuspensos());
+        pipeline.executar(() -> { gf.notificarEstado(); return null; }).get(5, TimeUnit.SECONDS);
+        assertEquals(0, c.eventos.get());
+
+        // depois do avanço os eventos voltam normalmente
+        if (!r.partidaEncerrada()) {
+            pipeline.jogarTurnoAleatorio().get(5, TimeUnit.SECONDS);
+            assertTrue(c.eventos.get() > 0);
+        }
+    }
+
+    /** 2 Para assim que o jogador 0 tem 3 propriedades. */
+    @Test
+    public void testCondicaoDeParada() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B"), List.of(0, 1));
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+
+        TurnPipeline.Avanco r = pipeline.avancarRapido(10_000,
+                g -> g.getPropriedadesDoJogador(0).size() >= 3, Bots.sempreCompra()).get(30, TimeUnit.SECONDS);
+
+        assertTrue(r.turnos() < 10_000);
+        int props = pipeline.executar(() -> gf.getPropriedadesDoJogador(0).size()).get(5, TimeUnit.SECONDS);
+        assertEquals(3, props);
+    }
+
+    /** 3 Mede a vazão do caminho rápido (alvo: 100 mil turnos/s num núcleo de notebook). */
+    @Test
+    public void testVazao() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3));
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        gf.addObserver(new Contador());
+
+        pipeline.avancarRapido(50_000, null, Bots.nuncaCompra()).get(60, TimeUnit.SECONDS); // aquecimento
+        TurnPipeline.Avanco r = pipeline.avancarRapido(200_000, null, Bots.nuncaCompra()).get(60, TimeUnit.SECONDS);
+
+        assertTrue(r.toString(), r.turnos() > 0);
+        assertTrue(r.toString(), r.turnosPorSegundo() > 20_000); // folga para máquinas de CI lentas
+    }
+}
@@ -0,0 +1,95 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameObserver;
+import infra.LeitorColunar;
+
+/**
+ * Testes da exportação colunar ({@link ExportadorDeDados}).
+ *
+ * 1. Partidas em avanço rápido (observadores suspensos) chegam inteiras às tabelas: aluguel por célula,
+ *    turnos de falência e linhas de estado conferidos com um coletor que só conta
+ */
+public class TestExportadorDeDados {
+
+    private TurnPipeline pipeline;
+    private Path dir;
+
+    @Before
+    public void setUp() throws Exception {
+        GameFacade.resetForTests();
+        dir = Files.createTempDirectory("exportacao");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (pipeline != null) pipeline.shutdown();
+        GameFacade.resetForTests();
+        try (var s = Files.walk(dir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+        }
+    }
+
+    /** Referência: soma os mesmos callbacks em arrays. */
+    private static final class Conferencia implements GameObserver {
+        final long[] aluguel = new long[40];
+        final long[] falenciasPorFaixa = new long[10];
+        int turnos, falencias;
+        @Override public void onTurnChanged(int atual) { turnos++; }
+        @Override public void onGameEnded(int vencedor, List<Integer> capitais) { turnos++; }
+        @Override public void onRentPaid(int pagador, int dono, int celula, int valor) { aluguel[celula] += valor; }
+        @Override public void onBankruptcy(int j) { falencias++; falenciasPorFaixa[Math.min(9, turnos / 50)]++; }
+    }
+
+    /** Três partidas curtas (saldo inicial baixo), exportadas e conferidas. */
+    @Test
+    public void testAvancoRapidoChegaInteiroNasTabelas() throws Exception {
+        long[] aluguel = new long[40], faixas = new long[10];
+        long linhas = 0;
+        int falencias = 0;
+        try (ExportadorDeDados exp = new ExportadorDeDados(dir)) {
+            for (int p = 0; p < 3; p++) {
+                GameFacade.resetForTests();
+                GameFacade gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2), 100 + p);
+                gf.restaurar(ExportadorDeDados.comSaldoInicial(gf.capturarSnapshot(null), 600), gf.getEstadoAleatorio());
+                exp.iniciarPartida(gf);
+                Conferencia c = new Conferencia();
+                gf.addColetor(c);
+                pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+                TurnPipeline.Avanco r = pipeline.avancarRapido(3_000, null, Bots.aleatorio(new Random(p), 0.8))
+                        .get(60, TimeUnit.SECONDS);
+                pipeline.shutdown();
+                pipeline = null;
+
+                assertTrue(r.turnos() > 0);
+                for (int i = 0; i < 40; i++) aluguel[i] += c.aluguel[i];
+                for (int i = 0; i < 10; i++) faixas[i] += c.falenciasPorFaixa[i];
+                linhas += (long) c.turnos * 3;
+                falencias += c.falencias;
+            }
+            assertEquals(3, exp.getPartidas());
+            assertEquals(linhas, exp.getLinhasDeEstado());
+        }
+        assertTrue("houve falências", falencias > 0);
+        assertTrue("houve aluguel", java.util.Arrays.stream(aluguel).sum() > 0);
+
+        assertArrayEquals(aluguel, ExportadorDeDados.aluguelPorCelula(dir));
+        assertArrayEquals(faixas, ExportadorDeDados.turnosDeFalencia(dir, 50, 10));
+        LeitorColunar estado = LeitorColunar.abrir(dir.resolve(ExportadorDeDados.ESTADO));
+        assertEquals(linhas, estado.getLinhas());
+        assertEquals(0, estado.contarOnde("posicao", 40, Long.MAX_VALUE));
+    }
+}
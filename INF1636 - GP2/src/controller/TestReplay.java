@@ -0,0 +1,139 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.IndiceDeCheckpoints;
+
+/**
+ * Testes de gravação e replay ({@link GravadorDePartida}, {@link ReprodutorDePartida}).
+ *
+ * 1. Mesma semente = mesmo baralho e mesmos dados
+ * 2. Partida gravada (dados forçados, sorteados e avanço rápido com bots aleatórios) é reproduzida
+ *    até o fim com o mesmo estado final, conferido com o último checkpoint
+ * 3. Busca pelo índice (para frente e para trás) chega ao mesmo estado que reproduzir do início
+ */
+public class TestReplay {
+
+    private static final long SEMENTE = 20251019L;
+    private static final List<String> NOMES = List.of("Ana", "Beto", "Caio", "Duda");
+    private static final List<Integer> ORDEM = List.of(2, 0, 3, 1);
+
+    private Path dir;
+    private TurnPipeline pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        GameFacade.resetForTests();
+        dir = Files.createTempDirectory("replay");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (pipeline != null) pipeline.shutdown();
+        GameFacade.resetForTests();
+        try (var s = Files.list(dir)) { for (Path p : s.toList()) Files.delete(p); }
+        Files.delete(dir);
+    }
+
+    private static GameStateSnapshot estado(GameFacade gf) {
+        synchronized (gf) { return gf.capturarSnapshot(null); }
+    }
+
+    /** Grava ~650 turnos misturando as três formas de jogar; devolve o estado final. */
+    private GameStateSnapshot gravarPartida(Path arquivo) throws Exception {
+        GameFacade gf = GameFacade.init(NOMES, ORDEM, SEMENTE);
+        pipeline = new TurnPipeline(gf, Bots.aleatorio(new Random(11), 0.6));
+        GravadorDePartida g = new GravadorDePartida(arquivo, gf, null, true, 50);
+        pipeline.setGravador(g);
+        for (int i = 0; i < 20; i++) pipeline.jogarTurno(1 + i % 6, 1 + (i * 5) % 6).get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 30; i++) pipeline.jogarTurnoAleatorio().get(5, TimeUnit.SECONDS);
+        pipeline.avancarRapido(600, null, Bots.aleatorio(new Random(5), 0.5)).get(30, TimeUnit.SECONDS);
+        g.close();
+        pipeline.shutdown();
+        pipeline = null;
+        assertTrue(g.getTurnos() > 50);
+        return estado(gf);
+    }
+
+    @Test
+    public void testMesmaSementeMesmaPartida() {
+        GameFacade a = GameFacade.init(NOMES, ORDEM, SEMENTE);
+        GameStateSnapshot inicioA = estado(a);
+        int[] dadosA = new int[100];
+        for (int i = 0; i < dadosA.length; i++) dadosA[i] = a.sortearDado();
+
+        GameFacade.resetForTests();
+        GameFacade b = GameFacade.init(NOMES, ORDEM, SEMENTE);
+        assertTrue("baralho embaralhado igual", inicioA.mesmoEstadoDe(estado(b)));
+        for (int d : dadosA) assertEquals(d, b.sortearDado());
+
+        GameFacade.resetForTests();
+        GameFacade c = GameFacade.init(NOMES, ORDEM, SEMENTE + 1);
+        assertFalse("outra semente, outro baralho", inicioA.mesmoEstadoDe(estado(c)));
+    }
+
+    @Test
+    public void testReproduzAteOFimComMesmoEstado() throws Exception {
+        Path arquivo = dir.resolve("partida.rep");
+        GameStateSnapshot fim = gravarPartida(arquivo);
+        GameFacade.resetForTests();
+
+        ReprodutorDePartida r = ReprodutorDePartida.abrir(arquivo);
+        assertEquals(Long.valueOf(SEMENTE), r.getGravacao().getSemente());
+        assertTrue(r.getIndice().getQuantidade() >= 2);
+
+        GameFacade gf = r.criarPartida();
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        int turno = pipeline.reproduzir(r, r.getTotalTurnos(), true).get(30, TimeUnit.SECONDS);
+
+        assertEquals(r.getTotalTurnos(), turno);
+        assertTrue(r.isNoFim());
+        assertTrue(fim.mesmoEstadoDe(estado(gf)));
+        assertEquals(Boolean.TRUE, r.confereComCheckpoint(gf));
+    }
+
+    @Test
+    public void testBuscaPeloIndice() throws Exception {
+        Path arquivo = dir.resolve("partida.rep");
+        gravarPartida(arquivo);
+        GameFacade.resetForTests();
+
+        // referência: do início até 137 sem índice (só a semente)
+        ReprodutorDePartida seq = new ReprodutorDePartida(Gravacao.ler(arquivo), null);
+        GameFacade gf = seq.criarPartida();
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        pipeline.reproduzir(seq, 137, true).get(30, TimeUnit.SECONDS);
+        GameStateSnapshot em137 = estado(gf);
+        pipeline.shutdown();
+        GameFacade.resetForTests();
+
+        ReprodutorDePartida r = ReprodutorDePartida.abrir(arquivo);
+        IndiceDeCheckpoints.Checkpoint cp = r.getIndice().anteriorOuIgual(137);
+        assertEquals(100, cp.turno());
+        gf = r.criarPartida();
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+
+        pipeline.reproduzir(r, 137, true).get(30, TimeUnit.SECONDS); // checkpoint 100 + 37 turnos
+        assertTrue(em137.mesmoEstadoDe(estado(gf)));
+
+        pipeline.reproduzir(r, r.getTotalTurnos(), true).get(30, TimeUnit.SECONDS);
+        pipeline.reproduzir(r, 137, true).get(30, TimeUnit.SECONDS); // para trás
+        assertEquals(137, r.getTurnoAtual());
+        assertTrue(em137.mesmoEstadoDe(estado(gf)));
+
+        pipeline.reproduzir(r, 150, true).get(30, TimeUnit.SECONDS);
+        assertEquals(Boolean.TRUE, r.confereComCheckpoint(gf)); // 150 é checkpoint: estado e gerador batem
+    }
+}
@@ -0,0 +1,79 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.MapaDeCalor;
+
+/**
+ * Testes do mapa de calor simulado ({@link SimulacaoDeCalor}).
+ *
+ * 1. O resultado só depende da semente e do estado de origem: paralelo = sequencial = soma das continuações
+ * 2. A partida de origem segue jogável durante a simulação e não é alterada por ela
+ */
+public class TestSimulacaoDeCalor {
+
+    private TurnPipeline pipeline;
+
+    @Before
+    public void setUp() { GameFacade.resetForTests(); }
+
+    @After
+    public void tearDown() {
+        if (pipeline != null) pipeline.shutdown();
+        GameFacade.resetForTests();
+    }
+
+    private static void assertMesmoMapa(MapaDeCalor esperado, MapaDeCalor obtido) {
+        assertArrayEquals(esperado.valores(MapaDeCalor.Medida.VISITAS), obtido.valores(MapaDeCalor.Medida.VISITAS));
+        assertArrayEquals(esperado.valores(MapaDeCalor.Medida.ALUGUEL), obtido.valores(MapaDeCalor.Medida.ALUGUEL));
+        assertEquals(esperado.getTurnos(), obtido.getTurnos());
+    }
+
+    @Test
+    public void testResultadoIndependeDoParalelismo() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3), 5L);
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        pipeline.avancarRapido(300, null, Bots.sempreCompra()).get(30, TimeUnit.SECONDS); // propriedades compradas: há aluguel
+
+        MapaDeCalor paralelo = SimulacaoDeCalor.simular(gf, 8, 150, 99L, 4).get(60, TimeUnit.SECONDS);
+        MapaDeCalor sequencial = SimulacaoDeCalor.simular(gf, 8, 150, 99L, 1).get(60, TimeUnit.SECONDS);
+        MapaDeCalor soma = new MapaDeCalor();
+        for (int k = 0; k < 8; k++) soma.somar(SimulacaoDeCalor.simular(gf, 1, 150, 99L + k, 1).get(30, TimeUnit.SECONDS));
+
+        assertMesmoMapa(sequencial, paralelo);
+        assertMesmoMapa(soma, paralelo);
+        long visitas = 0, aluguel = 0;
+        for (long v : paralelo.valores(MapaDeCalor.Medida.VISITAS)) visitas += v;
+        for (long v : paralelo.valores(MapaDeCalor.Medida.ALUGUEL)) aluguel += v;
+        assertTrue(paralelo.getTurnos() > 0);
+        assertTrue(visitas > 0);
+        assertTrue(aluguel > 0);
+    }
+
+    @Test
+    public void testOrigemSegueIntacta() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2), 8L);
+        pipeline = new TurnPipeline(gf, Bots.nuncaCompra());
+        GameStateSnapshot antes = gf.capturarSnapshot(null);
+        MapaDeCalor esperado = SimulacaoDeCalor.simular(gf, 6, 200, 1L, 2).get(60, TimeUnit.SECONDS);
+        assertTrue(antes.mesmoEstadoDe(gf.capturarSnapshot(null)));
+        assertSame(gf, GameFacade.get());
+
+        // mesma simulação com a origem jogando ao mesmo tempo: parte do estado do momento da chamada
+        CompletableFuture<MapaDeCalor> simulacao = SimulacaoDeCalor.simular(gf, 6, 200, 1L, 2);
+        TurnPipeline.Avanco r = pipeline.avancarRapido(500, null, Bots.sempreCompra()).get(30, TimeUnit.SECONDS);
+        assertMesmoMapa(esperado, simulacao.get(60, TimeUnit.SECONDS));
+        assertTrue(r.turnos() > 0);
+        assertSame(gf, GameFacade.get());
+    }
+}
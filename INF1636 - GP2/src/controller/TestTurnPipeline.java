@@ -0,0 +1,183 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameObserver;
+import infra.Histograma;
+
+/**
+ * Testes do {@link TurnPipeline} (turnos fora da EDT) com o {@link EdtObserver}.
+ *
+ * 1. Modelo muda na thread do motor, callbacks chegam na EDT em ordem e decisões assíncronas são aplicadas
+ * 2. Vigia de latência da EDT: sondas postadas a cada 1 ms continuam rápidas durante 300 turnos
+ */
+public class TestTurnPipeline {
+
+    private TurnPipeline pipeline;
+
+    @Before
+    public void setUp() { GameFacade.resetForTests(); }
+
+    @After
+    public void tearDown() {
+        if (pipeline != null) pipeline.shutdown();
+        GameFacade.resetForTests();
+    }
+
+    /** Decisor de teste: sempre compra/constrói casa, respondendo de outra thread após ~1 ms. */
+    private static final class DecisorAtrasado implements Decisor {
+        final Executor atraso = CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS);
+        final AtomicInteger compras = new AtomicInteger();
+        final AtomicBoolean foraDoMotor = new AtomicBoolean();
+        TurnPipeline pipeline;
+
+        @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) {
+            if (!pipeline.isThreadDoMotor()) foraDoMotor.set(true);
+            compras.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> true, atraso);
+        }
+
+        @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                 boolean podeHotel, int vh) {
+            if (!pipeline.isThreadDoMotor()) foraDoMotor.set(true);
+            return CompletableFuture.supplyAsync(() -> podeCasa ? Construcao.CASA : Construcao.HOTEL, atraso);
+        }
+    }
+
+    /** 1 30 turnos: movimentos emitidos fora da EDT, entregues na EDT e na ordem; cada compra aceita vira onPropertyBought. */
+    @Test
+    public void testMotorForaDaEdtCallbacksNaEdt() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2));
+        DecisorAtrasado decisor = new DecisorAtrasado();
+        pipeline = new TurnPipeline(gf, decisor);
+        decisor.pipeline = pipeline;
+
+        AtomicBoolean emitidoNaEdt = new AtomicBoolean();
+        AtomicBoolean entregueForaDaEdt = new AtomicBoolean();
+        AtomicInteger dados = new AtomicInteger(), compradas = new AtomicInteger();
+        StringBuilder ordem = new StringBuilder();
+
+        gf.addObserver(new GameObserver() { // direto: roda na thread do motor
+            @Override public void onMoved(int j, int de, int para) {
+                if (SwingUtilities.isEventDispatchThread()) emitidoNaEdt.set(true);
+            }
+        });
+        gf.addObserver(new EdtObserver(new GameObserver() {
+            private void conferir() { if (!SwingUtilities.isEventDispatchThread()) entregueForaDaEdt.set(true); }
+            @Override public void onDice(int d1, int d2) { conferir(); dados.incrementAndGet(); ordem.append('D'); }
+            @Override public void onMoved(int j, int de, int para) { conferir(); ordem.append('M'); }
+            @Override public void onTurnChanged(int atual) { conferir(); ordem.append('T'); }
+            @Override public void onPropertyBought(int j, int celula) { conferir(); compradas.incrementAndGet(); }
+        }, gf));
+
+        CompletableFuture<Void> ultimo = null;
+        for (int i = 0; i < 30; i++) ultimo = pipeline.jogarTurnoAleatorio();
+        ultimo.get(10, TimeUnit.SECONDS);
+        SwingUtilities.invokeAndWait(() -> {}); // esvazia a fila da EDT
+
+        assertFalse(emitidoNaEdt.get());
+        assertFalse(entregueForaDaEdt.get());
+        assertFalse(decisor.foraDoMotor.get());
+        assertEquals(30, dados.get());
+        assertEquals(decisor.compras.get(), compradas.get());
+        assertTrue(decisor.compras.get() > 0);
+        // cada turno: rolagem antes da troca de vez
+        assertTrue(ordem.toString(), ordem.toString().replaceAll("[^DT]", "").matches("(DT)+"));
+    }
+
+    /**
+     * 2 Sondas na EDT a cada 1 ms medem o atraso de entrega enquanto o motor joga 300 turnos com
+     * decisões assíncronas. Com o turno fora da EDT o atraso fica na casa de milissegundos; para
+     * comparação, a mensagem traz quanto a EDT ficaria parada rodando os mesmos turnos nela.
+     */
+    @Test
+    public void testVigiaDeLatenciaDaEdt() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3));
+        DecisorAtrasado decisor = new DecisorAtrasado();
+        pipeline = new TurnPipeline(gf, decisor);
+        decisor.pipeline = pipeline;
+        gf.addObserver(new EdtObserver(new GameObserver() {}, gf));
+
+        Histograma latencia = new Histograma();
+        AtomicBoolean rodando = new AtomicBoolean(true);
+        Thread sonda = new Thread(() -> {
+            while (rodando.get()) {
+                long t0 = System.nanoTime();
+                SwingUtilities.invokeLater(() -> latencia.registrar((System.nanoTime() - t0) / 1000));
+                try { Thread.sleep(1); } catch (InterruptedException e) { return; }
+            }
+        }, "sonda-edt");
+        sonda.start();
+
+        CompletableFuture<Void> ultimo = null;
+        for (int i = 0; i < 300; i++) ultimo = pipeline.jogarTurnoAleatorio();
+        ultimo.get(30, TimeUnit.SECONDS);
+        rodando.set(false);
+        sonda.join();
+        SwingUtilities.invokeAndWait(() -> {});
+
+        // mesmos turnos rodando na EDT (como antes): tempo em que a EDT fica indisponível
+        GameFacade.resetForTests();
+        GameFacade naEdt = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3));
+        long[] bloqueio = new long[1];
+        SwingUtilities.invokeAndWait(() -> {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < 300; i++) {
+                List<Integer> d = naEdt.sortearDados();
+                int idx = naEdt.getIndiceJogadorDaVez();
+                naEdt.notificarRolagem(d.get(0), d.get(1));
+                naEdt.moverJogadorComDados(idx, d.get(0), d.get(1));
+                naEdt.avancarTurnoENotificar();
+                try { Thread.sleep(1); } catch (InterruptedException e) { return; } // "pensar" da decisão
+            }
+            bloqueio[0] = (System.nanoTime() - t0) / 1000;
+        });
+
+        String medida = String.format("latência EDT com motor: %s µs | turnos na EDT: %d ms parada",
+                latencia, bloqueio[0] / 1000);
+        assertTrue(medida, latencia.getContagem() > 10);
+        assertTrue("p99=" + latencia.percentil(99) + "; " + medida, latencia.percentil(99) < 50_000);
+    }
+
+    /**
+     * 3 O turno em curso chega na compra logo depois do {@code encerrar()}: o diálogo nunca seria
+     * aberto (a EDT está fechando a janela), então a decisão tem de nascer com o padrão ("não").
+     */
+    @Test
+    public void testDecisaoDepoisDoEncerrar() throws Exception {
+        GameFacade gf = GameFacade.init(List.of("A", "B"), List.of(0, 1));
+        AtomicInteger perguntas = new AtomicInteger();
+        CompletableFuture<?>[] fim = new CompletableFuture<?>[1];
+        pipeline = new TurnPipeline(gf, new Decisor() {
+            @Override public CompletableFuture<Boolean> comprar(int j, int celula, String nome, int preco) {
+                perguntas.incrementAndGet();
+                if (fim[0] == null) fim[0] = pipeline.encerrar(); // "Encerrar" clicado no meio do turno
+                return new CompletableFuture<>(); // nunca respondida
+            }
+            @Override public CompletableFuture<Construcao> construir(int j, int celula, boolean podeCasa, int vc,
+                                                                     boolean podeHotel, int vh) {
+                return new CompletableFuture<>();
+            }
+        });
+
+        pipeline.jogarTurno(1, 2).get(10, TimeUnit.SECONDS); // casa 3, livre
+        assertEquals(1, perguntas.get());
+        fim[0].get(10, TimeUnit.SECONDS);
+        assertTrue(gf.isPartidaEncerrada());
+        assertTrue(gf.propriedadeDisponivel(3)); // "não" comprou
+    }
+}
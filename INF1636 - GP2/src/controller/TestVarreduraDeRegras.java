@@ -0,0 +1,106 @@
+package controller;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.RegrasEconomicas;
+
+/**
+ * Testes da varredura de regras ({@link VarreduraDeRegras}).
+ *
+ * 1. A grade percorre o produto cartesiano dos eixos, o primeiro eixo variando mais devagar
+ * 2. Resultados saem em ordem, um por ponto, iguais com 1 ou 3 threads, e os motores são reaproveitados
+ * 3. As regras chegam às partidas: sem bônus da saída e aluguel alto, mais falências e partidas mais curtas
+ */
+public class TestVarreduraDeRegras {
+
+    private GameStateSnapshot base;
+
+    @Before
+    public void setUp() {
+        GameFacade.resetForTests();
+        GameFacade g = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2), 3L);
+        base = ExportadorDeDados.comSaldoInicial(g.capturarSnapshot(null), 1_000);
+        GameFacade.resetForTests();
+    }
+
+    @After
+    public void tearDown() { GameFacade.resetForTests(); }
+
+    private static List<VarreduraDeRegras.Resultado> varrer(VarreduraDeRegras v, VarreduraDeRegras.Grade g)
+            throws InterruptedException {
+        List<VarreduraDeRegras.Resultado> r = new ArrayList<>();
+        v.executar(g, r::add);
+        return r;
+    }
+
+    @Test
+    public void testGradeCartesiana() {
+        VarreduraDeRegras.Grade g = new VarreduraDeRegras.Grade(RegrasEconomicas.PADRAO,
+                new VarreduraDeRegras.Eixo("aluguelBase", 0.05, 0.10),
+                new VarreduraDeRegras.Eixo("bonusSaida", 0, 100, 200));
+        assertEquals(6, g.getTamanho());
+        assertEquals(0.05, g.ponto(0).aluguelBase(), 0);
+        assertEquals(0, g.ponto(0).bonusSaida());
+        assertEquals(200, g.ponto(2).bonusSaida());
+        assertEquals(0.10, g.ponto(3).aluguelBase(), 0);
+        assertEquals(100, g.ponto(4).bonusSaida());
+        assertEquals(RegrasEconomicas.PADRAO.aluguelPorCasa(), g.ponto(5).aluguelPorCasa(), 0);
+        try { new VarreduraDeRegras.Eixo("juros", 1); fail("parâmetro desconhecido aceito"); }
+        catch (IllegalArgumentException esperado) { }
+    }
+
+    @Test
+    public void testResultadosIndependemDasThreads() throws Exception {
+        VarreduraDeRegras.Grade g = new VarreduraDeRegras.Grade(RegrasEconomicas.PADRAO,
+                new VarreduraDeRegras.Eixo("precoCasa", 0.3, 0.5, 0.7));
+        List<VarreduraDeRegras.Resultado> uma, tres;
+        try (VarreduraDeRegras v = new VarreduraDeRegras(base, 30, 300, 9L, 1)) {
+            uma = varrer(v, g);
+            assertEquals(1, v.getMotores());
+        }
+        try (VarreduraDeRegras v = new VarreduraDeRegras(base, 30, 300, 9L, 3)) {
+            tres = varrer(v, g);
+            assertTrue(v.getMotores() <= 3);
+        }
+        assertEquals(3, tres.size());
+        for (int p = 0; p < 3; p++) {
+            VarreduraDeRegras.Resultado a = uma.get(p), b = tres.get(p);
+            assertEquals(p, b.ponto());
+            assertEquals(g.ponto(p), b.regras());
+            assertEquals(30, b.partidas());
+            assertEquals(a.terminadas(), b.terminadas());
+            assertEquals(a.duracaoMedia(), b.duracaoMedia(), 0);
+            assertEquals(a.taxaFalencia(), b.taxaFalencia(), 0);
+            assertEquals(a.vitoriasPrimeiro(), b.vitoriasPrimeiro(), 0);
+            assertEquals(a.vantagemPrimeiro(), a.vitoriasPrimeiro() - 1.0 / 3, 1e-12);
+        }
+    }
+
+    @Test
+    public void testRegrasChegamAsPartidas() throws Exception {
+        RegrasEconomicas dura = RegrasEconomicas.PADRAO.com("bonusSaida", 0).com("aluguelPorCasa", 0.60)
+                .com("fatorCompanhia", 4);
+        VarreduraDeRegras.Grade g = new VarreduraDeRegras.Grade(RegrasEconomicas.PADRAO,
+                new VarreduraDeRegras.Eixo("bonusSaida", 200, 0));
+        List<VarreduraDeRegras.Resultado> r;
+        List<VarreduraDeRegras.Resultado> d;
+        try (VarreduraDeRegras v = new VarreduraDeRegras(base, 40, 600, 5L, 2)) {
+            r = varrer(v, g);
+            d = varrer(v, new VarreduraDeRegras.Grade(dura, new VarreduraDeRegras.Eixo("precoCasa", 0.5)));
+        }
+        VarreduraDeRegras.Resultado padrao = r.get(0), semBonus = r.get(1), pesada = d.get(0);
+        assertTrue(semBonus + " vs " + padrao, semBonus.taxaFalencia() > padrao.taxaFalencia());
+        assertTrue(pesada + " vs " + semBonus, pesada.terminadas() >= semBonus.terminadas());
+        assertTrue(pesada.terminadas() > 0);
+        assertTrue(pesada.duracaoMedia() < 600);
+    }
+}
@@ -0,0 +1,314 @@
+package controller;
+
+import Model.EventoDeJogo;
+import Model.GameFacade;
+import controller.MetricasTurno.Fase;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Executa os turnos fora da EDT, numa thread única do motor.
+ * <p>
+ * Cada passo do turno (rolagem, movimento, casas especiais, aluguel, Sorte/Revés, avanço da vez)
+ * roda segurando o monitor da {@link GameFacade}; os observadores recebem os eventos na própria
+ * thread do motor e, se forem de UI, os repassam à EDT ({@link EdtObserver}). Quando o turno
+ * precisa de uma escolha (compra/construção) o motor pede ao {@link Decisor} e espera o futuro
+ * <b>sem</b> segurar o monitor, então a UI pode ler o estado enquanto o jogador decide.
+ * </p>
+ * <p>
+ * Os turnos ficam em fila na ordem de envio; {@link #encerrar()} responde "não" às decisões
+ * pendentes para a partida terminar mesmo com um diálogo aberto, e as pedidas depois disso já
+ * nascem respondidas (o turno em curso termina sem esperar a EDT).
+ * </p>
+ * <p>
+ * {@link #avancarRapido} joga muitos turnos seguidos com um {@link Decisor} sem UI ({@link Bots}),
+ * com os observadores suspensos: ninguém recebe eventos no meio e a UI relê tudo no fim.
+ * </p>
+ * <p>
+ * Com {@link #setMetricas} cada fase do turno é cronometrada em {@link MetricasTurno} (a espera
+ * pela decisão do jogador fica de fora).
+ * </p>
+ * <p>
+ * Com {@link #setGravador} cada turno (dados forçados ou "sorteados pelo motor" + decisões) vai
+ * para uma gravação; {@link #reproduzir} joga de novo os turnos de uma gravação, com os mesmos
+ * dados e decisões, a partir do checkpoint mais próximo.
+ * </p>
+ * <p>
+ * As decisões de compra/construção também vão para o fluxo de eventos da façade, se ligado
+ * ({@link GameFacade#ativarEventos}); o resto dos eventos sai da própria façade.
+ * </p>
+ */
+public final class TurnPipeline {
+
+    private final GameFacade game;
+    private final Decisor decisor;
+    private final ExecutorService motor;
+    private volatile Thread threadDoMotor;
+    private final Set<CompletableFuture<?>> decisoesPendentes = ConcurrentHashMap.newKeySet();
+    private volatile boolean encerrando; // encerrar() chamado: decisão nova fica com o padrão
+    private volatile MetricasTurno metricas;
+    // turno cronometrado em curso (só na thread do motor; marca 0 = turno não amostrado)
+    private MetricasTurno mt;
+    private long marca;
+    private volatile GravadorDePartida gravador;
+    private GravadorDePartida gt; // gravador do turno em curso (só na thread do motor)
+
+    /** Resultado de um avanço rápido. */
+    public record Avanco(int turnos, long nanos, boolean partidaEncerrada) {
+        public double turnosPorSegundo() { return nanos == 0 ? 0 : turnos * 1e9 / nanos; }
+        @Override public String toString() {
+            return String.format("%d turnos em %d ms (%.0f turnos/s)%s", turnos, nanos / 1_000_000,
+                    turnosPorSegundo(), partidaEncerrada ? ", partida encerrada" : "");
+        }
+    }
+
+    public TurnPipeline(GameFacade game, Decisor decisor) {
+        this.game = game;
+        this.decisor = decisor;
+        this.motor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "motor-turnos");
+            t.setDaemon(true);
+            threadDoMotor = t;
+            return t;
+        });
+    }
+
+    /** Enfileira um turno com dados já definidos; o futuro completa quando a vez tiver avançado. */
+    public CompletableFuture<Void> jogarTurno(int d1, int d2) {
+        return CompletableFuture.runAsync(() -> turno(d1, d2, false, decisor, false), motor);
+    }
+
+    /** Enfileira um turno com dados sorteados pelo motor. */
+    public CompletableFuture<Void> jogarTurnoAleatorio() {
+        return CompletableFuture.runAsync(() -> {
+            int d1 = passo(game::sortearDado), d2 = passo(game::sortearDado);
+            turno(d1, d2, true, decisor, false);
+        }, motor);
+    }
+
+    /**
+     * Joga até {@code maxTurnos} turnos com dados sorteados e decisões de {@code bots}, parando antes
+     * se a partida acabar ou se {@code parada} (avaliada após cada turno, com o monitor) for verdadeira.
+     * Observadores ficam suspensos durante o avanço; ao retomar, a base dos diffs é refeita.
+     */
+    public CompletableFuture<Avanco> avancarRapido(int maxTurnos, Predicate<GameFacade> parada, Decisor bots) {
+        return CompletableFuture.supplyAsync(() -> avancarNestaThread(maxTurnos, parada, bots), motor);
+    }
+
+    /**
+     * O mesmo avanço rápido, na thread de quem chama (a do motor nem é criada). Para partidas que
+     * só um trabalhador usa, ex.: os motores por thread da {@link VarreduraDeRegras}; não misturar
+     * com turnos enfileirados na mesma partida.
+     */
+    Avanco avancarNestaThread(int maxTurnos, Predicate<GameFacade> parada, Decisor bots) {
+        passo(() -> { game.suspenderObservadores(); return null; });
+        long t0 = System.nanoTime();
+        int n = 0;
+        try {
+            while (n < maxTurnos && !passo(game::isPartidaEncerrada)) {
+                int d1 = passo(game::sortearDado), d2 = passo(game::sortearDado);
+                turno(d1, d2, true, bots, true);
+                n++;
+                if (parada != null && passo(() -> parada.test(game))) break;
+            }
+        } finally {
+            passo(() -> { game.retomarObservadores(); return null; });
+        }
+        return new Avanco(n, System.nanoTime() - t0, passo(game::isPartidaEncerrada));
+    }
+
+    /** Encerra a partida (apuração + {@code onGameEnded}) depois do turno em curso. */
+    public CompletableFuture<Void> encerrar() {
+        encerrando = true;
+        for (CompletableFuture<?> f : decisoesPendentes) f.cancel(false); // diálogo aberto não segura o fim
+        return CompletableFuture.runAsync(() -> passo(() -> {
+            GravadorDePartida g = gravador;
+            if (g != null) g.encerrada();
+            game.encerrarPartida();
+            return null;
+        }), motor);
+    }
+
+    /**
+     * Leva a partida ao fim do turno {@code ateTurno} da gravação: restaura o checkpoint mais
+     * próximo (se ajudar) e joga os turnos que faltam com os dados e decisões gravados.
+     * Com {@code suspenderObservadores} é uma busca (a UI relê tudo no fim); sem, cada turno
+     * reproduzido notifica como um turno normal. O futuro traz o turno alcançado.
+     */
+    public CompletableFuture<Integer> reproduzir(ReprodutorDePartida replay, int ateTurno, boolean suspenderObservadores) {
+        return CompletableFuture.supplyAsync(() -> {
+            int alvo = Math.max(0, Math.min(ateTurno, replay.getTotalTurnos()));
+            if (suspenderObservadores) passo(() -> { game.suspenderObservadores(); return null; });
+            try {
+                passo(() -> { replay.posicionar(game, alvo); return null; });
+                while (replay.getTurnoAtual() < alvo) {
+                    Gravacao.Turno t = replay.proximoTurno();
+                    int d1 = t.sorteados() ? passo(game::sortearDado) : t.d1();
+                    int d2 = t.sorteados() ? passo(game::sortearDado) : t.d2();
+                    turno(d1, d2, t.sorteados(), replay.decisor(t), suspenderObservadores);
+                    replay.turnoJogado();
+                }
+            } finally {
+                if (suspenderObservadores) passo(() -> { game.retomarObservadores(); return null; });
+            }
+            return replay.getTurnoAtual();
+        }, motor);
+    }
+
+    /** Roda uma ação qualquer na thread do motor, com o monitor da façade. */
+    public <T> CompletableFuture<T> executar(Supplier<T> acao) {
+        return CompletableFuture.supplyAsync(() -> passo(acao), motor);
+    }
+
+    /** Liga ({@code null} desliga) a cronometragem das fases do turno. */
+    public void setMetricas(MetricasTurno metricas) { this.metricas = metricas; }
+
+    /** Liga ({@code null} desliga) a gravação dos turnos seguintes. */
+    public void setGravador(GravadorDePartida gravador) { this.gravador = gravador; }
+
+    /** Se a thread atual é a do motor. */
+    public boolean isThreadDoMotor() { return Thread.currentThread() == threadDoMotor; }
+
+    /** Para a thread do motor (turnos enfileirados são descartados). */
+    public void shutdown() { motor.shutdownNow(); }
+
+    // ---------- Turno ----------
+
+    /** Mesma sequência que a UI fazia na EDT, agora passo a passo na thread do motor. */
+    private void turno(int d1, int d2, boolean sorteados, Decisor decisor, boolean avancoRapido) {
+        gt = gravador;
+        if (gt == null) { jogar(d1, d2, decisor, avancoRapido); return; }
+        gt.inicioTurno(d1, d2, sorteados);
+        try {
+            jogar(d1, d2, decisor, avancoRapido);
+        } finally {
+            passo(() -> { gt.fimTurno(avancoRapido); return null; }); // checkpoint com o estado já consistente
+        }
+    }
+
+    private void jogar(int d1, int d2, Decisor decisor, boolean avancoRapido) {
+        mt = metricas;
+        marca = (mt != null) ? mt.inicio(avancoRapido) : 0;
+        int idx = passo(game::getIndiceJogadorDaVez);
+        passo(() -> { game.notificarRolagem(d1, d2); return null; });
+        marcar(Fase.ROLAGEM);
+
+        // Prisão: tenta sair com dupla
+        boolean segueJogando = passo(() -> {
+            if (!game.jogadorEstaPreso(idx)) { marcar(Fase.PRISAO); return true; }
+            boolean liberado = game.tentarLiberarComDupla(idx, d1, d2);
+            marcar(Fase.PRISAO);
+            game.notificarEstado();
+            marcar(Fase.DIFF_ESTADO);
+            if (!liberado) { game.avancarTurnoENotificar(); marcar(Fase.TROCA_DE_VEZ); }
+            return liberado;
+        });
+        if (!segueJogando) return;
+
+        passo(() -> { game.moverJogadorComDados(idx, d1, d2); return null; });
+        marcar(Fase.MOVIMENTO);
+        decidirNaCasa(idx, decisor);
+        if (marca != 0) marca = mt.retomar(marca); // tempo de decisão não conta
+
+        passo(() -> {
+            game.aplicarCasasEspeciais(idx);
+            marcar(Fase.CASAS_ESPECIAIS);
+            game.cobrarAluguelSeNecessario(idx);
+            marcar(Fase.ALUGUEL);
+            game.resolverChanceSeNecessario(idx);
+            marcar(Fase.SORTE_REVES);
+            game.notificarEstado();
+            marcar(Fase.DIFF_ESTADO);
+            game.usarCartaLiberacaoAutomatica(idx);
+            marcar(Fase.CARTA_LIBERACAO);
+            game.notificarEstado();
+            marcar(Fase.DIFF_ESTADO);
+            game.avancarTurnoENotificar();
+            marcar(Fase.TROCA_DE_VEZ);
+            return null;
+        });
+    }
+
+    private void marcar(Fase f) {
+        if (marca != 0) marca = mt.fase(f, marca);
+    }
+
+    /** Oferta de compra calculada num passo. */
+    private record Oferta(int celula, String nome, int preco) {}
+
+    /** Compra de propriedade livre ou construção na própria (antes era feito no {@code onMoved}). */
+    private void decidirNaCasa(int idx, Decisor decisor) {
+        Oferta oferta = passo(() -> {
+            int celula = game.getPosicao(idx);
+            if (!game.posicaoTemPropriedade(celula) || !game.propriedadeDisponivel(celula)) return null;
+            int preco = game.getPrecoPropriedade(celula);
+            if (game.getSaldo(idx) < preco) return null; // sem saldo: não há o que decidir
+            return new Oferta(celula, game.getNomePropriedade(celula), preco);
+        });
+        if (oferta != null) {
+            boolean compra = aguardar(decisor.comprar(idx, oferta.celula(), oferta.nome(), oferta.preco()), false);
+            if (gt != null) gt.compra(compra);
+            passo(() -> {
+                game.registrarDecisaoCompra(idx, oferta.celula(), compra);
+                if (compra) game.comprarPropriedadeAtual(idx);
+                return null;
+            });
+            return;
+        }
+
+        // {celula, podeCasa, valorCasa, podeHotel, valorHotel} ou null
+        int[] op = passo(() -> {
+            int celula = game.getPosicao(idx);
+            if (!game.posicaoTemPropriedade(celula) || !game.jogadorEhDonoDaPosicao(idx, celula)
+                    || !game.podeConstruirAqui(idx)) return null;
+            int saldo = game.getSaldo(idx);
+            int vc = game.getValorCasaAqui(idx), vh = game.getValorHotelAqui(idx);
+            boolean casa = game.podeConstruirCasaAqui(idx) && saldo >= vc;
+            boolean hotel = game.podeConstruirHotelAqui(idx) && saldo >= vh;
+            return (casa || hotel) ? new int[]{ celula, casa ? 1 : 0, vc, hotel ? 1 : 0, vh } : null;
+        });
+        if (op == null) return;
+        Decisor.Construcao escolha = aguardar(
+                decisor.construir(idx, op[0], op[1] == 1, op[2], op[3] == 1, op[4]), Decisor.Construcao.NADA);
+        if (gt != null) gt.construcao(escolha);
+        passo(() -> {
+            game.registrarDecisaoConstrucao(idx, op[0], switch (escolha) {
+                case CASA -> EventoDeJogo.DecisaoConstrucao.CASA;
+                case HOTEL -> EventoDeJogo.DecisaoConstrucao.HOTEL;
+                case NADA -> EventoDeJogo.DecisaoConstrucao.NADA;
+            });
+            if (escolha == Decisor.Construcao.CASA && op[1] == 1) game.construirCasaNoLocal(idx);
+            else if (escolha == Decisor.Construcao.HOTEL && op[3] == 1) game.construirHotelNoLocal(idx);
+            return null;
+        });
+    }
+
+    // ---------- Auxiliares ----------
+
+    /** Um passo atômico em relação às leituras da UI. */
+    private <T> T passo(Supplier<T> acao) {
+        synchronized (game) { return acao.get(); }
+    }
+
+    /** Espera a decisão fora do monitor; cancelada/falha = {@code padrao}. */
+    private <T> T aguardar(CompletableFuture<T> decisao, T padrao) {
+        decisoesPendentes.add(decisao);
+        if (encerrando) decisao.cancel(false); // pedida depois do encerrar(): ninguém vai responder
+        try {
+            T r = decisao.join();
+            return (r != null) ? r : padrao;
+        } catch (CompletionException | CancellationException e) {
+            return padrao;
+        } finally {
+            decisoesPendentes.remove(decisao);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package controller;
 
 import Model.GameFacade;
 import Model.GameObserver;
+import Model.MapaDeCalor;
 import infra.UiState;
+import infra.EdtWatchdog;
 import infra.ImageStore;
 import view.*;
 import view.MainFrame;
@@ -12,14 +14,28 @@ import java.awt.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador da UI (MVC).
  * Responsável por conectar eventos da interface ao GameFacade (Façade)
  * e assinar eventos do jogo (Observer) para refletir mudanças na UI.
  * Importante: conversa APENAS com o GameFacade (não acessa entidades do domínio).
+ * <p>
+ * Os turnos rodam fora da EDT ({@link TurnPipeline}); os callbacks chegam na EDT pelo
+ * {@link EdtObserver} e as escolhas do turno (compra/construção) são respondidas aqui como
+ * {@link Decisor}, com diálogos abertos na EDT sem travar o motor.
+ * </p>
+ * <p>
+ * No avanço rápido quem decide são os {@link Bots}; os observadores ficam suspensos e a tela é
+ * sincronizada uma única vez no fim ({@link #sincronizarTudo()}).
+ * </p>
+ * <p>
+ * Gravação ({@link GravadorDePartida}) e replay ({@link ReprodutorDePartida}): no replay os dados
+ * ficam travados e o {@link ReplayPanel} comanda o motor; decisões vêm da gravação.
+ * </p>
  */
-public class UIController implements GameObserver {
+public class UIController implements GameObserver, Decisor {
     private final BoardPanel board;
     private final DicePanel dice;
     private final UiState ui;
@@ -29,6 +45,16 @@ public class UIController implements GameObserver {
     /** Marca se a prisão foi disparada por carta de Sorte/Revés para não sobrescrever a carta na lateral. */
     private boolean jailTriggeredByChanceCard = false;
     private boolean saveEnabled = true;
+    private final EdtObserver edtObserver;
+    private final TurnPipeline pipeline;
+    private GravadorDePartida gravador;      // null = não grava
+    private ExportadorDeDados exportador;    // null = não exporta
+    private ReprodutorDePartida replay;      // != null: modo replay
+    private ReplayPanel replayPanel;
+    private Timer reproducao;                // "Reproduzir": um turno por tique
+    private final MapaDeCalor calorPartida = new MapaDeCalor(); // coletor: conta também o avanço rápido
+    private int pedidoCalor;                 // simulação mais recente (resultados antigos são descartados)
+    private CompletableFuture<Void> encerramento; // != null: partida sendo encerrada (só na EDT)
 
     public UIController(BoardPanel board, DicePanel dice, UiState ui,
                         PropertyPanel property, PlayerHudPanel hud,
@@ -36,7 +62,13 @@ public class UIController implements GameObserver {
         this.board = board; this.dice = dice; this.ui = ui;
         this.property = property; this.hud = hud; this.game = game;
 
-        this.game.addObserver(this);
+        this.edtObserver = new EdtObserver(this, game);
+        this.game.addObserver(edtObserver);
+        this.pipeline = new TurnPipeline(game, this);
+        MetricasTurno metricas = MetricasTurno.padrao(); // JMX: banco:type=MetricasTurno
+        this.game.addObserver(metricas.observador());
+        this.pipeline.setMetricas(metricas);
+        synchronized (game) { game.addColetor(calorPartida); }
         refreshHud(game.getIndiceJogadorDaVez());
         wire();
     }
@@ -44,21 +76,32 @@ public class UIController implements GameObserver {
     private void wire() {
         dice.rollButton().addActionListener(e -> {
             int v1 = dice.forcedD1(), v2 = dice.forcedD2();
-            jogarTurno(v1, v2);
-        });
-        dice.randomButton().addActionListener(e -> {
-            List<Integer> dados = game.sortearDados();
-            jogarTurno(dados.get(0), dados.get(1));
+            jogarTurno(pipeline.jogarTurno(v1, v2));
         });
+        dice.randomButton().addActionListener(e -> jogarTurno(pipeline.jogarTurnoAleatorio()));
+        dice.fastForwardButton().addActionListener(e -> avancarRapido(dice.fastForwardTurns()));
 
         hud.viewPropsButton().addActionListener(e -> showOwnedPropertiesDialog());
         hud.endGameButton().addActionListener(e -> encerrarPartida());
-        hud.saveButton().addActionListener(e -> salvarPartida());
-        hud.loadButton().addActionListener(e -> carregarPartida());
+        hud.saveButton().addActionListener(e -> comEvento("salvarPartida", this::salvarPartida));
+        hud.loadButton().addActionListener(e -> comEvento("carregarPartida", this::carregarPartida));
+        hud.heatmapBox().addActionListener(e -> atualizarCalor(true));
         setSaveEnabled(true);
     }
 
+    /** Ação de UI identificada para o vigia da EDT (travamento registrado com o nome da ação). */
+    private static void comEvento(String nome, Runnable acao) {
+        EdtWatchdog.marcarEvento(nome);
+        try { acao.run(); } finally { EdtWatchdog.limparEvento(); }
+    }
+
     private void showOwnedPropertiesDialog() {
+        synchronized (game) { // leitura consistente mesmo com um turno em andamento
+            mostrarPropriedades();
+        }
+    }
+
+    private void mostrarPropriedades() {
         int indiceJogador = game.getIndiceJogadorDaVez();
         int celulaAtual = game.getPosicao(indiceJogador);
 
@@ -99,7 +142,6 @@ public class UIController implements GameObserver {
                     String detalhe = nomes.get(sel) + " — \nProprietário: " +
                             (indiceDono != null ? ui.getNome(indiceDono) : "sem dono");
                     property.showForCell(cel, /*isChance=*/false, corDono, titulo, detalhe);
-                    board.repaint();
                 }
             }
         });
@@ -126,7 +168,6 @@ public class UIController implements GameObserver {
                 : ui.getNome(indiceJogador) + " está na casa " + celula + "." + donoTxt;
 
         property.showForCell(celula, mostrarChance, corDono, titulo, detalhe);
-        board.repaint();
     }
 
     // ----------------- Callbacks do Observer -----------------
@@ -139,6 +180,7 @@ public class UIController implements GameObserver {
 
     @Override public void onMoved(int indiceJogador, int celulaOrigem, int celulaDestino) {
         ui.setPos(indiceJogador, celulaDestino);
+        board.animarMovimento(indiceJogador, celulaOrigem, celulaDestino); // não bloqueia o turno
 
         boolean eSorteReves = game.isChanceCell(celulaDestino);
         restoreCurrentCellCard(indiceJogador, celulaDestino, /*preverSorteReves=*/!eSorteReves);
@@ -153,95 +195,21 @@ public class UIController implements GameObserver {
                     ui.getNome(indiceJogador) + " foi preso e enviado para a casa 10."
             );
         }
-
-        if (game.posicaoTemPropriedade(celulaDestino)) {
-            if (game.propriedadeDisponivel(celulaDestino)) {
-                String nomeProp = game.getNomePropriedade(celulaDestino);
-                int preco = game.getPrecoPropriedade(celulaDestino);
-                if (game.getSaldo(indiceJogador) < preco) {
-                    // Não tem saldo: não mostra opção de compra
-                    board.repaint();
-                    return;
-                }
-                int opt = JOptionPane.showConfirmDialog(board,
-                        ui.getNome(indiceJogador) + " caiu em \"" + nomeProp + "\" (R$ " + preco + "). Deseja comprar?",
-                        "Comprar propriedade", JOptionPane.YES_NO_OPTION);
-                if (opt == JOptionPane.YES_OPTION) {
-                    game.comprarPropriedadeAtual(indiceJogador);
-                }
-            } else if (game.jogadorEhDonoDaPosicao(indiceJogador, celulaDestino) && game.podeConstruirAqui(indiceJogador)) {
-
-                boolean podeCasa = game.podeConstruirCasaAqui(indiceJogador);
-                boolean podeHotel = game.podeConstruirHotelAqui(indiceJogador);
-
-                int valorCasa = game.getValorCasaAqui(indiceJogador);
-                int valorHotel = game.getValorHotelAqui(indiceJogador);
-
-                if (podeCasa && podeHotel) {
-                    List<String> options = List.of(
-                            "Casa (R$ " + valorCasa + ")",
-                            "Hotel (R$ " + valorHotel + ")",
-                            "Cancelar"
-                    );
-                    String escolha = (String) JOptionPane.showInputDialog(
-                            board,
-                            "Escolha o que construir nesta propriedade:",
-                            "Construir",
-                            JOptionPane.QUESTION_MESSAGE,
-                            null,
-                            options.toArray(new String[0]), // JOptionPane exige varargs/array
-                            options.get(0)
-                    );
-                    if (escolha != null) {
-                        int idxEscolha = options.indexOf(escolha);
-                        if (idxEscolha == 0 && game.getSaldo(indiceJogador) >= valorCasa) {
-                            game.construirCasaNoLocal(indiceJogador);
-                        } else if (idxEscolha == 1 && game.getSaldo(indiceJogador) >= valorHotel) {
-                            game.construirHotelNoLocal(indiceJogador);
-                        }
-                    }
-                } else if (podeHotel) {
-                    if (game.getSaldo(indiceJogador) >= valorHotel) {
-                        int opt = JOptionPane.showConfirmDialog(
-                                board,
-                                "Construir hotel por R$ " + valorHotel + " nesta propriedade?",
-                                "Construir hotel",
-                                JOptionPane.YES_NO_OPTION
-                        );
-                        if (opt == JOptionPane.YES_OPTION) {
-                            game.construirHotelNoLocal(indiceJogador);
-                        }
-                    }
-                } else if (podeCasa) {
-                    if (game.getSaldo(indiceJogador) >= valorCasa) {
-                        int opt = JOptionPane.showConfirmDialog(
-                                board,
-                                "Construir casa por R$ " + valorCasa + " nesta propriedade?",
-                                "Construir casa",
-                                JOptionPane.YES_NO_OPTION
-                        );
-                        if (opt == JOptionPane.YES_OPTION) {
-                            game.construirCasaNoLocal(indiceJogador);
-                        }
-                    }
-                }
-            }
-        }
-
-        board.repaint();
+        // compra/construção: pedidas pelo TurnPipeline via Decisor (comprar/construir)
     }
 
     @Override public void onTurnChanged(int currentPlayerIndex) {
         ui.setJogadorDaVez(currentPlayerIndex);
         refreshHud(currentPlayerIndex);
         setSaveEnabled(true); // novo turno: pode salvar antes de agir
-        board.repaint();
+        board.repaintTurnBadge();
+        board.marcarFimDeTurno();
+        atualizarCalor(false); // mapa da partida: uma renderização por turno
     }
 
     @Override public void onBalanceChanged(int indiceJogador, int novoSaldo) {
         int atual = game.getIndiceJogadorDaVez();
         refreshHud(atual);
-        board.repaint();
     }
 
     @Override public void onPropertyBought(int indiceJogador, int celula) {
@@ -253,7 +221,7 @@ public class UIController implements GameObserver {
 
         int atual = game.getIndiceJogadorDaVez();
         refreshHud(atual);
-        board.repaint();
+        board.repaintCell(celula);
     }
 
     @Override public void onHouseBuilt(int indiceJogador, int celula, int numeroCasas) {
@@ -274,7 +242,7 @@ public class UIController implements GameObserver {
 
         int atual = game.getIndiceJogadorDaVez();
         refreshHud(atual);
-        board.repaint();
+        board.repaintCell(celula);
     }
 
     @Override public void onJailStatus(int indiceJogador, boolean preso) {
@@ -289,17 +257,17 @@ public class UIController implements GameObserver {
                         ui.getNome(indiceJogador) + " foi preso e enviado para a casa 10."
                 );
             }
-            JOptionPane.showMessageDialog(board,
-                    ui.getNome(indiceJogador) + " está preso!",
-                    "VOCÊ ESTÁ PRESO!", JOptionPane.INFORMATION_MESSAGE);
+            avisar(ui.getNome(indiceJogador) + " está preso!", "VOCÊ ESTÁ PRESO!", null);
+            board.pararAnimacao(indiceJogador);
+            board.repaintCell(ui.getPos(indiceJogador));
             ui.setPos(indiceJogador, game.getPosicaoPrisao());
+            board.repaintCell(game.getPosicaoPrisao());
         } else {
             int celula = game.getPosicao(indiceJogador);
             restoreCurrentCellCard(indiceJogador, celula, /*preverSorteReves=*/true);
         }
         int atual = game.getIndiceJogadorDaVez();
         refreshHud(atual);
-        board.repaint();
         jailTriggeredByChanceCard = false; // reseta para próximos eventos
     }
 
@@ -309,17 +277,14 @@ public class UIController implements GameObserver {
         String detalhe = ui.getNome(indicePagador) + " pagou R$ " + valor +
                 " para " + ui.getNome(indiceDono) + " na casa " + celula + ".";
         property.showForCell(celula, false, corDono, titulo, detalhe);
-        board.repaint();
     }
 
     @Override public void onBankruptcy(int indiceJogador) {
         ui.setAtivo(indiceJogador, false); // some da UI
-        JOptionPane.showMessageDialog(board,
-                ui.getNome(indiceJogador) + " entrou em falência.",
-                "Falência", JOptionPane.INFORMATION_MESSAGE);
+        board.repaintCell(ui.getPos(indiceJogador));
+        avisar(ui.getNome(indiceJogador) + " entrou em falência.", "Falência", null);
         int atual = game.getIndiceJogadorDaVez();
         refreshHud(atual);
-        board.repaint();
     }
 
     @Override
@@ -329,26 +294,19 @@ public class UIController implements GameObserver {
         property.showForCell(celula, false, corDono, titulo,
                 ui.getNome(indiceJogador) + ": " + descricao);
         refreshHud(game.getIndiceJogadorDaVez());
-        board.repaint();
     }
 
     @Override
     public void onReleaseCardUsed(int indiceJogador) {
         // Popup com a imagem da carta antes de liberar
-        var img = ImageStore.loadCached("/sorteReves/chance9.png"); // 9 = SAIDA_LIVRE
+        String carta = "/sorteReves/chance9.png"; // 9 = SAIDA_LIVRE
+        var img = ImageStore.loadCached(carta);
         Icon icon = (img != null)
-                ? new ImageIcon(img.getScaledInstance(
+                ? new ImageIcon(ImageStore.loadScaled(carta,
                         Math.min(320, img.getWidth()),
-                        Math.min(420, img.getHeight()),
-                        Image.SCALE_SMOOTH))
+                        Math.min(420, img.getHeight())))
                 : null;
-        JOptionPane.showMessageDialog(
-                board,
-                "SUA CARTA DE LIBERAÇÃO FOI USADA E VOCÊ ESTÁ LIVRE",
-                "Carta de liberação",
-                JOptionPane.INFORMATION_MESSAGE,
-                icon
-        );
+        avisar("SUA CARTA DE LIBERAÇÃO FOI USADA E VOCÊ ESTÁ LIVRE", "Carta de liberação", icon);
 
         int celulaPrisao = 10;
         property.showForCell(
@@ -357,7 +315,6 @@ public class UIController implements GameObserver {
                 ui.getNome(indiceJogador) + " usou a carta e saiu da prisão automaticamente."
         );
         refreshHud(game.getIndiceJogadorDaVez());
-        board.repaint();
     }
 
     @Override
@@ -376,7 +333,15 @@ public class UIController implements GameObserver {
             jailTriggeredByChanceCard = true;
         }
         refreshHud(game.getIndiceJogadorDaVez());
-        board.repaint();
+    }
+
+    /**
+     * Aviso modal de um callback. Os callbacks rodam com o monitor do jogo ({@link EdtObserver});
+     * o diálogo só abre depois, já sem ele, para o motor não ficar esperando o usuário fechar.
+     */
+    private void avisar(String msg, String titulo, Icon icon) {
+        SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(board, msg, titulo, JOptionPane.INFORMATION_MESSAGE, icon));
     }
 
     private void setSaveEnabled(boolean enabled) {
@@ -396,7 +361,9 @@ public class UIController implements GameObserver {
                 file = new java.io.File(file.getAbsolutePath() + ".txt");
             }
             try {
-                game.salvarParaArquivo(file, coletarCores());
+                synchronized (game) { // turno do motor não muda o estado no meio da gravação
+                    game.salvarParaArquivo(file, coletarCores());
+                }
                 JOptionPane.showMessageDialog(board, "Partida salva em:\n" + file.getAbsolutePath(),
                         "Salvar", JOptionPane.INFORMATION_MESSAGE);
             } catch (Exception ex) {
@@ -433,29 +400,224 @@ public class UIController implements GameObserver {
         return cores;
     }
 
-    /** Orquestra a sequência completa de uma jogada (Controller). */
-    private void jogarTurno(int d1, int d2) {
+    /** Bloqueia os dados até o turno (já enfileirado no motor) terminar. */
+    private void jogarTurno(CompletableFuture<Void> turno) {
+        setSaveEnabled(false);
+        setDadosEnabled(false);
+        turno.whenComplete((ok, erro) -> SwingUtilities.invokeLater(() -> {
+            setDadosEnabled(true);
+            if (erro != null) {
+                JOptionPane.showMessageDialog(board, "Erro no turno: " + erro.getMessage(),
+                        "Erro", JOptionPane.ERROR_MESSAGE);
+            }
+        }));
+    }
+
+    private void setDadosEnabled(boolean enabled) {
+        if (replay != null || encerramento != null) enabled = false; // no replay quem joga é a gravação
+        dice.rollButton().setEnabled(enabled);
+        dice.randomButton().setEnabled(enabled);
+        dice.fastForwardButton().setEnabled(enabled);
+    }
+
+    // ----------------- Avanço rápido -----------------
+
+    /** Joga {@code turnos} turnos com bots; sem eventos no meio, a UI relê o estado no fim. */
+    private void avancarRapido(int turnos) {
+        setSaveEnabled(false);
+        setDadosEnabled(false);
+        pipeline.avancarRapido(turnos, null, Bots.sempreCompra())
+                .whenComplete((r, erro) -> SwingUtilities.invokeLater(() -> {
+                    if (erro != null) {
+                        setDadosEnabled(true);
+                        setSaveEnabled(true);
+                        JOptionPane.showMessageDialog(board, "Erro no avanço rápido: " + erro.getMessage(),
+                                "Erro", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    synchronized (game) { sincronizarTudo(); }
+                    atualizarCalor(false);
+                    setDadosEnabled(true);
+                    setSaveEnabled(true);
+                    if (r.partidaEncerrada()) encerrarPartida(); // mostra o placar (onGameEnded)
+                }));
+    }
+
+    /** Relê do modelo tudo o que os callbacks mantêm na UI e repinta uma vez. */
+    private void sincronizarTudo() {
+        int n = game.getNumeroJogadores();
+        for (int i = 0; i < n; i++) {
+            board.pararAnimacao(i);
+            ui.setPos(i, game.getPosicao(i));
+            ui.setAtivo(i, !game.isFalido(i));
+        }
+        int atual = game.getIndiceJogadorDaVez();
+        ui.setJogadorDaVez(atual);
+        refreshHud(atual);
+        restoreCurrentCellCard(atual, game.getPosicao(atual), /*preverSorteReves=*/false);
+        board.repaint();
+    }
+
+    // ----------------- Mapa de calor -----------------
+
+    /**
+     * Atualiza o mapa de calor do tabuleiro conforme o modo do HUD. Os modos da partida releem o
+     * coletor (a cada troca de vez); os simulados disparam uma nova simulação a partir do estado
+     * atual só quando o modo é escolhido, e o resultado chega depois, sem travar a EDT.
+     */
+    private void atualizarCalor(boolean modoEscolhido) {
+        int modo = hud.heatmapBox().getSelectedIndex();
+        if (modoEscolhido) pedidoCalor++;
+        if (modo <= 0) { board.setMapaDeCalor(null); return; }
+        MapaDeCalor.Medida medida = (modo % 2 == 1) ? MapaDeCalor.Medida.VISITAS : MapaDeCalor.Medida.ALUGUEL;
+        if (modo <= 2) {
+            synchronized (game) { board.setMapaDeCalor(calorPartida.valores(medida)); }
+            return;
+        }
+        if (!modoEscolhido) return;
+
+        int pedido = pedidoCalor;
+        long semente;
+        synchronized (game) { semente = game.getEstadoAleatorio(); }
+        SimulacaoDeCalor.simular(game, SimulacaoDeCalor.PARTIDAS_PADRAO, SimulacaoDeCalor.TURNOS_PADRAO, semente)
+                .whenComplete((mapa, erro) -> SwingUtilities.invokeLater(() -> {
+                    if (pedido != pedidoCalor) return; // modo trocado no meio da simulação
+                    if (erro != null) {
+                        JOptionPane.showMessageDialog(board, "Erro na simulação do mapa de calor: " + erro.getMessage(),
+                                "Erro", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    board.setMapaDeCalor(mapa.valores(medida));
+                }));
+    }
+
+    // ----------------- Gravação e replay -----------------
+
+    /**
+     * Grava os turnos seguintes se {@code -Dbanco.gravacao=arquivo} estiver ligado.
+     * @param partidaNova partida recém-criada (a semente basta para refazê-la) ou carregada de um save
+     */
+    public void gravarSeHabilitado(boolean partidaNova) {
+        gravador = GravadorDePartida.iniciarSeHabilitado(game, coletarCores(), partidaNova);
+        pipeline.setGravador(gravador);
+    }
+
+    /** Exporta os turnos seguintes para análise se {@code -Dbanco.exportacao=dir} estiver ligado. */
+    public void exportarSeHabilitado() {
+        exportador = ExportadorDeDados.iniciarSeHabilitado(game);
+    }
+
+    /** Modo replay: dados e salvar travados; {@code painel} pula, avança e reproduz os turnos gravados. */
+    public void conectarReplay(ReprodutorDePartida replay, ReplayPanel painel) {
+        this.replay = replay;
+        this.replayPanel = painel;
+        setDadosEnabled(false);
         setSaveEnabled(false);
-        int idx = game.getIndiceJogadorDaVez();
+        painel.setTurno(replay.getTurnoAtual(), replay.getTotalTurnos());
+        painel.startButton().addActionListener(e -> irParaTurno(0));
+        painel.goButton().addActionListener(e -> irParaTurno(painel.chosenTurn()));
+        painel.stepButton().addActionListener(e -> proximoTurnoReplay());
+        reproducao = new Timer(700, e -> { if (painel.stepButton().isEnabled()) proximoTurnoReplay(); });
+        painel.playButton().addActionListener(e -> {
+            if (painel.playButton().isSelected()) reproducao.start(); else reproducao.stop();
+        });
+    }
 
-        game.notificarRolagem(d1, d2);
+    /** Busca: observadores suspensos durante a reprodução, a tela é relida no fim. */
+    private void irParaTurno(int turno) {
+        replayPanel.setComandosEnabled(false);
+        depoisDoReplay(pipeline.reproduzir(replay, turno, true), true);
+    }
 
-        // Prisão: tenta sair com dupla
-        if (game.jogadorEstaPreso(idx)) {
-            boolean liberado = game.tentarLiberarComDupla(idx, d1, d2);
-            game.notificarEstado();
-            if (!liberado) { game.avancarTurnoENotificar(); return; }
+    /** Um turno com todos os eventos, como na partida ao vivo. */
+    private void proximoTurnoReplay() {
+        if (replay.isNoFim()) {
+            reproducao.stop();
+            replayPanel.playButton().setSelected(false);
+            if (replay.getGravacao().isEncerrada()) encerrarPartida(); // placar, como no original
+            return;
         }
+        replayPanel.setComandosEnabled(false);
+        depoisDoReplay(pipeline.reproduzir(replay, replay.getTurnoAtual() + 1, false), false);
+    }
+
+    private void depoisDoReplay(CompletableFuture<Integer> f, boolean busca) {
+        f.whenComplete((turno, erro) -> SwingUtilities.invokeLater(() -> {
+            if (busca) synchronized (game) { sincronizarTudo(); }
+            replayPanel.setTurno(replay.getTurnoAtual(), replay.getTotalTurnos());
+            replayPanel.setComandosEnabled(true);
+            if (erro != null) {
+                reproducao.stop();
+                replayPanel.playButton().setSelected(false);
+                JOptionPane.showMessageDialog(board, "Erro no replay: " + erro.getMessage(),
+                        "Replay", JOptionPane.ERROR_MESSAGE);
+            }
+        }));
+    }
+
+    // ----------------- Decisões do turno (Decisor) -----------------
 
-        game.moverJogadorComDados(idx, d1, d2);
-        game.aplicarCasasEspeciais(idx);
-        game.cobrarAluguelSeNecessario(idx);
-        game.resolverChanceSeNecessario(idx);
+    @Override
+    public CompletableFuture<Boolean> comprar(int indiceJogador, int celula, String nomeProp, int preco) {
+        CompletableFuture<Boolean> resposta = new CompletableFuture<>();
+        SwingUtilities.invokeLater(() -> {
+            if (resposta.isDone()) return; // partida encerrada antes de perguntar
+            int opt = JOptionPane.showConfirmDialog(board,
+                    ui.getNome(indiceJogador) + " caiu em \"" + nomeProp + "\" (R$ " + preco + "). Deseja comprar?",
+                    "Comprar propriedade", JOptionPane.YES_NO_OPTION);
+            resposta.complete(opt == JOptionPane.YES_OPTION);
+        });
+        return resposta;
+    }
+
+    @Override
+    public CompletableFuture<Construcao> construir(int indiceJogador, int celula,
+                                                   boolean podeCasa, int valorCasa,
+                                                   boolean podeHotel, int valorHotel) {
+        CompletableFuture<Construcao> resposta = new CompletableFuture<>();
+        SwingUtilities.invokeLater(() -> {
+            if (resposta.isDone()) return;
+            resposta.complete(perguntarConstrucao(podeCasa, valorCasa, podeHotel, valorHotel));
+        });
+        return resposta;
+    }
 
-        game.notificarEstado();
-        game.usarCartaLiberacaoAutomatica(idx);
-        game.notificarEstado();
-        game.avancarTurnoENotificar();
+    private Construcao perguntarConstrucao(boolean podeCasa, int valorCasa, boolean podeHotel, int valorHotel) {
+        if (podeCasa && podeHotel) {
+            List<String> options = List.of(
+                    "Casa (R$ " + valorCasa + ")",
+                    "Hotel (R$ " + valorHotel + ")",
+                    "Cancelar"
+            );
+            String escolha = (String) JOptionPane.showInputDialog(
+                    board,
+                    "Escolha o que construir nesta propriedade:",
+                    "Construir",
+                    JOptionPane.QUESTION_MESSAGE,
+                    null,
+                    options.toArray(new String[0]), // JOptionPane exige varargs/array
+                    options.get(0)
+            );
+            int idxEscolha = (escolha != null) ? options.indexOf(escolha) : -1;
+            return idxEscolha == 0 ? Construcao.CASA : idxEscolha == 1 ? Construcao.HOTEL : Construcao.NADA;
+        } else if (podeHotel) {
+            int opt = JOptionPane.showConfirmDialog(
+                    board,
+                    "Construir hotel por R$ " + valorHotel + " nesta propriedade?",
+                    "Construir hotel",
+                    JOptionPane.YES_NO_OPTION
+            );
+            return (opt == JOptionPane.YES_OPTION) ? Construcao.HOTEL : Construcao.NADA;
+        } else if (podeCasa) {
+            int opt = JOptionPane.showConfirmDialog(
+                    board,
+                    "Construir casa por R$ " + valorCasa + " nesta propriedade?",
+                    "Construir casa",
+                    JOptionPane.YES_NO_OPTION
+            );
+            return (opt == JOptionPane.YES_OPTION) ? Construcao.CASA : Construcao.NADA;
+        }
+        return Construcao.NADA;
     }
 
     @Override
@@ -482,9 +644,37 @@ public class UIController implements GameObserver {
         SwingUtilities.getWindowAncestor(board).dispose();
     }
 
-    /** Encerrar partida via botão/menu ou fechamento da janela. */
-    public void encerrarPartida() {
-        game.encerrarPartida();
+    /**
+     * Encerrar partida via botão/menu ou fechamento da janela. Não espera o motor na EDT: o turno
+     * em curso (ou o avanço rápido) termina na thread do motor, com as decisões ainda por responder
+     * valendo "não", e o resto do encerramento volta para a EDT. O futuro completa na EDT, depois
+     * do placar ({@code onGameEnded}); chamadas repetidas devolvem o mesmo futuro.
+     */
+    public CompletableFuture<Void> encerrarPartida() {
+        if (encerramento != null) return encerramento;
+        CompletableFuture<Void> fim = new CompletableFuture<>();
+        encerramento = fim;
+        if (reproducao != null) reproducao.stop();
+        setDadosEnabled(false);
+        setSaveEnabled(false);
+        pipeline.encerrar().whenComplete((ok, erro) -> SwingUtilities.invokeLater(() -> {
+            try { fecharPartida(); } finally { fim.complete(null); }
+        }));
+        return fim;
+    }
+
+    /** Fecha gravação, exportação e fluxo de eventos depois do último passo do motor (na EDT). */
+    private void fecharPartida() {
+        if (gravador != null) gravador.close(); // checkpoint final
+        if (exportador != null) {
+            try { exportador.close(); } // blocos parciais das colunas
+            catch (java.io.IOException e) { System.err.println("Falha ao fechar a exportação: " + e); }
+        }
+        synchronized (game) {
+            try { game.encerrarEventos(); } // fluxo de eventos (se hospedada) descarregado e fechado
+            catch (java.io.IOException e) { System.err.println("Falha ao fechar o fluxo de eventos: " + e); }
+        }
+        edtObserver.drenar();       // entrega o onGameEnded antes de a janela fechar
     }
 
     private void refreshHud(int indiceJogador) {
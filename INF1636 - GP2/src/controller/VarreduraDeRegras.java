@@ -0,0 +1,251 @@
+package controller;
+
+import Model.GameFacade;
+import Model.GameStateSnapshot;
+import Model.RegrasEconomicas;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Varredura de regras: para cada ponto de uma {@link Grade} de {@link RegrasEconomicas}, joga
+ * {@code partidasPorPonto} partidas simuladas (bots aleatórios) a partir de um estado inicial e
+ * resume duração, taxa de falência e vantagem de quem joga primeiro ({@link Resultado}).
+ * <p>
+ * As partidas de um ponto são repartidas entre {@code threads} trabalhadores; cada trabalhador tem
+ * o seu motor (uma {@link GameFacade#avulsa} + {@link TurnPipeline} em
+ * {@link TurnPipeline#avancarNestaThread}), reaproveitado de partida em partida e de ponto em ponto
+ * com {@code restaurar} + {@code setRegras}: nenhuma partida nova é montada depois do aquecimento.
+ * </p>
+ * <p>
+ * Resultados saem em streaming, na ordem dos pontos, assim que cada ponto termina; a grade é
+ * decodificada ponto a ponto (nada é materializado), então a memória não cresce com o tamanho da grade.
+ * A partida {@code k} do ponto {@code p} usa a semente derivada de {@code (semente, p, k)}: o
+ * resultado não depende do número de threads.
+ * </p>
+ */
+public final class VarreduraDeRegras implements Closeable {
+
+    /** Probabilidade de o bot comprar/construir. */
+    private static final double P_DECISAO = 0.7;
+
+    /** Um eixo da grade: o parâmetro ({@link RegrasEconomicas#PARAMETROS}) e os valores testados. */
+    public record Eixo(String parametro, double... valores) {
+        public Eixo {
+            if (!Arrays.asList(RegrasEconomicas.PARAMETROS).contains(parametro))
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + parametro);
+            if (valores.length == 0) throw new IllegalArgumentException("Eixo sem valores: " + parametro);
+        }
+    }
+
+    /** Produto cartesiano dos eixos sobre uma regra base; o primeiro eixo varia mais devagar. */
+    public static final class Grade {
+        private final RegrasEconomicas base;
+        private final List<Eixo> eixos;
+        private final long tamanho;
+
+        public Grade(RegrasEconomicas base, Eixo... eixos) {
+            this.base = base;
+            this.eixos = List.of(eixos);
+            long t = 1;
+            for (Eixo e : eixos) t = Math.multiplyExact(t, e.valores().length);
+            this.tamanho = t;
+        }
+
+        public long getTamanho() { return tamanho; }
+        public List<Eixo> getEixos() { return eixos; }
+
+        /** Regras do ponto {@code i} ({@code 0 <= i < tamanho}). */
+        public RegrasEconomicas ponto(long i) {
+            RegrasEconomicas r = base;
+            for (int e = eixos.size() - 1; e >= 0; e--) {
+                double[] v = eixos.get(e).valores();
+                r = r.com(eixos.get(e).parametro(), v[(int) (i % v.length)]);
+                i /= v.length;
+            }
+            return r;
+        }
+    }
+
+    /**
+     * Resumo de um ponto.
+     * @param duracaoMedia     turnos médios das partidas que terminaram (NaN se nenhuma)
+     * @param taxaFalencia     jogadores falidos / jogadores em todas as partidas
+     * @param vantagemPrimeiro vitórias de quem joga primeiro menos 1/jogadores (0 = sem vantagem);
+     *                         partida não terminada é vencida por quem tem mais dinheiro
+     */
+    public record Resultado(long ponto, RegrasEconomicas regras, int partidas, int terminadas, double duracaoMedia,
+                            double taxaFalencia, double vitoriasPrimeiro, double vantagemPrimeiro, long nanos) {
+
+        public static String cabecalhoCsv() {
+            return "ponto," + String.join(",", RegrasEconomicas.PARAMETROS)
+                    + ",partidas,terminadas,duracaoMedia,taxaFalencia,vitoriasPrimeiro,vantagemPrimeiro,ms";
+        }
+
+        public String csv() {
+            StringBuilder sb = new StringBuilder().append(ponto);
+            for (int i = 0; i < RegrasEconomicas.PARAMETROS.length; i++) sb.append(',').append(regras.parametro(i));
+            return sb.append(String.format(Locale.ROOT, ",%d,%d,%.1f,%.4f,%.4f,%.4f,%d", partidas, terminadas,
+                    duracaoMedia, taxaFalencia, vitoriasPrimeiro, vantagemPrimeiro, nanos / 1_000_000)).toString();
+        }
+    }
+
+    /** Contagens de um trabalhador num ponto (somadas no fim do ponto). */
+    private static final class Acumulador {
+        int partidas, terminadas, vitoriasPrimeiro;
+        long turnosTerminadas, falidos;
+
+        void somar(Acumulador o) {
+            partidas += o.partidas;
+            terminadas += o.terminadas;
+            vitoriasPrimeiro += o.vitoriasPrimeiro;
+            turnosTerminadas += o.turnosTerminadas;
+            falidos += o.falidos;
+        }
+    }
+
+    /** Motor de um trabalhador: partida avulsa reaproveitada. */
+    private final class Motor {
+        final GameFacade game = GameFacade.avulsa(base, 0);
+        final TurnPipeline pipeline = new TurnPipeline(game, Bots.nuncaCompra());
+
+        void jogar(RegrasEconomicas regras, long semente, Acumulador acc) {
+            if (!regras.equals(game.getRegras())) game.setRegras(regras);
+            game.restaurar(base, semente);
+            TurnPipeline.Avanco r = pipeline.avancarNestaThread(maxTurnos, null,
+                    Bots.aleatorio(new Random(semente), P_DECISAO));
+            int vencedor = -1;
+            for (int j = 0; j < jogadores; j++) {
+                if (game.isFalido(j)) { acc.falidos++; continue; }
+                if (vencedor < 0 || game.getSaldo(j) > game.getSaldo(vencedor)) vencedor = j;
+            }
+            acc.partidas++;
+            if (r.partidaEncerrada()) { acc.terminadas++; acc.turnosTerminadas += r.turnos(); }
+            if (vencedor == primeiro) acc.vitoriasPrimeiro++;
+        }
+    }
+
+    private final GameStateSnapshot base;
+    private final int partidasPorPonto, maxTurnos, threads, jogadores, primeiro;
+    private final long semente;
+    private final ExecutorService trabalhadores;
+    private final List<Motor> motores = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Motor> motorDaThread = ThreadLocal.withInitial(() -> {
+        Motor m = new Motor();
+        motores.add(m);
+        return m;
+    });
+
+    /**
+     * @param base             estado de onde toda partida começa (ex.: partida nova, saldo inicial ajustado)
+     * @param partidasPorPonto partidas simuladas por ponto da grade
+     * @param maxTurnos        limite de turnos de cada partida (a que chega nele conta como não terminada)
+     */
+    public VarreduraDeRegras(GameStateSnapshot base, int partidasPorPonto, int maxTurnos, long semente, int threads) {
+        this.base = base;
+        this.partidasPorPonto = partidasPorPonto;
+        this.maxTurnos = maxTurnos;
+        this.semente = semente;
+        this.threads = Math.max(1, threads);
+        this.jogadores = base.players().size();
+        this.primeiro = base.ordem().get(base.ponteiro());
+        this.trabalhadores = Executors.newFixedThreadPool(this.threads, r -> {
+            Thread t = new Thread(r, "varredura");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Motores criados até agora (no máximo um por thread). */
+    public int getMotores() { return motores.size(); }
+
+    /** Joga a grade inteira, entregando a {@code saida} o resultado de cada ponto, em ordem, assim que sai. */
+    public void executar(Grade grade, Consumer<Resultado> saida) throws InterruptedException {
+        for (long p = 0; p < grade.getTamanho(); p++) saida.accept(executarPonto(p, grade.ponto(p)));
+    }
+
+    private Resultado executarPonto(long ponto, RegrasEconomicas regras) throws InterruptedException {
+        long t0 = System.nanoTime();
+        List<Callable<Acumulador>> tarefas = new ArrayList<>(threads);
+        for (int w = 0; w < threads; w++) {
+            int primeiraPartida = w;
+            tarefas.add(() -> {
+                Motor m = motorDaThread.get();
+                Acumulador acc = new Acumulador();
+                for (int k = primeiraPartida; k < partidasPorPonto; k += threads) m.jogar(regras, sementeDe(ponto, k), acc);
+                return acc;
+            });
+        }
+        Acumulador total = new Acumulador();
+        try {
+            for (Future<Acumulador> f : trabalhadores.invokeAll(tarefas)) total.somar(f.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha no ponto " + ponto + " (" + regras + ")", e.getCause());
+        }
+        double duracao = total.terminadas == 0 ? Double.NaN : (double) total.turnosTerminadas / total.terminadas;
+        double vitorias = (double) total.vitoriasPrimeiro / Math.max(1, total.partidas);
+        return new Resultado(ponto, regras, total.partidas, total.terminadas, duracao,
+                (double) total.falidos / Math.max(1, (long) total.partidas * jogadores),
+                vitorias, vitorias - 1.0 / jogadores, System.nanoTime() - t0);
+    }
+
+    /** Estado do gerador da partida {@code k} do ponto {@code p} (mistura de 64 bits: sementes vizinhas não se parecem). */
+    private long sementeDe(long p, int k) {
+        long z = semente + p * 0x9E3779B97F4A7C15L + (k + 1) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void close() {
+        trabalhadores.shutdownNow();
+        for (Motor m : motores) m.pipeline.shutdown();
+    }
+
+    // ---------- Linha de comando ----------
+
+    /**
+     * Uso: {@code java controller.VarreduraDeRegras [partidas=1000] [maxTurnos=1000] [saldoInicial=1500]
+     * aluguelBase=0.05,0.1,0.2 bonusSaida=100,200 ...}. Imprime um CSV, um ponto por linha, à medida que saem.
+     */
+    public static void main(String[] args) throws Exception {
+        List<Integer> numeros = new ArrayList<>();
+        List<Eixo> eixos = new ArrayList<>();
+        for (String a : args) {
+            int igual = a.indexOf('=');
+            if (igual < 0) { numeros.add(Integer.parseInt(a)); continue; }
+            double[] v = Arrays.stream(a.substring(igual + 1).split(",")).mapToDouble(Double::parseDouble).toArray();
+            eixos.add(new Eixo(a.substring(0, igual), v));
+        }
+        int partidas = numeros.size() > 0 ? numeros.get(0) : 1_000;
+        int maxTurnos = numeros.size() > 1 ? numeros.get(1) : 1_000;
+        int saldo = numeros.size() > 2 ? numeros.get(2) : 1_500;
+        if (eixos.isEmpty()) eixos.add(new Eixo("aluguelBase", 0.05, 0.10, 0.20));
+
+        GameFacade g = GameFacade.init(List.of("A", "B", "C", "D"), List.of(0, 1, 2, 3), 1L);
+        GameStateSnapshot base = ExportadorDeDados.comSaldoInicial(g.capturarSnapshot(null), saldo);
+        GameFacade.resetForTests();
+
+        Grade grade = new Grade(RegrasEconomicas.PADRAO, eixos.toArray(new Eixo[0]));
+        int threads = Runtime.getRuntime().availableProcessors();
+        System.err.println(grade.getTamanho() + " pontos x " + partidas + " partidas, " + threads + " threads");
+        long t0 = System.nanoTime();
+        System.out.println(Resultado.cabecalhoCsv());
+        try (VarreduraDeRegras v = new VarreduraDeRegras(base, partidas, maxTurnos, 42L, threads)) {
+            v.executar(grade, r -> System.out.println(r.csv()));
+        }
+        System.err.println("Total: " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+    }
+}
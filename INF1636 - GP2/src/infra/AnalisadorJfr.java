@@ -0,0 +1,166 @@
+package infra;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resumo de uma gravação do Java Flight Recorder feita com o perfil {@code /jfr/banco.jfc}.
+ * <p>
+ * Uso: {@code java -cp bin infra.AnalisadorJfr partida.jfr}. Mostra, por evento {@code banco.*},
+ * contagem, duração (total/máxima) e soma dos campos {@code valor}/{@code bytes}; aluguel pago e
+ * recebido por jogador; as decodificações de imagem mais lentas; e, da JVM, pausas de GC,
+ * contenção de monitor e os métodos mais amostrados.
+ * </p>
+ * <p>Escopo: apoio à instrumentação (sem regras de negócio).</p>
+ */
+public final class AnalisadorJfr {
+
+    /** Números de um tipo de evento. */
+    public static final class Estatistica {
+        long contagem, totalNanos, maxNanos, somaValor, somaBytes;
+
+        public long getContagem() { return contagem; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public long getSomaValor() { return somaValor; }
+        public long getSomaBytes() { return somaBytes; }
+    }
+
+    /** Decodificação de imagem (para o ranking das mais lentas). */
+    public record Decodificacao(String caminho, long nanos, long bytes) {}
+
+    private final Map<String, Estatistica> porEvento = new TreeMap<>();
+    private final Map<Integer, long[]> aluguelPorJogador = new TreeMap<>(); // {pago, recebido}
+    private final List<Decodificacao> decodificacoes = new ArrayList<>();
+    private final Map<String, Long> amostrasPorMetodo = new HashMap<>();
+    private final Map<String, Long> contencaoPorClasse = new HashMap<>();
+    private long gcs, gcPausaNanos, eventos;
+
+    private AnalisadorJfr() {}
+
+    /** Lê a gravação inteira (uma passada). */
+    public static AnalisadorJfr analisar(Path gravacao) throws IOException {
+        AnalisadorJfr a = new AnalisadorJfr();
+        try (RecordingFile rf = new RecordingFile(gravacao)) {
+            while (rf.hasMoreEvents()) a.acumular(rf.readEvent());
+        }
+        return a;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("uso: java infra.AnalisadorJfr <gravacao.jfr>");
+            System.exit(2);
+        }
+        System.out.print(analisar(Path.of(args[0])).texto());
+    }
+
+    // ---------- Consulta ----------
+
+    /** Estatística de um evento ({@code banco.Compra}, ...) ou {@code null} se não houve nenhum. */
+    public Estatistica get(String evento) { return porEvento.get(evento); }
+
+    /** {pago, recebido} de aluguel por jogador. */
+    public Map<Integer, long[]> getAluguelPorJogador() { return aluguelPorJogador; }
+
+    /** Decodificações de imagem, da mais lenta para a mais rápida. */
+    public List<Decodificacao> getDecodificacoes() {
+        List<Decodificacao> r = new ArrayList<>(decodificacoes);
+        r.sort(Comparator.comparingLong(Decodificacao::nanos).reversed());
+        return r;
+    }
+
+    public long getEventos() { return eventos; }
+
+    // ---------- Acúmulo ----------
+
+    private void acumular(RecordedEvent e) {
+        eventos++;
+        String nome = e.getEventType().getName();
+        if (nome.startsWith("banco.")) {
+            acumularJogo(nome, e);
+            return;
+        }
+        switch (nome) {
+            case "jdk.GarbageCollection" -> { gcs++; gcPausaNanos += e.getDuration("sumOfPauses").toNanos(); }
+            case "jdk.ExecutionSample" -> {
+                RecordedStackTrace st = e.getStackTrace();
+                if (st != null && !st.getFrames().isEmpty()) {
+                    RecordedFrame f = st.getFrames().get(0);
+                    String m = f.getMethod().getType().getName() + "." + f.getMethod().getName();
+                    amostrasPorMetodo.merge(m, 1L, Long::sum);
+                }
+            }
+            case "jdk.JavaMonitorEnter" -> {
+                String classe = e.getClass("monitorClass") != null ? e.getClass("monitorClass").getName() : "?";
+                contencaoPorClasse.merge(classe, e.getDuration().toNanos(), Long::sum);
+            }
+            default -> { }
+        }
+    }
+
+    private void acumularJogo(String nome, RecordedEvent e) {
+        Estatistica s = porEvento.computeIfAbsent(nome, k -> new Estatistica());
+        long d = e.getDuration().toNanos();
+        s.contagem++;
+        s.totalNanos += d;
+        s.maxNanos = Math.max(s.maxNanos, d);
+        if (e.hasField("valor")) s.somaValor += e.getInt("valor");
+        if (e.hasField("bytes")) s.somaBytes += e.getLong("bytes");
+
+        if (nome.equals("banco.Aluguel")) {
+            int valor = e.getInt("valor");
+            aluguelPorJogador.computeIfAbsent(e.getInt("jogador"), k -> new long[2])[0] += valor;
+            aluguelPorJogador.computeIfAbsent(e.getInt("dono"), k -> new long[2])[1] += valor;
+        } else if (nome.equals("banco.DecodificacaoImagem")) {
+            decodificacoes.add(new Decodificacao(e.getString("caminho"), d, e.getLong("bytes")));
+        }
+    }
+
+    // ---------- Texto ----------
+
+    public String texto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d eventos lidos%n%n", eventos));
+        sb.append(String.format("%-26s %8s %10s %10s %10s %12s%n", "evento", "n", "total ms", "max ms", "soma valor", "bytes"));
+        porEvento.forEach((nome, s) -> sb.append(String.format("%-26s %8d %10.2f %10.2f %10d %12d%n",
+                nome, s.contagem, s.totalNanos / 1e6, s.maxNanos / 1e6, s.somaValor, s.somaBytes)));
+
+        if (!aluguelPorJogador.isEmpty()) {
+            sb.append(String.format("%nAluguel por jogador (pago / recebido)%n"));
+            aluguelPorJogador.forEach((j, v) -> sb.append(String.format("  jogador %d: R$ %d / R$ %d%n", j, v[0], v[1])));
+        }
+
+        List<Decodificacao> lentas = getDecodificacoes();
+        if (!lentas.isEmpty()) {
+            sb.append(String.format("%nDecodificações de imagem mais lentas%n"));
+            for (Decodificacao d : lentas.subList(0, Math.min(5, lentas.size())))
+                sb.append(String.format("  %8.2f ms %10d B  %s%n", d.nanos() / 1e6, d.bytes(), d.caminho()));
+        }
+
+        sb.append(String.format("%nJVM: %d GCs, %.1f ms de pausa%n", gcs, gcPausaNanos / 1e6));
+        topo(sb, "Contenção de monitor (ms por classe)", contencaoPorClasse, 1e6);
+        topo(sb, "Métodos mais amostrados", amostrasPorMetodo, 1);
+        return sb.toString();
+    }
+
+    private static void topo(StringBuilder sb, String titulo, Map<String, Long> m, double divisor) {
+        if (m.isEmpty()) return;
+        sb.append(titulo).append(String.format("%n"));
+        m.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .forEach(en -> sb.append(String.format("  %10.1f  %s%n", en.getValue() / divisor, en.getKey())));
+    }
+}
@@ -0,0 +1,144 @@
+package infra;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Pré-carga das imagens do jogo em paralelo, para o {@link ImageStore}.
+ * <p>
+ * Decodifica todos os PNGs das pastas de cartas, pinos e dados (e o tabuleiro) num pool
+ * limitado de threads daemon, longe da EDT. Cada imagem concluída dispara o callback de
+ * progresso; o futuro devolvido completa com o {@link Relatorio} (tempo total até aquecer).
+ * </p>
+ * <p>Escopo: apoio à UI (sem regras de negócio).</p>
+ */
+public final class AssetPreloader {
+
+    /** Pastas pré-carregadas (caminhos absolutos no classpath). */
+    public static final List<String> PASTAS = List.of("/territorios", "/companhias", "/sorteReves", "/pinos", "/dados");
+    /** Arquivos avulsos pré-carregados. */
+    public static final List<String> AVULSOS = List.of("/tabuleiro.png");
+
+    /** Callback de progresso (chamado na thread do pool). */
+    @FunctionalInterface
+    public interface Progresso {
+        void onProgress(int concluidos, int total, String path);
+    }
+
+    /** Resultado da pré-carga. */
+    public record Relatorio(int total, int falhas, long nanos, int threads) {
+        public long millis() { return nanos / 1_000_000L; }
+        @Override public String toString() {
+            return String.format("%d imagens (%d falhas) em %d ms com %d threads", total, falhas, millis(), threads);
+        }
+    }
+
+    private final int threads;
+
+    /** Pool padrão: metade dos núcleos, entre 2 e 4 threads. */
+    public AssetPreloader() {
+        this(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+
+    public AssetPreloader(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Inicia a pré-carga em segundo plano.
+     * @param progresso callback (pode ser {@code null}); não é chamado na EDT
+     * @return futuro completado com o relatório quando tudo estiver no cache
+     */
+    public CompletableFuture<Relatorio> iniciar(Progresso progresso) {
+        final long t0 = System.nanoTime();
+        List<String> caminhos = listarRecursos();
+        final int total = caminhos.size();
+        AtomicInteger concluidos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "preload-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1); // não disputa com a EDT
+            return t;
+        });
+
+        CompletableFuture<?>[] tarefas = new CompletableFuture<?>[total];
+        for (int i = 0; i < total; i++) {
+            String path = caminhos.get(i);
+            tarefas[i] = CompletableFuture.runAsync(() -> {
+                if (ImageStore.loadCached(path) == null) falhas.incrementAndGet();
+                int feitos = concluidos.incrementAndGet();
+                if (progresso != null) progresso.onProgress(feitos, total, path);
+            }, pool);
+        }
+        return CompletableFuture.allOf(tarefas)
+                .handle((ok, erro) -> new Relatorio(total, falhas.get(), System.nanoTime() - t0, threads))
+                .whenComplete((r, e) -> pool.shutdown());
+    }
+
+    /**
+     * Todos os PNGs das {@link #PASTAS} (como arquivos ou no atlas) mais os {@link #AVULSOS}
+     * existentes, sem repetição e em ordem estável.
+     */
+    public static List<String> listarRecursos() {
+        Set<String> out = new LinkedHashSet<>();
+        List<String> atlas = new ArrayList<>(ImageStore.atlasPaths());
+        atlas.sort(null);
+        out.addAll(atlas);
+        List<String> arquivos = new ArrayList<>();
+        for (String pasta : PASTAS) listarPasta(pasta, arquivos);
+        out.addAll(arquivos);
+        for (String avulso : AVULSOS) if (AssetPreloader.class.getResource(avulso) != null) out.add(avulso);
+        return new ArrayList<>(out);
+    }
+
+    /** Lista PNGs de uma pasta do classpath, esteja ela em diretório ou dentro de um jar. */
+    private static void listarPasta(String pasta, List<String> out) {
+        URL url = AssetPreloader.class.getResource(pasta);
+        if (url == null) return;
+        List<String> achados = new ArrayList<>();
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                JarURLConnection con = (JarURLConnection) url.openConnection();
+                con.setUseCaches(false); // jar próprio: fechar não afeta o do classloader
+                String entrada = con.getEntryName();
+                String prefixo = entrada.endsWith("/") ? entrada : entrada + "/";
+                try (JarFile jar = con.getJarFile()) {
+                    Enumeration<JarEntry> it = jar.entries();
+                    while (it.hasMoreElements()) {
+                        String nome = it.nextElement().getName();
+                        if (nome.startsWith(prefixo) && nome.toLowerCase().endsWith(".png") && nome.indexOf('/', prefixo.length()) < 0) {
+                            achados.add("/" + nome);
+                        }
+                    }
+                }
+            } else {
+                try (DirectoryStream<Path> ds = Files.newDirectoryStream(Path.of(url.toURI()), "*.{png,PNG}")) {
+                    for (Path p : ds) achados.add(pasta + "/" + p.getFileName());
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return; // pasta ilegível: a carga sob demanda continua funcionando
+        }
+        achados.sort(null);
+        out.addAll(achados);
+    }
+}
@@ -0,0 +1,103 @@
+package infra;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ferramenta de build: empacota as imagens de cartas, pinos e dados em páginas de atlas.
+ * <p>
+ * Uso: {@code java infra.AtlasBuilder [pastaAssets] [pastaResources] [tamanhoPagina]}
+ * (padrões: {@code assets}, {@code resources}, 2048). As imagens individuais ficam em {@code assets}
+ * (fora do classpath: só o atlas vai para o jar); gera {@code atlas/atlas0.png, atlas1.png, ...} e
+ * {@code atlas/atlas.idx} dentro da pasta de resources, lidos pelo {@link ImageStore}.
+ * Rodar de novo sempre que alguma imagem das pastas mudar.
+ * </p>
+ * <p>
+ * Empacotamento em prateleiras (maior altura primeiro), com 1px de margem entre recortes para
+ * a escala bilinear não puxar pixels do vizinho.
+ * </p>
+ */
+public final class AtlasBuilder {
+    private AtlasBuilder() {}
+
+    private static final int MARGEM = 1;
+
+    /** Imagem de entrada e onde ela ficou. */
+    private record Item(String path, BufferedImage img, int pagina, int x, int y) {}
+
+    public static void main(String[] args) throws IOException {
+        Path assets = Path.of(args.length > 0 ? args[0] : "assets");
+        Path resources = Path.of(args.length > 1 ? args[1] : "resources");
+        int lado = args.length > 2 ? Integer.parseInt(args[2]) : 2048;
+        int paginas = construir(assets, resources, lado);
+        System.out.printf("Atlas: %d página(s) de até %dx%d em %s%n", paginas, lado, lado, resources.resolve("atlas"));
+    }
+
+    /**
+     * Lê as pastas de {@link AssetPreloader#PASTAS} em {@code assets}, empacota e grava páginas + índice
+     * em {@code resources}.
+     * @return número de páginas geradas
+     */
+    public static int construir(Path assets, Path resources, int lado) throws IOException {
+        List<Item> entrada = new ArrayList<>();
+        for (String pasta : AssetPreloader.PASTAS) {
+            Path dir = assets.resolve(pasta.substring(1));
+            if (!Files.isDirectory(dir)) continue;
+            try (Stream<Path> s = Files.list(dir)) {
+                for (Path p : s.filter(f -> f.toString().toLowerCase().endsWith(".png")).sorted().toList()) {
+                    BufferedImage img = ImageIO.read(p.toFile());
+                    if (img == null) continue;
+                    if (img.getWidth() + MARGEM > lado || img.getHeight() + MARGEM > lado)
+                        throw new IOException("imagem maior que a página: " + p);
+                    entrada.add(new Item(pasta + "/" + p.getFileName(), img, -1, 0, 0));
+                }
+            }
+        }
+        entrada.sort(Comparator.comparingInt((Item i) -> i.img().getHeight()).reversed()
+                .thenComparing(Item::path));
+
+        // prateleiras: enche a linha da esquerda para a direita; a próxima linha começa abaixo da mais alta
+        List<Item> saida = new ArrayList<>(entrada.size());
+        int pagina = 0, x = 0, y = 0, alturaLinha = 0;
+        for (Item it : entrada) {
+            int w = it.img().getWidth(), h = it.img().getHeight();
+            if (x + w > lado) { x = 0; y += alturaLinha + MARGEM; alturaLinha = 0; }
+            if (y + h > lado) { pagina++; x = 0; y = 0; alturaLinha = 0; }
+            saida.add(new Item(it.path(), it.img(), pagina, x, y));
+            x += w + MARGEM;
+            alturaLinha = Math.max(alturaLinha, h);
+        }
+
+        Path destino = resources.resolve("atlas");
+        Files.createDirectories(destino);
+        int paginas = saida.isEmpty() ? 0 : saida.get(saida.size() - 1).pagina() + 1;
+        for (int p = 0; p < paginas; p++) {
+            int alturaUsada = 0;
+            for (Item it : saida) if (it.pagina() == p) alturaUsada = Math.max(alturaUsada, it.y() + it.img().getHeight());
+            BufferedImage img = new BufferedImage(lado, alturaUsada, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = img.createGraphics();
+            g.setComposite(AlphaComposite.Src); // cópia exata (sem misturar alfa com o fundo vazio)
+            for (Item it : saida) if (it.pagina() == p) g.drawImage(it.img(), it.x(), it.y(), null);
+            g.dispose();
+            ImageIO.write(img, "png", destino.resolve("atlas" + p + ".png").toFile());
+        }
+        try (Writer w = Files.newBufferedWriter(destino.resolve("atlas.idx"), StandardCharsets.UTF_8)) {
+            w.write("# atlas gerado por infra.AtlasBuilder: pagina x y largura altura caminho\n");
+            for (Item it : saida) {
+                w.write(it.pagina() + " " + it.x() + " " + it.y() + " "
+                        + it.img().getWidth() + " " + it.img().getHeight() + " " + it.path() + "\n");
+            }
+        }
+        return paginas;
+    }
+}
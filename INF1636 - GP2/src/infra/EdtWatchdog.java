@@ -0,0 +1,171 @@
+package infra;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Vigia opcional da EDT: mede quanto a EDT demora para atender um "ping" e, quando passa do
+ * limiar, amostra a pilha da EDT e registra o travamento com o evento de jogo em andamento.
+ * <p>
+ * Ligado por {@link #iniciarSeHabilitado()} (propriedade {@value #PROPRIEDADE}) ou por
+ * {@link #iniciar()}. Desligado, o único custo é {@link #marcarEvento}/{@link #limparEvento}
+ * lerem um campo estático (nenhuma thread, nenhuma alocação).
+ * </p>
+ * <p>Escopo: apoio à instrumentação (sem regras de negócio).</p>
+ */
+public final class EdtWatchdog {
+
+    /** Propriedade de sistema que liga o vigia no {@code main}. */
+    public static final String PROPRIEDADE = "banco.edtWatchdog";
+
+    /** Um travamento detectado. */
+    public record Travamento(long duracaoMs, String evento, List<StackTraceElement[]> amostras) {
+        /** Frame do topo da pilha numa amostra do meio do travamento (resumo para log). */
+        public String topo() {
+            if (amostras.isEmpty()) return "?";
+            StackTraceElement[] a = amostras.get(amostras.size() / 2);
+            return a.length > 0 ? a[0].toString() : "?";
+        }
+        @Override public String toString() {
+            return String.format("EDT travada %d ms durante '%s' (%d amostras; topo: %s)",
+                    duracaoMs, evento, amostras.size(), topo());
+        }
+    }
+
+    // evento em processamento na EDT (lido só com vigia ativo)
+    private static volatile int ativos;
+    private static volatile String eventoAtual;
+
+    /** Marca o evento que a EDT vai processar (ex.: "onMoved"). Barato com o vigia desligado. */
+    public static void marcarEvento(String nome) {
+        if (ativos > 0) eventoAtual = nome;
+    }
+
+    public static void limparEvento() {
+        if (ativos > 0) eventoAtual = null;
+    }
+
+    /** Evento marcado agora ({@code null} se nenhum ou com o vigia desligado). */
+    static String getEventoAtual() { return eventoAtual; }
+
+    private final long intervaloMs, limiarMs, amostragemMs;
+    private final int maxAmostras, historico;
+    private final Consumer<Travamento> ouvinte;
+
+    private final Histograma latencia = new Histograma();
+    private final AtomicLong travamentos = new AtomicLong();
+    private final ArrayDeque<Travamento> ultimos = new ArrayDeque<>();
+    private volatile Thread edt;
+    private volatile Thread vigia;
+
+    /** Padrões: ping a cada 100 ms, travamento a partir de 250 ms, amostra a cada 50 ms. */
+    public EdtWatchdog() {
+        this(100, 250, 50, null);
+    }
+
+    /**
+     * @param ouvinte chamado (na thread do vigia) ao fim de cada travamento; pode ser {@code null}
+     */
+    public EdtWatchdog(long intervaloMs, long limiarMs, long amostragemMs, Consumer<Travamento> ouvinte) {
+        this.intervaloMs = Math.max(1, intervaloMs);
+        this.limiarMs = Math.max(1, limiarMs);
+        this.amostragemMs = Math.max(1, amostragemMs);
+        this.maxAmostras = 20;
+        this.historico = 32;
+        this.ouvinte = ouvinte;
+    }
+
+    /** Inicia o vigia se {@code -Dbanco.edtWatchdog=true}; travamentos vão para {@code System.err}. */
+    public static EdtWatchdog iniciarSeHabilitado() {
+        if (!Boolean.getBoolean(PROPRIEDADE)) return null;
+        EdtWatchdog w = new EdtWatchdog(100, 250, 50, t -> System.err.println(t));
+        w.iniciar();
+        return w;
+    }
+
+    public synchronized void iniciar() {
+        if (vigia != null) return;
+        synchronized (EdtWatchdog.class) { ativos++; }
+        Thread t = new Thread(this::laco, "vigia-edt");
+        t.setDaemon(true);
+        vigia = t;
+        t.start();
+    }
+
+    public synchronized void parar() {
+        Thread t = vigia;
+        if (t == null) return;
+        vigia = null;
+        t.interrupt();
+        synchronized (EdtWatchdog.class) { if (--ativos == 0) eventoAtual = null; }
+    }
+
+    // ---------- Métricas ----------
+
+    /** Latência de resposta da EDT aos pings (µs). */
+    public Histograma getLatencia() { return latencia; }
+
+    public long getTravamentos() { return travamentos.get(); }
+
+    /** Últimos travamentos (mais antigo primeiro). */
+    public List<Travamento> getUltimos() {
+        synchronized (ultimos) { return new ArrayList<>(ultimos); }
+    }
+
+    // ---------- Laço do vigia ----------
+
+    private void laco() {
+        try {
+            while (vigia == Thread.currentThread()) {
+                pingar();
+                Thread.sleep(intervaloMs);
+            }
+        } catch (InterruptedException e) {
+            // parar()
+        }
+    }
+
+    /** Um ping: espera a EDT responder, amostrando a pilha enquanto ela passar do limiar. */
+    private void pingar() throws InterruptedException {
+        final long t0 = System.nanoTime();
+        final Object sinal = new Object();
+        final long[] resposta = { 0 };
+        SwingUtilities.invokeLater(() -> {
+            edt = Thread.currentThread(); // a EDT pode ser recriada após exceção
+            synchronized (sinal) { resposta[0] = System.nanoTime(); sinal.notifyAll(); }
+        });
+
+        List<StackTraceElement[]> amostras = null;
+        String evento = null;
+        synchronized (sinal) {
+            while (resposta[0] == 0) {
+                long decorrido = (System.nanoTime() - t0) / 1_000_000;
+                long espera = (decorrido < limiarMs) ? limiarMs - decorrido : amostragemMs;
+                sinal.wait(espera);
+                if (resposta[0] != 0) break;
+                if ((System.nanoTime() - t0) / 1_000_000 >= limiarMs) {
+                    if (amostras == null) { amostras = new ArrayList<>(); evento = eventoAtual; }
+                    Thread alvo = edt;
+                    if (alvo != null && amostras.size() < maxAmostras) amostras.add(alvo.getStackTrace());
+                }
+            }
+        }
+
+        long latenciaNs = resposta[0] - t0;
+        latencia.registrar(latenciaNs / 1000);
+        if (amostras != null) {
+            Travamento t = new Travamento(latenciaNs / 1_000_000, evento != null ? evento : "(nenhum evento de jogo)",
+                    List.copyOf(amostras));
+            travamentos.incrementAndGet();
+            synchronized (ultimos) {
+                if (ultimos.size() == historico) ultimos.removeFirst();
+                ultimos.addLast(t);
+            }
+            if (ouvinte != null) ouvinte.accept(t);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package infra;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tabela colunar gravada em streaming: um diretório com um arquivo por coluna ({@code <coluna>.col})
+ * e {@code tabela.txt} (nomes das colunas e tamanho do bloco).
+ * <p>
+ * Cada coluna é uma sequência de blocos de até {@value #TAM_BLOCO} valores:
+ * </p>
+ * <pre>
+ *   int  n        valores no bloco
+ *   long min      menor valor do bloco
+ *   long max      maior valor do bloco
+ *   int  bytes    tamanho dos dados
+ *   dados         1º valor e depois as diferenças para o anterior, em varint zigzag
+ * </pre>
+ * <p>
+ * Cabeçalho little-endian. Os blocos das colunas de uma tabela andam juntos (o bloco i de todas
+ * cobre as mesmas linhas), então o min/max de uma coluna deixa o leitor pular o bloco inteiro
+ * ({@link LeitorColunar}). Memória fixa: um bloco por coluna; o bloco vai para o disco quando enche.
+ * </p>
+ * <p>Escopo: apoio à exportação de dados (sem regras de negócio).</p>
+ */
+public final class EscritorColunar implements Closeable {
+
+    public static final int TAM_BLOCO = 4096;
+    static final int TAM_CABECALHO = 24;
+    static final String EXTENSAO = ".col";
+    static final String TABELA = "tabela.txt";
+
+    private final List<String> colunas;
+    private final Coluna[] escritas;
+    private int coluna; // próxima coluna da linha em curso
+    private long linhas;
+    private boolean fechado;
+
+    /** Cria (ou recria) a tabela em {@code dir}. */
+    public EscritorColunar(Path dir, String... colunas) throws IOException {
+        if (colunas.length == 0) throw new IllegalArgumentException("Tabela sem colunas");
+        this.colunas = List.of(colunas);
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(TABELA), "COLUNAS=" + String.join(",", colunas) + "\nBLOCO=" + TAM_BLOCO + "\n",
+                StandardCharsets.US_ASCII);
+        this.escritas = new Coluna[colunas.length];
+        for (int i = 0; i < colunas.length; i++) escritas[i] = new Coluna(dir.resolve(colunas[i] + EXTENSAO));
+    }
+
+    public List<String> getColunas() { return colunas; }
+    public long getLinhas() { return linhas; }
+
+    /** Próximo valor da linha em curso (na ordem das colunas); o último fecha a linha. */
+    public EscritorColunar valor(long v) {
+        escritas[coluna].adicionar(v);
+        if (++coluna == escritas.length) { coluna = 0; linhas++; }
+        return this;
+    }
+
+    /** Grava o bloco parcial de cada coluna e fecha os arquivos. */
+    @Override
+    public void close() throws IOException {
+        if (fechado) return;
+        fechado = true;
+        if (coluna != 0) throw new IllegalStateException("Linha incompleta: " + coluna + " de " + escritas.length + " colunas");
+        IOException erro = null;
+        for (Coluna c : escritas) {
+            try { c.close(); } catch (IOException e) { if (erro == null) erro = e; }
+        }
+        if (erro != null) throw erro;
+    }
+
+    /** Uma coluna: bloco em memória e codificação delta + varint zigzag. */
+    private static final class Coluna implements Closeable {
+        private final OutputStream out;
+        private final long[] valores = new long[TAM_BLOCO];
+        private final byte[] dados = new byte[TAM_BLOCO * 10]; // varint de 64 bits ocupa até 10 bytes
+        private final ByteBuffer cabecalho = ByteBuffer.allocate(TAM_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+        private int n;
+
+        Coluna(Path arquivo) throws IOException {
+            this.out = new BufferedOutputStream(Files.newOutputStream(arquivo), 1 << 16);
+        }
+
+        void adicionar(long v) {
+            valores[n++] = v;
+            if (n == TAM_BLOCO) {
+                try { gravarBloco(); } catch (IOException e) { throw new UncheckedIOException(e); }
+            }
+        }
+
+        private void gravarBloco() throws IOException {
+            long min = Long.MAX_VALUE, max = Long.MIN_VALUE, anterior = 0;
+            int p = 0;
+            for (int i = 0; i < n; i++) {
+                long v = valores[i];
+                if (v < min) min = v;
+                if (v > max) max = v;
+                long z = zigzag(v - anterior);
+                anterior = v;
+                while ((z & ~0x7FL) != 0) { dados[p++] = (byte) ((z & 0x7F) | 0x80); z >>>= 7; }
+                dados[p++] = (byte) z;
+            }
+            cabecalho.clear();
+            cabecalho.putInt(n).putLong(min).putLong(max).putInt(p);
+            out.write(cabecalho.array(), 0, TAM_CABECALHO);
+            out.write(dados, 0, p);
+            n = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (n > 0) gravarBloco();
+            out.close();
+        }
+
+        private static long zigzag(long v) { return (v << 1) ^ (v >> 63); }
+    }
+}
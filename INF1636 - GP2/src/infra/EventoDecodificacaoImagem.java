@@ -0,0 +1,19 @@
+package infra;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de cada decodificação de imagem do classpath em {@link ImageStore#load}
+ * (arquivos individuais e páginas do atlas). Duração = tempo do {@code ImageIO.read}.
+ */
+@Name("banco.DecodificacaoImagem") @Label("Decodificação de imagem")
+@Category({"Banco Imobiliário", "Imagens"})
+final class EventoDecodificacaoImagem extends jdk.jfr.Event {
+    @Label("Caminho") String caminho;
+    @Label("Largura") int largura;
+    @Label("Altura") int altura;
+    @Label("Bytes decodificados") @DataAmount long bytes;
+}
@@ -4,46 +4,118 @@ import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utilitário para carregar e reutilizar imagens do classpath.
  * <p>Escopo: apoio à UI (sem regras de negócio).</p>
  * <ul>
- *   <li>Fornece cache de imagens para evitar I/O repetido.</li>
+ *   <li>Cache por (caminho, largura, altura) de imagens já escaladas e compatíveis com a tela.</li>
+ *   <li>Orçamento em bytes com despejo LRU; o que sai do LRU fica como {@link SoftReference}
+ *       e volta ao cache se for pedido antes de o GC recolher.</li>
+ *   <li>Contadores de acerto/falta/despejo ({@link #stats()}).</li>
+ *   <li>Se houver atlas no classpath ({@value #ATLAS_INDICE}, gerado por {@link AtlasBuilder}),
+ *       as imagens indexadas são copiadas da página do atlas (um arquivo decodificado para todas;
+ *       a página não fica presa ao cache); o que não estiver no índice vem do arquivo individual.</li>
  *   <li>Exposição de ícones de dado com escala suave.</li>
  * </ul>
  */
 public final class ImageStore {
     private ImageStore() {}
 
-    /** Cache thread-safe (reduz leituras/decodificações repetidas). */
-    private static final Map<String, BufferedImage> CACHE = new ConcurrentHashMap<>();
+    /** Orçamento padrão do cache forte: 64 MiB. */
+    public static final long ORCAMENTO_PADRAO = 64L << 20;
+
+    /** Índice do atlas no classpath. */
+    public static final String ATLAS_INDICE = "/atlas/atlas.idx";
+
+    /** Chave do cache: tamanho 0x0 = imagem no tamanho original. */
+    private record Chave(String path, int w, int h) {}
+
+    /** Instantâneo dos contadores do cache. */
+    public record CacheStats(long hits, long softHits, long misses, long evictions, long bytes, int entries) {}
+
+    private static final Object LOCK = new Object();
+    /** LRU forte (ordem de acesso), limitado por {@link #orcamento} bytes. */
+    private static final LinkedHashMap<Chave, BufferedImage> LRU = new LinkedHashMap<>(64, 0.75f, true);
+    /** Despejados do LRU: sobrevivem enquanto houver memória. */
+    private static final Map<Chave, SoftReference<BufferedImage>> SOFT = new HashMap<>();
+    private static long bytes;
+    private static long orcamento = ORCAMENTO_PADRAO;
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong SOFT_HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
 
     /**
-     * Carrega uma imagem do classpath.
+     * Carrega uma imagem do classpath, sem cache (cada chamada decodifica de novo).
      * @param resourcePath caminho absoluto no classpath (ex.: "/dados/die_face_1.png")
      * @return imagem ou {@code null} se não encontrada ou falha de leitura
      */
     public static BufferedImage load(String resourcePath) {
+        EventoDecodificacaoImagem evento = new EventoDecodificacaoImagem();
+        evento.begin();
+        BufferedImage img;
         try {
             // ImageIO.read fecha o stream internamente
-            return ImageIO.read(ImageStore.class.getResourceAsStream(resourcePath));
-        } catch (IOException | NullPointerException e) {
+            img = ImageIO.read(ImageStore.class.getResourceAsStream(resourcePath));
+        } catch (IOException | IllegalArgumentException e) { // recurso ausente: stream nulo
             // TODO: opcional: logar caminho ausente para facilitar debug
-            return null;
+            img = null;
+        }
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.caminho = resourcePath;
+            if (img != null) {
+                evento.largura = img.getWidth();
+                evento.altura = img.getHeight();
+                evento.bytes = tamanhoEmBytes(img);
+            }
+            evento.commit();
         }
+        return img;
     }
 
     /**
-     * Retorna imagem do cache (ou carrega e guarda, se ainda não houver).
+     * Retorna imagem do cache no tamanho original (ou carrega e guarda, se ainda não houver).
      * @param path caminho absoluto no classpath
      * @return imagem ou {@code null} se indisponível
      */
     public static BufferedImage loadCached(String path) {
-        return CACHE.computeIfAbsent(path, ImageStore::load);
+        return obter(new Chave(path, 0, 0));
+    }
+
+    /**
+     * Retorna a imagem já escalada para {@code w x h}, compatível com a tela, do cache
+     * (escala uma única vez por tamanho).
+     * @return imagem ou {@code null} se indisponível
+     */
+    public static BufferedImage loadScaled(String path, int w, int h) {
+        if (w <= 0 || h <= 0) return loadCached(path);
+        return obter(new Chave(path, w, h));
+    }
+
+    /** Se a imagem está disponível (no atlas ou como arquivo no classpath). */
+    public static boolean hasImage(String path) {
+        return Atlas.INDICE.containsKey(path) || ImageStore.class.getResource(path) != null;
+    }
+
+    /** Caminhos servidos pelo atlas (vazio se não houver atlas). */
+    public static Set<String> atlasPaths() {
+        return Collections.unmodifiableSet(Atlas.INDICE.keySet());
     }
 
     /**
@@ -55,9 +127,178 @@ public final class ImageStore {
     public static Icon diceIcon(int face, int size) {
         // Validação defensiva: limita a 1..6
         int f = Math.max(1, Math.min(6, face));
-        BufferedImage img = loadCached("/dados/die_face_" + f + ".png");
+        BufferedImage img = loadScaled("/dados/die_face_" + f + ".png", size, size);
         if (img == null) return new ImageIcon(); // ícone vazio se recurso faltar
-        Image scaled = img.getScaledInstance(size, size, Image.SCALE_SMOOTH);
-        return new ImageIcon(scaled);
+        return new ImageIcon(img);
+    }
+
+    // ---------- Administração do cache ----------
+
+    /** Contadores atuais. */
+    public static CacheStats stats() {
+        synchronized (LOCK) {
+            return new CacheStats(HITS.get(), SOFT_HITS.get(), MISSES.get(), EVICTIONS.get(), bytes, LRU.size());
+        }
+    }
+
+    /** Define o orçamento (bytes) do cache forte, despejando o excedente. */
+    public static void setBudgetBytes(long novo) {
+        synchronized (LOCK) {
+            orcamento = Math.max(0, novo);
+            despejarExcedente();
+        }
+    }
+
+    /** Esvazia o cache e zera os contadores (testes/medições). */
+    public static void clearCache() {
+        synchronized (LOCK) {
+            LRU.clear();
+            SOFT.clear();
+            bytes = 0;
+        }
+        HITS.set(0); SOFT_HITS.set(0); MISSES.set(0); EVICTIONS.set(0);
+    }
+
+    // ---------- Implementação ----------
+
+    private static BufferedImage obter(Chave k) {
+        synchronized (LOCK) {
+            BufferedImage img = LRU.get(k);
+            if (img != null) { HITS.incrementAndGet(); return img; }
+            SoftReference<BufferedImage> ref = SOFT.remove(k);
+            img = (ref != null) ? ref.get() : null;
+            if (img != null) {
+                SOFT_HITS.incrementAndGet();
+                inserir(k, img);
+                return img;
+            }
+        }
+        MISSES.incrementAndGet();
+
+        // carga/escala fora da trava (corridas só duplicam trabalho)
+        BufferedImage img;
+        if (k.w() == 0) {
+            img = Atlas.recorte(k.path());
+            if (img == null) {
+                BufferedImage raw = load(k.path());
+                img = (raw != null) ? compativel(raw, raw.getWidth(), raw.getHeight()) : null;
+            }
+        } else {
+            BufferedImage orig = loadCached(k.path());
+            img = (orig != null) ? compativel(orig, k.w(), k.h()) : null;
+        }
+        if (img == null) return null;
+
+        synchronized (LOCK) {
+            BufferedImage atual = LRU.get(k);
+            if (atual != null) return atual;
+            inserir(k, img);
+        }
+        return img;
+    }
+
+    private static void inserir(Chave k, BufferedImage img) {
+        LRU.put(k, img);
+        bytes += tamanhoEmBytes(img);
+        despejarExcedente();
+    }
+
+    private static void despejarExcedente() {
+        Iterator<Map.Entry<Chave, BufferedImage>> it = LRU.entrySet().iterator();
+        while (bytes > orcamento && it.hasNext()) {
+            Map.Entry<Chave, BufferedImage> e = it.next(); // mais antigo primeiro
+            it.remove();
+            bytes -= tamanhoEmBytes(e.getValue());
+            SOFT.put(e.getKey(), new SoftReference<>(e.getValue()));
+            EVICTIONS.incrementAndGet();
+        }
+        if (SOFT.size() > 256) SOFT.values().removeIf(r -> r.get() == null); // limpa referências mortas
+    }
+
+    /** Bytes dos pixels da imagem (toda imagem do cache tem raster próprio, do tamanho dela). */
+    private static long tamanhoEmBytes(BufferedImage img) {
+        return (long) img.getWidth() * img.getHeight() * Math.max(1, img.getColorModel().getPixelSize() / 8);
+    }
+
+    /**
+     * Cópia translúcida compatível com a tela, no tamanho pedido. Reduções grandes são feitas em
+     * etapas de metade (qualidade próxima de {@code SCALE_SMOOTH}, sem o custo dele).
+     */
+    private static BufferedImage compativel(BufferedImage src, int w, int h) {
+        BufferedImage atual = src;
+        int cw = src.getWidth(), ch = src.getHeight();
+        while (cw / 2 >= w && ch / 2 >= h) {
+            cw /= 2; ch /= 2;
+            atual = desenhar(atual, cw, ch);
+        }
+        return desenhar(atual, w, h);
+    }
+
+    private static BufferedImage desenhar(BufferedImage src, int w, int h) {
+        BufferedImage out = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB)
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                        .getDefaultConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        Graphics2D g = out.createGraphics();
+        g.setComposite(AlphaComposite.Src); // destino vazio: copia em vez de misturar (alfa baixo exato)
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    // ---------- Atlas ----------
+
+    /** Atlas carregado sob demanda: índice lido uma vez, páginas decodificadas no primeiro recorte. */
+    private static final class Atlas {
+        private record Regiao(int pagina, int x, int y, int w, int h) {}
+
+        static final Map<String, Regiao> INDICE = lerIndice();
+        private static final Map<Integer, SoftReference<BufferedImage>> PAGINAS = new HashMap<>();
+
+        /**
+         * Cópia da região: um {@code getSubimage} dividiria o raster da página inteira e um único
+         * recorte no cache manteria a página viva, furando o orçamento.
+         */
+        static BufferedImage recorte(String path) {
+            Regiao r = INDICE.get(path);
+            if (r == null) return null;
+            BufferedImage pagina = pagina(r.pagina());
+            return (pagina != null) ? desenhar(pagina.getSubimage(r.x(), r.y(), r.w(), r.h()), r.w(), r.h()) : null;
+        }
+
+        /** Página decodificada uma vez (threads da pré-carga esperam a mesma decodificação). */
+        private static synchronized BufferedImage pagina(int n) {
+            SoftReference<BufferedImage> ref = PAGINAS.get(n);
+            BufferedImage img = (ref != null) ? ref.get() : null;
+            if (img == null) {
+                BufferedImage raw = load("/atlas/atlas" + n + ".png");
+                if (raw == null) return null;
+                img = compativel(raw, raw.getWidth(), raw.getHeight());
+                PAGINAS.put(n, new SoftReference<>(img));
+            }
+            return img;
+        }
+
+        /** Linhas {@code pagina x y w h caminho}; '#' inicia comentário. Sem índice = mapa vazio. */
+        private static Map<String, Regiao> lerIndice() {
+            Map<String, Regiao> out = new HashMap<>();
+            InputStream in = ImageStore.class.getResourceAsStream(ATLAS_INDICE);
+            if (in == null) return out;
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String linha;
+                while ((linha = br.readLine()) != null) {
+                    if (linha.isBlank() || linha.startsWith("#")) continue;
+                    String[] t = linha.split(" ", 6);
+                    if (t.length < 6) continue;
+                    out.put(t[5], new Regiao(Integer.parseInt(t[0]), Integer.parseInt(t[1]),
+                            Integer.parseInt(t[2]), Integer.parseInt(t[3]), Integer.parseInt(t[4])));
+                }
+            } catch (IOException | NumberFormatException e) {
+                out.clear(); // índice corrompido: usa só os arquivos individuais
+            }
+            return out;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,244 @@
+package infra;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Leitura de uma tabela do {@link EscritorColunar}, com agregados vetorizados: cada bloco da
+ * coluna é decodificado de uma vez num {@code long[]} e o agregado roda num laço simples sobre
+ * ele (bloco a bloco, não linha a linha). Só as colunas da consulta são lidas.
+ * <p>
+ * Nas consultas com filtro de faixa ({@link #somaOnde}, {@link #contarOnde}) o min/max do bloco
+ * da coluna filtrada decide antes de decodificar: bloco fora da faixa é pulado sem ler os dados
+ * (em nenhuma coluna), bloco inteiro dentro dela dispensa o teste linha a linha.
+ * </p>
+ * <p>
+ * Memória fixa (um bloco por coluna aberta). Tabela cortada no meio de um bloco (gravação
+ * interrompida) vale até o último bloco completo de todas as colunas.
+ * </p>
+ * <p>Escopo: apoio à análise de dados exportados (sem regras de negócio).</p>
+ */
+public final class LeitorColunar {
+
+    private final Path dir;
+    private final List<String> colunas;
+    private long blocosLidos, blocosPulados;
+
+    private LeitorColunar(Path dir, List<String> colunas) {
+        this.dir = dir;
+        this.colunas = colunas;
+    }
+
+    public static LeitorColunar abrir(Path dir) throws IOException {
+        for (String ln : Files.readAllLines(dir.resolve(EscritorColunar.TABELA), StandardCharsets.US_ASCII)) {
+            if (ln.startsWith("COLUNAS=")) return new LeitorColunar(dir, List.of(ln.substring(8).split(",")));
+        }
+        throw new IOException("Tabela sem colunas: " + dir);
+    }
+
+    public List<String> getColunas() { return colunas; }
+
+    /** Blocos decodificados / pulados pelo min-max na última consulta. */
+    public long getBlocosLidos() { return blocosLidos; }
+    public long getBlocosPulados() { return blocosPulados; }
+
+    // ---------- Agregados ----------
+
+    /** Linhas completas (todas as colunas) da tabela. */
+    public long getLinhas() throws IOException {
+        long menor = Long.MAX_VALUE;
+        for (String c : colunas) {
+            long n = 0;
+            try (Cursor k = new Cursor(arquivo(c))) {
+                while (k.cabecalho()) { n += k.n; k.pular(); }
+            }
+            menor = Math.min(menor, n);
+        }
+        return menor;
+    }
+
+    /** Soma da coluna. */
+    public long soma(String coluna) throws IOException {
+        zerarContadores();
+        long[] v = new long[EscritorColunar.TAM_BLOCO];
+        long soma = 0;
+        try (Cursor k = new Cursor(arquivo(coluna))) {
+            while (k.cabecalho()) {
+                k.decodificar(v);
+                blocosLidos++;
+                for (int i = 0; i < k.n; i++) soma += v[i];
+            }
+        }
+        return soma;
+    }
+
+    /** Soma de {@code valor} agrupada por {@code chave} ({@code 0 <= chave < chaves}; fora disso é ignorada). */
+    public long[] somaPorChave(String chave, String valor, int chaves) throws IOException {
+        return agrupar(chave, valor, chaves);
+    }
+
+    /** Linhas por valor de {@code chave} ({@code 0 <= chave < chaves}). */
+    public long[] contagemPorChave(String chave, int chaves) throws IOException {
+        return agrupar(chave, null, chaves);
+    }
+
+    /**
+     * Distribuição da coluna em {@code faixas} faixas de {@code largura}: faixa {@code i} conta
+     * os valores em {@code [i*largura, (i+1)*largura)}; a última acumula tudo acima, negativos vão na 0.
+     */
+    public long[] histograma(String coluna, long largura, int faixas) throws IOException {
+        if (largura <= 0 || faixas <= 0) throw new IllegalArgumentException("largura e faixas devem ser positivas");
+        zerarContadores();
+        long[] h = new long[faixas];
+        long[] v = new long[EscritorColunar.TAM_BLOCO];
+        try (Cursor k = new Cursor(arquivo(coluna))) {
+            while (k.cabecalho()) {
+                k.decodificar(v);
+                blocosLidos++;
+                for (int i = 0; i < k.n; i++) h[(int) Math.max(0, Math.min(faixas - 1, v[i] / largura))]++;
+            }
+        }
+        return h;
+    }
+
+    /** Soma de {@code valor} nas linhas com {@code de <= filtro <= ate} (blocos fora da faixa nem são lidos). */
+    public long somaOnde(String valor, String filtro, long de, long ate) throws IOException {
+        return filtrar(valor, filtro, de, ate);
+    }
+
+    /** Linhas com {@code de <= filtro <= ate}. */
+    public long contarOnde(String filtro, long de, long ate) throws IOException {
+        return filtrar(null, filtro, de, ate);
+    }
+
+    private long[] agrupar(String chave, String valor, int chaves) throws IOException {
+        zerarContadores();
+        long[] r = new long[chaves];
+        long[] ks = new long[EscritorColunar.TAM_BLOCO], vs = new long[EscritorColunar.TAM_BLOCO];
+        try (Cursor kc = new Cursor(arquivo(chave)); Cursor vc = (valor != null) ? new Cursor(arquivo(valor)) : null) {
+            while (kc.cabecalho() && (vc == null || vc.cabecalho())) {
+                alinhados(kc, vc);
+                if (kc.max < 0 || kc.min >= chaves) { kc.pular(); if (vc != null) vc.pular(); blocosPulados++; continue; }
+                blocosLidos++;
+                kc.decodificar(ks);
+                int n = kc.n;
+                if (vc == null) {
+                    for (int i = 0; i < n; i++) { long k = ks[i]; if (k >= 0 && k < chaves) r[(int) k]++; }
+                } else {
+                    vc.decodificar(vs);
+                    for (int i = 0; i < n; i++) { long k = ks[i]; if (k >= 0 && k < chaves) r[(int) k] += vs[i]; }
+                }
+            }
+        }
+        return r;
+    }
+
+    private long filtrar(String valor, String filtro, long de, long ate) throws IOException {
+        zerarContadores();
+        long total = 0;
+        long[] fs = new long[EscritorColunar.TAM_BLOCO], vs = new long[EscritorColunar.TAM_BLOCO];
+        try (Cursor fc = new Cursor(arquivo(filtro)); Cursor vc = (valor != null) ? new Cursor(arquivo(valor)) : null) {
+            while (fc.cabecalho() && (vc == null || vc.cabecalho())) {
+                alinhados(fc, vc);
+                if (fc.max < de || fc.min > ate) { // nada do bloco passa no filtro
+                    fc.pular();
+                    if (vc != null) vc.pular();
+                    blocosPulados++;
+                    continue;
+                }
+                blocosLidos++;
+                int n = fc.n;
+                boolean inteiro = fc.min >= de && fc.max <= ate; // tudo passa: sem teste por linha
+                if (vc == null) {
+                    if (inteiro) { total += n; fc.pular(); continue; }
+                    fc.decodificar(fs);
+                    for (int i = 0; i < n; i++) if (fs[i] >= de && fs[i] <= ate) total++;
+                    continue;
+                }
+                vc.decodificar(vs);
+                if (inteiro) {
+                    fc.pular();
+                    for (int i = 0; i < n; i++) total += vs[i];
+                } else {
+                    fc.decodificar(fs);
+                    for (int i = 0; i < n; i++) if (fs[i] >= de && fs[i] <= ate) total += vs[i];
+                }
+            }
+        }
+        return total;
+    }
+
+    private static void alinhados(Cursor a, Cursor b) throws IOException {
+        if (b != null && a.n != b.n) throw new IOException("Colunas desalinhadas: blocos de " + a.n + " e " + b.n + " valores");
+    }
+
+    private void zerarContadores() { blocosLidos = 0; blocosPulados = 0; }
+
+    private Path arquivo(String coluna) throws IOException {
+        if (!colunas.contains(coluna)) throw new IOException("Coluna inexistente: " + coluna + " (há " + colunas + ")");
+        return dir.resolve(coluna + EscritorColunar.EXTENSAO);
+    }
+
+    // ---------- Cursor de uma coluna ----------
+
+    /** Percorre os blocos de um arquivo de coluna: cabeçalho primeiro, depois decodifica ou pula os dados. */
+    private static final class Cursor implements Closeable {
+        private final FileChannel canal;
+        private final ByteBuffer cab = ByteBuffer.allocate(EscritorColunar.TAM_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+        private ByteBuffer dados = ByteBuffer.allocate(EscritorColunar.TAM_BLOCO * 10);
+        private final long tamanhoArquivo;
+        int n, bytes;
+        long min, max;
+
+        Cursor(Path arquivo) throws IOException {
+            canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+            tamanhoArquivo = canal.size();
+        }
+
+        /** Lê o próximo cabeçalho; {@code false} no fim (ou bloco incompleto). */
+        boolean cabecalho() throws IOException {
+            cab.clear();
+            while (cab.hasRemaining()) if (canal.read(cab) < 0) return false;
+            cab.flip();
+            n = cab.getInt();
+            min = cab.getLong();
+            max = cab.getLong();
+            bytes = cab.getInt();
+            return canal.position() + bytes <= tamanhoArquivo;
+        }
+
+        void pular() throws IOException { canal.position(canal.position() + bytes); }
+
+        /** Decodifica os {@code n} valores do bloco em {@code destino}. */
+        void decodificar(long[] destino) throws IOException {
+            if (dados.capacity() < bytes) dados = ByteBuffer.allocate(bytes);
+            dados.clear().limit(bytes);
+            while (dados.hasRemaining()) if (canal.read(dados) < 0) throw new IOException("Bloco truncado");
+            byte[] b = dados.array();
+            int p = 0;
+            long anterior = 0;
+            for (int i = 0; i < n; i++) {
+                long z = 0;
+                int desloc = 0;
+                byte x;
+                do {
+                    x = b[p++];
+                    z |= (long) (x & 0x7F) << desloc;
+                    desloc += 7;
+                } while (x < 0);
+                anterior += (z >>> 1) ^ -(z & 1);
+                destino[i] = anterior;
+            }
+        }
+
+        @Override public void close() throws IOException { canal.close(); }
+    }
+}
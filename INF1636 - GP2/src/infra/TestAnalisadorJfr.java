@@ -0,0 +1,90 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import Model.GameFacade;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Testes dos eventos JFR do jogo com o perfil {@code /jfr/banco.jfc} e do {@link AnalisadorJfr}.
+ *
+ * 1. Turnos, salvar/carregar e decodificação de imagem geram eventos com os campos certos e o analisador os soma
+ */
+public class TestAnalisadorJfr {
+
+    @After
+    public void tearDown() { GameFacade.resetForTests(); }
+
+    /** 1 200 turnos comprando tudo + uma gravação/leitura + uma imagem decodificada. */
+    @Test
+    public void testEventosDoJogoNaGravacao() throws Exception {
+        Configuration perfil;
+        try (Reader r = new InputStreamReader(TestAnalisadorJfr.class.getResourceAsStream("/jfr/banco.jfc"),
+                StandardCharsets.UTF_8)) {
+            perfil = Configuration.create(r);
+        }
+        Path jfr = Files.createTempFile("banco", ".jfr");
+        File save = File.createTempFile("banco", ".txt");
+        try (Recording rec = new Recording(perfil)) {
+            rec.start();
+
+            GameFacade.resetForTests();
+            GameFacade gf = GameFacade.init(List.of("A", "B", "C"), List.of(0, 1, 2));
+            int turnos = 0;
+            for (; turnos < 200 && !gf.isPartidaEncerrada(); turnos++) {
+                List<Integer> d = gf.sortearDados();
+                int idx = gf.getIndiceJogadorDaVez();
+                gf.notificarRolagem(d.get(0), d.get(1));
+                gf.moverJogadorComDados(idx, d.get(0), d.get(1));
+                int cel = gf.getPosicao(idx);
+                if (gf.posicaoTemPropriedade(cel) && gf.propriedadeDisponivel(cel)) gf.comprarPropriedadeAtual(idx);
+                else if (gf.jogadorEhDonoDaPosicao(idx, cel) && gf.podeConstruirCasaAqui(idx)) gf.construirCasaNoLocal(idx);
+                gf.aplicarCasasEspeciais(idx);
+                gf.cobrarAluguelSeNecessario(idx);
+                gf.resolverChanceSeNecessario(idx);
+                gf.notificarEstado();
+                gf.avancarTurnoENotificar();
+            }
+            gf.salvarParaArquivo(save, null);
+            GameFacade.carregarSnapshot(save);
+            ImageStore.clearCache();
+            assertNotNull(ImageStore.load("/tabuleiro.png"));
+
+            rec.stop();
+            rec.dump(jfr);
+
+            AnalisadorJfr a = AnalisadorJfr.analisar(jfr);
+            assertTrue(a.texto(), a.get("banco.TrocaDeVez").getContagem() >= turnos - 1);
+            assertTrue(a.get("banco.Compra").getContagem() > 0);
+            assertTrue(a.get("banco.Compra").getSomaValor() > 0);
+            assertEquals(1, a.get("banco.Salvamento").getContagem());
+            assertEquals(save.length(), a.get("banco.Salvamento").getSomaBytes());
+            assertEquals(1, a.get("banco.Carregamento").getContagem());
+            assertTrue(a.get("banco.DecodificacaoImagem").getSomaBytes() > 0);
+            assertEquals("/tabuleiro.png", a.getDecodificacoes().get(0).caminho());
+
+            AnalisadorJfr.Estatistica aluguel = a.get("banco.Aluguel");
+            if (aluguel != null) { // pago = recebido = soma dos eventos
+                long pago = 0, recebido = 0;
+                for (long[] v : a.getAluguelPorJogador().values()) { pago += v[0]; recebido += v[1]; }
+                assertEquals(aluguel.getSomaValor(), pago);
+                assertEquals(aluguel.getSomaValor(), recebido);
+            }
+        } finally {
+            Files.deleteIfExists(jfr);
+            save.delete();
+        }
+    }
+}
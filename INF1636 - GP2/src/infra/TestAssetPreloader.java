@@ -0,0 +1,47 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes da pré-carga paralela ({@link AssetPreloader}).
+ *
+ * 1. Lista todas as imagens das pastas; pré-carga aquece o cache (depois só acertos) e informa progresso
+ */
+public class TestAssetPreloader {
+
+    @Before
+    public void setUp() { ImageStore.clearCache(); }
+
+    @After
+    public void tearDown() { ImageStore.clearCache(); }
+
+    /** 1 Todas as imagens decodificadas, progresso até o total e nenhuma falta depois de aquecido. */
+    @Test
+    public void testPreCargaAqueceCache() throws Exception {
+        List<String> recursos = AssetPreloader.listarRecursos();
+        assertTrue("esperava as ~70 imagens de resources/, achou " + recursos.size(), recursos.size() >= 60);
+        assertTrue(recursos.contains("/sorteReves/chance9.png"));
+        assertTrue(recursos.contains("/pinos/pin0.png"));
+        assertTrue(recursos.contains("/dados/die_face_6.png"));
+
+        AtomicInteger ultimo = new AtomicInteger();
+        AssetPreloader.Relatorio r = new AssetPreloader(4)
+                .iniciar((feitos, total, path) -> ultimo.accumulateAndGet(feitos, Math::max))
+                .get(60, TimeUnit.SECONDS);
+        assertEquals(r.toString(), recursos.size(), r.total());
+        assertEquals(r.toString(), 0, r.falhas());
+        assertEquals(r.total(), ultimo.get());
+
+        long faltas = ImageStore.stats().misses();
+        for (String p : recursos) assertNotNull(ImageStore.loadCached(p));
+        assertEquals(faltas, ImageStore.stats().misses());
+    }
+}
@@ -0,0 +1,82 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do atlas de imagens ({@link AtlasBuilder} + {@link ImageStore}).
+ *
+ * 1. Cada recorte do atlas é igual, pixel a pixel (a menos de arredondamento), ao arquivo individual
+ *    (em {@code assets}, fora do classpath) e tem raster próprio (não prende a página no cache)
+ * 2. Carga a frio: arquivos individuais x páginas do atlas
+ */
+public class TestAtlas {
+
+    @Before
+    public void setUp() { ImageStore.clearCache(); }
+
+    @After
+    public void tearDown() { ImageStore.clearCache(); }
+
+    /** Imagem individual de origem do atlas (pasta {@code assets} do projeto). */
+    private static BufferedImage original(String path) throws IOException {
+        return ImageIO.read(Path.of("assets" + path).toFile());
+    }
+
+    /** 1 Atlas presente, cobre as pastas e devolve os pixels originais pela API por caminho. */
+    @Test
+    public void testRecortesIguaisAosArquivos() throws Exception {
+        assertFalse("atlas ausente: rode infra.AtlasBuilder", ImageStore.atlasPaths().isEmpty());
+        assertTrue(ImageStore.atlasPaths().contains("/sorteReves/chance9.png"));
+        assertFalse("original também no classpath", ImageStore.class.getResource("/sorteReves/chance9.png") != null);
+
+        for (String path : ImageStore.atlasPaths()) {
+            BufferedImage doAtlas = ImageStore.loadCached(path);
+            BufferedImage arquivo = original(path);
+            assertNotNull(path, doAtlas);
+            assertNotNull(path, arquivo);
+            assertEquals(path, (long) doAtlas.getWidth() * doAtlas.getHeight(),
+                    doAtlas.getRaster().getDataBuffer().getSize());
+            assertEquals(path, arquivo.getWidth(), doAtlas.getWidth());
+            assertEquals(path, arquivo.getHeight(), doAtlas.getHeight());
+            for (int y = 0; y < arquivo.getHeight(); y += 7) {
+                for (int x = 0; x < arquivo.getWidth(); x += 7) {
+                    int a = arquivo.getRGB(x, y), b = doAtlas.getRGB(x, y);
+                    if ((a >>> 24) == 0 && (b >>> 24) == 0) continue; // transparente: cor indiferente
+                    for (int sh = 0; sh < 32; sh += 8) { // tolera arredondamento de alfa pré-multiplicado
+                        int ca = (a >>> sh) & 0xFF, cb = (b >>> sh) & 0xFF;
+                        assertTrue(path + " @" + x + "," + y, Math.abs(ca - cb) <= 2);
+                    }
+                }
+            }
+        }
+    }
+
+    /** 2 Decodificar todas as imagens uma a uma x decodificar as páginas do atlas. */
+    @Test
+    public void testCargaAFrio() throws Exception {
+        List<String> paths = new ArrayList<>(ImageStore.atlasPaths());
+        long t0 = System.nanoTime();
+        for (String p : paths) assertNotNull(original(p));
+        long individuais = System.nanoTime() - t0;
+
+        t0 = System.nanoTime();
+        int paginas = 0;
+        while (ImageStore.load("/atlas/atlas" + paginas + ".png") != null) paginas++;
+        long atlas = System.nanoTime() - t0;
+
+        assertTrue(String.format("%d arquivos em %d ms x %d página(s) em %d ms",
+                paths.size(), individuais / 1_000_000, paginas, atlas / 1_000_000), paginas >= 1);
+    }
+}
@@ -0,0 +1,105 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes da tabela colunar ({@link EscritorColunar}, {@link LeitorColunar}).
+ *
+ * 1. Agregados batem com a conta linha a linha (valores negativos, extremos, bloco parcial)
+ * 2. Filtro de faixa pula pelo min/max os blocos que não podem ter a faixa
+ * 3. Tabela cortada no meio de um bloco vale até o último bloco completo
+ */
+public class TestColunar {
+
+    private static final int LINHAS = 3 * EscritorColunar.TAM_BLOCO + 123;
+
+    private Path dir;
+    private long[] turno, chave, valor;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("colunar");
+        Random r = new Random(42);
+        turno = new long[LINHAS];
+        chave = new long[LINHAS];
+        valor = new long[LINHAS];
+        try (EscritorColunar t = new EscritorColunar(dir, "turno", "chave", "valor")) {
+            for (int i = 0; i < LINHAS; i++) {
+                turno[i] = i / 4; // crescente, como o turno exportado
+                chave[i] = r.nextInt(45) - 2; // algumas fora de [0, 40)
+                valor[i] = (i == 7) ? Long.MIN_VALUE / 2 : (i == 8) ? Long.MAX_VALUE / 2 : r.nextInt(2_001) - 1_000;
+                t.valor(turno[i]).valor(chave[i]).valor(valor[i]);
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (var s = Files.list(dir)) { for (Path p : s.toList()) Files.delete(p); }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testAgregadosBatemComContaLinhaALinha() throws Exception {
+        LeitorColunar l = LeitorColunar.abrir(dir);
+        assertEquals(LINHAS, l.getLinhas());
+
+        long soma = 0;
+        long[] porChave = new long[40], contagem = new long[40], hist = new long[10];
+        for (int i = 0; i < LINHAS; i++) {
+            soma += valor[i];
+            if (chave[i] >= 0 && chave[i] < 40) { porChave[(int) chave[i]] += valor[i]; contagem[(int) chave[i]]++; }
+            hist[(int) Math.max(0, Math.min(9, valor[i] / 100))]++;
+        }
+        assertEquals(soma, l.soma("valor"));
+        assertArrayEquals(porChave, l.somaPorChave("chave", "valor", 40));
+        assertArrayEquals(contagem, l.contagemPorChave("chave", 40));
+        assertArrayEquals(hist, l.histograma("valor", 100, 10));
+        assertEquals(4, l.getBlocosLidos());
+    }
+
+    @Test
+    public void testFiltroPulaBlocosPeloMinMax() throws Exception {
+        LeitorColunar l = LeitorColunar.abrir(dir);
+        long de = 1_100, ate = 1_300; // tudo dentro do segundo bloco (turnos 1024..2047)
+        long soma = 0, linhas = 0;
+        for (int i = 0; i < LINHAS; i++) if (turno[i] >= de && turno[i] <= ate) { soma += valor[i]; linhas++; }
+
+        assertEquals(soma, l.somaOnde("valor", "turno", de, ate));
+        assertEquals(1, l.getBlocosLidos());
+        assertEquals(3, l.getBlocosPulados());
+        assertEquals(linhas, l.contarOnde("turno", de, ate));
+
+        assertEquals(LINHAS, l.contarOnde("turno", Long.MIN_VALUE, Long.MAX_VALUE)); // blocos inteiros: sem decodificar
+        assertEquals(0, l.somaOnde("valor", "turno", 100_000, 200_000));
+        assertEquals(0, l.getBlocosLidos());
+    }
+
+    @Test
+    public void testTabelaCortadaValeAteUltimoBlocoCompleto() throws Exception {
+        Path col = dir.resolve("valor.col");
+        try (FileChannel c = FileChannel.open(col, StandardOpenOption.WRITE)) {
+            c.truncate(c.size() - 5); // último bloco (parcial) fica incompleto
+        }
+        LeitorColunar l = LeitorColunar.abrir(dir);
+        assertEquals(3 * EscritorColunar.TAM_BLOCO, l.getLinhas());
+        long soma = 0;
+        long[] porChave = new long[40];
+        for (int i = 0; i < 3 * EscritorColunar.TAM_BLOCO; i++) {
+            soma += valor[i];
+            if (chave[i] >= 0 && chave[i] < 40) porChave[(int) chave[i]] += valor[i];
+        }
+        assertEquals(soma, l.soma("valor"));
+        assertArrayEquals(porChave, l.somaPorChave("chave", "valor", 40)); // bloco da chave sem par é ignorado
+    }
+}
@@ -0,0 +1,71 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Test;
+
+/**
+ * Testes do {@link EdtWatchdog}.
+ *
+ * 1. Travamento da EDT acima do limiar é registrado com o evento marcado e amostras da pilha
+ * 2. Desligado: marcar/limpar evento não registra nada e não aloca
+ */
+public class TestEdtWatchdog {
+
+    /** 1 A EDT dorme 400 ms dentro de um evento marcado; o vigia (limiar 100 ms) registra o travamento. */
+    @Test
+    public void testTravamentoComEventoEAmostras() throws Exception {
+        EdtWatchdog w = new EdtWatchdog(10, 100, 20, null);
+        w.iniciar();
+        try {
+            Thread.sleep(50); // alguns pings normais: vigia já conhece a EDT
+            SwingUtilities.invokeAndWait(() -> {
+                EdtWatchdog.marcarEvento("onJailStatus");
+                try { Thread.sleep(400); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                EdtWatchdog.limparEvento();
+            });
+            long limite = System.currentTimeMillis() + 2000;
+            while (w.getTravamentos() == 0 && System.currentTimeMillis() < limite) Thread.sleep(10);
+        } finally {
+            w.parar();
+        }
+
+        assertTrue(w.getTravamentos() >= 1);
+        List<EdtWatchdog.Travamento> ts = w.getUltimos();
+        EdtWatchdog.Travamento t = ts.get(ts.size() - 1);
+        assertEquals("onJailStatus", t.evento());
+        assertTrue(t.duracaoMs() >= 100);
+        assertFalse(t.amostras().isEmpty());
+        boolean achou = false;
+        for (StackTraceElement[] a : t.amostras())
+            for (StackTraceElement e : a) if (e.getClassName().startsWith(TestEdtWatchdog.class.getName())) achou = true;
+        assertTrue("pilha da EDT não contém o código travado", achou);
+        assertTrue(t + " | latência µs " + w.getLatencia(), w.getLatencia().getContagem() > 1);
+        assertTrue(t + " | latência µs " + w.getLatencia(), w.getLatencia().getMaximo() >= 100_000);
+    }
+
+    /**
+     * 2 Sem vigia, marcar não guarda o evento e 10 milhões de marcações não alocam
+     * (bytes da thread do teste, {@code ThreadMXBean.getThreadAllocatedBytes}; sobra folga para o ruído da JVM).
+     */
+    @Test
+    public void testDesligadoSemCusto() {
+        EdtWatchdog.marcarEvento("onMoved");
+        assertNull(EdtWatchdog.getEventoAtual());
+        EdtWatchdog.limparEvento();
+
+        var mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        for (int i = 0; i < 1_000_000; i++) { EdtWatchdog.marcarEvento("onMoved"); EdtWatchdog.limparEvento(); }
+        long b0 = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < 10_000_000; i++) { EdtWatchdog.marcarEvento("onMoved"); EdtWatchdog.limparEvento(); }
+        long bytes = mx.getThreadAllocatedBytes(tid) - b0;
+        assertTrue(bytes + " B alocados em 10 milhões de marcações", bytes < 64 * 1024);
+        assertNull(EdtWatchdog.getEventoAtual());
+    }
+}
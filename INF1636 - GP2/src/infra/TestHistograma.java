@@ -0,0 +1,50 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Testes do {@link Histograma}.
+ *
+ * 1. Percentis de 1..10000 dentro do erro das faixas (~6%)
+ * 2. Registros concorrentes sem trava não perdem contagem
+ */
+public class TestHistograma {
+
+    /** 1 Percentis aproximados; valores pequenos (< SUB) são exatos. */
+    @Test
+    public void testPercentis() {
+        Histograma h = new Histograma();
+        assertEquals(0, h.percentil(50));
+        for (int v = 1; v <= 10_000; v++) h.registrar(v);
+
+        assertEquals(10_000, h.getContagem());
+        assertEquals(10_000, h.getMaximo());
+        assertEquals(5000.5, h.getMedia(), 1e-9);
+        for (double p : new double[]{50, 90, 95, 99}) {
+            long esperado = (long) (p * 100);
+            long obtido = h.percentil(p);
+            assertTrue(p + ": " + obtido, obtido >= esperado && obtido <= esperado * 1.07);
+        }
+        assertEquals(10_000, h.percentil(100));
+
+        Histograma pequeno = new Histograma();
+        for (int v = 0; v < Histograma.SUB; v++) pequeno.registrar(v);
+        assertEquals(7, pequeno.percentil(50));
+    }
+
+    /** 2 4 threads x 100k registros: contagem exata. */
+    @Test
+    public void testConcorrente() throws InterruptedException {
+        Histograma h = new Histograma();
+        Thread[] ts = new Thread[4];
+        for (int i = 0; i < ts.length; i++) {
+            ts[i] = new Thread(() -> { for (int k = 0; k < 100_000; k++) h.registrar(k % 5000); });
+            ts[i].start();
+        }
+        for (Thread t : ts) t.join();
+        assertEquals(400_000, h.getContagem());
+        assertEquals(4999, h.getMaximo());
+    }
+}
@@ -0,0 +1,70 @@
+package infra;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do cache de imagens do {@link ImageStore}.
+ *
+ * 1. Mesma (imagem, tamanho) devolve a mesma instância escalada; tamanhos diferentes são entradas distintas
+ * 2. Orçamento em bytes: despejo LRU e retorno pela referência fraca
+ */
+public class TestImageStore {
+
+    @Before
+    public void setUp() {
+        ImageStore.clearCache();
+        ImageStore.setBudgetBytes(ImageStore.ORCAMENTO_PADRAO);
+    }
+
+    @After
+    public void tearDown() {
+        ImageStore.clearCache();
+        ImageStore.setBudgetBytes(ImageStore.ORCAMENTO_PADRAO);
+    }
+
+    /** 1 Escala uma vez por tamanho; original e escalada são contadas como faltas só na primeira vez. */
+    @Test
+    public void testCachePorTamanho() {
+        BufferedImage a = ImageStore.loadScaled("/dados/die_face_3.png", 36, 36);
+        assertNotNull(a);
+        assertEquals(36, a.getWidth());
+        assertEquals(36, a.getHeight());
+        assertSame(a, ImageStore.loadScaled("/dados/die_face_3.png", 36, 36));
+
+        BufferedImage b = ImageStore.loadScaled("/dados/die_face_3.png", 20, 20);
+        assertNotSame(a, b);
+        assertEquals(20, b.getWidth());
+
+        ImageStore.CacheStats s = ImageStore.stats();
+        assertEquals(3, s.misses());  // original + 36x36 + 20x20
+        assertEquals(2, s.hits());    // 36x36 repetida + original reaproveitada para 20x20
+        assertEquals(3, s.entries());
+        assertNull(ImageStore.loadScaled("/nao/existe.png", 10, 10));
+    }
+
+    /** 2 Com orçamento para ~2 imagens de 100x100, a mais antiga sai do LRU e volta como acerto "soft". */
+    @Test
+    public void testOrcamentoDespejaLruEVoltaPelaSoftReference() {
+        ImageStore.setBudgetBytes(2 * 100 * 100 * 4 + 1);
+        ImageStore.loadScaled("/dados/die_face_1.png", 100, 100);
+        ImageStore.loadScaled("/dados/die_face_2.png", 100, 100);
+        ImageStore.loadScaled("/dados/die_face_3.png", 100, 100);
+
+        ImageStore.CacheStats s = ImageStore.stats();
+        assertTrue(s.bytes() <= 2 * 100 * 100 * 4 + 1);
+        assertTrue(s.evictions() >= 1);
+
+        BufferedImage antiga = ImageStore.loadScaled("/dados/die_face_1.png", 100, 100);
+        assertNotNull(antiga);
+        ImageStore.CacheStats depois = ImageStore.stats();
+        // sem pressão de memória a referência fraca ainda vale: nada é decodificado de novo
+        assertEquals(s.misses(), depois.misses());
+        assertTrue(depois.softHits() >= 1);
+    }
+}
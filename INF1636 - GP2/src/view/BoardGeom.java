@@ -46,6 +46,14 @@ public final class BoardGeom {
         return new Point((int)Math.round(cx), (int)Math.round(cy));
     }
 
+    /** Retângulo da casa `cell` (um passo de largura e altura em volta do centro), para sombrear a casa inteira. */
+    public static Rectangle cellBounds(int cell, int bx, int by, int bw, int bh) {
+        int w = (int) Math.round((bw - 0.16 * bw) / 11.0);
+        int h = (int) Math.round((bh - 0.16 * bh) / 11.0);
+        Point c = centerOfCell(cell, bx, by, bw, bh);
+        return new Rectangle(c.x - w / 2, c.y - h / 2, w, h);
+    }
+
     /**
      * Offset da "pista" (0..5) para espalhar visualmente os pinos.
      * Pequeno bias para cima para acomodar pinos 25x38.
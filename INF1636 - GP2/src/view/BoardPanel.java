@@ -7,56 +7,101 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Painel do tabuleiro: desenha imagem base, badge do jogador da vez
  * e pinos (sprites) posicionados via {@link BoardGeom}.
+ * <p>
+ * O tabuleiro é renderizado uma vez numa camada compatível com a tela (refeita só quando o
+ * painel muda de tamanho); pinos são escalados uma vez e os nomes viram sprites por jogador.
+ * Um repaint custa um blit da camada + alguns sprites. {@link #benchmarkPaint(int)} mede o quadro.
+ * </p>
+ * <p>
+ * Eventos do jogo repintam só o que muda: {@link #repaintCell(int)} usa uma tabela de retângulos
+ * por casa (cobrindo as 6 pistas de pino e os nomes) e {@link #repaintTurnBadge()} só o badge.
+ * A área efetivamente pintada é contada por turno ({@link #getPixelsUltimoTurno()}).
+ * </p>
+ * <p>
+ * Movimentos pelos dados são animados casa a casa pelo {@link PinAnimator}
+ * ({@link #animarMovimento(int, int, int)}), repintando só a área dos pinos em movimento.
+ * </p>
+ * <p>
+ * Mapa de calor ({@link #setMapaDeCalor}): as casas são sombreadas em translúcido, alinhadas ao
+ * {@link BoardGeom}, sobre uma cópia da camada estática, renderizada uma vez a cada atualização dos
+ * dados (ou mudança de tamanho). O quadro continua sendo um blit opaco.
+ * </p>
  */
 public class BoardPanel extends JPanel {
     private final BufferedImage boardImg;
     private final UiState ui;
 
-    // pin images 0..5 (Red, Blue, Orange, Yellow, Pink, Gray)
+    // pin images 0..5 (Red, Blue, Orange, Yellow, Pink, Gray), já escalados para PIN_W x PIN_H
     private final List<BufferedImage> pinImgs = new ArrayList<>(Collections.nCopies(6, null));
     private static final int PIN_W = 25, PIN_H = 38;
     private static final int PIN_Y_BIAS = 6; // ponta do pino “encaixa” no anel da casa
+    private static final Color SOMBRA_BADGE = new Color(0, 0, 0, 80);
+    private static final int BADGE_W = 280, BADGE_H = 28, BADGE_MARGEM = 16, BADGE_Y = 12;
+
+    private final Font fonteNome;
+
+    // camada estática (fundo + tabuleiro) para o tamanho atual do painel
+    private BufferedImage camada;
+    private int boardX, boardY, boardW, boardH;
+
+    // rótulos de nome pré-renderizados por jogador (refeitos se o nome mudar)
+    private BufferedImage[] rotulos = new BufferedImage[0];
+    private String[] rotuloTexto = new String[0];
+    private int rotuloAscent;
+
+    // retângulo de repintura de cada casa (0..39) para o tamanho atual; null = refazer
+    private Rectangle[] retangulosCasa;
+
+    // largura do maior nome e altura do rótulo (para as áreas de repintura dos pinos)
+    private int maiorNome, altNome;
+
+    private final PinAnimator animador = new PinAnimator(this);
+
+    // mapa de calor: valores por casa (null = desligado) e camada estática já sombreada
+    private static final Color CALOR_FRIO = new Color(255, 230, 0), CALOR_QUENTE = new Color(220, 0, 0);
+    private long[] calor;
+    private BufferedImage camadaCalor;
+    private int renderizacoesCalor;
+
+    // instrumentação: pixels pintados (área do clip) no turno corrente e no anterior
+    private long pixelsTurnoAtual, pixelsUltimoTurno;
 
     public BoardPanel(UiState ui) {
         this.ui = ui;
-        this.boardImg = ImageStore.load("/tabuleiro.png");
+        this.boardImg = ImageStore.loadCached("/tabuleiro.png");
         int w = (boardImg != null ? boardImg.getWidth()  : 1000);
         int h = (boardImg != null ? boardImg.getHeight() : 700);
         setPreferredSize(new Dimension(w, h));
         setOpaque(true);
+        this.fonteNome = getFont().deriveFont(Font.BOLD, 10f);
 
-        // carrega sprites de pinos
+        // carrega sprites de pinos já escalados (cache do ImageStore)
         for (int i = 0; i < pinImgs.size(); i++) {
-            pinImgs.set(i, ImageStore.load("/pinos/pin" + i + ".png"));
+            pinImgs.set(i, ImageStore.loadScaled("/pinos/pin" + i + ".png", PIN_W, PIN_H));
         }
     }
 
     @Override protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        // a camada cobre o painel inteiro (opaco), dispensando o fill do super
+        garantirCamada();
+        Rectangle clip = g.getClipBounds();
+        pixelsTurnoAtual += (clip != null) ? (long) clip.width * clip.height : (long) getWidth() * getHeight();
         Graphics2D g2 = (Graphics2D) g.create();
+        g2.drawImage(calor != null ? garantirCamadaCalor() : camada, 0, 0, null);
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        int x = 0, y = 0, bw = (boardImg!=null?boardImg.getWidth():getWidth()), bh = (boardImg!=null?boardImg.getHeight():getHeight());
-        if (boardImg != null) {
-            x = (getWidth()-bw)/2;
-            y = (getHeight()-bh)/2;
-            g2.drawImage(boardImg, x, y, null);
-        } else {
-            g2.setColor(Color.LIGHT_GRAY); g2.fillRect(0,0,getWidth(),getHeight());
-            g2.setColor(Color.DARK_GRAY);  g2.drawString("tabuleiro.png não encontrado.", 20, 20);
-        }
-
         if (ui != null) {
             // badge do turno
-            int barraW = 280, barraH = 28;
-            int bx = getWidth() - (barraW + 16), by = 12;
-            g2.setColor(new Color(0,0,0,80));
+            int barraW = BADGE_W, barraH = BADGE_H;
+            int bx = getWidth() - (barraW + BADGE_MARGEM), by = BADGE_Y;
+            g2.setColor(SOMBRA_BADGE);
             g2.fillRoundRect(bx-2, by-2, barraW+4, barraH+4, 10, 10);
             g2.setColor(ui.getCor(ui.jogadorAtual()));
             g2.fillRoundRect(bx, by, barraW, barraH, 10, 10);
@@ -66,11 +111,9 @@ public class BoardPanel extends JPanel {
             // pinos
             for (int j = 0; j < ui.getNumJogadores(); j++) {
                 if (!ui.isAtivo(j)) continue; // não desenha jogador falido
-                int cell = ui.getPos(j);
-                Point c = BoardGeom.centerOfCell(cell, x, y, bw, bh);
-                Point off = BoardGeom.trackOffset(ui.getPista(j));
-                int px = c.x + off.x;
-                int py = c.y + off.y;
+                Point p = animador.emMovimento(j) ? animador.posicao(j) : pontoDaPista(ui.getPos(j), ui.getPista(j));
+                int px = p.x;
+                int py = p.y;
 
                 int pinIdx = safePinIndex(j);
 
@@ -78,22 +121,17 @@ public class BoardPanel extends JPanel {
                 if (pin != null) {
                     int drawX = px - PIN_W/2;
                     int drawY = py - PIN_H + PIN_Y_BIAS;
-                    g2.drawImage(pin, drawX, drawY, PIN_W, PIN_H, null);
+                    g2.drawImage(pin, drawX, drawY, null);
 
                     // nome acima do pino
-                    g2.setFont(g2.getFont().deriveFont(Font.BOLD, 10f));
-                    FontMetrics fm = g2.getFontMetrics();
-                    String name = ui.getNome(j);
-                    int tx = px - fm.stringWidth(name)/2;
-                    int ty = drawY - 4;
-                    g2.setColor(Color.BLACK); g2.drawString(name, tx+1, ty+1);
-                    g2.setColor(Color.WHITE); g2.drawString(name, tx, ty);
+                    BufferedImage rotulo = rotulo(j);
+                    g2.drawImage(rotulo, px - (rotulo.getWidth() - 1)/2, drawY - 4 - rotuloAscent, null);
                 } else {
                     int r = 10;
                     g2.setColor(Color.BLACK); g2.fillOval(px-r-1, py-r-1, 2*r+2, 2*r+2);
                     g2.setColor(ui.getCor(j)); g2.fillOval(px-r, py-r, 2*r, 2*r);
                     g2.setColor(Color.WHITE);
-                    g2.setFont(g2.getFont().deriveFont(Font.BOLD, 10f));
+                    g2.setFont(fonteNome);
                     g2.drawString(ui.getNome(j), px - 12, py - r - 4);
                 }
             }
@@ -101,6 +139,215 @@ public class BoardPanel extends JPanel {
         g2.dispose();
     }
 
+    // ---------- Repintura parcial ----------
+
+    /** Repinta só a região da casa (pinos e nomes em qualquer pista). */
+    public void repaintCell(int cell) {
+        if (getWidth() <= 0 || getHeight() <= 0) { repaint(); return; }
+        garantirCamada();
+        if (retangulosCasa == null) calcularRetangulosCasa();
+        repaint(retangulosCasa[((cell % 40) + 40) % 40]);
+    }
+
+    /** Anima o pino do jogador casa a casa de {@code origem} até {@code destino} (não bloqueia). */
+    public void animarMovimento(int jogador, int origem, int destino) {
+        if (getWidth() <= 0 || getHeight() <= 0) { repaint(); return; }
+        garantirCamada();
+        animador.mover(jogador, origem, destino);
+    }
+
+    /** Interrompe a animação do jogador (ex.: ida para a prisão); o pino vai para a casa do UiState. */
+    public void pararAnimacao(int jogador) {
+        animador.cancelar(jogador);
+    }
+
+    // ---------- Mapa de calor ----------
+
+    /**
+     * Sombreia cada casa pela fração de {@code valoresPorCasa} (40 valores; a maior casa fica no máximo).
+     * {@code null} desliga. A camada é refeita aqui, não a cada quadro.
+     */
+    public void setMapaDeCalor(long[] valoresPorCasa) {
+        if (valoresPorCasa == null ? calor == null : Arrays.equals(valoresPorCasa, calor)) return;
+        calor = (valoresPorCasa != null) ? valoresPorCasa.clone() : null;
+        camadaCalor = null;
+        repaint();
+    }
+
+    /** Vezes que a camada do mapa de calor foi renderizada (dados novos ou painel redimensionado). */
+    public int getRenderizacoesCalor() { return renderizacoesCalor; }
+
+    /** Quadros, quadros perdidos e percentis do intervalo entre quadros da animação. */
+    public PinAnimator.Relatorio getRelatorioAnimacao() { return animador.relatorio(); }
+
+    /** Repinta só o badge do jogador da vez. */
+    public void repaintTurnBadge() {
+        repaint(getWidth() - (BADGE_W + BADGE_MARGEM) - 2, BADGE_Y - 2, BADGE_W + 5, BADGE_H + 5);
+    }
+
+    /** Fecha a contagem do turno: o acumulado vira o valor de {@link #getPixelsUltimoTurno()}. */
+    public void marcarFimDeTurno() {
+        pixelsUltimoTurno = pixelsTurnoAtual;
+        pixelsTurnoAtual = 0;
+    }
+
+    /** Pixels pintados (soma das áreas de clip) no último turno concluído. */
+    public long getPixelsUltimoTurno() { return pixelsUltimoTurno; }
+
+    /** Pixels pintados desde o início do turno corrente. */
+    public long getPixelsTurnoAtual() { return pixelsTurnoAtual; }
+
+    /**
+     * Gancho de medição: pinta {@code frames} quadros num buffer fora da tela
+     * (após um quadro de aquecimento) e devolve o tempo médio por quadro, em ns.
+     */
+    public long benchmarkPaint(int frames) {
+        if (getWidth() <= 0 || getHeight() <= 0) setSize(getPreferredSize());
+        BufferedImage alvo = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = alvo.createGraphics();
+        try {
+            paintComponent(g);
+            long t0 = System.nanoTime();
+            for (int i = 0; i < frames; i++) paintComponent(g);
+            return (System.nanoTime() - t0) / Math.max(1, frames);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // ---------- Caches de desenho ----------
+
+    /** Refaz a camada estática se o painel mudou de tamanho. */
+    private void garantirCamada() {
+        int w = Math.max(1, getWidth()), h = Math.max(1, getHeight());
+        if (camada != null && camada.getWidth() == w && camada.getHeight() == h) return;
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        retangulosCasa = null; // geometria mudou
+        camadaCalor = null;
+        camada = (gc != null) ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                              : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = camada.createGraphics();
+        g.setColor(getBackground());
+        g.fillRect(0, 0, w, h);
+        if (boardImg != null) {
+            boardW = boardImg.getWidth();
+            boardH = boardImg.getHeight();
+            boardX = (w - boardW)/2;
+            boardY = (h - boardH)/2;
+            g.drawImage(boardImg, boardX, boardY, null);
+        } else {
+            boardX = 0; boardY = 0; boardW = w; boardH = h;
+            g.setColor(Color.LIGHT_GRAY); g.fillRect(0,0,w,h);
+            g.setColor(Color.DARK_GRAY);  g.drawString("tabuleiro.png não encontrado.", 20, 20);
+        }
+        g.dispose();
+    }
+
+    /** Camada estática com o mapa de calor por cima (refeita só se os dados ou o tamanho mudaram). */
+    private BufferedImage garantirCamadaCalor() {
+        if (camadaCalor != null) return camadaCalor;
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        int w = camada.getWidth(), h = camada.getHeight();
+        camadaCalor = (gc != null) ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                                   : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        long max = 0;
+        for (long v : calor) max = Math.max(max, v);
+        Graphics2D g = camadaCalor.createGraphics();
+        g.drawImage(camada, 0, 0, null);
+        for (int cell = 0; cell < Math.min(40, calor.length) && max > 0; cell++) {
+            if (calor[cell] <= 0) continue;
+            float f = (float) calor[cell] / max;
+            g.setColor(new Color(
+                    Math.round(CALOR_FRIO.getRed()   + f * (CALOR_QUENTE.getRed()   - CALOR_FRIO.getRed())),
+                    Math.round(CALOR_FRIO.getGreen() + f * (CALOR_QUENTE.getGreen() - CALOR_FRIO.getGreen())),
+                    Math.round(CALOR_FRIO.getBlue()  + f * (CALOR_QUENTE.getBlue()  - CALOR_FRIO.getBlue())),
+                    Math.round(50 + f * 110)));
+            Rectangle r = BoardGeom.cellBounds(cell, boardX, boardY, boardW, boardH);
+            g.fillRect(r.x, r.y, r.width, r.height);
+        }
+        g.dispose();
+        renderizacoesCalor++;
+        return camadaCalor;
+    }
+
+    /**
+     * Tabela de retângulos por casa: união, nas 6 pistas, das áreas de pino ({@link #areaDoPino}).
+     */
+    private void calcularRetangulosCasa() {
+        FontMetrics fm = getFontMetrics(fonteNome);
+        maiorNome = 0;
+        if (ui != null) for (int j = 0; j < ui.getNumJogadores(); j++) maiorNome = Math.max(maiorNome, fm.stringWidth(ui.getNome(j)));
+        altNome = fm.getAscent();
+
+        Rectangle[] tabela = new Rectangle[40];
+        for (int cell = 0; cell < 40; cell++) {
+            Rectangle r = null;
+            for (int pista = 0; pista < 6; pista++) {
+                Rectangle u = area(pontoDaPista(cell, pista));
+                r = (r == null) ? u : r.union(u);
+            }
+            tabela[cell] = r;
+        }
+        retangulosCasa = tabela;
+    }
+
+    // ---------- Geometria dos pinos (também usada pelo PinAnimator) ----------
+
+    /** Ponto de referência do pino (centro da casa + deslocamento da pista). */
+    Point pontoDaPista(int cell, int pista) {
+        Point c = BoardGeom.centerOfCell(cell, boardX, boardY, boardW, boardH);
+        Point off = BoardGeom.trackOffset(pista);
+        return new Point(c.x + off.x, c.y + off.y);
+    }
+
+    /**
+     * Área ocupada por um pino em {@code p}: sprite, nome acima dele (largura do maior nome)
+     * e pino de fallback (círculo), com 1px para o antialiasing.
+     */
+    Rectangle areaDoPino(Point p) {
+        if (retangulosCasa == null) calcularRetangulosCasa(); // mede os nomes
+        return area(p);
+    }
+
+    private Rectangle area(Point p) {
+        FontMetrics fm = getFontMetrics(fonteNome);
+        int drawY = p.y - PIN_H + PIN_Y_BIAS;
+        Rectangle u = new Rectangle(p.x - PIN_W/2, drawY, PIN_W, PIN_H);
+        u.add(new Rectangle(p.x - maiorNome/2 - 1, drawY - 4 - altNome, maiorNome + 3, fm.getAscent() + fm.getDescent() + 2));
+        u.add(new Rectangle(p.x - 12, p.y - 14 - altNome, Math.max(24, maiorNome + 2), 26 + altNome));
+        u.grow(1, 1);
+        return u;
+    }
+
+    int pistaDe(int jogador) { return ui.getPista(jogador); }
+
+    boolean pinoVisivel(int jogador) { return ui != null && jogador < ui.getNumJogadores() && ui.isAtivo(jogador); }
+
+    /** Sprite do nome do jogador (texto branco com sombra preta). */
+    private BufferedImage rotulo(int j) {
+        if (rotulos.length != ui.getNumJogadores()) {
+            rotulos = new BufferedImage[ui.getNumJogadores()];
+            rotuloTexto = new String[ui.getNumJogadores()];
+        }
+        String name = ui.getNome(j);
+        if (rotulos[j] != null && name.equals(rotuloTexto[j])) return rotulos[j];
+
+        FontMetrics fm = getFontMetrics(fonteNome);
+        rotuloAscent = fm.getAscent();
+        BufferedImage img = new BufferedImage(Math.max(1, fm.stringWidth(name) + 1),
+                fm.getAscent() + fm.getDescent() + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setFont(fonteNome);
+        g.setColor(Color.BLACK); g.drawString(name, 1, rotuloAscent + 1);
+        g.setColor(Color.WHITE); g.drawString(name, 0, rotuloAscent);
+        g.dispose();
+        rotulos[j] = img;
+        rotuloTexto[j] = name;
+        return img;
+    }
+
     // Usa UiState diretamente (mapeamento cor->pino já está centralizado lá).
     private int safePinIndex(int j) {
         if (j < 0 || j >= ui.getNumJogadores()) return 0;
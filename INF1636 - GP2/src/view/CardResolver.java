@@ -1,6 +1,9 @@
 package view;
 
+import infra.ImageStore;
+
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resolve imagens de cartas para a casa onde o peão parou.
@@ -15,8 +18,13 @@ public final class CardResolver {
             new HashSet<>(Arrays.asList(2, 12, 16, 22, 27, 37))
     );
 
-    // Caminhos possíveis para cartas de Sorte/Revés
-    private static final List<String> CHANCE_PATHS = makeChancePaths();
+    // Caminhos possíveis para cartas de Sorte/Revés (sondados só no primeiro uso)
+    private static final class ChancePaths {
+        static final List<String> LIST = makeChancePaths();
+    }
+
+    // Memo de existência de recursos (cada caminho é sondado no classpath uma vez)
+    private static final Map<String, Boolean> EXISTE = new ConcurrentHashMap<>();
 
     // Mapa índice->caminho para cartas de propriedade/companhia (nomes EXATOS)
     private static final Map<Integer, String> PROPERTY_MAP = new LinkedHashMap<>();
@@ -95,7 +103,8 @@ public final class CardResolver {
 
     /** Caminho para uma carta aleatória de Sorte/Revés. */
     public static String randomChanceCardPath() {
-        return CHANCE_PATHS.get(new Random().nextInt(CHANCE_PATHS.size()));
+        List<String> paths = ChancePaths.LIST;
+        return paths.get(new Random().nextInt(paths.size()));
     }
 
     /** Caminho para a carta da propriedade/companhia daquela casa (ou null se não mapeada/arquivo ausente). */
@@ -131,6 +140,6 @@ public final class CardResolver {
     }
 
     private static boolean resourceExists(String path) {
-        return CardResolver.class.getResource(path) != null;
+        return EXISTE.computeIfAbsent(path, ImageStore::hasImage); // atlas ou arquivo individual
     }
 }
\ No newline at end of file
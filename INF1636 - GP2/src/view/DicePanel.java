@@ -5,18 +5,18 @@ import infra.ImageStore;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-/** Barra dos dados: forçar valores, lançar e rolar aleatoriamente, com faces desenhadas em um canvas próprio. */
+/**
+ * Barra dos dados: forçar valores, lançar e rolar aleatoriamente, com faces desenhadas em um canvas próprio.
+ * Também tem o avanço rápido (N turnos jogados por bots, com a UI atualizada só no fim).
+ */
 public class DicePanel extends JPanel {
     private final JComboBox<Integer> d1, d2;
     private final JButton rollBtn;        // usa os combos (forçar)
     private final JButton randomBtn;      // rolagem aleatória
-
-    // imagens das faces 1..6
-    private final List<BufferedImage> faces = new ArrayList<>(Collections.nCopies(7, null));
+    private final JSpinner turnosAvanco;  // quantos turnos o avanço rápido joga
+    private final JButton avancoBtn;      // avanço rápido
 
     // último resultado mostrado
     private int faceLeft = 1, faceRight = 1;
@@ -78,11 +78,11 @@ public class DicePanel extends JPanel {
         randomBtn = new JButton("Rolar aleatório");
         rollBtn.setFocusable(false);
         randomBtn.setFocusable(false);
-
-        // carrega faces 1..6
-        for (int i = 1; i <= 6; i++) {
-            faces.set(i, ImageStore.load("/dados/die_face_" + i + ".png"));
-        }
+        turnosAvanco = new JSpinner(new SpinnerNumberModel(1000, 1, 1_000_000, 100));
+        turnosAvanco.setPreferredSize(new Dimension(80, turnosAvanco.getPreferredSize().height));
+        avancoBtn = new JButton("Avançar");
+        avancoBtn.setFocusable(false);
+        avancoBtn.setToolTipText("Joga N turnos com bots (compram tudo) e atualiza a tela só no fim");
 
         // linha de controles (GridBag) + canvas na direita
         c.gridx = 0; add(new JLabel("Forçar:"), c);
@@ -97,11 +97,21 @@ public class DicePanel extends JPanel {
         c.anchor = GridBagConstraints.WEST;  // encosta nos botões
         c.insets = new Insets(2, 4, 2, 2);   // reduz o espaço lateral
         add(diceCanvas, c);
+
+        // avanço rápido à direita do canvas
+        c.insets = new Insets(2, 12, 2, 2);
+        c.gridx = 6; add(turnosAvanco, c);
+        c.insets = new Insets(2, 2, 2, 2);
+        c.gridx = 7; add(avancoBtn, c);
     }
 
     // --- API usada pelo controller ---
     public JButton rollButton()   { return rollBtn; }
     public JButton randomButton() { return randomBtn; }
+    public JButton fastForwardButton() { return avancoBtn; }
+
+    /** Turnos escolhidos para o avanço rápido. */
+    public int fastForwardTurns() { return (Integer) turnosAvanco.getValue(); }
 
     public int forcedD1() { return (Integer) d1.getSelectedItem(); }
     public int forcedD2() { return (Integer) d2.getSelectedItem(); }
@@ -120,9 +130,10 @@ public class DicePanel extends JPanel {
     }
 
     private void drawFace(Graphics2D g2, int face, int x, int y, int size) {
-        BufferedImage img = (face >= 1 && face <= 6) ? faces.get(face) : null;
+        // face já escalada para o lado atual (cache do ImageStore)
+        BufferedImage img = (face >= 1 && face <= 6) ? ImageStore.loadScaled("/dados/die_face_" + face + ".png", size, size) : null;
         if (img != null) {
-            g2.drawImage(img, x, y, size, size, null); // drawImage (exigência do enunciado)
+            g2.drawImage(img, x, y, null); // drawImage (exigência do enunciado)
         } else {
             g2.setColor(Color.WHITE); g2.fillRoundRect(x, y, size, size, 6, 6);
             g2.setColor(Color.DARK_GRAY); g2.drawRoundRect(x, y, size, size, 6, 6);
@@ -1,23 +1,46 @@
 package view;
 
+import Model.ArmazemDeEventos;
 import Model.GameFacade;
+import controller.ReprodutorDePartida;
 import controller.UIController;
+import infra.EdtWatchdog;
 import infra.UiState;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
-/** Janela principal: monta a UI, inicializa GameFacade e conecta o UIController. */
+/**
+ * Janela principal: monta a UI, inicializa GameFacade e conecta o UIController.
+ * Também abre uma gravação em modo replay ({@code --replay partida.rep}) e, com
+ * {@code -Dbanco.eventos=diretorio}, hospeda a partida num fluxo de eventos (retomada dele se já existir).
+ */
 public class MainFrame extends JFrame {
-    public MainFrame() { this(null); }
+    public MainFrame() { this((Model.GameStateSnapshot) null); }
 
     public MainFrame(Model.GameStateSnapshot snapCarregado) {
         super("Banco Imobiliário — Iteração 2");
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setMinimumSize(new Dimension(1120, 720));
-        setLocationRelativeTo(null);
+        configurarJanela();
+
+        // partida hospedada num fluxo de eventos já existente: a façade é a projeção dele
+        Path dirEventos = ArmazemDeEventos.diretorioConfigurado();
+        ArmazemDeEventos eventos = null;
+        if (snapCarregado == null && dirEventos != null) {
+            try {
+                if (ArmazemDeEventos.existe(dirEventos)) {
+                    eventos = ArmazemDeEventos.abrir(dirEventos, ArmazemDeEventos.INTERVALO_PADRAO);
+                    snapCarregado = eventos.projecao();
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Fluxo de eventos ilegível, começando outra partida: " + e);
+            }
+        }
 
         PlayerSetupDialog dlg = null;
         if (snapCarregado == null) {
@@ -29,6 +52,7 @@ public class MainFrame extends JFrame {
 
         GameFacade game;
         UiState ui;
+        boolean partidaNova = (snapCarregado == null);
         if (snapCarregado != null) {
             var nomes = snapCarregado.players().stream().map(p -> p.nome()).toList();
             var cores  = snapCarregado.players().stream()
@@ -44,7 +68,7 @@ public class MainFrame extends JFrame {
                     ui.setAtivo(i, false);
                 }
             }
-            game = GameFacade.initFromSnapshot(snapCarregado);
+            game = (eventos != null) ? GameFacade.initFromEventos(eventos) : GameFacade.initFromSnapshot(snapCarregado);
         } else {
             int     n      = dlg.getNumJogadores();
             var cores  = dlg.getCoresEscolhidas();
@@ -54,16 +78,71 @@ public class MainFrame extends JFrame {
             game = GameFacade.init(nomes, ordem);
         }
 
+        UIController controller = montar(ui, game, null);
+        controller.gravarSeHabilitado(partidaNova); // -Dbanco.gravacao=partida.rep
+        controller.exportarSeHabilitado();          // -Dbanco.exportacao=dir
+        if (eventos == null && dirEventos != null) hospedar(game, ui, dirEventos);
+    }
+
+    /** Começa o fluxo de eventos da partida em {@code dir} (o estado atual é a base). */
+    private static void hospedar(GameFacade game, UiState ui, Path dir) {
+        List<Color> cores = new ArrayList<>();
+        for (int i = 0; i < ui.getNumJogadores(); i++) cores.add(ui.getCor(i));
+        try {
+            synchronized (game) {
+                game.ativarEventos(ArmazemDeEventos.criar(dir, game.capturarSnapshot(cores), ArmazemDeEventos.INTERVALO_PADRAO));
+            }
+        } catch (IOException e) {
+            System.err.println("Fluxo de eventos desligado: " + e);
+        }
+    }
+
+    /** Janela de replay: a partida da gravação no turno 0 e a barra de replay sob os dados. */
+    public MainFrame(ReprodutorDePartida replay) {
+        super("Banco Imobiliário — Replay");
+        configurarJanela();
+        var g = replay.getGravacao();
+        int n = g.getNomes().size();
+        List<Color> cores = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int pino = i < g.getCores().size() ? g.getCores().get(i) : i;
+            cores.add(UiState.PIN_PALETTE.get(Math.max(0, Math.min(pino, UiState.PIN_PALETTE.size() - 1))));
+        }
+        GameFacade game = replay.criarPartida();
+        UiState ui = new UiState(n, cores, g.getNomes(), g.getOrdem());
+        for (int i = 0; i < n; i++) if (game.isFalido(i)) ui.setAtivo(i, false);
+
+        ReplayPanel barra = new ReplayPanel();
+        UIController controller = montar(ui, game, barra);
+        controller.conectarReplay(replay, barra);
+    }
+
+    private void configurarJanela() {
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setMinimumSize(new Dimension(1120, 720));
+        setLocationRelativeTo(null);
+    }
+
+    /** Painéis + controller; {@code replayPanel} (opcional) vai logo abaixo dos dados. */
+    private UIController montar(UiState ui, GameFacade game, ReplayPanel replayPanel) {
         PropertyPanel property = new PropertyPanel();
         BoardPanel board = new BoardPanel(ui);
         PlayerHudPanel hud = new PlayerHudPanel();
         DicePanel dice = new DicePanel();
 
+        JPanel topo = dice;
+        if (replayPanel != null) {
+            topo = new JPanel(new BorderLayout());
+            topo.setOpaque(false);
+            topo.add(dice, BorderLayout.NORTH);
+            topo.add(replayPanel, BorderLayout.SOUTH);
+        }
+
         JPanel root = new JPanel(new BorderLayout());
         root.add(board,    BorderLayout.CENTER);
         root.add(property, BorderLayout.EAST);
         root.add(hud,      BorderLayout.SOUTH);
-        root.add(dice,     BorderLayout.NORTH);
+        root.add(topo,     BorderLayout.NORTH);
         setContentPane(root);
 
         UIController controller = new UIController(board, dice, ui, property, hud, game);
@@ -75,10 +154,12 @@ public class MainFrame extends JFrame {
         ui.setJogadorDaVez(game.getIndiceJogadorDaVez());
         board.repaint();
 
-        // Ao fechar a janela, encerra a partida (apurando vencedor) antes de sair
+        // Ao fechar a janela, encerra a partida (apurando vencedor) antes de sair; o motor termina
+        // o turno em curso sem travar a EDT e a saída só acontece depois do placar
+        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         addWindowListener(new WindowAdapter() {
             @Override public void windowClosing(WindowEvent e) {
-                controller.encerrarPartida();
+                controller.encerrarPartida().whenComplete((ok, erro) -> System.exit(0));
             }
         });
 
@@ -86,12 +167,17 @@ public class MainFrame extends JFrame {
         Dimension max = new Dimension(1280, 800);
         Dimension cur = getSize();
         setSize(Math.min(cur.width,  max.width), Math.min(cur.height, max.height));
+        return controller;
     }
 
-    public static void main(String[] args) {
+    /** Sem argumentos: partida nova. {@code --replay partida.rep}: abre a gravação em modo replay. */
+    public static void main(String[] args) throws Exception {
+        EdtWatchdog.iniciarSeHabilitado(); // -Dbanco.edtWatchdog=true
+        ReprodutorDePartida replay = (args.length == 2 && args[0].equals("--replay"))
+                ? ReprodutorDePartida.abrir(Path.of(args[1])) : null;
         SwingUtilities.invokeLater(() -> {
             try { UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName()); } catch (Exception ignored) {}
-            new MainFrame().setVisible(true);
+            (replay != null ? new MainFrame(replay) : new MainFrame()).setVisible(true);
         });
     }
 }
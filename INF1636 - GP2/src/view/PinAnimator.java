@@ -0,0 +1,176 @@
+package view;
+
+import infra.Histograma;
+
+import javax.swing.Timer;
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Animação dos pinos casa a casa ao longo do caminho de 40 casas.
+ * <p>
+ * Um único {@link Timer} (na EDT, limitado a {@value #FPS_MAXIMO} quadros/s) avança todas as
+ * animações em curso; a cada quadro o painel repinta só a união das áreas antiga e nova dos pinos
+ * que se moveram. Nada bloqueia o motor: {@link #mover} só enfileira o caminho e retorna. Um novo
+ * movimento do mesmo jogador entra atrás do atual; se a fila passar de {@value #PENDENTES_MAX} casas
+ * o excesso é pulado (avanço rápido), e {@link #cancelar} leva o pino direto ao destino.
+ * </p>
+ * <p>
+ * Instrumentação: intervalo entre quadros em {@link Histograma} (µs) e quadros perdidos
+ * (intervalos maiores que um período), resumidos em {@link #relatorio()}.
+ * </p>
+ */
+public final class PinAnimator {
+
+    public static final int FPS_MAXIMO = 60;
+    /** Duração do passo de uma casa. */
+    public static final int MS_POR_CASA = 90;
+    /** Casas enfileiradas acima disso são puladas. */
+    public static final int PENDENTES_MAX = 12;
+
+    private static final int PERIODO_MS = 1000 / FPS_MAXIMO;
+
+    /** Resumo da animação: quadros, quadros perdidos e percentis do intervalo entre quadros (ms). */
+    public record Relatorio(long quadros, long perdidos, double p50, double p95, double p99, double max) {
+        @Override public String toString() {
+            return String.format("%d quadros (%d perdidos), intervalo p50=%.1f p95=%.1f p99=%.1f max=%.1f ms",
+                    quadros, perdidos, p50, p95, p99, max);
+        }
+    }
+
+    /** Estado de um pino em movimento. */
+    private static final class Anim {
+        final ArrayDeque<Integer> casas = new ArrayDeque<>(); // próximas casas do caminho
+        int de;            // casa de partida do passo atual
+        double t;          // progresso (0..1) de 'de' até casas.peekFirst()
+        Rectangle ultimo;  // área pintada no quadro anterior
+    }
+
+    private final BoardPanel board;
+    private final Timer timer;
+    private Anim[] anims = new Anim[0];
+    private int emCurso;
+    private long ultimoTick; // ns; 0 = parado
+
+    private final Histograma intervalos = new Histograma();
+    private long perdidos;
+
+    PinAnimator(BoardPanel board) {
+        this.board = board;
+        this.timer = new Timer(PERIODO_MS, e -> tick(System.nanoTime()));
+        this.timer.setCoalesce(true); // EDT ocupada: um disparo em vez de rajada
+    }
+
+    /** Enfileira o caminho origem→destino (sentido do tabuleiro) para o jogador. */
+    void mover(int jogador, int origem, int destino) {
+        int o = norm40(origem), d = norm40(destino);
+        if (o == d || jogador < 0) return;
+        if (anims.length <= jogador) anims = Arrays.copyOf(anims, jogador + 1);
+        Anim a = anim(jogador);
+        if (a == null) {
+            a = new Anim();
+            a.de = o;
+            a.ultimo = board.areaDoPino(board.pontoDaPista(o, board.pistaDe(jogador)));
+            anims[jogador] = a;
+            emCurso++;
+        } else {
+            int fim = a.casas.isEmpty() ? a.de : a.casas.peekLast();
+            if (fim != o) a.casas.addLast(o); // origem diferente do fim da fila: salta até ela
+        }
+        for (int c = o; c != d; ) {
+            c = (c + 1) % 40;
+            a.casas.addLast(c);
+        }
+        if (!timer.isRunning()) {
+            ultimoTick = System.nanoTime();
+            timer.start();
+        }
+    }
+
+    /** Encerra a animação do jogador (pino volta a ser desenhado na casa do {@code UiState}). */
+    void cancelar(int jogador) {
+        Anim a = anim(jogador);
+        if (a == null) return;
+        board.repaint(a.ultimo);
+        remover(jogador);
+    }
+
+    boolean emMovimento(int jogador) { return anim(jogador) != null; }
+
+    /** Ponto atual (centro da pista) do pino em movimento. */
+    Point posicao(int jogador) {
+        Anim a = anim(jogador);
+        int pista = board.pistaDe(jogador);
+        Point p0 = board.pontoDaPista(a.de, pista);
+        if (a.casas.isEmpty()) return p0;
+        Point p1 = board.pontoDaPista(a.casas.peekFirst(), pista);
+        return new Point((int) Math.round(p0.x + (p1.x - p0.x) * a.t),
+                         (int) Math.round(p0.y + (p1.y - p0.y) * a.t));
+    }
+
+    public Relatorio relatorio() {
+        return new Relatorio(intervalos.getContagem(), perdidos,
+                intervalos.percentil(50) / 1000.0, intervalos.percentil(95) / 1000.0,
+                intervalos.percentil(99) / 1000.0, intervalos.getMaximo() / 1000.0);
+    }
+
+    // ---------- Quadro ----------
+
+    /** Avança todas as animações pelo tempo decorrido e repinta a união das áreas tocadas. */
+    void tick(long agora) {
+        long dtNs = agora - ultimoTick;
+        ultimoTick = agora;
+        intervalos.registrar(dtNs / 1000);
+        long periodos = Math.round(dtNs / (PERIODO_MS * 1_000_000.0));
+        if (periodos > 1) perdidos += periodos - 1;
+
+        double passos = dtNs / (MS_POR_CASA * 1_000_000.0);
+        Rectangle sujo = null;
+        for (int j = 0; j < anims.length; j++) {
+            Anim a = anims[j];
+            if (a == null) continue;
+            if (!board.pinoVisivel(j)) { // falido no meio do caminho
+                sujo = unir(sujo, a.ultimo);
+                remover(j);
+                continue;
+            }
+            while (a.casas.size() > PENDENTES_MAX) { a.de = a.casas.pollFirst(); a.t = 0; } // avanço rápido
+            a.t += passos;
+            while (a.t >= 1 && !a.casas.isEmpty()) {
+                a.de = a.casas.pollFirst();
+                a.t -= 1;
+            }
+            if (a.casas.isEmpty()) a.t = 0;
+
+            Rectangle r = board.areaDoPino(posicao(j));
+            sujo = unir(unir(sujo, a.ultimo), r);
+            a.ultimo = r;
+            if (a.casas.isEmpty()) remover(j); // chegou: próximo paint usa a casa do UiState
+        }
+        if (sujo != null) board.repaint(sujo);
+        if (emCurso == 0) {
+            timer.stop();
+            ultimoTick = 0;
+        }
+    }
+
+    // ---------- Auxiliares ----------
+
+    private Anim anim(int j) {
+        return (j >= 0 && j < anims.length) ? anims[j] : null;
+    }
+
+    private void remover(int j) {
+        anims[j] = null;
+        emCurso--;
+    }
+
+    private static Rectangle unir(Rectangle a, Rectangle b) {
+        if (a == null) return (b != null) ? new Rectangle(b) : null;
+        if (b != null) a.add(b);
+        return a;
+    }
+
+    private static int norm40(int c) { return ((c % 40) + 40) % 40; }
+}
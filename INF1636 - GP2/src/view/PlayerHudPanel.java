@@ -15,6 +15,9 @@ public class PlayerHudPanel extends JPanel {
     private final JButton btnEncerrar  = new JButton("Encerrar partida");
     private final JButton btnSalvar    = new JButton("Salvar");
     private final JButton btnCarregar  = new JButton("Carregar");
+    private final JComboBox<String> cbCalor = new JComboBox<>(new String[]{
+            "Mapa de calor: desligado", "Visitas (partida)", "Aluguel (partida)",
+            "Visitas (simulação)", "Aluguel (simulação)"});
 
     private static final NumberFormat BRL_INT =
             NumberFormat.getIntegerInstance(new Locale("pt","BR"));
@@ -51,6 +54,11 @@ public class PlayerHudPanel extends JPanel {
         c.weightx = 1.0;
         c.fill = GridBagConstraints.HORIZONTAL;
         add(lblAllBalances, c);
+
+        // Linha 1: mapa de calor (lado direito)
+        cbCalor.setToolTipText("Sombreia as casas pela frequência de visitas ou pelo aluguel rendido");
+        c.gridx = 4; c.gridwidth = 3; c.weightx = 0; c.fill = GridBagConstraints.HORIZONTAL;
+        add(cbCalor, c);
     }
 
     /** Mantém a mesma assinatura para não quebrar o controller. */
@@ -76,4 +84,7 @@ public class PlayerHudPanel extends JPanel {
 
     public JButton saveButton() { return btnSalvar; }
     public JButton loadButton() { return btnCarregar; }
+
+    /** Modo do mapa de calor: 0 desligado, 1/2 visitas/aluguel da partida, 3/4 visitas/aluguel simulados. */
+    public JComboBox<String> heatmapBox() { return cbCalor; }
 }
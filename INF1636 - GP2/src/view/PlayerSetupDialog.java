@@ -1,6 +1,8 @@
 package view;
 
+import infra.AssetPreloader;
 import infra.ImageStore;
+import Model.DefinicaoTabuleiro;
 import Model.GameStateSnapshot;
 import Model.GameFacade;
 
@@ -47,6 +49,10 @@ public class PlayerSetupDialog extends JDialog {
     private List<Integer> ordemSorteada;
     private GameStateSnapshot snapshotCarregado;
 
+    // pré-carga das imagens enquanto o diálogo está aberto
+    private final JProgressBar preloadBar = new JProgressBar();
+    private volatile AssetPreloader.Relatorio relatorioPreload;
+
     public PlayerSetupDialog(Window owner) {
         super(owner, "Configurar Partida", ModalityType.APPLICATION_MODAL);
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
@@ -64,12 +70,34 @@ public class PlayerSetupDialog extends JDialog {
         c.weightx = 1; c.weighty = 1;
         bg.add(cardPanel, c);
 
+        preloadBar.setStringPainted(true);
+        preloadBar.setString("Carregando imagens...");
+        GridBagConstraints cb = new GridBagConstraints();
+        cb.gridy = 1;
+        cb.insets = new Insets(0,12,12,12);
+        cb.fill = GridBagConstraints.HORIZONTAL;
+        cb.weightx = 1;
+        bg.add(preloadBar, cb);
+        iniciarPreload();
+
         setContentPane(bg);
         setSize(820, 560);
         setLocationRelativeTo(owner);
         setResizable(false);
     }
 
+    /** Dispara a pré-carga em paralelo; progresso e relatório voltam para a EDT. */
+    private void iniciarPreload() {
+        new AssetPreloader().iniciar((feitos, total, path) -> SwingUtilities.invokeLater(() -> {
+            preloadBar.setMaximum(total);
+            preloadBar.setValue(feitos);
+        })).thenAccept(r -> SwingUtilities.invokeLater(() -> {
+            relatorioPreload = r;
+            preloadBar.setValue(preloadBar.getMaximum());
+            preloadBar.setString("Imagens prontas (" + r.millis() + " ms)");
+        }));
+    }
+
     // ---- STEP 1 ----
     private void buildStep1() {
         JPanel p = boxPanel("Número de jogadores");
@@ -210,6 +238,8 @@ public class PlayerSetupDialog extends JDialog {
     public List<String> getNomesEscolhidos(){ return nomesEscolhidos; }
     public List<Integer> getOrdemSorteada()    { return ordemSorteada; }
     public GameStateSnapshot getSnapshotCarregado() { return snapshotCarregado; }
+    /** Relatório da pré-carga de imagens ({@code null} enquanto não terminou). */
+    public AssetPreloader.Relatorio getRelatorioPreload() { return relatorioPreload; }
 
     // ---- helpers UI ----
     private void showMsg(String s) {
@@ -222,7 +252,10 @@ public class PlayerSetupDialog extends JDialog {
         int opt = chooser.showOpenDialog(this);
         if (opt == JFileChooser.APPROVE_OPTION) {
             try {
-                snapshotCarregado = GameFacade.carregarSnapshot(chooser.getSelectedFile());
+                GameStateSnapshot snap = GameFacade.carregarSnapshot(chooser.getSelectedFile());
+                if (snap.casas() != DefinicaoTabuleiro.padrao().getCasas()) // a tela só desenha o tabuleiro padrão
+                    throw new IllegalArgumentException("partida de um tabuleiro de " + snap.casas() + " casas");
+                snapshotCarregado = snap;
                 // Preenche dados a partir do snapshot
                 int n = snapshotCarregado.players().size();
                 numJogadores = n;
@@ -287,7 +320,7 @@ public class PlayerSetupDialog extends JDialog {
 
     /** Fundo com tabuleiro ofuscado. */
     private static class BackgroundPanel extends JPanel {
-        private final Image board = ImageStore.load("/tabuleiro.png");
+        private final Image board = ImageStore.loadCached("/tabuleiro.png");
         @Override protected void paintComponent(Graphics g) {
             super.paintComponent(g);
             Graphics2D g2 = (Graphics2D) g.create();
@@ -9,9 +9,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
 
-/** Mostra a "carta" (propriedade/companhia ou Sorte/Revés) e algumas infos visuais. */
+/**
+ * Mostra a "carta" (propriedade/companhia ou Sorte/Revés) e algumas infos visuais.
+ * <p>
+ * O layout (linhas quebradas, tamanho e posição da imagem) fica em cache por (texto, tamanho, fonte)
+ * e só é refeito ao trocar a carta ou redimensionar; {@link #benchmarkPaint(int)} mede o quadro.
+ * </p>
+ */
 public class PropertyPanel extends JPanel {
-    private BufferedImage img;
+    private BufferedImage img;   // original (proporções); o desenho usa a cópia escalada do cache
+    private String imgPath;
     private String title = "Casa";
     private String detail = "—";
     private Color ownerColor;
@@ -29,7 +36,9 @@ public class PropertyPanel extends JPanel {
 
         String path = isChance ? CardResolver.randomChanceCardPath()
                                : CardResolver.propertyCardPath(cellIndex);
+        imgPath = path;
         img = (path != null ? ImageStore.loadCached(path) : null);
+        layout = null;
 
         revalidate();
         repaint();
@@ -41,7 +50,9 @@ public class PropertyPanel extends JPanel {
         this.title  = (title  != null ? title  : "Sorte/Revés");
         this.detail = (detail != null ? detail : "—");
         String path = "/sorteReves/chance" + Math.max(1, Math.min(30, cardNumber)) + ".png";
+        this.imgPath = path;
         this.img = ImageStore.loadCached(path);
+        this.layout = null;
         revalidate();
         repaint();
     }
@@ -53,110 +64,193 @@ public class PropertyPanel extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         int w = getWidth(), h = getHeight();
+        Layout lay = layout(g2, w, h);
 
-        // cartão de fundo
-        g2.setColor(new Color(255,255,255,235));
-        g2.fillRoundRect(12, 12, w-24, h-24, 16, 16);
-        g2.setColor(new Color(0,0,0,50));
-        g2.drawRoundRect(12, 12, w-24, h-24, 16, 16);
-
-        int x = 24, y = 30;
+        // cartão de fundo (sprite por tamanho: o retângulo arredondado com AA é o traço mais caro)
+        g2.drawImage(fundoCartao(w, h), 0, 0, null);
 
         // título
-        g2.setColor(new Color(40,40,40));
-        g2.setFont(g2.getFont().deriveFont(Font.BOLD, 14f));
-        g2.drawString(title, x, y);
+        g2.setColor(COR_TITULO);
+        g2.setFont(lay.fonteTitulo);
+        g2.drawString(title, MARGEM_X, TITULO_Y);
 
         // “selo” do dono (cor) — só para propriedades
         if (ownerColor != null) {
             int r = 8;
             int cx = w - 24 - 2*r;
             int cy = 24;
-            g2.setColor(new Color(0,0,0,100));
+            g2.setColor(SOMBRA_SELO);
             g2.fillOval(cx, cy, 2*r, 2*r);
             g2.setColor(ownerColor);
             g2.fillOval(cx+1, cy+1, 2*r-2, 2*r-2);
         }
 
         // imagem da carta
-        y += 10;
-        int imgTop = y;
+        if (lay.imagem != null) {
+            g2.drawImage(lay.imagem, lay.ix, lay.iy, lay.iw, lay.ih, null);
+        } else {
+            g2.setColor(COR_SEM_CARTA);
+            g2.setFont(lay.fonteItalico);
+            g2.drawString("Sem carta para esta casa.", MARGEM_X, lay.iy + 16);
+        }
+
+        // detalhes (linhas já quebradas no layout)
+        g2.setColor(COR_TEXTO);
+        g2.setFont(lay.fonteTexto);
+        int y = lay.textoY;
+        for (String ln : lay.linhas) {
+            g2.drawString(ln, MARGEM_X, y);
+            y += LINHA_H;
+        }
+
+        g2.dispose();
+    }
+
+    // ---------- Layout em cache ----------
+
+    private static final int MARGEM_X = 24, TITULO_Y = 30, LINHA_H = 16;
+    private static final Color FUNDO = new Color(255,255,255,235);
+    private static final Color BORDA = new Color(0,0,0,50);
+    private static final Color COR_TITULO = new Color(40,40,40);
+    private static final Color SOMBRA_SELO = new Color(0,0,0,100);
+    private static final Color COR_SEM_CARTA = new Color(0,0,0,60);
+    private static final Color COR_TEXTO = new Color(60,60,60);
+
+    /**
+     * Resultado do layout para (texto, tamanho do painel, fonte): linhas quebradas, imagem já
+     * escalada e posições. Refeito só quando a chave muda ou a carta é trocada.
+     */
+    private static final class Layout {
+        final String detail; final int w, h; final Font base;
+        final Font fonteTitulo, fonteTexto, fonteItalico;
+        BufferedImage imagem;
+        int ix, iy, iw, ih, textoY;
+        List<String> linhas;
+
+        Layout(String detail, int w, int h, Font base) {
+            this.detail = detail; this.w = w; this.h = h; this.base = base;
+            this.fonteTitulo = base.deriveFont(Font.BOLD, 14f);
+            this.fonteTexto = base.deriveFont(Font.PLAIN, 12f);
+            this.fonteItalico = base.deriveFont(Font.ITALIC, 12f);
+        }
+
+        boolean serve(String d, int w, int h, Font f) {
+            return this.w == w && this.h == h && base.equals(f) && detail.equals(d);
+        }
+    }
+
+    private BufferedImage fundo;
+    private int fundoW, fundoH;
+
+    private BufferedImage fundoCartao(int w, int h) {
+        if (fundo != null && fundoW == w && fundoH == h) return fundo;
+        BufferedImage out = new BufferedImage(Math.max(1, w), Math.max(1, h), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(FUNDO);
+        g.fillRoundRect(12, 12, w-24, h-24, 16, 16);
+        g.setColor(BORDA);
+        g.drawRoundRect(12, 12, w-24, h-24, 16, 16);
+        g.dispose();
+        fundo = out; fundoW = w; fundoH = h;
+        return out;
+    }
+
+    private Layout layout;   // invalidado em showForCell/showChanceCard; chave cobre redimensionamento
+    private int layoutsCalculados;
+
+    private Layout layout(Graphics2D g2, int w, int h) {
+        Font base = g2.getFont();
+        if (layout != null && layout.serve(detail, w, h, base)) return layout;
+
+        Layout lay = new Layout(detail, w, h, base);
+        int y = TITULO_Y + 10;
+        lay.iy = y;
         if (img != null) {
             int maxW = w - 48;
             int maxH = (int)Math.round(h * 0.45); // dá mais espaço ao parágrafo
             double sx = maxW / (double) img.getWidth();
             double sy = maxH / (double) img.getHeight();
             double s = Math.min(sx, sy);
-            int iw = (int)Math.round(img.getWidth() * s);
-            int ih = (int)Math.round(img.getHeight() * s);
-            int ix = x + (maxW - iw) / 2;
-            g2.drawImage(img, ix, imgTop, iw, ih, null);
-            y = imgTop + ih + 16;
+            lay.iw = (int)Math.round(img.getWidth() * s);
+            lay.ih = (int)Math.round(img.getHeight() * s);
+            lay.ix = MARGEM_X + (maxW - lay.iw) / 2;
+            BufferedImage escalada = (lay.iw > 0 && lay.ih > 0) ? ImageStore.loadScaled(imgPath, lay.iw, lay.ih) : null;
+            lay.imagem = (escalada != null) ? escalada : img;
+            y = lay.iy + lay.ih + 16;
         } else {
-            g2.setColor(new Color(0,0,0,60));
-            g2.setFont(g2.getFont().deriveFont(Font.ITALIC, 12f));
-            g2.drawString("Sem carta para esta casa.", x, imgTop + 16);
-            y = imgTop + 40;
+            y = lay.iy + 40;
         }
+        lay.textoY = y;
+        lay.linhas = wrapParagraph(detail, g2.getFontMetrics(lay.fonteTexto), w - 48);
 
-        // detalhes (com suporte a \n e quebra de linha por largura)
-        g2.setColor(new Color(60,60,60));
-        g2.setFont(g2.getFont().deriveFont(Font.PLAIN, 12f));
-        drawParagraphWrapped(g2, detail, x, y, w - 48, 16);
-
-        g2.dispose();
+        layout = lay;
+        layoutsCalculados++;
+        return lay;
     }
 
-    /** Desenha texto com quebras explícitas (\n) e word-wrap por largura. */
-    private static void drawParagraphWrapped(Graphics2D g2, String text, int x, int y, int width, int lineH) {
-        if (text == null || text.isEmpty()) return;
-        FontMetrics fm = g2.getFontMetrics();
-        for (String block : text.split("\n")) {
-            List<String> lines = wrapLine(block, fm, width);
-            for (String ln : lines) {
-                g2.drawString(ln, x, y);
-                y += lineH;
-            }
+    /** Quantas vezes o layout foi (re)calculado (medições). */
+    public int getLayoutsCalculados() { return layoutsCalculados; }
+
+    /** Tempo médio (ns) de um paint completo numa imagem fora da tela (após um quadro de aquecimento). */
+    public long benchmarkPaint(int frames) {
+        if (getWidth() <= 0 || getHeight() <= 0) setSize(getPreferredSize());
+        BufferedImage alvo = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = alvo.createGraphics();
+        try {
+            paintComponent(g);
+            long t0 = System.nanoTime();
+            for (int i = 0; i < frames; i++) paintComponent(g);
+            return (System.nanoTime() - t0) / Math.max(1, frames);
+        } finally {
+            g.dispose();
         }
     }
 
-    /** Word-wrap simples baseado em largura. */
-    private static List<String> wrapLine(String s, FontMetrics fm, int maxW) {
+    /** Quebras explícitas (\n) e word-wrap por largura. */
+    private static List<String> wrapParagraph(String text, FontMetrics fm, int width) {
         List<String> out = new ArrayList<>();
-        if (s == null) { out.add(""); return out; }
+        if (text == null || text.isEmpty()) return out;
+        for (String block : text.split("\n")) wrapLine(block, fm, width, out);
+        return out;
+    }
+
+    /**
+     * Word-wrap baseado em largura, linear no tamanho do texto: mede cada palavra uma vez e
+     * soma larguras (em vez de medir cada prefixo da linha).
+     */
+    private static void wrapLine(String s, FontMetrics fm, int maxW, List<String> out) {
         StringTokenizer tok = new StringTokenizer(s);
         StringBuilder cur = new StringBuilder();
+        int curW = 0;
+        int espaco = fm.charWidth(' ');
         while (tok.hasMoreTokens()) {
             String w = tok.nextToken();
-            String tryLine = cur.length() == 0 ? w : cur + " " + w;
-            if (fm.stringWidth(tryLine) <= maxW) {
-                cur.setLength(0);
-                cur.append(tryLine);
-            } else {
-                if (cur.length() > 0) out.add(cur.toString());
-                // se palavra isolada for maior que maxW, força quebra bruta
-                if (fm.stringWidth(w) > maxW) {
-                    StringBuilder part = new StringBuilder();
-                    for (int i = 0; i < w.length(); i++) {
-                        char ch = w.charAt(i);
-                        String next = part.toString() + ch;
-                        if (fm.stringWidth(next) > maxW) {
-                            out.add(part.toString());
-                            part.setLength(0);
-                            part.append(ch);
-                        } else {
-                            part.append(ch);
-                        }
-                    }
-                    cur.setLength(0);
-                    cur.append(part.toString());
-                } else {
+            int ww = fm.stringWidth(w);
+            if (cur.length() > 0 && curW + espaco + ww <= maxW) {
+                cur.append(' ').append(w);
+                curW += espaco + ww;
+                continue;
+            }
+            if (cur.length() > 0) { out.add(cur.toString()); cur.setLength(0); curW = 0; }
+            if (ww <= maxW) {
+                cur.append(w);
+                curW = ww;
+                continue;
+            }
+            // palavra isolada maior que maxW: quebra bruta somando a largura de cada caractere
+            for (int i = 0; i < w.length(); i++) {
+                char ch = w.charAt(i);
+                int cw = fm.charWidth(ch);
+                if (cur.length() > 0 && curW + cw > maxW) {
+                    out.add(cur.toString());
                     cur.setLength(0);
-                    cur.append(w);
+                    curW = 0;
                 }
+                cur.append(ch);
+                curW += cw;
             }
         }
         if (cur.length() > 0) out.add(cur.toString());
-        return out;
     }
 }
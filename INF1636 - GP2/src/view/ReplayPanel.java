@@ -0,0 +1,72 @@
+package view;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Barra do replay: turno atual/total, escolha do turno (slider ou campo), ir para o início,
+ * um turno por vez e reprodução contínua. Quem reage aos botões é o controller.
+ */
+public class ReplayPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final JSlider turno = new JSlider(0, 0, 0);
+    private final JSpinner turnoExato = new JSpinner(new SpinnerNumberModel(0, 0, Integer.MAX_VALUE, 1));
+    private final JButton inicioBtn = new JButton("|<");
+    private final JButton passoBtn = new JButton("Próximo turno");
+    private final JButton irBtn = new JButton("Ir");
+    private final JToggleButton playBtn = new JToggleButton("Reproduzir");
+    private final JLabel status = new JLabel("turno 0 / 0");
+
+    public ReplayPanel() {
+        setOpaque(false);
+        setLayout(new GridBagLayout());
+        GridBagConstraints c = new GridBagConstraints();
+        c.insets = new Insets(2, 2, 2, 2);
+        c.gridy = 0;
+        c.anchor = GridBagConstraints.WEST;
+
+        for (AbstractButton b : new AbstractButton[]{ inicioBtn, passoBtn, irBtn, playBtn }) b.setFocusable(false);
+        turnoExato.setPreferredSize(new Dimension(80, turnoExato.getPreferredSize().height));
+        // slider e campo andam juntos; "Ir" vai para o turno escolhido
+        turno.addChangeListener(e -> {
+            if (!turno.getValueIsAdjusting()) turnoExato.setValue(turno.getValue());
+        });
+
+        c.gridx = 0; add(new JLabel("Replay:"), c);
+        c.gridx = 1; add(inicioBtn, c);
+        c.gridx = 2; add(passoBtn, c);
+        c.gridx = 3; add(playBtn, c);
+        c.gridx = 4; c.weightx = 1; c.fill = GridBagConstraints.HORIZONTAL; add(turno, c);
+        c.gridx = 5; c.weightx = 0; c.fill = GridBagConstraints.NONE; add(turnoExato, c);
+        c.gridx = 6; add(irBtn, c);
+        c.gridx = 7; c.insets = new Insets(2, 12, 2, 2); add(status, c);
+    }
+
+    // --- API usada pelo controller ---
+    public JButton startButton() { return inicioBtn; }
+    public JButton stepButton()  { return passoBtn; }
+    public JButton goButton()    { return irBtn; }
+    public JToggleButton playButton() { return playBtn; }
+
+    /** Turno escolhido para o "Ir". */
+    public int chosenTurn() { return (Integer) turnoExato.getValue(); }
+
+    /** Atualiza o turno mostrado (e os limites). */
+    public void setTurno(int atual, int total) {
+        turno.setMaximum(total);
+        turno.setValue(atual);
+        ((SpinnerNumberModel) turnoExato.getModel()).setMaximum(total);
+        turnoExato.setValue(atual);
+        status.setText("turno " + atual + " / " + total);
+    }
+
+    /** Trava/destrava os comandos enquanto o motor reproduz. */
+    public void setComandosEnabled(boolean enabled) {
+        inicioBtn.setEnabled(enabled);
+        passoBtn.setEnabled(enabled);
+        irBtn.setEnabled(enabled);
+        turno.setEnabled(enabled);
+        turnoExato.setEnabled(enabled);
+    }
+}